@@ -2,6 +2,7 @@
 package com.github.mikephil.charting.buffer;
 
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.BaseDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 
 public class BarBuffer extends AbstractBuffer<IBarDataSet> {
@@ -14,10 +15,39 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
     /** width of the bar on the x-axis, in values (not pixels) */
     protected float mBarWidth = 1f;
 
+    /** index of the first and the last entry that were fed into the buffer */
+    protected int mFirstEntry = 0;
+    protected int mLastEntry = -1;
+
+    /** index of the first bar that was fed into the buffer among all bars of the DataSet */
+    protected int mFirstBar = 0;
+
+    /** number of values that were written to the buffer by the last feed */
+    protected int mSize = 0;
+
+    /**
+     * the DataSet, its version and the entry up to which the bars were counted last, so that
+     * scrolling only counts the bars of the entries scrolled by, see countBars(...)
+     */
+    private IBarDataSet mCountedSet = null;
+    private int mCountedVersion = 0;
+    private int mCountedEntry = 0;
+    private int mCountedBars = 0;
+
+    /**
+     * Creates a buffer for the bars of one DataSet. Only the entries between the limits
+     * (limitFrom(...) and limitTo(...), unlimited by default) are fed into the buffer, so it
+     * only has to be as large as the visible part of the DataSet, see ensureCapacity(...).
+     *
+     * @param size           the initial size
+     * @param dataSetCount
+     * @param containsStacks
+     */
     public BarBuffer(int size, int dataSetCount, boolean containsStacks) {
         super(size);
         this.mDataSetCount = dataSetCount;
         this.mContainsStacks = containsStacks;
+        this.mTo = Integer.MAX_VALUE;
     }
 
     public void setBarWidth(float barWidth) {
@@ -32,6 +62,147 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
         this.mInverted = inverted;
     }
 
+    /**
+     * Returns the index of the first entry that was fed into the buffer.
+     *
+     * @return
+     */
+    public int getFirstEntry() {
+        return mFirstEntry;
+    }
+
+    /**
+     * Returns the index of the last entry that was fed into the buffer, lower than
+     * getFirstEntry() if there was none.
+     *
+     * @return
+     */
+    public int getLastEntry() {
+        return mLastEntry;
+    }
+
+    /**
+     * Returns the index of the first bar that was fed into the buffer among all bars of the
+     * DataSet, e.g. the index of its color. This is the index of the first entry unless the
+     * DataSet contains stacked entries.
+     *
+     * @return
+     */
+    public int getFirstBar() {
+        return mFirstBar;
+    }
+
+    /**
+     * Returns the number of values that were written to the buffer by the last feed.
+     *
+     * @return
+     */
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Returns this buffer if it can hold the bars of the given DataSet between the limits, as
+     * far as the animation has progressed. Otherwise returns a new buffer with the same
+     * settings that can, and some room to grow. Call this before feed(...).
+     *
+     * @param data
+     * @return
+     */
+    public BarBuffer ensureCapacity(IBarDataSet data) {
+
+        final int first = mFrom;
+        final int last = getLastEntry(data);
+
+        final int size = (last - first + 1)
+                * (mContainsStacks ? Math.max(data.getStackSize(), 1) : 1) * 4;
+
+        if (size <= buffer.length)
+            return this;
+
+        BarBuffer resized = newBuffer(size + size / 2);
+        resized.mDataSetIndex = mDataSetIndex;
+        resized.mInverted = mInverted;
+        resized.mBarWidth = mBarWidth;
+        resized.mFrom = mFrom;
+        resized.mTo = mTo;
+        resized.phaseX = phaseX;
+        resized.phaseY = phaseY;
+
+        return resized;
+    }
+
+    /**
+     * Returns a new buffer of the given size for the same kind of bars, used by
+     * ensureCapacity(...).
+     *
+     * @param size
+     * @return
+     */
+    protected BarBuffer newBuffer(int size) {
+        return new BarBuffer(size, mDataSetCount, mContainsStacks);
+    }
+
+    private int getLastEntry(IBarDataSet data) {
+
+        final int count = data.getEntryCount();
+
+        return Math.min(mTo, Math.min((int) Math.ceil(count * phaseX), count) - 1);
+    }
+
+    /**
+     * Determines the entries to feed (the entries between the limits, as far as the
+     * animation has progressed) and the index of their first bar.
+     *
+     * @param data
+     */
+    protected void prepareFeed(IBarDataSet data) {
+
+        mFirstEntry = mFrom;
+        mLastEntry = getLastEntry(data);
+        mFirstBar = mContainsStacks ? countBars(data, mFirstEntry) : mFirstEntry;
+    }
+
+    /**
+     * Returns the number of bars of the entries before the given one: one for each entry
+     * without stack values, the number of stack values otherwise. Continues from the last
+     * count if the DataSet has not changed.
+     *
+     * @param data
+     * @param entry
+     * @return
+     */
+    private int countBars(IBarDataSet data, int entry) {
+
+        final int version = BaseDataSet.getDataSetVersion(data);
+
+        if (data != mCountedSet || version != mCountedVersion) {
+            mCountedSet = data;
+            mCountedVersion = version;
+            mCountedEntry = 0;
+            mCountedBars = 0;
+        }
+
+        entry = Math.min(entry, data.getEntryCount());
+
+        for (; mCountedEntry < entry; mCountedEntry++)
+            mCountedBars += getBarCount(data.getEntryForIndex(mCountedEntry));
+
+        for (; mCountedEntry > entry; mCountedEntry--)
+            mCountedBars -= getBarCount(data.getEntryForIndex(mCountedEntry - 1));
+
+        return mCountedBars;
+    }
+
+    private static int getBarCount(BarEntry e) {
+
+        if (e == null)
+            return 0;
+
+        return e.getYVals() == null ? 1 : e.getYVals().length;
+    }
+
     protected void addBar(float left, float top, float right, float bottom) {
 
         buffer[index++] = left;
@@ -43,10 +214,11 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
     @Override
     public void feed(IBarDataSet data) {
 
-        float size = data.getEntryCount() * phaseX;
+        prepareFeed(data);
+
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        for (int i = mFirstEntry; i <= mLastEntry; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
 
@@ -125,6 +297,7 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
             }
         }
 
+        mSize = index;
         reset();
     }
 }
@@ -10,13 +10,19 @@ public class HorizontalBarBuffer extends BarBuffer {
         super(size, dataSetCount, containsStacks);
     }
 
+    @Override
+    protected BarBuffer newBuffer(int size) {
+        return new HorizontalBarBuffer(size, mDataSetCount, mContainsStacks);
+    }
+
     @Override
     public void feed(IBarDataSet data) {
 
-        float size = data.getEntryCount() * phaseX;
+        prepareFeed(data);
+
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        for (int i = mFirstEntry; i <= mLastEntry; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
 
@@ -89,6 +95,7 @@ public class HorizontalBarBuffer extends BarBuffer {
             }
         }
 
+        mSize = index;
         reset();
     }
 }
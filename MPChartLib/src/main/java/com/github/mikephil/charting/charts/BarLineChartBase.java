@@ -4,6 +4,7 @@ package com.github.mikephil.charting.charts;
 import android.annotation.SuppressLint;
 import android.annotation.TargetApi;
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Matrix;
@@ -18,11 +19,15 @@ import com.github.mikephil.charting.components.XAxis.XAxisPosition;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
+import com.github.mikephil.charting.data.BaseDataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.highlight.ChartHighlighter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBubbleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
 import com.github.mikephil.charting.jobs.AnimatedMoveViewJob;
 import com.github.mikephil.charting.jobs.AnimatedZoomJob;
 import com.github.mikephil.charting.jobs.MoveViewJob;
@@ -31,11 +36,15 @@ import com.github.mikephil.charting.listener.BarLineChartTouchListener;
 import com.github.mikephil.charting.listener.OnDrawListener;
 import com.github.mikephil.charting.renderer.XAxisRenderer;
 import com.github.mikephil.charting.renderer.YAxisRenderer;
+import com.github.mikephil.charting.utils.BitmapPool;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.TileCache;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 
+import java.util.Arrays;
+
 /**
  * Base-class of LineChart, BarChart, ScatterChart and CandleStickChart.
  *
@@ -110,6 +119,16 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     protected boolean mKeepPositionOnRotation = false;
 
+    /**
+     * the default memory budget of the tile cache, in bytes
+     */
+    public static final long DEFAULT_TILE_CACHE_BUDGET = 16 * 1024 * 1024;
+
+    /**
+     * the cache of rendered data tiles, null if tiled drawing of the data is disabled
+     */
+    protected TileCache mTileCache = null;
+
     /**
      * the listener for user drawing on the chart
      */
@@ -192,9 +211,6 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         long starttime = System.currentTimeMillis();
 
-        // execute all drawing commands
-        drawGridBackground(canvas);
-
         if (mAutoScaleMinMaxEnabled) {
             autoScale();
         }
@@ -208,6 +224,42 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mXAxis.isEnabled())
             mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
 
+        if (mLayerCacheEnabled) {
+            drawLayers(canvas);
+        } else {
+
+            mDirtyLayers = 0;
+
+            // execute all drawing commands
+            drawAxesLayer(canvas);
+
+            drawDataLayer(canvas, true);
+
+            drawValuesLayer(canvas);
+
+            drawMarkers(canvas);
+        }
+
+        if (mLogEnabled) {
+            long drawtime = (System.currentTimeMillis() - starttime);
+            totalTime += drawtime;
+            drawCycles += 1;
+            long average = totalTime / drawCycles;
+            Log.i(LOG_TAG, "Drawtime: " + drawtime + " ms, average: " + average + " ms, cycles: "
+                    + drawCycles);
+        }
+    }
+
+    /**
+     * Draws everything that is behind the data: the grid background, the axis lines and the
+     * grid and limit lines that are drawn behind the data.
+     *
+     * @param canvas
+     */
+    protected void drawAxesLayer(Canvas canvas) {
+
+        drawGridBackground(canvas);
+
         mXAxisRenderer.renderAxisLine(canvas);
         mAxisRendererLeft.renderAxisLine(canvas);
         mAxisRendererRight.renderAxisLine(canvas);
@@ -229,12 +281,26 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         if (mAxisRight.isEnabled() && mAxisRight.isDrawLimitLinesBehindDataEnabled())
             mAxisRendererRight.renderLimitLines(canvas);
+    }
+
+    /**
+     * Draws the data and everything that is drawn on top of it except for the values: the
+     * grid and limit lines in front of the data, the extras and the axis labels.
+     *
+     * @param canvas
+     * @param drawHighlights true to draw the highlights in between, false if they are drawn
+     *                       separately with the overlay
+     */
+    protected void drawDataLayer(Canvas canvas, boolean drawHighlights) {
 
         // make sure the data cannot be drawn outside the content-rect
         int clipRestoreCount = canvas.save();
         canvas.clipRect(mViewPortHandler.getContentRect());
 
-        mRenderer.drawData(canvas);
+        if (isTiledDrawingPossible())
+            drawDataTiles(canvas);
+        else
+            mRenderer.drawData(canvas);
 
         if (!mXAxis.isDrawGridLinesBehindDataEnabled())
             mXAxisRenderer.renderGridLines(canvas);
@@ -246,7 +312,7 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             mAxisRendererRight.renderGridLines(canvas);
 
         // if highlighting is enabled
-        if (valuesToHighlight())
+        if (drawHighlights && valuesToHighlight())
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
 
         // Removes clipping rectangle
@@ -266,9 +332,17 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         mXAxisRenderer.renderAxisLabels(canvas);
         mAxisRendererLeft.renderAxisLabels(canvas);
         mAxisRendererRight.renderAxisLabels(canvas);
+    }
+
+    /**
+     * Draws the values of the data, the legend and the description.
+     *
+     * @param canvas
+     */
+    protected void drawValuesLayer(Canvas canvas) {
 
         if (isClipValuesToContentEnabled()) {
-            clipRestoreCount = canvas.save();
+            int clipRestoreCount = canvas.save();
             canvas.clipRect(mViewPortHandler.getContentRect());
 
             mRenderer.drawValues(canvas);
@@ -281,17 +355,533 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         mLegendRenderer.renderLegend(canvas);
 
         drawDescription(canvas);
+    }
+
+    /**
+     * Draws the highlights and the marker.
+     *
+     * @param canvas
+     */
+    protected void drawOverlayLayer(Canvas canvas) {
+
+        if (valuesToHighlight()) {
+            int clipRestoreCount = canvas.save();
+            canvas.clipRect(mViewPortHandler.getContentRect());
+
+            mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+
+            canvas.restoreToCount(clipRestoreCount);
+        }
 
         drawMarkers(canvas);
+    }
 
-        if (mLogEnabled) {
-            long drawtime = (System.currentTimeMillis() - starttime);
-            totalTime += drawtime;
-            drawCycles += 1;
-            long average = totalTime / drawCycles;
-            Log.i(LOG_TAG, "Drawtime: " + drawtime + " ms, average: " + average + " ms, cycles: "
-                    + drawCycles);
+    /**
+     * flag that indicates if the layers are retained in bitmaps
+     */
+    private boolean mLayerCacheEnabled = false;
+
+    /**
+     * the retained axes, data and values layers, taken from the shared BitmapPool
+     */
+    private Bitmap[] mLayerBitmaps = new Bitmap[3];
+
+    /**
+     * the layers that were not drawn again while the layer state was changing
+     */
+    private int mStaleLayers = LAYER_ALL;
+
+    private Canvas mLayerCanvas = null;
+
+    /**
+     * everything the retained layers depend on besides the flags in mDirtyLayers
+     */
+    private float[] mLayerState = new float[24];
+    private float[] mLayerStateBuffer = new float[24];
+
+    /**
+     * Draws the chart from the retained layers, only the dirty layers are drawn again. The
+     * overlay (highlights and marker) is drawn directly on top of them. While the viewport,
+     * the axis ranges, the animation phases or the data change from frame to frame (e.g.
+     * while panning, zooming or animating), every layer would have to be drawn again, so the
+     * layers are drawn directly on the canvas instead and retained again once the state is
+     * stable.
+     *
+     * @param canvas
+     */
+    protected void drawLayers(Canvas canvas) {
+
+        final int width = getWidth();
+        final int height = getHeight();
+
+        if (width <= 0 || height <= 0)
+            return;
+
+        // invalidations while drawing apply to the next frame
+        int dirty = mDirtyLayers;
+        mDirtyLayers = 0;
+
+        if (layerStateChanged()) {
+
+            mStaleLayers = LAYER_ALL;
+
+            drawAxesLayer(canvas);
+            drawDataLayer(canvas, false);
+            drawValuesLayer(canvas);
+            drawOverlayLayer(canvas);
+            return;
+        }
+
+        dirty |= mStaleLayers;
+        mStaleLayers = 0;
+
+        if (mLayerCanvas == null)
+            mLayerCanvas = new Canvas();
+
+        for (int i = 0; i < mLayerBitmaps.length; i++) {
+
+            final int layer = 1 << i;
+            Bitmap bitmap = mLayerBitmaps[i];
+
+            if (bitmap == null || bitmap.getWidth() != width || bitmap.getHeight() != height) {
+
+                if (bitmap != null)
+                    BitmapPool.getShared().release(bitmap);
+
+                bitmap = BitmapPool.getShared().acquire(width, height, Bitmap.Config.ARGB_8888);
+                mLayerBitmaps[i] = bitmap;
+                dirty |= layer;
+            }
+
+            if ((dirty & layer) != 0) {
+
+                bitmap.eraseColor(Color.TRANSPARENT);
+                mLayerCanvas.setBitmap(bitmap);
+
+                switch (layer) {
+                    case LAYER_AXES:
+                        drawAxesLayer(mLayerCanvas);
+                        break;
+                    case LAYER_DATA:
+                        drawDataLayer(mLayerCanvas, false);
+                        break;
+                    default:
+                        drawValuesLayer(mLayerCanvas);
+                        break;
+                }
+
+                mLayerCanvas.setBitmap(null);
+            }
+
+            canvas.drawBitmap(bitmap, 0, 0, null);
+        }
+
+        drawOverlayLayer(canvas);
+    }
+
+    /**
+     * Returns true if anything the retained layers depend on has changed since the last frame
+     * without an invalidation, e.g. the viewport or the animation phases.
+     *
+     * @return
+     */
+    private boolean layerStateChanged() {
+
+        final float[] state = mLayerStateBuffer;
+
+        mViewPortHandler.getMatrixTouch().getValues(state);
+
+        state[9] = mViewPortHandler.contentLeft();
+        state[10] = mViewPortHandler.contentTop();
+        state[11] = mViewPortHandler.contentRight();
+        state[12] = mViewPortHandler.contentBottom();
+        state[13] = mXAxis.mAxisMinimum;
+        state[14] = mXAxis.mAxisMaximum;
+        state[15] = mAxisLeft.mAxisMinimum;
+        state[16] = mAxisLeft.mAxisMaximum;
+        state[17] = mAxisRight.mAxisMinimum;
+        state[18] = mAxisRight.mAxisMaximum;
+        state[19] = mAnimator.getPhaseX();
+        state[20] = mAnimator.getPhaseY();
+        state[21] = getDataVersion();
+
+        if (Arrays.equals(state, mLayerState))
+            return false;
+
+        mLayerStateBuffer = mLayerState;
+        mLayerState = state;
+
+        return true;
+    }
+
+    /**
+     * Enables retaining the layers of the chart (axes, data and values) in bitmaps. A frame
+     * then only draws the layers again that have changed, see invalidateLayers(...). Changing
+     * a highlight (e.g. dragging a crosshair) only draws the highlights and the marker on top
+     * of the retained layers. In this mode the highlights are drawn on top of the values and
+     * the legend. Frames that change the viewport (e.g. while panning or zooming) are drawn
+     * directly, as without this option. Costs three bitmaps of the size of the chart, which are
+     * taken from the shared BitmapPool.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setLayerCacheEnabled(boolean enabled) {
+
+        mLayerCacheEnabled = enabled;
+
+        if (!enabled)
+            releaseLayers();
+
+        invalidate();
+    }
+
+    public boolean isLayerCacheEnabled() {
+        return mLayerCacheEnabled;
+    }
+
+    /**
+     * Returns the bitmaps of the retained layers to the shared BitmapPool.
+     */
+    private void releaseLayers() {
+
+        for (int i = 0; i < mLayerBitmaps.length; i++) {
+
+            if (mLayerBitmaps[i] != null) {
+                BitmapPool.getShared().release(mLayerBitmaps[i]);
+                mLayerBitmaps[i] = null;
+            }
+        }
+
+        mStaleLayers = LAYER_ALL;
+    }
+
+    /**
+     * the current touch matrix values, buffer for tiled drawing
+     */
+    private float[] mTileMatrixBuffer = new float[9];
+
+    /**
+     * everything the content of a tile depends on, except for the horizontal translation
+     */
+    private float[] mTileState = new float[16];
+
+    private Canvas mTileCanvas = null;
+
+    /**
+     * the horizontal translation of the last frame that was drawn with tiles
+     */
+    private float mLastTileTransX = Float.NaN;
+
+    /**
+     * the tile to render ahead after the current frame, -1 if none
+     */
+    private int mAheadTile = -1;
+
+    /**
+     * renders the tile ahead outside of onDraw(), so that scrolling frames only draw tiles
+     */
+    private Runnable mRenderAheadRunnable = new Runnable() {
+        @Override
+        public void run() {
+            renderAheadTile();
+        }
+    };
+
+    /**
+     * Returns true if the data can be drawn from the tile cache in the current frame. Tiles
+     * are not used while animating and with auto scaling on the y-axis, because the content
+     * of the tiles changes with every frame in these cases.
+     *
+     * @return
+     */
+    protected boolean isTiledDrawingPossible() {
+        return mTileCache != null
+                && !mAutoScaleMinMaxEnabled
+                && mAnimator.getPhaseX() == 1f
+                && mAnimator.getPhaseY() == 1f
+                && mViewPortHandler.contentWidth() >= 1f
+                && mViewPortHandler.contentHeight() >= 1f;
+    }
+
+    /**
+     * Draws the data from bitmap tiles that are as wide as the content rect. A tile holds the
+     * data of one slice of the x-range at the current zoom level and is rendered once, while
+     * panning the visible tiles are only drawn at their current position. The tile after the
+     * visible ones in the direction of the scrolling is rendered ahead, after the frame.
+     *
+     * @param canvas
+     */
+    protected void drawDataTiles(Canvas canvas) {
+
+        final Matrix touch = mViewPortHandler.getMatrixTouch();
+        final float[] values = mTileMatrixBuffer;
+        touch.getValues(values);
+
+        final float transX = values[Matrix.MTRANS_X];
+        final float contentWidth = mViewPortHandler.contentWidth();
+        final int tileWidth = (int) Math.ceil(contentWidth);
+        final int tileHeight = (int) Math.ceil(mViewPortHandler.contentHeight());
+
+        updateTileState(values);
+
+        // the tiles that cover the content rect at the current translation
+        final int first = TileCache.getFirstTile(transX, tileWidth);
+        final int last = TileCache.getLastTile(transX, contentWidth, tileWidth);
+
+        for (int i = first; i <= last; i++) {
+
+            Bitmap tile = mTileCache.get(i);
+
+            if (tile == null)
+                tile = renderTile(i, tileWidth, tileHeight, values);
+
+            canvas.drawBitmap(tile, mViewPortHandler.contentLeft() + i * tileWidth + transX,
+                    mViewPortHandler.contentTop(), null);
+        }
+
+        // render the next tile in the direction of the scrolling once this frame is done
+        final int ahead = TileCache.getAheadTile(first, last, transX, mLastTileTransX,
+                tileWidth, contentWidth * values[Matrix.MSCALE_X]);
+
+        if (ahead >= 0 && !mTileCache.contains(ahead)) {
+
+            if (mAheadTile < 0)
+                Utils.postOnAnimation(this, mRenderAheadRunnable);
+
+            mAheadTile = ahead;
+        }
+
+        mLastTileTransX = transX;
+    }
+
+    /**
+     * Renders the tile scheduled by drawDataTiles(...), if the chart still draws with tiles in
+     * the same state.
+     */
+    private void renderAheadTile() {
+
+        final int ahead = mAheadTile;
+        mAheadTile = -1;
+
+        if (ahead < 0 || mData == null || !isTiledDrawingPossible())
+            return;
+
+        final float[] values = mTileMatrixBuffer;
+        mViewPortHandler.getMatrixTouch().getValues(values);
+
+        // drops the tiles if the data changed in the meantime
+        updateTileState(values);
+
+        if (!mTileCache.contains(ahead)) {
+            renderTile(ahead, (int) Math.ceil(mViewPortHandler.contentWidth()),
+                    (int) Math.ceil(mViewPortHandler.contentHeight()), values);
+        }
+    }
+
+    /**
+     * Passes everything the content of a tile depends on to the tile cache.
+     *
+     * @param values the values of the current touch matrix
+     */
+    private void updateTileState(float[] values) {
+
+        final float contentWidth = mViewPortHandler.contentWidth();
+
+        final float[] state = mTileState;
+        state[0] = values[Matrix.MSCALE_X];
+        state[1] = values[Matrix.MSCALE_Y];
+        state[2] = values[Matrix.MTRANS_Y];
+        state[3] = mViewPortHandler.contentLeft();
+        state[4] = mViewPortHandler.contentTop();
+        state[5] = contentWidth;
+        state[6] = mViewPortHandler.contentHeight();
+        state[7] = mXAxis.mAxisMinimum;
+        state[8] = mXAxis.mAxisMaximum;
+        state[9] = mAxisLeft.mAxisMinimum;
+        state[10] = mAxisLeft.mAxisMaximum;
+        state[11] = mAxisRight.mAxisMinimum;
+        state[12] = mAxisRight.mAxisMaximum;
+        state[13] = mAxisLeft.isInverted() ? 1f : 0f;
+        state[14] = mAxisRight.isInverted() ? 1f : 0f;
+        state[15] = getMeasuredHeight();
+
+        mTileCache.setState(state, getDataVersion());
+    }
+
+    /**
+     * Renders the data of the tile with the given index and puts it into the tile cache. The
+     * touch matrix is translated to the tile while rendering, so that the renderers draw the
+     * x-range of the tile into the content rect.
+     *
+     * @param index
+     * @param width
+     * @param height
+     * @param touchValues the values of the current touch matrix
+     * @return
+     */
+    private Bitmap renderTile(int index, int width, int height, float[] touchValues) {
+
+        final Bitmap tile = mTileCache.obtainBitmap(width, height);
+
+        if (mTileCanvas == null)
+            mTileCanvas = new Canvas();
+
+        mTileCanvas.setBitmap(tile);
+
+        final Matrix touch = mViewPortHandler.getMatrixTouch();
+        final float transX = touchValues[Matrix.MTRANS_X];
+
+        touchValues[Matrix.MTRANS_X] = -index * width;
+        touch.setValues(touchValues);
+
+        final int count = mTileCanvas.save();
+        mTileCanvas.translate(-mViewPortHandler.contentLeft(), -mViewPortHandler.contentTop());
+        mTileCanvas.clipRect(mViewPortHandler.getContentRect());
+
+        // the renderers skip entries outside of the content rect, widen it so that shapes
+        // reaching into this tile from the neighbouring ones are drawn as well
+        final RectF content = mViewPortHandler.getContentRect();
+        final float left = content.left;
+        final float right = content.right;
+        final float margin = getTileMargin();
+
+        content.left -= margin;
+        content.right += margin;
+
+        try {
+            mRenderer.drawData(mTileCanvas);
+        } finally {
+            content.left = left;
+            content.right = right;
+        }
+
+        mTileCanvas.restoreToCount(count);
+        mTileCanvas.setBitmap(null);
+
+        touchValues[Matrix.MTRANS_X] = transX;
+        touch.setValues(touchValues);
+
+        mTileCache.put(index, tile);
+
+        return tile;
+    }
+
+    /**
+     * Returns how far in pixels the drawing of an entry can reach beyond its position: the size
+     * of scatter shapes, the radius of line circles and half the width of candles. Entries
+     * this close to a tile are drawn into it as well.
+     *
+     * @return
+     */
+    protected float getTileMargin() {
+
+        // line widths and antialiasing
+        float margin = Utils.convertDpToPixel(2f);
+
+        for (IBarLineScatterCandleBubbleDataSet<? extends Entry> set : mData.getDataSets()) {
+
+            if (set instanceof IScatterDataSet) {
+
+                // chevrons reach a whole shape size away from their position
+                margin = Math.max(margin,
+                        ((IScatterDataSet) set).getScatterShapeSize() + Utils.convertDpToPixel(1f));
+
+            } else if (set instanceof ILineDataSet) {
+
+                final ILineDataSet lineSet = (ILineDataSet) set;
+
+                if (lineSet.isDrawCirclesEnabled())
+                    margin = Math.max(margin, lineSet.getCircleRadius() + lineSet.getLineWidth());
+
+            } else if (set instanceof ICandleDataSet) {
+
+                final Transformer trans = getTransformer(set.getAxisDependency());
+                final MPPointD zero = trans.getPixelForValues(0f, 0f);
+                final MPPointD one = trans.getPixelForValues(1f, 0f);
+
+                margin = Math.max(margin, (float) Math.abs(one.x - zero.x) / 2f
+                        + ((ICandleDataSet) set).getShadowWidth());
+
+                MPPointD.recycleInstance(zero);
+                MPPointD.recycleInstance(one);
+            }
         }
+
+        return margin;
+    }
+
+    /**
+     * Returns a value that changes whenever the entries or the visibility of the DataSets
+     * change.
+     *
+     * @return
+     */
+    private int getDataVersion() {
+
+        int version = System.identityHashCode(mData);
+
+        for (IBarLineScatterCandleBubbleDataSet<? extends Entry> set : mData.getDataSets()) {
+            version = 31 * version + BaseDataSet.getDataSetVersion(set);
+            version = 31 * version + (set.isVisible() ? 1 : 0);
+        }
+
+        return version;
+    }
+
+    /**
+     * Enables tiled drawing of the data: the data is rendered into bitmap tiles that are as
+     * wide as the content rect, which are reused while panning and only rendered again on
+     * zoom or data changes. Useful for large, static data. Tiles are evicted least recently
+     * used first as soon as they exceed the memory budget, see setTileCacheMemoryBudget(...).
+     * Call invalidateTileCache() after changing the appearance (e.g. colors) of the DataSets.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setTileCacheEnabled(boolean enabled) {
+
+        if (enabled && mTileCache == null) {
+            mTileCache = new TileCache(DEFAULT_TILE_CACHE_BUDGET);
+        } else if (!enabled && mTileCache != null) {
+            mTileCache.clear();
+            mTileCache = null;
+        }
+
+        mLastTileTransX = Float.NaN;
+        mAheadTile = -1;
+    }
+
+    public boolean isTileCacheEnabled() {
+        return mTileCache != null;
+    }
+
+    /**
+     * Sets the maximum number of bytes of the cached tiles if tiled drawing is enabled. The
+     * visible tiles are kept even if they exceed the budget.
+     *
+     * @param bytes
+     */
+    public void setTileCacheMemoryBudget(long bytes) {
+        if (mTileCache != null)
+            mTileCache.setMemoryBudget(bytes);
+    }
+
+    /**
+     * Returns the tile cache, null if tiled drawing is disabled.
+     *
+     * @return
+     */
+    public TileCache getTileCache() {
+        return mTileCache;
+    }
+
+    /**
+     * Drops all rendered tiles, e.g. after the appearance of the DataSets has changed.
+     */
+    public void invalidateTileCache() {
+        if (mTileCache != null)
+            mTileCache.clear();
     }
 
     /**
@@ -339,6 +929,9 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mRenderer != null)
             mRenderer.initBuffers();
 
+        if (mTileCache != null)
+            mTileCache.clear();
+
         calcMinMax();
 
         mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
@@ -351,6 +944,33 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         calculateOffsets();
     }
 
+    /**
+     * Lightweight alternative to notifyDataSetChanged() for streaming data, call this after
+     * entries were added to (or evicted from) the DataSets, e.g. with ChartData.addEntry(...)
+     * on a RingBufferLineDataSet. Only the axis ranges and the value-to-pixel matrix are
+     * updated from the current min and max values of the data (which the DataSets and the
+     * ChartData maintain incrementally). Renderer buffers, the legend and the offsets are not
+     * recalculated, call notifyDataSetChanged() if the DataSets or the width of the
+     * y-axis labels change. Combine with moveViewToX(...) to follow the latest values.
+     */
+    public void notifyDataAppended() {
+
+        if (mData == null)
+            return;
+
+        calcMinMax();
+        prepareValuePxMatrix();
+    }
+
+    /**
+     * Only updates the axis ranges and the value-to-pixel matrix, like notifyDataAppended().
+     * The renderer buffers, the legend and the offsets of the previous snapshot are kept.
+     */
+    @Override
+    protected void onDataSnapshotAdopted() {
+        notifyDataAppended();
+    }
+
     /**
      * Performs auto scaling of the axis by recalculating the minimum and maximum y-values based on the entries currently in view.
      */
@@ -1572,6 +2192,9 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
     /**
      * Flag that indicates if auto scaling on the y axis is enabled. This is
      * especially interesting for charts displaying financial data.
+     * For large DataSets, enable the min / max index of the DataSets
+     * (DataSet.setMinMaxIndexEnabled(true)) to avoid scanning all visible
+     * entries on every frame.
      *
      * @param enabled the y axis automatically adjusts to the min and max y
      *                values of the current x axis range whenever the viewport
@@ -1640,4 +2263,15 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             mViewPortHandler.refresh(mViewPortHandler.getMatrixTouch(), this, true);
         }
     }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+
+        // the tiles and layers are rendered again when needed
+        if (mTileCache != null)
+            mTileCache.clear();
+
+        releaseLayers();
+    }
 }
@@ -32,6 +32,7 @@ import com.github.mikephil.charting.components.IMarker;
 import com.github.mikephil.charting.components.Legend;
 import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.data.ChartData;
+import com.github.mikephil.charting.data.DataSnapshotSource;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.formatter.DefaultValueFormatter;
 import com.github.mikephil.charting.formatter.ValueFormatter;
@@ -40,6 +41,7 @@ import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.IHighlighter;
 import com.github.mikephil.charting.interfaces.dataprovider.ChartInterface;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.jobs.PrepareDataJob;
 import com.github.mikephil.charting.listener.ChartTouchListener;
 import com.github.mikephil.charting.listener.OnChartGestureListener;
 import com.github.mikephil.charting.listener.OnChartValueSelectedListener;
@@ -53,6 +55,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.concurrent.Executor;
 import java.util.ArrayList;
 
 /**
@@ -77,6 +80,16 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     protected T mData = null;
 
+    /**
+     * the data object that is currently prepared in the background, see setDataAsync(...)
+     */
+    private PrepareDataJob<T> mPendingDataJob = null;
+
+    /**
+     * source of the data snapshots the chart shows, see setDataSnapshotSource(...)
+     */
+    private DataSnapshotSource<T> mDataSnapshotSource = null;
+
     /**
      * Flag that indicates if highlighting per tap (touch) is enabled
      */
@@ -281,26 +294,167 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     public void setData(T data) {
 
+        cancelPendingData();
+
         mData = data;
         mOffsetsCalculated = false;
+        mDirtyLayers |= LAYER_DATA | LAYER_VALUES;
 
         if (data == null) {
             return;
         }
 
+        setupValueFormatters();
+
+        // let the chart know there is new data
+        notifyDataSetChanged();
+
+        if (mLogEnabled)
+            Log.i(LOG_TAG, "Data is set.");
+    }
+
+    /**
+     * Sets up the default value formatter for the current data and hands it to all DataSets
+     * that need a formatter.
+     */
+    private void setupValueFormatters() {
+
         // calculate how many digits are needed
-        setupDefaultFormatter(data.getYMin(), data.getYMax());
+        setupDefaultFormatter(mData.getYMin(), mData.getYMax());
 
         for (IDataSet set : mData.getDataSets()) {
             if (set.needsFormatter() || set.getValueFormatter() == mDefaultValueFormatter)
                 set.setValueFormatter(mDefaultValueFormatter);
         }
+    }
 
-        // let the chart know there is new data
-        notifyDataSetChanged();
+    /**
+     * Sets a new data object for the chart like setData(...), but does the expensive part of
+     * the preparation on the given Executor (e.g. a background thread): the min and max
+     * values of all DataSets and the legend entries. Afterwards the prepared data is
+     * published on the UI thread at once and the chart is refreshed, the remaining work (the
+     * axis values and the offsets, which depend on the Paint objects used for drawing) is
+     * small. Until then, the chart keeps showing the current data.
+     * The given data object must not be shown by a chart or modified until it is published.
+     * Call this method on the UI thread. A later call of setDataAsync(...), setData(...) or
+     * clear() cancels the preparation of this data object.
+     *
+     * @param data
+     * @param executor
+     * @return the job that prepares the data, can be used to cancel it
+     */
+    public PrepareDataJob<T> setDataAsync(T data, Executor executor) {
 
-        if (mLogEnabled)
-            Log.i(LOG_TAG, "Data is set.");
+        cancelPendingData();
+
+        PrepareDataJob<T> job = new PrepareDataJob<T>(data, mLegendRenderer) {
+            @Override
+            protected void publish() {
+
+                final PrepareDataJob<T> job = this;
+
+                post(new Runnable() {
+                    @Override
+                    public void run() {
+                        publishPreparedData(job);
+                    }
+                });
+            }
+        };
+        mPendingDataJob = job;
+
+        executor.execute(job);
+
+        return job;
+    }
+
+    /**
+     * Publishes the data object of the given job if it has been neither cancelled nor
+     * superseded, called on the UI thread by the job when its data is prepared.
+     *
+     * @param job
+     */
+    protected void publishPreparedData(PrepareDataJob<T> job) {
+
+        if (job != mPendingDataJob || job.isCancelled())
+            return;
+
+        mPendingDataJob = null;
+
+        mLegendRenderer.setPreparedEntries(job.getData(), job.getLegendEntries());
+
+        setData(job.getData());
+        invalidate();
+    }
+
+    /**
+     * Cancels the preparation of the data object that was passed to setDataAsync(...), if it
+     * has not been published yet.
+     */
+    public void cancelPendingData() {
+
+        if (mPendingDataJob != null) {
+            mPendingDataJob.cancel();
+            mPendingDataJob = null;
+        }
+    }
+
+    /**
+     * Sets the source of the data for data that is produced on other threads, e.g. a
+     * LineDataSnapshotBuilder. Before each frame the chart switches to the latest snapshot of
+     * the source if it has changed, so that everything that reads the data on the UI thread
+     * sees one consistent snapshot without any locking. Snapshots with the same number of
+     * DataSets as the current data are expected to differ only in their values, the chart
+     * then only updates what depends on the values (see onDataSnapshotAdopted()), other
+     * snapshots are set with setData(...). Call postInvalidate() after publishing a new
+     * snapshot. Null removes the source.
+     *
+     * @param source
+     */
+    public void setDataSnapshotSource(DataSnapshotSource<T> source) {
+        mDataSnapshotSource = source;
+        adoptDataSnapshot();
+        invalidate();
+    }
+
+    /**
+     * Switches to the latest snapshot of the data snapshot source, if there is a new one.
+     */
+    protected void adoptDataSnapshot() {
+
+        if (mDataSnapshotSource == null)
+            return;
+
+        T snapshot = mDataSnapshotSource.getSnapshot();
+
+        if (snapshot == null || snapshot == mData)
+            return;
+
+        if (mData == null || mData.getDataSetCount() != snapshot.getDataSetCount()) {
+            setData(snapshot);
+            return;
+        }
+
+        cancelPendingData();
+
+        mData = snapshot;
+        mDirtyLayers |= LAYER_DATA | LAYER_VALUES;
+
+        // the caches of the renderer are kept for the DataSets of the new snapshot only
+        if (mRenderer != null)
+            mRenderer.releaseUnusedBuffers();
+
+        setupValueFormatters();
+        onDataSnapshotAdopted();
+    }
+
+    /**
+     * Called after the chart switched to a data snapshot with the same DataSets as the
+     * previous one, updates everything that depends on the values of the data. Calls
+     * notifyDataSetChanged() by default.
+     */
+    protected void onDataSnapshotAdopted() {
+        notifyDataSetChanged();
     }
 
     /**
@@ -308,6 +462,8 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      * calling invalidate()).
      */
     public void clear() {
+        cancelPendingData();
+        mDataSnapshotSource = null;
         mData = null;
         mOffsetsCalculated = false;
         mIndicesToHighlight = null;
@@ -393,6 +549,8 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
     protected void onDraw(Canvas canvas) {
         // super.onDraw(canvas);
 
+        adoptDataSnapshot();
+
         if (mData == null) {
 
             boolean hasText = !TextUtils.isEmpty(mNoDataText);
@@ -442,6 +600,42 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         }
     }
 
+    /**
+     * the layers of a chart that can be invalidated separately, see invalidateLayers(...)
+     */
+    public static final int LAYER_AXES = 1;
+    public static final int LAYER_DATA = 2;
+    public static final int LAYER_VALUES = 4;
+    public static final int LAYER_OVERLAY = 8;
+    public static final int LAYER_ALL = LAYER_AXES | LAYER_DATA | LAYER_VALUES | LAYER_OVERLAY;
+
+    /**
+     * the layers that have changed since the last frame
+     */
+    protected int mDirtyLayers = LAYER_ALL;
+
+    /**
+     * Refreshes the chart, all layers are drawn again.
+     */
+    @Override
+    public void invalidate() {
+        mDirtyLayers = LAYER_ALL;
+        super.invalidate();
+    }
+
+    /**
+     * Refreshes the chart after only the given layers (combination of the LAYER_... flags)
+     * have changed. Charts that retain their layers (see
+     * BarLineChartBase.setLayerCacheEnabled(...)) only draw these layers again, e.g. only the
+     * highlights and the marker (LAYER_OVERLAY) after a highlight has changed.
+     *
+     * @param layers
+     */
+    public void invalidateLayers(int layers) {
+        mDirtyLayers |= layers;
+        super.invalidate();
+    }
+
     /**
      * ################ ################ ################ ################
      */
@@ -544,8 +738,8 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
 
         setLastHighlighted(highs);
 
-        // redraw the chart
-        invalidate();
+        // only the highlights and the marker have changed
+        invalidateLayers(LAYER_OVERLAY);
     }
 
     /**
@@ -653,8 +847,8 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
             }
         }
 
-        // redraw the chart
-        invalidate();
+        // only the highlights and the marker have changed
+        invalidateLayers(LAYER_OVERLAY);
     }
 
     /**
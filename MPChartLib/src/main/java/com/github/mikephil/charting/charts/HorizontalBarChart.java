@@ -58,6 +58,17 @@ public class HorizontalBarChart extends BarChart {
         mXAxisRenderer = new XAxisRendererHorizontalBarChart(mViewPortHandler, mXAxis, mLeftAxisTransformer, this);
     }
 
+    /**
+     * The tiles of the tile cache are slices of the horizontal pixel range, while a
+     * HorizontalBarChart pans vertically, so the data is always drawn directly.
+     *
+     * @return
+     */
+    @Override
+    protected boolean isTiledDrawingPossible() {
+        return false;
+    }
+
     private RectF mOffsetsBuffer = new RectF();
 
     @Override
@@ -17,7 +17,7 @@ import com.github.mikephil.charting.renderer.PieChartRenderer;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * View that represents a pie chart. Draws cake like slices.
@@ -47,6 +47,11 @@ public class PieChart extends PieRadarChartBase<PieData> {
      */
     private float[] mAbsoluteAngles = new float[1];
 
+    /**
+     * buffer for the slice angles corrected by the minimum angle, see calcAngles()
+     */
+    private float[] mMinAngles = new float[1];
+
     /**
      * if true, the white hole inside the chart will be drawn
      */
@@ -213,7 +218,10 @@ public class PieChart extends PieRadarChartBase<PieData> {
      */
     private void calcAngles() {
 
-        int entryCount = mData.getEntryCount();
+        // the slices of the DataSet, or of its view with small slices aggregated
+        IPieDataSet set = mData.getDisplayDataSet();
+
+        int entryCount = set.getEntryCount();
 
         if (mDrawAngles.length != entryCount) {
             mDrawAngles = new float[entryCount];
@@ -232,44 +240,41 @@ public class PieChart extends PieRadarChartBase<PieData> {
 
         float yValueSum = mData.getYValueSum();
 
-        List<IPieDataSet> dataSets = mData.getDataSets();
-
         boolean hasMinAngle = mMinAngleForSlices != 0f && entryCount * mMinAngleForSlices <= mMaxAngle;
-        float[] minAngles = new float[entryCount];
+
+        if (hasMinAngle && mMinAngles.length != entryCount)
+            mMinAngles = new float[entryCount];
+
+        float[] minAngles = mMinAngles;
 
         int cnt = 0;
         float offset = 0f;
         float diff = 0f;
 
-        for (int i = 0; i < mData.getDataSetCount(); i++) {
-
-            IPieDataSet set = dataSets.get(i);
-
-            for (int j = 0; j < set.getEntryCount(); j++) {
+        for (int j = 0; j < set.getEntryCount(); j++) {
 
-                float drawAngle = calcAngle(Math.abs(set.getEntryForIndex(j).getY()), yValueSum);
-
-                if (hasMinAngle) {
-                    float temp = drawAngle - mMinAngleForSlices;
-                    if (temp <= 0) {
-                        minAngles[cnt] = mMinAngleForSlices;
-                        offset += -temp;
-                    } else {
-                        minAngles[cnt] = drawAngle;
-                        diff += temp;
-                    }
-                }
+            float drawAngle = calcAngle(Math.abs(set.getEntryForIndex(j).getY()), yValueSum);
 
-                mDrawAngles[cnt] = drawAngle;
-
-                if (cnt == 0) {
-                    mAbsoluteAngles[cnt] = mDrawAngles[cnt];
+            if (hasMinAngle) {
+                float temp = drawAngle - mMinAngleForSlices;
+                if (temp <= 0) {
+                    minAngles[cnt] = mMinAngleForSlices;
+                    offset += -temp;
                 } else {
-                    mAbsoluteAngles[cnt] = mAbsoluteAngles[cnt - 1] + mDrawAngles[cnt];
+                    minAngles[cnt] = drawAngle;
+                    diff += temp;
                 }
+            }
+
+            mDrawAngles[cnt] = drawAngle;
 
-                cnt++;
+            if (cnt == 0) {
+                mAbsoluteAngles[cnt] = mDrawAngles[cnt];
+            } else {
+                mAbsoluteAngles[cnt] = mAbsoluteAngles[cnt - 1] + mDrawAngles[cnt];
             }
+
+            cnt++;
         }
 
         if (hasMinAngle) {
@@ -284,7 +289,7 @@ public class PieChart extends PieRadarChartBase<PieData> {
                 }
             }
 
-            mDrawAngles = minAngles;
+            System.arraycopy(minAngles, 0, mDrawAngles, 0, entryCount);
         }
     }
 
@@ -347,11 +352,21 @@ public class PieChart extends PieRadarChartBase<PieData> {
         // take the current angle of the chart into consideration
         float a = Utils.getNormalizedAngle(angle - getRotationAngle());
 
-        for (int i = 0; i < mAbsoluteAngles.length; i++) {
-            if (mAbsoluteAngles[i] > a)
-                return i;
+        // the absolute angles are ascending, find the first one that is greater
+        final float[] absoluteAngles = mAbsoluteAngles;
+        int i = Arrays.binarySearch(absoluteAngles, a);
+
+        if (i < 0) {
+            i = -i - 1;
+        } else {
+            // empty slices have the same absolute angle as the previous one
+            while (i < absoluteAngles.length && absoluteAngles[i] <= a)
+                i++;
         }
 
+        if (i < absoluteAngles.length && absoluteAngles[i] > a)
+            return i;
+
         return -1; // return -1 if no index found
     }
 
@@ -363,12 +378,8 @@ public class PieChart extends PieRadarChartBase<PieData> {
      */
     public int getDataSetIndexForIndex(int xIndex) {
 
-        List<IPieDataSet> dataSets = mData.getDataSets();
-
-        for (int i = 0; i < dataSets.size(); i++) {
-            if (dataSets.get(i).getEntryForXValue(xIndex, Float.NaN) != null)
-                return i;
-        }
+        if (mData.getDisplayDataSet().getEntryForXValue(xIndex, Float.NaN) != null)
+            return 0;
 
         return -1;
     }
@@ -116,6 +116,10 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         if (mLegend != null && !mLegend.isLegendCustom())
             mLegendRenderer.computeLegend(mData);
 
+        // the labels of the x-axis may have changed with the data
+        if (mRenderer instanceof RadarChartRenderer)
+            ((RadarChartRenderer) mRenderer).invalidateWeb();
+
         calculateOffsets();
     }
 
@@ -132,10 +136,14 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         if (mXAxis.isEnabled())
             mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
 
-        mXAxisRenderer.renderAxisLabels(canvas);
+        if (mRenderer instanceof RadarChartRenderer) {
+            ((RadarChartRenderer) mRenderer).drawWebLayer(canvas, mXAxisRenderer, mDrawWeb);
+        } else {
+            mXAxisRenderer.renderAxisLabels(canvas);
 
-        if (mDrawWeb)
-            mRenderer.drawExtras(canvas);
+            if (mDrawWeb)
+                mRenderer.drawExtras(canvas);
+        }
 
         if (mYAxis.isEnabled() && mYAxis.isDrawLimitLinesBehindDataEnabled())
             mYAxisRenderer.renderLimitLines(canvas);
@@ -318,6 +326,15 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         return mSkipWebLineCount;
     }
 
+    @Override
+    protected void onDetachedFromWindow() {
+        // returns the bitmap of the web to the pool
+        if (mRenderer instanceof RadarChartRenderer) {
+            ((RadarChartRenderer) mRenderer).releaseBitmap();
+        }
+        super.onDetachedFromWindow();
+    }
+
     @Override
     protected float getRequiredLegendOffset() {
         return mLegendRenderer.getLabelPaint().getTextSize() * 4.f;
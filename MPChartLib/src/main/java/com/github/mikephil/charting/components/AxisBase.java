@@ -6,6 +6,7 @@ import android.util.Log;
 
 import com.github.mikephil.charting.formatter.DefaultAxisValueFormatter;
 import com.github.mikephil.charting.formatter.ValueFormatter;
+import com.github.mikephil.charting.utils.LabelCache;
 import com.github.mikephil.charting.utils.Utils;
 
 import java.util.ArrayList;
@@ -485,7 +486,7 @@ public abstract class AxisBase extends ComponentBase {
         if (index < 0 || index >= mEntries.length)
             return "";
         else
-            return getValueFormatter().getAxisLabel(mEntries[index], this);
+            return LabelCache.getShared().getAxisLabel(getValueFormatter(), mEntries[index], this);
     }
 
     /**
@@ -5,6 +5,7 @@ import android.graphics.Paint;
 
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.FSize;
+import com.github.mikephil.charting.utils.LabelCache;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -203,7 +204,7 @@ public class Legend extends ComponentBase {
             String label = entry.label;
             if (label == null) continue;
 
-            float length = (float) Utils.calcTextWidth(p, label);
+            float length = (float) LabelCache.getShared().calcTextWidth(p, label);
 
             if (length > max)
                 max = length;
@@ -226,7 +227,7 @@ public class Legend extends ComponentBase {
             String label = entry.label;
             if (label == null) continue;
 
-            float length = (float) Utils.calcTextHeight(p, label);
+            float length = (float) LabelCache.getShared().calcTextHeight(p, label);
 
             if (length > max)
                 max = length;
@@ -701,7 +702,7 @@ public class Legend extends ComponentBase {
                             wasStacked = false;
                         }
 
-                        width += Utils.calcTextWidth(labelpaint, label);
+                        width += LabelCache.getShared().calcTextWidth(labelpaint, label);
 
                         if (i < entryCount - 1)
                             maxHeight += labelLineHeight + yEntrySpace;
@@ -759,7 +760,7 @@ public class Legend extends ComponentBase {
                     // grouped forms have null labels
                     if (label != null) {
 
-                        mCalculatedLabelSizes.add(Utils.calcTextSize(labelpaint, label));
+                        mCalculatedLabelSizes.add(LabelCache.getShared().calcTextSize(labelpaint, label));
                         requiredWidth += drawingForm ? formToTextSpace + formSize : 0.f;
                         requiredWidth += mCalculatedLabelSizes.get(i).width;
                     } else {
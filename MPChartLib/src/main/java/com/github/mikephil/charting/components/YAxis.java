@@ -3,6 +3,7 @@ package com.github.mikephil.charting.components;
 import android.graphics.Color;
 import android.graphics.Paint;
 
+import com.github.mikephil.charting.utils.LabelCache;
 import com.github.mikephil.charting.utils.Utils;
 
 /**
@@ -324,7 +325,7 @@ public class YAxis extends AxisBase {
         p.setTextSize(mTextSize);
 
         String label = getLongestLabel();
-        float width = (float) Utils.calcTextWidth(p, label) + getXOffset() * 2f;
+        float width = (float) LabelCache.getShared().calcTextWidth(p, label) + getXOffset() * 2f;
 
         float minWidth = getMinWidth();
         float maxWidth = getMaxWidth();
@@ -351,7 +352,7 @@ public class YAxis extends AxisBase {
         p.setTextSize(mTextSize);
 
         String label = getLongestLabel();
-        return (float) Utils.calcTextHeight(p, label) + getYOffset() * 2f;
+        return (float) LabelCache.getShared().calcTextHeight(p, label) + getYOffset() * 2f;
     }
 
     /**
@@ -0,0 +1,603 @@
+package com.github.mikephil.charting.data;
+
+import android.graphics.DashPathEffect;
+import android.graphics.Typeface;
+
+import com.github.mikephil.charting.components.Legend;
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.formatter.ValueFormatter;
+import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IVersionedDataSet;
+import com.github.mikephil.charting.model.GradientColor;
+import com.github.mikephil.charting.utils.MPPointF;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * View of a PieDataSet in which all slices smaller than a given percentage of the total are
+ * merged into a single aggregated slice at the end, see
+ * PieDataSet.setSmallSliceAggregation(...). The PieChart draws and highlights this view
+ * instead of the PieDataSet, so that thousands of tiny entries result in a few visible slices
+ * and labels. The view is rebuilt in one pass whenever the version of the PieDataSet changes
+ * (the threshold depends on the total, so every change can move any entry in or out of the
+ * aggregated slice), never while drawing an unchanged DataSet. The view has no state of its
+ * own besides the slices: all styling is read from and written to the PieDataSet, the colors
+ * of the slices are the ones of their entries, and entries that are added or removed through
+ * the view are added to or removed from the PieDataSet.
+ * The index of a slice in the view can be mapped back to the PieDataSet with
+ * getSourceIndex(...) and getAggregatedEntries().
+ */
+public class AggregatedPieDataSet implements IPieDataSet, IVersionedDataSet {
+
+    private final PieDataSet mSource;
+
+    /**
+     * the slices of the view, used for the entry queries and the min and max values
+     */
+    private final PieDataSet mSlices;
+
+    /**
+     * the version of the source the view was built for, -1 if it has to be rebuilt
+     */
+    private int mSourceVersion = -1;
+
+    /**
+     * slices below this percentage of the total are aggregated
+     */
+    private float mMinPercent;
+
+    private int mAggregatedColor;
+
+    /**
+     * the entry representing the aggregated slice, reused between rebuilds
+     */
+    private PieEntry mAggregatedEntry;
+
+    /**
+     * the index in the source of each slice of the view, -1 for the aggregated slice
+     */
+    private int[] mSourceIndices = new int[16];
+
+    /**
+     * the entries of the source that are merged into the aggregated slice
+     */
+    private List<PieEntry> mAggregatedEntries = new ArrayList<PieEntry>();
+
+    AggregatedPieDataSet(PieDataSet source, float minPercent, String label, int color) {
+
+        mSource = source;
+        mSlices = new PieDataSet(new ArrayList<PieEntry>(), null);
+        mAggregatedEntry = new PieEntry(0f, label);
+        setAggregation(minPercent, label, color);
+    }
+
+    /**
+     * Changes the threshold, label and color of the aggregated slice.
+     *
+     * @param minPercent
+     * @param label
+     * @param color
+     */
+    void setAggregation(float minPercent, String label, int color) {
+
+        mMinPercent = minPercent;
+        mAggregatedEntry.setLabel(label);
+        mAggregatedColor = color;
+        mSourceVersion = -1;
+    }
+
+    /**
+     * Rebuilds the view if the source changed since the last call.
+     */
+    void update() {
+
+        if (mSourceVersion == mSource.getVersion())
+            return;
+
+        mSourceVersion = mSource.getVersion();
+
+        final int count = mSource.getEntryCount();
+
+        float sum = 0f;
+
+        for (int i = 0; i < count; i++)
+            sum += mSource.getEntryForIndex(i).getY();
+
+        final float threshold = Math.abs(sum) * mMinPercent / 100f;
+
+        int small = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (Math.abs(mSource.getEntryForIndex(i).getY()) < threshold)
+                small++;
+        }
+
+        // aggregating a single slice would only rename it
+        final boolean aggregate = small > 1;
+
+        final List<PieEntry> slices = mSlices.getValues();
+
+        slices.clear();
+        mAggregatedEntries.clear();
+
+        if (mSourceIndices.length < count)
+            mSourceIndices = new int[count];
+
+        float aggregatedSum = 0f;
+
+        for (int i = 0; i < count; i++) {
+
+            PieEntry e = mSource.getEntryForIndex(i);
+
+            if (aggregate && Math.abs(e.getY()) < threshold) {
+                aggregatedSum += e.getY();
+                mAggregatedEntries.add(e);
+            } else {
+                mSourceIndices[slices.size()] = i;
+                slices.add(e);
+            }
+        }
+
+        if (aggregate) {
+            mAggregatedEntry.setY(aggregatedSum);
+            mSourceIndices[slices.size()] = -1;
+            slices.add(mAggregatedEntry);
+        }
+
+        mSlices.calcMinMax();
+    }
+
+    /**
+     * Returns the PieDataSet this is a view of.
+     *
+     * @return
+     */
+    public PieDataSet getSource() {
+        return mSource;
+    }
+
+    /**
+     * Returns the index of the entry in the PieDataSet that is drawn as the slice with the
+     * given index, -1 for the aggregated slice.
+     *
+     * @param index
+     * @return
+     */
+    public int getSourceIndex(int index) {
+        return mSourceIndices[index];
+    }
+
+    /**
+     * Returns true if the slice with the given index is the aggregated slice.
+     *
+     * @param index
+     * @return
+     */
+    public boolean isAggregatedSlice(int index) {
+        return mSourceIndices[index] < 0;
+    }
+
+    /**
+     * Returns the entries of the PieDataSet that are merged into the aggregated slice, empty
+     * if there is no aggregated slice. The list is reused, do not modify it.
+     *
+     * @return
+     */
+    public List<PieEntry> getAggregatedEntries() {
+        return mAggregatedEntries;
+    }
+
+    /**
+     * Returns the percentage below which slices are aggregated.
+     *
+     * @return
+     */
+    public float getMinPercent() {
+        return mMinPercent;
+    }
+
+    /**
+     * Returns the color of the aggregated slice.
+     *
+     * @return
+     */
+    public int getAggregatedColor() {
+        return mAggregatedColor;
+    }
+
+    @Override
+    public int getVersion() {
+        return mSlices.getVersion();
+    }
+
+    /**
+     * ###### ###### SLICES ##### ######
+     */
+
+    @Override
+    public float getYMin() {
+        return mSlices.getYMin();
+    }
+
+    @Override
+    public float getYMax() {
+        return mSlices.getYMax();
+    }
+
+    @Override
+    public float getXMin() {
+        return mSlices.getXMin();
+    }
+
+    @Override
+    public float getXMax() {
+        return mSlices.getXMax();
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mSlices.getEntryCount();
+    }
+
+    @Override
+    public void calcMinMax() {
+        mSlices.calcMinMax();
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        mSlices.calcMinMaxY(fromX, toX);
+    }
+
+    @Override
+    public PieEntry getEntryForXValue(float xValue, float closestToY, DataSet.Rounding rounding) {
+        return mSlices.getEntryForXValue(xValue, closestToY, rounding);
+    }
+
+    @Override
+    public PieEntry getEntryForXValue(float xValue, float closestToY) {
+        return mSlices.getEntryForXValue(xValue, closestToY);
+    }
+
+    @Override
+    public List<PieEntry> getEntriesForXValue(float xValue) {
+        return mSlices.getEntriesForXValue(xValue);
+    }
+
+    @Override
+    public PieEntry getEntryForIndex(int index) {
+        return mSlices.getEntryForIndex(index);
+    }
+
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, DataSet.Rounding rounding) {
+        return mSlices.getEntryIndex(xValue, closestToY, rounding);
+    }
+
+    @Override
+    public int getEntryIndex(PieEntry e) {
+        return mSlices.getEntryIndex(e);
+    }
+
+    @Override
+    public int getIndexInEntries(int xIndex) {
+        return mSlices.getIndexInEntries(xIndex);
+    }
+
+    @Override
+    public boolean contains(PieEntry entry) {
+        return mSlices.contains(entry);
+    }
+
+    /*
+     * The entries are added to and removed from the PieDataSet, the view is rebuilt right
+     * away. The aggregated slice itself cannot be removed.
+     */
+
+    @Override
+    public boolean addEntry(PieEntry e) {
+        final boolean added = mSource.addEntry(e);
+        update();
+        return added;
+    }
+
+    @Override
+    public void addEntryOrdered(PieEntry e) {
+        mSource.addEntryOrdered(e);
+        update();
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return getEntryCount() > 0 && removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return getEntryCount() > 0 && removeEntry(getEntryCount() - 1);
+    }
+
+    @Override
+    public boolean removeEntry(PieEntry e) {
+        final boolean removed = mSource.removeEntry(e);
+        update();
+        return removed;
+    }
+
+    @Override
+    public boolean removeEntryByXValue(float xValue) {
+
+        final int index = getEntryIndex(xValue, Float.NaN, DataSet.Rounding.CLOSEST);
+
+        if (index < 0 || getEntryForIndex(index).getX() != xValue)
+            return false;
+
+        return removeEntry(index);
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (index < 0 || index >= getEntryCount() || isAggregatedSlice(index))
+            return false;
+
+        final boolean removed = mSource.removeEntry(mSourceIndices[index]);
+        update();
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        mSource.clear();
+        update();
+    }
+
+    /**
+     * ###### ###### STYLING ##### ######
+     */
+
+    @Override
+    public String getLabel() {
+        return mSource.getLabel();
+    }
+
+    @Override
+    public void setLabel(String label) {
+        mSource.setLabel(label);
+    }
+
+    @Override
+    public YAxis.AxisDependency getAxisDependency() {
+        return mSource.getAxisDependency();
+    }
+
+    @Override
+    public void setAxisDependency(YAxis.AxisDependency dependency) {
+        mSource.setAxisDependency(dependency);
+    }
+
+    @Override
+    public List<Integer> getColors() {
+
+        List<Integer> colors = new ArrayList<Integer>(getEntryCount());
+
+        for (int i = 0; i < getEntryCount(); i++)
+            colors.add(getColor(i));
+
+        return colors;
+    }
+
+    @Override
+    public int getColor() {
+        return mSource.getColor();
+    }
+
+    @Override
+    public int getColor(int index) {
+        final int sourceIndex = mSourceIndices[index];
+        return sourceIndex < 0 ? mAggregatedColor : mSource.getColor(sourceIndex);
+    }
+
+    @Override
+    public GradientColor getGradientColor() {
+        return mSource.getGradientColor();
+    }
+
+    @Override
+    public List<GradientColor> getGradientColors() {
+        return mSource.getGradientColors();
+    }
+
+    @Override
+    public GradientColor getGradientColor(int index) {
+        final int sourceIndex = mSourceIndices[index];
+        return sourceIndex < 0 ? mSource.getGradientColor() : mSource.getGradientColor(sourceIndex);
+    }
+
+    @Override
+    public boolean isHighlightEnabled() {
+        return mSource.isHighlightEnabled();
+    }
+
+    @Override
+    public void setHighlightEnabled(boolean enabled) {
+        mSource.setHighlightEnabled(enabled);
+    }
+
+    @Override
+    public void setValueFormatter(ValueFormatter f) {
+        mSource.setValueFormatter(f);
+    }
+
+    @Override
+    public ValueFormatter getValueFormatter() {
+        return mSource.getValueFormatter();
+    }
+
+    @Override
+    public boolean needsFormatter() {
+        return mSource.needsFormatter();
+    }
+
+    @Override
+    public void setValueTextColor(int color) {
+        mSource.setValueTextColor(color);
+    }
+
+    @Override
+    public void setValueTextColors(List<Integer> colors) {
+        mSource.setValueTextColors(colors);
+    }
+
+    @Override
+    public void setValueTypeface(Typeface tf) {
+        mSource.setValueTypeface(tf);
+    }
+
+    @Override
+    public void setValueTextSize(float size) {
+        mSource.setValueTextSize(size);
+    }
+
+    @Override
+    public int getValueTextColor() {
+        return mSource.getValueTextColor();
+    }
+
+    @Override
+    public int getValueTextColor(int index) {
+        final int sourceIndex = mSourceIndices[index];
+        return sourceIndex < 0 ? mSource.getValueTextColor() : mSource.getValueTextColor(sourceIndex);
+    }
+
+    @Override
+    public Typeface getValueTypeface() {
+        return mSource.getValueTypeface();
+    }
+
+    @Override
+    public float getValueTextSize() {
+        return mSource.getValueTextSize();
+    }
+
+    @Override
+    public Legend.LegendForm getForm() {
+        return mSource.getForm();
+    }
+
+    @Override
+    public float getFormSize() {
+        return mSource.getFormSize();
+    }
+
+    @Override
+    public float getFormLineWidth() {
+        return mSource.getFormLineWidth();
+    }
+
+    @Override
+    public DashPathEffect getFormLineDashEffect() {
+        return mSource.getFormLineDashEffect();
+    }
+
+    @Override
+    public void setDrawValues(boolean enabled) {
+        mSource.setDrawValues(enabled);
+    }
+
+    @Override
+    public boolean isDrawValuesEnabled() {
+        return mSource.isDrawValuesEnabled();
+    }
+
+    @Override
+    public void setDrawIcons(boolean enabled) {
+        mSource.setDrawIcons(enabled);
+    }
+
+    @Override
+    public boolean isDrawIconsEnabled() {
+        return mSource.isDrawIconsEnabled();
+    }
+
+    @Override
+    public void setIconsOffset(MPPointF offset) {
+        mSource.setIconsOffset(offset);
+    }
+
+    @Override
+    public MPPointF getIconsOffset() {
+        return mSource.getIconsOffset();
+    }
+
+    @Override
+    public void setVisible(boolean visible) {
+        mSource.setVisible(visible);
+    }
+
+    @Override
+    public boolean isVisible() {
+        return mSource.isVisible();
+    }
+
+    @Override
+    public float getSliceSpace() {
+        return mSource.getSliceSpace();
+    }
+
+    @Override
+    public boolean isAutomaticallyDisableSliceSpacingEnabled() {
+        return mSource.isAutomaticallyDisableSliceSpacingEnabled();
+    }
+
+    @Override
+    public float getSelectionShift() {
+        return mSource.getSelectionShift();
+    }
+
+    @Override
+    public PieDataSet.ValuePosition getXValuePosition() {
+        return mSource.getXValuePosition();
+    }
+
+    @Override
+    public PieDataSet.ValuePosition getYValuePosition() {
+        return mSource.getYValuePosition();
+    }
+
+    @Override
+    public boolean isUsingSliceColorAsValueLineColor() {
+        return mSource.isUsingSliceColorAsValueLineColor();
+    }
+
+    @Override
+    public int getValueLineColor() {
+        return mSource.getValueLineColor();
+    }
+
+    @Override
+    public float getValueLineWidth() {
+        return mSource.getValueLineWidth();
+    }
+
+    @Override
+    public float getValueLinePart1OffsetPercentage() {
+        return mSource.getValueLinePart1OffsetPercentage();
+    }
+
+    @Override
+    public float getValueLinePart1Length() {
+        return mSource.getValueLinePart1Length();
+    }
+
+    @Override
+    public float getValueLinePart2Length() {
+        return mSource.getValueLinePart2Length();
+    }
+
+    @Override
+    public boolean isValueLineVariableLength() {
+        return mSource.isValueLineVariableLength();
+    }
+}
@@ -130,6 +130,28 @@ public class BarDataSet extends BarLineScatterCandleBubbleDataSet<BarEntry> impl
         }
     }
 
+    @Override
+    protected float getIndexedYMin(int index) {
+
+        BarEntry e = mValues.get(index);
+
+        if (e.getYVals() == null || Float.isNaN(e.getY()))
+            return e.getY();
+        else
+            return -e.getNegativeSum();
+    }
+
+    @Override
+    protected float getIndexedYMax(int index) {
+
+        BarEntry e = mValues.get(index);
+
+        if (e.getYVals() == null || Float.isNaN(e.getY()))
+            return e.getY();
+        else
+            return e.getPositiveSum();
+    }
+
     @Override
     public int getStackSize() {
         return mStackSize;
@@ -9,6 +9,7 @@ import com.github.mikephil.charting.components.Legend;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IVersionedDataSet;
 import com.github.mikephil.charting.model.GradientColor;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointF;
@@ -16,6 +17,7 @@ import com.github.mikephil.charting.utils.Utils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Created by Philipp Jahoda on 21/10/15.
@@ -24,6 +26,27 @@ import java.util.List;
  */
 public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
 
+    /**
+     * the versions handed out for DataSets that do not implement IVersionedDataSet
+     */
+    private static final AtomicInteger mUnversioned = new AtomicInteger(Integer.MIN_VALUE);
+
+    /**
+     * Returns the version of the entries of the given DataSet if it implements
+     * IVersionedDataSet. For other DataSets a different number is returned on each call, so
+     * that results derived from their entries are never reused.
+     *
+     * @param set
+     * @return
+     */
+    public static int getDataSetVersion(IDataSet<?> set) {
+
+        if (set instanceof IVersionedDataSet)
+            return ((IVersionedDataSet) set).getVersion();
+
+        return mUnversioned.incrementAndGet();
+    }
+
     /**
      * List representing all colors that are used for this DataSet
      */
@@ -478,6 +501,20 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
         return -1;
     }
 
+    /**
+     * Writes the index of the first Entry of the given x-range (rounded down) to outIndices[0]
+     * and the index of the last Entry of the range (rounded up) to outIndices[1], using binary
+     * search. Both indices are -1 if the DataSet is empty.
+     *
+     * @param fromX      the lowest x-value of the range
+     * @param toX        the highest x-value of the range
+     * @param outIndices array of at least length 2 the indices are written to
+     */
+    public void getEntryIndexRange(float fromX, float toX, int[] outIndices) {
+        outIndices[0] = getEntryIndex(fromX, Float.NaN, DataSet.Rounding.DOWN);
+        outIndices[1] = getEntryIndex(toX, Float.NaN, DataSet.Rounding.UP);
+    }
+
     @Override
     public boolean removeFirst() {
 
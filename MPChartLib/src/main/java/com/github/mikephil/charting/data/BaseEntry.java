@@ -68,7 +68,9 @@ public abstract class BaseEntry {
     }
 
     /**
-     * Sets the y-value for the Entry.
+     * Sets the y-value for the Entry. If the Entry is part of a DataSet, call
+     * notifyDataSetChanged() on the DataSet afterwards, renderers cache positions and sums
+     * derived from the entries until the DataSet changes.
      *
      * @param y
      */
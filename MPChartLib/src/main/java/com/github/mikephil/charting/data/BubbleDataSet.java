@@ -39,6 +39,37 @@ public class BubbleDataSet extends BarLineScatterCandleBubbleDataSet<BubbleEntry
         }
     }
 
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (mValues == null || index < 0 || index >= mValues.size())
+            return false;
+
+        final float removedSize = mValues.get(index).getSize();
+
+        if (!super.removeEntry(index))
+            return false;
+
+        // only rescan if the removed entry was the largest one
+        if (removedSize >= mMaxSize)
+            calcMaxSize();
+
+        return true;
+    }
+
+    private void calcMaxSize() {
+
+        mMaxSize = 0f;
+
+        for (int i = 0; i < mValues.size(); i++) {
+
+            final float size = mValues.get(i).getSize();
+
+            if (size > mMaxSize)
+                mMaxSize = size;
+        }
+    }
+
     @Override
     public DataSet<BubbleEntry> copy() {
         List<BubbleEntry> entries = new ArrayList<BubbleEntry>();
@@ -131,6 +131,16 @@ public class CandleDataSet extends LineScatterCandleRadarDataSet<CandleEntry> im
             mYMax = e.getLow();
     }
 
+    @Override
+    protected float getIndexedYMin(int index) {
+        return mValues.get(index).getLow();
+    }
+
+    @Override
+    protected float getIndexedYMax(int index) {
+        return mValues.get(index).getHigh();
+    }
+
     /**
      * Sets the space that is left out on the left and right side of each
      * candle, default 0.1f (10%), max 0.45f, min 0f
@@ -433,12 +433,21 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         if (mDataSets.size() > dataSetIndex && dataSetIndex >= 0) {
 
             IDataSet set = mDataSets.get(dataSetIndex);
+
+            final float yMin = set.getYMin();
+            final float yMax = set.getYMax();
+            final float xMin = set.getXMin();
+            final float xMax = set.getXMax();
+
             // add the entry to the dataset
             if (!set.addEntry(e))
                 return;
 
             calcMinMax(e, set.getAxisDependency());
 
+            // DataSets with a fixed capacity evict their oldest entry to make room
+            onEntryRemoved(set, yMin, yMax, xMin, xMax);
+
         } else {
             Log.e("addEntry", "Cannot add Entry because dataSetIndex too high or too low.");
         }
@@ -522,11 +531,17 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         IDataSet set = mDataSets.get(dataSetIndex);
 
         if (set != null) {
+
+            final float yMin = set.getYMin();
+            final float yMax = set.getYMax();
+            final float xMin = set.getXMin();
+            final float xMax = set.getXMax();
+
             // remove the entry from the dataset
             boolean removed = set.removeEntry(e);
 
             if (removed) {
-                calcMinMax();
+                onEntryRemoved(set, yMin, yMax, xMin, xMax);
             }
 
             return removed;
@@ -534,6 +549,31 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
             return false;
     }
 
+    /**
+     * Updates the minimum and maximum values after an Entry was removed from the given
+     * DataSet. The values are only recalculated from the DataSets if one of the previous
+     * extremes of the DataSet was an extreme of this data object and it has shrunk.
+     *
+     * @param set
+     * @param yMin the minimum y-value of the DataSet before the removal
+     * @param yMax the maximum y-value of the DataSet before the removal
+     * @param xMin the minimum x-value of the DataSet before the removal
+     * @param xMax the maximum x-value of the DataSet before the removal
+     */
+    protected void onEntryRemoved(IDataSet<?> set, float yMin, float yMax, float xMin, float xMax) {
+
+        final boolean left = set.getAxisDependency() == AxisDependency.LEFT;
+
+        final boolean recalc =
+                (set.getYMin() > yMin && (yMin <= mYMin || yMin <= (left ? mLeftAxisMin : mRightAxisMin)))
+                        || (set.getYMax() < yMax && (yMax >= mYMax || yMax >= (left ? mLeftAxisMax : mRightAxisMax)))
+                        || (set.getXMin() > xMin && xMin <= mXMin)
+                        || (set.getXMax() < xMax && xMax >= mXMax);
+
+        if (recalc)
+            calcMinMax();
+    }
+
     /**
      * Removes the Entry object closest to the given DataSet at the
      * specified index. Returns true if an Entry was removed, false if no Entry
@@ -1,8 +1,18 @@
 
 package com.github.mikephil.charting.data;
 
+import com.github.mikephil.charting.data.filter.ApproximationCache;
+import com.github.mikephil.charting.data.filter.LodPyramid;
+import com.github.mikephil.charting.interfaces.datasets.IVersionedDataSet;
+import com.github.mikephil.charting.utils.ArrayDequeList;
+import com.github.mikephil.charting.utils.EntrySearch;
+import com.github.mikephil.charting.utils.RangeMinMaxIndex;
+import com.github.mikephil.charting.utils.SlidingWindowMinMax;
+import com.github.mikephil.charting.utils.SpatialIndex;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * The DataSet class represents one group or type of entries (Entry) in the
@@ -12,7 +22,7 @@ import java.util.List;
  *
  * @author Philipp Jahoda
  */
-public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
+public abstract class DataSet<T extends Entry> extends BaseDataSet<T> implements IVersionedDataSet {
 
     /**
      * the entries that this DataSet represents / holds together
@@ -39,6 +49,52 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     protected float mXMin = Float.MAX_VALUE;
 
+    /**
+     * optional index for fast min / max y-value lookups of x-ranges, null if disabled
+     */
+    protected RangeMinMaxIndex mMinMaxIndex = null;
+
+    /**
+     * min / max of the x- and y-values in sliding window mode, null if disabled
+     */
+    protected SlidingWindowMinMax mSlidingWindowX = null;
+    protected SlidingWindowMinMax mSlidingWindowY = null;
+
+    /**
+     * optional index for nearest-neighbour queries, null if disabled
+     */
+    DataSetSpatialIndex mSpatialIndex = null;
+
+    /**
+     * incremented whenever the entries of this DataSet change
+     */
+    protected int mVersion = 0;
+
+    /**
+     * cached Douglas-Peucker reductions of this DataSet, null until first used
+     */
+    private ApproximationCache mApproximationCache = null;
+
+    /**
+     * level-of-detail pyramid of this DataSet, null if none was built
+     */
+    private volatile LodPyramid mLodPyramid = null;
+
+    /**
+     * the entries as seen by the closest-entry search
+     */
+    private final SpatialIndex.PointSource mEntryPoints = new SpatialIndex.PointSource() {
+        @Override
+        public float getX(int index) {
+            return mValues.get(index).getX();
+        }
+
+        @Override
+        public float getY(int index) {
+            return mValues.get(index).getY();
+        }
+    };
+
 
     /**
      * Creates a new DataSet object with the given values (entries) it represents. Also, a
@@ -61,14 +117,22 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     @Override
     public void calcMinMax() {
 
-        if (mValues == null || mValues.isEmpty())
-            return;
+        mVersion++;
 
         mYMax = -Float.MAX_VALUE;
         mYMin = Float.MAX_VALUE;
         mXMax = -Float.MAX_VALUE;
         mXMin = Float.MAX_VALUE;
 
+        if (mMinMaxIndex != null)
+            mMinMaxIndex.rebuild(mValues == null ? 0 : mValues.size());
+
+        if (mSlidingWindowY != null)
+            rebuildSlidingWindow();
+
+        if (mValues == null || mValues.isEmpty())
+            return;
+
         for (T e : mValues) {
             calcMinMax(e);
         }
@@ -86,6 +150,15 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
         int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
 
+        if (mMinMaxIndex != null) {
+
+            mMinMaxIndex.query(indexFrom, indexTo);
+
+            mYMin = mMinMaxIndex.getRangeMin();
+            mYMax = mMinMaxIndex.getRangeMax();
+            return;
+        }
+
         for (int i = indexFrom; i <= indexTo; i++) {
 
             // only recalculate y
@@ -93,6 +166,284 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         }
     }
 
+    /**
+     * Enables / disables an index over the y-values of this DataSet that makes
+     * calcMinMaxY(fromX, toX) run in O(log n) instead of scanning all entries in the
+     * range. Enable this when using the autoScaleMinMax feature of the chart with large
+     * DataSets. The index is kept up to date when entries are added or removed, its
+     * memory footprint is a small fraction of the entries. Requires the entries to be
+     * ordered by x. Default: disabled
+     *
+     * @param enabled
+     */
+    public void setMinMaxIndexEnabled(boolean enabled) {
+
+        if (enabled && mMinMaxIndex == null) {
+
+            mMinMaxIndex = new RangeMinMaxIndex(new RangeMinMaxIndex.ValueSource() {
+                @Override
+                public float getLowValue(int index) {
+                    return getIndexedYMin(index);
+                }
+
+                @Override
+                public float getHighValue(int index) {
+                    return getIndexedYMax(index);
+                }
+            });
+
+            mMinMaxIndex.rebuild(getEntryCount());
+
+        } else if (!enabled) {
+            mMinMaxIndex = null;
+        }
+    }
+
+    /**
+     * Returns true if the min / max index of this DataSet is enabled.
+     *
+     * @return
+     */
+    public boolean isMinMaxIndexEnabled() {
+        return mMinMaxIndex != null;
+    }
+
+    /**
+     * Enables / disables the spatial index of this DataSet, an index of the x- and y-values of
+     * the entries that is used to find the entry closest to a touch position (see
+     * getSpatialIndex()). The index is built on first use and kept up to date when entries
+     * are appended or removed from the front; other changes rebuild it on the next use.
+     * Used by the NearestEntryHighlighter. Default: disabled
+     *
+     * @param enabled
+     */
+    public void setSpatialIndexEnabled(boolean enabled) {
+
+        if (enabled && mSpatialIndex == null)
+            mSpatialIndex = new DataSetSpatialIndex(getEntryPoints());
+        else if (!enabled)
+            mSpatialIndex = null;
+    }
+
+    /**
+     * Returns true if the spatial index of this DataSet is enabled.
+     *
+     * @return
+     */
+    public boolean isSpatialIndexEnabled() {
+        return mSpatialIndex != null;
+    }
+
+    /**
+     * Returns the spatial index of this DataSet, rebuilt if the entries have changed in a way
+     * that could not be tracked incrementally, or null if it is disabled. The indices of the
+     * SpatialIndex are entry indices.
+     *
+     * @return
+     */
+    public SpatialIndex getSpatialIndex() {
+
+        if (mSpatialIndex == null)
+            return null;
+
+        return mSpatialIndex.get(getEntryCount(), mVersion);
+    }
+
+    /**
+     * Returns the x- and y-values of the entries as seen by the spatial index. DataSets that
+     * store their values as primitives return a source that reads them without creating Entry
+     * objects.
+     *
+     * @return
+     */
+    protected SpatialIndex.PointSource getEntryPoints() {
+        return mEntryPoints;
+    }
+
+    /**
+     * Enables / disables the sliding window mode of this DataSet, meant for realtime charts
+     * that add entries at the end and remove the oldest entries from the front
+     * (removeFirst()). In this mode removing the first entry runs in amortized O(1) instead
+     * of O(n), and the min and max values are maintained incrementally instead of being
+     * recalculated from all entries. Enabling this copies the entries into an internal list,
+     * use getValues() to access them afterwards. DataSets that keep their values in primitive
+     * arrays (FloatColumnDataSet, RingBufferLineDataSet, RingBufferScatterDataSet) ignore
+     * this. Default: disabled
+     *
+     * @param enabled
+     */
+    public void setSlidingWindowEnabled(boolean enabled) {
+
+        if (enabled && mSlidingWindowY == null) {
+
+            mSlidingWindowX = new SlidingWindowMinMax();
+            mSlidingWindowY = new SlidingWindowMinMax();
+
+            rebuildSlidingWindow();
+
+        } else if (!enabled) {
+            mSlidingWindowX = null;
+            mSlidingWindowY = null;
+        }
+    }
+
+    /**
+     * Returns true if the sliding window mode of this DataSet is enabled.
+     *
+     * @return
+     */
+    public boolean isSlidingWindowEnabled() {
+        return mSlidingWindowY != null;
+    }
+
+    /**
+     * Moves the entries into a list that supports removal from the front in O(1) if necessary
+     * and recalculates the sliding window from all entries. O(n)
+     */
+    private void rebuildSlidingWindow() {
+
+        if (mValues != null && !(mValues instanceof ArrayDequeList))
+            mValues = new ArrayDequeList<T>(mValues);
+
+        mSlidingWindowX.clear();
+        mSlidingWindowY.clear();
+
+        for (int i = 0, count = getEntryCount(); i < count; i++) {
+            addToSlidingWindow(i);
+        }
+    }
+
+    private void addToSlidingWindow(int index) {
+
+        final float x = getEntryForIndex(index).getX();
+
+        mSlidingWindowX.add(x, x);
+        mSlidingWindowY.add(getIndexedYMin(index), getIndexedYMax(index));
+    }
+
+    @Override
+    public int getVersion() {
+        return mVersion;
+    }
+
+    /**
+     * Returns the indices of the entries that remain after reducing this DataSet with the
+     * Douglas-Peucker algorithm and the given tolerance (in value-space). The results for the
+     * most recently used tolerances are cached until the DataSet changes, so that a chart can
+     * reduce the DataSet once per zoom level instead of on every frame. The entries must be
+     * ordered by x. Do not modify the returned array.
+     *
+     * @param tolerance
+     * @return
+     */
+    public int[] getApproximatedIndices(float tolerance) {
+
+        if (mApproximationCache == null)
+            mApproximationCache = new ApproximationCache();
+
+        return mApproximationCache.getIndices(this, mVersion, tolerance);
+    }
+
+    /**
+     * Returns the indices of the (at most maxPoints) most significant entries of this
+     * DataSet, determined by a Douglas-Peucker reduction with a point budget instead of a
+     * tolerance. Cached like getApproximatedIndices(...). Do not modify the returned array.
+     *
+     * @param maxPoints
+     * @return
+     */
+    public int[] getApproximatedIndicesForCount(int maxPoints) {
+
+        if (mApproximationCache == null)
+            mApproximationCache = new ApproximationCache();
+
+        return mApproximationCache.getIndicesForCount(this, mVersion, maxPoints);
+    }
+
+    /**
+     * Drops the cached Douglas-Peucker reductions of this DataSet and the memory they use.
+     */
+    public void clearApproximationCache() {
+        mApproximationCache = null;
+    }
+
+    /**
+     * Builds a level-of-detail pyramid of this DataSet on the given Executor (e.g. a
+     * background thread), see LodPyramid. Once it is built, line charts draw the coarsest
+     * level that still has at least one bucket per pixel instead of all visible entries, so
+     * that zooming a huge DataSet costs time proportional to the width of the chart rather
+     * than to the number of entries. The entries must be ordered by x and must not be
+     * modified while the pyramid is built; the pyramid is ignored as soon as the DataSet
+     * changes, call this method again to rebuild it.
+     *
+     * @param executor runs the build
+     * @param onBuilt  called on the thread of the executor when the pyramid is ready (e.g.
+     *                 to invalidate the chart), may be null
+     */
+    public void buildLodPyramid(Executor executor, final Runnable onBuilt) {
+
+        final LodPyramid pyramid = new LodPyramid();
+        final int version = mVersion;
+
+        mLodPyramid = pyramid;
+
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+
+                pyramid.build(DataSet.this, version);
+
+                if (onBuilt != null)
+                    onBuilt.run();
+            }
+        });
+    }
+
+    /**
+     * Returns the level-of-detail pyramid of this DataSet, or null if none was built, the
+     * build has not finished yet or the DataSet has changed since.
+     *
+     * @return
+     */
+    public LodPyramid getLodPyramid() {
+
+        final LodPyramid pyramid = mLodPyramid;
+
+        if (pyramid == null || !pyramid.isReady() || pyramid.getVersion() != mVersion)
+            return null;
+
+        return pyramid;
+    }
+
+    /**
+     * Drops the level-of-detail pyramid of this DataSet.
+     */
+    public void clearLodPyramid() {
+        mLodPyramid = null;
+    }
+
+    /**
+     * Returns the lowest y-value of the Entry at the given index that is relevant for the
+     * min / max calculation, used by the min / max index.
+     *
+     * @param index
+     * @return
+     */
+    protected float getIndexedYMin(int index) {
+        return mValues.get(index).getY();
+    }
+
+    /**
+     * Returns the highest y-value of the Entry at the given index that is relevant for the
+     * min / max calculation, used by the min / max index.
+     *
+     * @param index
+     * @return
+     */
+    protected float getIndexedYMax(int index) {
+        return mValues.get(index).getY();
+    }
+
     /**
      * Updates the min and max x and y value of this DataSet based on the given Entry.
      *
@@ -132,7 +483,9 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     }
 
     /**
-     * Returns the array of entries that this DataSet represents.
+     * Returns the array of entries that this DataSet represents. Call notifyDataSetChanged()
+     * after modifying the list or its entries directly, otherwise the cached values derived
+     * from them (e.g. the pixel positions of the renderers) are not updated.
      *
      * @return
      */
@@ -163,6 +516,8 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     protected void copy(DataSet dataSet) {
         super.copy(dataSet);
+        dataSet.setMinMaxIndexEnabled(isMinMaxIndexEnabled());
+        dataSet.setSlidingWindowEnabled(isSlidingWindowEnabled());
     }
 
     @Override
@@ -218,13 +573,30 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
             mValues = new ArrayList<T>();
         }
 
+        mVersion++;
+
         calcMinMax(e);
 
         if (mValues.size() > 0 && mValues.get(mValues.size() - 1).getX() > e.getX()) {
             int closestIndex = getEntryIndex(e.getX(), e.getY(), Rounding.UP);
             mValues.add(closestIndex, e);
+
+            if (mMinMaxIndex != null)
+                mMinMaxIndex.rebuild(mValues.size());
+
+            if (mSlidingWindowY != null)
+                rebuildSlidingWindow();
         } else {
             mValues.add(e);
+
+            if (mMinMaxIndex != null)
+                mMinMaxIndex.append();
+
+            if (mSpatialIndex != null)
+                mSpatialIndex.append(mVersion);
+
+            if (mSlidingWindowY != null)
+                addToSlidingWindow(mValues.size() - 1);
         }
     }
 
@@ -245,10 +617,23 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
             values = new ArrayList<T>();
         }
 
+        mVersion++;
+
         calcMinMax(e);
 
         // add the entry
-        return values.add(e);
+        boolean added = values.add(e);
+
+        if (added && mMinMaxIndex != null)
+            mMinMaxIndex.append();
+
+        if (added && mSpatialIndex != null)
+            mSpatialIndex.append(mVersion);
+
+        if (added && mSlidingWindowY != null)
+            addToSlidingWindow(values.size() - 1);
+
+        return added;
     }
 
     @Override
@@ -260,19 +645,119 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mValues == null)
             return false;
 
+        return removeEntry(getEntryIndex(e));
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (mValues == null || index < 0 || index >= mValues.size())
+            return false;
+
+        final float removedX = mValues.get(index).getX();
+        final float removedYMin = getIndexedYMin(index);
+        final float removedYMax = getIndexedYMax(index);
+
+        mVersion++;
+
         // remove the entry
-        boolean removed = mValues.remove(e);
+        mValues.remove(index);
+
+        if (mMinMaxIndex != null)
+            mMinMaxIndex.remove(index);
+
+        if (mSpatialIndex != null)
+            mSpatialIndex.remove(index, mVersion);
+
+        if (mSlidingWindowY != null) {
+
+            if (index == 0) {
+                mSlidingWindowX.removeFirst();
+                mSlidingWindowY.removeFirst();
+            } else {
+                rebuildSlidingWindow();
+            }
+
+            mXMin = mSlidingWindowX.getMin();
+            mXMax = mSlidingWindowX.getMax();
+            mYMin = mSlidingWindowY.getMin();
+            mYMax = mSlidingWindowY.getMax();
 
-        if (removed) {
+        } else if (mMinMaxIndex != null) {
+            calcMinMaxFromIndex();
+        } else if (removedX <= mXMin || removedX >= mXMax
+                || removedYMin <= mYMin || removedYMax >= mYMax) {
+            // only rescan if the removed entry was one of the extremes
             calcMinMax();
         }
 
-        return removed;
+        return true;
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(getEntryCount() - 1);
+    }
+
+    /**
+     * Updates the min and max values of this DataSet from the min / max index instead of
+     * scanning all entries. The entries are expected to be ordered by x.
+     */
+    protected void calcMinMaxFromIndex() {
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        final int count = getEntryCount();
+
+        if (count == 0)
+            return;
+
+        mMinMaxIndex.query(0, count - 1);
+
+        mYMin = mMinMaxIndex.getRangeMin();
+        mYMax = mMinMaxIndex.getRangeMax();
+
+        calcMinMaxX(getEntryForIndex(0));
+        calcMinMaxX(getEntryForIndex(count - 1));
     }
 
     @Override
     public int getEntryIndex(Entry e) {
-        return mValues.indexOf(e);
+
+        if (e == null || mValues == null || mValues.isEmpty())
+            return -1;
+
+        final float xValue = e.getX();
+
+        // binary search for the x-value, then look for the entry among all entries sharing it
+        int index = getEntryIndex(xValue, Float.NaN, Rounding.CLOSEST);
+
+        if (mValues.get(index).getX() != xValue)
+            return -1;
+
+        while (index > 0 && mValues.get(index - 1).getX() == xValue)
+            index--;
+
+        for (int size = mValues.size(); index < size; index++) {
+
+            T value = mValues.get(index);
+
+            if (value.getX() != xValue)
+                break;
+
+            if (value.equals(e))
+                return index;
+        }
+
+        return -1;
     }
 
     @Override
@@ -297,86 +782,11 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     @Override
     public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
 
-        if (mValues == null || mValues.isEmpty())
+        if (mValues == null)
             return -1;
 
-        int low = 0;
-        int high = mValues.size() - 1;
-        int closest = high;
-
-        while (low < high) {
-            int m = (low + high) / 2;
-
-            final float d1 = mValues.get(m).getX() - xValue,
-                    d2 = mValues.get(m + 1).getX() - xValue,
-                    ad1 = Math.abs(d1), ad2 = Math.abs(d2);
-
-            if (ad2 < ad1) {
-                // [m + 1] is closer to xValue
-                // Search in an higher place
-                low = m + 1;
-            } else if (ad1 < ad2) {
-                // [m] is closer to xValue
-                // Search in a lower place
-                high = m;
-            } else {
-                // We have multiple sequential x-value with same distance
-
-                if (d1 >= 0.0) {
-                    // Search in a lower place
-                    high = m;
-                } else if (d1 < 0.0) {
-                    // Search in an higher place
-                    low = m + 1;
-                }
-            }
-
-            closest = high;
-        }
-
-        if (closest != -1) {
-            float closestXValue = mValues.get(closest).getX();
-            if (rounding == Rounding.UP) {
-                // If rounding up, and found x-value is lower than specified x, and we can go upper...
-                if (closestXValue < xValue && closest < mValues.size() - 1) {
-                    ++closest;
-                }
-            } else if (rounding == Rounding.DOWN) {
-                // If rounding down, and found x-value is upper than specified x, and we can go lower...
-                if (closestXValue > xValue && closest > 0) {
-                    --closest;
-                }
-            }
-
-            // Search by closest to y-value
-            if (!Float.isNaN(closestToY)) {
-                while (closest > 0 && mValues.get(closest - 1).getX() == closestXValue)
-                    closest -= 1;
-
-                float closestYValue = mValues.get(closest).getY();
-                int closestYIndex = closest;
-
-                while (true) {
-                    closest += 1;
-                    if (closest >= mValues.size())
-                        break;
-
-                    final Entry value = mValues.get(closest);
-
-                    if (value.getX() != closestXValue)
-                        break;
-
-                    if (Math.abs(value.getY() - closestToY) < Math.abs(closestYValue - closestToY)) {
-                        closestYValue = closestToY;
-                        closestYIndex = closest;
-                    }
-                }
-
-                closest = closestYIndex;
-            }
-        }
-
-        return closest;
+        return EntrySearch.getClosestIndex(mEntryPoints, mValues.size(), xValue, closestToY,
+                rounding);
     }
 
     @Override
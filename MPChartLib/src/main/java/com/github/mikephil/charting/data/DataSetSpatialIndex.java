@@ -0,0 +1,97 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.SpatialIndex;
+
+/**
+ * The spatial index of a DataSet (see DataSet.setSpatialIndexEnabled(...)) and the version of
+ * the entries it is up to date with. A change of the entries that increments the version by
+ * one is applied incrementally if the index was up to date before, any other change rebuilds
+ * the index on its next use.
+ */
+class DataSetSpatialIndex {
+
+    private final SpatialIndex mIndex;
+
+    /**
+     * the version of the entries the index is up to date with
+     */
+    private int mVersion = -1;
+
+    /**
+     * @param points the x- and y-values of the entries
+     */
+    DataSetSpatialIndex(SpatialIndex.PointSource points) {
+        mIndex = new SpatialIndex(points);
+    }
+
+    /**
+     * Returns the index for the entries of the given version, rebuilt if it is not up to date.
+     *
+     * @param count   the number of entries
+     * @param version
+     * @return
+     */
+    SpatialIndex get(int count, int version) {
+
+        if (mVersion != version || mIndex.isDirty()) {
+            mIndex.rebuild(count);
+            mVersion = version;
+        }
+
+        return mIndex;
+    }
+
+    /**
+     * Adds the entry that was appended by the change to the given version.
+     *
+     * @param version
+     */
+    void append(int version) {
+
+        if (track(version))
+            mIndex.append();
+    }
+
+    /**
+     * Removes the first entry and adds the appended one, both changed by the change to the
+     * given version (e.g. when a full ring buffer evicts its oldest value).
+     *
+     * @param version
+     */
+    void removeFirstAndAppend(int version) {
+
+        if (track(version)) {
+            mIndex.removeFirst();
+            mIndex.append();
+        }
+    }
+
+    /**
+     * Removes the entry at the given index, which was removed by the change to the given
+     * version.
+     *
+     * @param index
+     * @param version
+     */
+    void remove(int index, int version) {
+
+        if (track(version))
+            mIndex.remove(index);
+    }
+
+    /**
+     * Returns true if the index was up to date with the version before the given one and can
+     * be updated incrementally, and marks it up to date with the given version.
+     *
+     * @param version
+     * @return
+     */
+    private boolean track(int version) {
+
+        if (mVersion != version - 1 || mIndex.isDirty())
+            return false;
+
+        mVersion = version;
+        return true;
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * Source of immutable data snapshots for a chart whose data is produced on other threads, see
+ * Chart.setDataSnapshotSource(...). The chart asks for the latest snapshot before drawing
+ * each frame and switches to it if it has changed, so that renderers, highlighters and
+ * markers always work on one consistent snapshot.
+ */
+public interface DataSnapshotSource<T extends ChartData<? extends IDataSet<? extends Entry>>> {
+
+    /**
+     * Returns the most recently published snapshot, or null if there is none yet. Called on
+     * the UI thread, must be cheap and thread-safe (e.g. the read of a volatile field). The
+     * returned data object must not be modified afterwards.
+     *
+     * @return
+     */
+    T getSnapshot();
+}
@@ -81,7 +81,8 @@ public class Entry extends BaseEntry implements Parcelable {
     }
 
     /**
-     * Sets the x-value of this Entry object.
+     * Sets the x-value of this Entry object. If the Entry is part of a DataSet, call
+     * notifyDataSetChanged() on the DataSet afterwards, see BaseEntry.setY(...).
      * 
      * @param x
      */
@@ -0,0 +1,620 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IFloatValueDataSet;
+import com.github.mikephil.charting.utils.EntrySearch;
+import com.github.mikephil.charting.utils.SpatialIndex;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * LineDataSet that stores its x- and y-values in two growable primitive float[] columns
+ * instead of a List of Entry objects. This keeps the memory footprint of very large DataSets
+ * (hundreds of thousands of points and more) at 8 bytes per point and avoids the garbage
+ * created by boxing every value into an Entry.
+ * Entry objects are only created on demand (e.g. when a highlighter or marker calls
+ * getEntryForIndex(...)), they do not carry any data or icon. The values must be added
+ * in ascending x-order (use addEntryOrdered(...) otherwise).
+ */
+public class FloatColumnDataSet extends LineDataSet implements IFloatValueDataSet {
+
+    /**
+     * the initial capacity of the columns if none is specified
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * the x-values of this DataSet, only the first mCount values are valid
+     */
+    private float[] mXValues;
+
+    /**
+     * the y-values of this DataSet, only the first mCount values are valid
+     */
+    private float[] mYValues;
+
+    /**
+     * the number of values held by the columns
+     */
+    private int mCount;
+
+    /**
+     * true if the columns are shared with a snapshot, see snapshot()
+     */
+    private boolean mShared = false;
+
+    /**
+     * the value arrays as seen by the closest-entry search
+     */
+    private final SpatialIndex.PointSource mPoints = new SpatialIndex.PointSource() {
+        @Override
+        public float getX(int index) {
+            return mXValues[index];
+        }
+
+        @Override
+        public float getY(int index) {
+            return mYValues[index];
+        }
+    };
+
+    /**
+     * Creates an empty DataSet with the given label.
+     *
+     * @param label
+     */
+    public FloatColumnDataSet(String label) {
+        this(null, null, 0, label);
+    }
+
+    /**
+     * Creates a new DataSet from the given Entry objects. Only the x- and y-values of the
+     * entries are kept, data objects and icons are dropped.
+     *
+     * @param entries
+     * @param label
+     */
+    public FloatColumnDataSet(List<Entry> entries, String label) {
+        this(null, null, 0, label);
+        setValues(entries);
+    }
+
+    /**
+     * Creates a new DataSet that takes ownership of the given x- and y-columns (no copy is
+     * made). Only the first count values of the arrays are used.
+     *
+     * @param xValues x-values in ascending order
+     * @param yValues y-values, same length as the x-values
+     * @param count   the number of valid values in the arrays
+     * @param label
+     */
+    public FloatColumnDataSet(float[] xValues, float[] yValues, int count, String label) {
+        super(null, label);
+
+        if (xValues == null || yValues == null) {
+            xValues = new float[DEFAULT_CAPACITY];
+            yValues = new float[DEFAULT_CAPACITY];
+            count = 0;
+        }
+
+        if (xValues.length != yValues.length)
+            throw new IllegalArgumentException("The x- and y-columns must have the same length.");
+
+        if (count < 0 || count > xValues.length)
+            throw new IllegalArgumentException("Invalid value count " + count + ".");
+
+        mXValues = xValues;
+        mYValues = yValues;
+        mCount = count;
+        mValues = new EntryView();
+
+        calcMinMax();
+    }
+
+    /**
+     * Creates a snapshot of the given DataSet that shares its columns.
+     */
+    private FloatColumnDataSet(FloatColumnDataSet source) {
+        super(null, source.getLabel());
+
+        mXValues = source.mXValues;
+        mYValues = source.mYValues;
+        mShared = true;
+        mValues = new EntryView();
+
+        // copy the settings while the snapshot is still empty, so that an enabled min / max
+        // index is not rebuilt from the values but copied below
+        mCount = 0;
+        source.copy(this);
+        mCount = source.mCount;
+
+        if (mMinMaxIndex != null)
+            mMinMaxIndex.copyFrom(source.mMinMaxIndex);
+
+        mXMin = source.mXMin;
+        mXMax = source.mXMax;
+        mYMin = source.mYMin;
+        mYMax = source.mYMax;
+        mVersion = source.mVersion;
+    }
+
+    /**
+     * Returns a snapshot of this DataSet in O(1): a FloatColumnDataSet with the same values
+     * and settings that shares the columns with this DataSet instead of copying them. Values
+     * that are appended to this DataSet afterwards are written behind the end of the snapshot
+     * and are not visible to it, any other modification copies the columns first
+     * (copy-on-write), so the values of the snapshot never change. The snapshot can
+     * therefore be drawn on the UI thread while this DataSet is appended to on another
+     * thread, once it has been published safely (e.g. through a volatile field, see
+     * LineDataSnapshotBuilder). Snapshots must not be modified.
+     *
+     * @return
+     */
+    public FloatColumnDataSet snapshot() {
+        mShared = true;
+        return new FloatColumnDataSet(this);
+    }
+
+    /**
+     * Copies the columns if they are shared with a snapshot, called before values are
+     * overwritten or moved.
+     */
+    private void unshare() {
+
+        if (!mShared)
+            return;
+
+        mXValues = Arrays.copyOf(mXValues, mXValues.length);
+        mYValues = Arrays.copyOf(mYValues, mYValues.length);
+        mShared = false;
+    }
+
+    /**
+     * Returns the backing array of x-values. Only the first getEntryCount() values are valid.
+     * The array is replaced when the DataSet grows, do not hold on to it.
+     *
+     * @return
+     */
+    public float[] getXValues() {
+        return mXValues;
+    }
+
+    /**
+     * Returns the backing array of y-values. Only the first getEntryCount() values are valid.
+     * The array is replaced when the DataSet grows, do not hold on to it.
+     *
+     * @return
+     */
+    public float[] getYValues() {
+        return mYValues;
+    }
+
+    /**
+     * Returns the x-value at the given index.
+     *
+     * @param index
+     * @return
+     */
+    @Override
+    public float getX(int index) {
+        return mXValues[index];
+    }
+
+    /**
+     * Returns the y-value at the given index.
+     *
+     * @param index
+     * @return
+     */
+    @Override
+    public float getY(int index) {
+        return mYValues[index];
+    }
+
+    /**
+     * Appends the given value pair to the end of the columns. The x-value must not be lower than
+     * the last x-value of this DataSet. Does not create an Entry object.
+     *
+     * @param x
+     * @param y
+     */
+    public void addValue(float x, float y) {
+        ensureCapacity(mCount + 1);
+
+        mVersion++;
+
+        mXValues[mCount] = x;
+        mYValues[mCount] = y;
+        mCount++;
+
+        calcMinMax(x, y);
+
+        if (mMinMaxIndex != null)
+            mMinMaxIndex.append();
+    }
+
+    /**
+     * Appends the first count value pairs of the given arrays to the end of the columns, e.g.
+     * a chunk of a file loaded with the FileUtils. The x-values must be in ascending order and
+     * not lower than the last x-value of this DataSet.
+     *
+     * @param xValues
+     * @param yValues
+     * @param count
+     */
+    public void addValues(float[] xValues, float[] yValues, int count) {
+
+        if (count <= 0)
+            return;
+
+        ensureCapacity(mCount + count);
+
+        mVersion++;
+
+        System.arraycopy(xValues, 0, mXValues, mCount, count);
+        System.arraycopy(yValues, 0, mYValues, mCount, count);
+        mCount += count;
+
+        for (int i = 0; i < count; i++) {
+
+            calcMinMax(xValues[i], yValues[i]);
+
+            if (mMinMaxIndex != null)
+                mMinMaxIndex.append();
+        }
+    }
+
+    /**
+     * Makes sure the columns can hold at least the given number of values without growing.
+     *
+     * @param capacity
+     */
+    public void ensureCapacity(int capacity) {
+
+        if (capacity <= mXValues.length)
+            return;
+
+        int newCapacity = Math.max(capacity, mXValues.length + (mXValues.length >> 1) + 1);
+
+        mXValues = Arrays.copyOf(mXValues, newCapacity);
+        mYValues = Arrays.copyOf(mYValues, newCapacity);
+        mShared = false;
+    }
+
+    /**
+     * Releases the unused capacity of the columns.
+     */
+    public void trimToSize() {
+
+        if (mXValues.length == mCount)
+            return;
+
+        mXValues = Arrays.copyOf(mXValues, mCount);
+        mYValues = Arrays.copyOf(mYValues, mCount);
+        mShared = false;
+    }
+
+    /**
+     * Does nothing, the columns are plain arrays that cannot drop values from the front in
+     * O(1), use a RingBufferLineDataSet for realtime data instead.
+     * isSlidingWindowEnabled() always returns false.
+     *
+     * @param enabled
+     */
+    @Override
+    public void setSlidingWindowEnabled(boolean enabled) {
+    }
+
+    private void calcMinMax(float x, float y) {
+
+        if (x < mXMin)
+            mXMin = x;
+
+        if (x > mXMax)
+            mXMax = x;
+
+        if (y < mYMin)
+            mYMin = y;
+
+        if (y > mYMax)
+            mYMax = y;
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        // called by the super-constructor before the columns exist
+        if (mXValues == null)
+            return;
+
+        mVersion++;
+
+        if (mMinMaxIndex != null)
+            mMinMaxIndex.rebuild(mCount);
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        final float[] xs = mXValues;
+        final float[] ys = mYValues;
+
+        for (int i = 0; i < mCount; i++) {
+            calcMinMax(xs[i], ys[i]);
+        }
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+
+        if (mMinMaxIndex != null) {
+            super.calcMinMaxY(fromX, toX);
+            return;
+        }
+
+        if (mCount == 0)
+            return;
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        final float[] ys = mYValues;
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+
+            if (ys[i] < mYMin)
+                mYMin = ys[i];
+
+            if (ys[i] > mYMax)
+                mYMax = ys[i];
+        }
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mCount;
+    }
+
+    @Override
+    protected float getIndexedYMin(int index) {
+        return mYValues[index];
+    }
+
+    @Override
+    protected float getIndexedYMax(int index) {
+        return mYValues[index];
+    }
+
+    /**
+     * Returns a read-only view of the values of this DataSet. The Entry objects of the
+     * view are created on each access.
+     *
+     * @return
+     */
+    @Override
+    public List<Entry> getValues() {
+        return mValues;
+    }
+
+    /**
+     * Replaces the values of this DataSet with the x- and y-values of the given entries.
+     *
+     * @param values
+     */
+    @Override
+    public void setValues(List<Entry> values) {
+
+        int count = values == null ? 0 : values.size();
+
+        unshare();
+
+        mCount = 0;
+        ensureCapacity(count);
+
+        for (int i = 0; i < count; i++) {
+            Entry e = values.get(i);
+            mXValues[i] = e.getX();
+            mYValues[i] = e.getY();
+        }
+
+        mCount = count;
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public Entry getEntryForIndex(int index) {
+
+        if (index < 0 || index >= mCount)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mCount);
+
+        return new Entry(mXValues[index], mYValues[index]);
+    }
+
+    @Override
+    public boolean addEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        addValue(e.getX(), e.getY());
+        return true;
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+
+        if (e == null)
+            return;
+
+        if (mCount > 0 && mXValues[mCount - 1] > e.getX()) {
+
+            int index = getEntryIndex(e.getX(), e.getY(), Rounding.UP);
+
+            unshare();
+            ensureCapacity(mCount + 1);
+
+            System.arraycopy(mXValues, index, mXValues, index + 1, mCount - index);
+            System.arraycopy(mYValues, index, mYValues, index + 1, mCount - index);
+
+            mXValues[index] = e.getX();
+            mYValues[index] = e.getY();
+            mCount++;
+            mVersion++;
+
+            calcMinMax(e.getX(), e.getY());
+
+            if (mMinMaxIndex != null)
+                mMinMaxIndex.rebuild(mCount);
+        } else {
+            addValue(e.getX(), e.getY());
+        }
+    }
+
+    @Override
+    public boolean removeEntry(Entry e) {
+        return removeEntry(getEntryIndex(e));
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (index < 0 || index >= mCount)
+            return false;
+
+        final float x = mXValues[index];
+        final float y = mYValues[index];
+
+        unshare();
+
+        System.arraycopy(mXValues, index + 1, mXValues, index, mCount - index - 1);
+        System.arraycopy(mYValues, index + 1, mYValues, index, mCount - index - 1);
+        mCount--;
+        mVersion++;
+
+        if (mMinMaxIndex != null) {
+            mMinMaxIndex.remove(index);
+            calcMinMaxFromIndex();
+        } else if (x <= mXMin || x >= mXMax || y <= mYMin || y >= mYMax) {
+            // only rescan if the removed value was an extreme
+            calcMinMax();
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mCount - 1);
+    }
+
+    @Override
+    public void clear() {
+        unshare();
+        mCount = 0;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Returns the index of the value pair equal to the x- and y-value of the given Entry, or -1
+     * if there is none. Uses binary search on the x-column.
+     *
+     * @param e
+     * @return
+     */
+    @Override
+    public int getEntryIndex(Entry e) {
+
+        if (e == null)
+            return -1;
+
+        final float x = e.getX();
+        final float y = e.getY();
+
+        int index = Arrays.binarySearch(mXValues, 0, mCount, x);
+
+        if (index < 0)
+            return -1;
+
+        // binarySearch() may land on any of several equal x-values
+        while (index > 0 && mXValues[index - 1] == x)
+            index--;
+
+        for (; index < mCount && mXValues[index] == x; index++) {
+            if (mYValues[index] == y)
+                return index;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+        return EntrySearch.getClosestIndex(mPoints, mCount, xValue, closestToY, rounding);
+    }
+
+    @Override
+    protected SpatialIndex.PointSource getEntryPoints() {
+        return mPoints;
+    }
+
+    @Override
+    public List<Entry> getEntriesForXValue(float xValue) {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        int index = Arrays.binarySearch(mXValues, 0, mCount, xValue);
+
+        if (index < 0)
+            return entries;
+
+        while (index > 0 && mXValues[index - 1] == xValue)
+            index--;
+
+        for (; index < mCount && mXValues[index] == xValue; index++) {
+            entries.add(new Entry(mXValues[index], mYValues[index]));
+        }
+
+        return entries;
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        FloatColumnDataSet copied = new FloatColumnDataSet(Arrays.copyOf(mXValues, mCount),
+                Arrays.copyOf(mYValues, mCount), mCount, getLabel());
+        copy(copied);
+        return copied;
+    }
+
+    @Override
+    public String toSimpleString() {
+        return "FloatColumnDataSet, label: " + (getLabel() == null ? "" : getLabel()) + ", entries: " + mCount + "\n";
+    }
+
+    /**
+     * Read-only List view of the columns that creates an Entry for each access.
+     */
+    private class EntryView extends AbstractList<Entry> {
+
+        @Override
+        public Entry get(int index) {
+            return getEntryForIndex(index);
+        }
+
+        @Override
+        public int size() {
+            return mCount;
+        }
+    }
+}
@@ -22,6 +22,11 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
      **/
     private LineDataSet.Mode mMode = Mode.LINEAR;
 
+    /**
+     * Decimation mode for drawing this line dataset
+     */
+    private LineDataSet.DecimationMode mDecimationMode = DecimationMode.NONE;
+
     /**
      * List representing all colors that are used for the circles
      */
@@ -105,6 +110,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         lineDataSet.mDrawCircles = mDrawCircleHole;
         lineDataSet.mFillFormatter = mFillFormatter;
         lineDataSet.mMode = mMode;
+        lineDataSet.mDecimationMode = mDecimationMode;
     }
 
     /**
@@ -126,6 +132,25 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         mMode = mode;
     }
 
+    @Override
+    public LineDataSet.DecimationMode getDecimationMode() {
+        return mDecimationMode;
+    }
+
+    /**
+     * Sets the decimation mode of this LineDataSet. If enabled, linear and stepped lines
+     * draw at most about 4 points per horizontal pixel of the visible range instead of all
+     * entries, which makes drawing very large DataSets much faster. The decimated points are
+     * only recalculated when the scale of the chart or the DataSet changes.
+     * Decimation only applies to single colored lines, circles and values are not affected.
+     * Default: NONE
+     *
+     * @param mode
+     */
+    public void setDecimationMode(LineDataSet.DecimationMode mode) {
+        mDecimationMode = mode;
+    }
+
     /**
      * Sets the intensity for cubic lines (if enabled). Max = 1f = very cubic,
      * Min = 0.05f = low cubic effect, Default: 0.2f
@@ -414,4 +439,24 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         CUBIC_BEZIER,
         HORIZONTAL_BEZIER
     }
+
+    public enum DecimationMode {
+
+        /**
+         * all entries in the visible range are drawn
+         */
+        NONE,
+
+        /**
+         * for every horizontal pixel the first, last, lowest and highest entry is drawn,
+         * keeps all peaks
+         */
+        MIN_MAX_PER_PIXEL,
+
+        /**
+         * Largest-Triangle-Three-Buckets, 2 entries per horizontal pixel are drawn that
+         * preserve the visual shape of the line
+         */
+        LTTB
+    }
 }
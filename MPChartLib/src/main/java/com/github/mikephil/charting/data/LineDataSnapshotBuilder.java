@@ -0,0 +1,117 @@
+package com.github.mikephil.charting.data;
+
+/**
+ * Snapshot-isolated LineData for producers that append values on other threads (e.g. a socket
+ * thread) while the chart is drawing. The producers write into FloatColumnDataSets that only
+ * they access, publish() creates a LineData snapshot of them in O(number of DataSets) (the
+ * columns are shared copy-on-write, see FloatColumnDataSet.snapshot()) and makes it visible
+ * with a single volatile write. Readers never see a half-written update and never block the
+ * producers, which only synchronize among each other on this builder.
+ * Set the builder as the data source of a chart with Chart.setDataSnapshotSource(...) and call
+ * chart.postInvalidate() after publishing.
+ */
+public class LineDataSnapshotBuilder implements DataSnapshotSource<LineData> {
+
+    /**
+     * the DataSets the producers write into
+     */
+    private final FloatColumnDataSet[] mDataSets;
+
+    /**
+     * the most recently published snapshot
+     */
+    private volatile LineData mSnapshot = null;
+
+    /**
+     * Creates a builder that writes into the given DataSets. Their settings (colors, axis
+     * dependency, ...) are carried over to every snapshot. The DataSets must not be accessed
+     * directly anymore, other than through this builder.
+     *
+     * @param dataSets
+     */
+    public LineDataSnapshotBuilder(FloatColumnDataSet... dataSets) {
+        mDataSets = dataSets.clone();
+        publish();
+    }
+
+    /**
+     * Returns the number of DataSets.
+     *
+     * @return
+     */
+    public int getDataSetCount() {
+        return mDataSets.length;
+    }
+
+    /**
+     * Returns the DataSet at the given index that the producers write into. Modifications
+     * other than append(...) must be done while holding the lock of this builder
+     * (synchronized (builder) { ... }), they become visible with the next publish().
+     *
+     * @param index
+     * @return
+     */
+    public FloatColumnDataSet getDataSet(int index) {
+        return mDataSets[index];
+    }
+
+    /**
+     * Appends the given value pair to the DataSet at the given index. The x-value must not be
+     * lower than the last x-value of that DataSet. Visible to readers after the next
+     * publish().
+     *
+     * @param dataSetIndex
+     * @param x
+     * @param y
+     */
+    public synchronized void append(int dataSetIndex, float x, float y) {
+        mDataSets[dataSetIndex].addValue(x, y);
+    }
+
+    /**
+     * Appends the first count value pairs of the given arrays to the DataSet at the given
+     * index, see append(int, float, float).
+     *
+     * @param dataSetIndex
+     * @param xValues
+     * @param yValues
+     * @param count
+     */
+    public synchronized void append(int dataSetIndex, float[] xValues, float[] yValues, int count) {
+
+        final FloatColumnDataSet set = mDataSets[dataSetIndex];
+
+        set.ensureCapacity(set.getEntryCount() + count);
+
+        for (int i = 0; i < count; i++) {
+            set.addValue(xValues[i], yValues[i]);
+        }
+    }
+
+    /**
+     * Publishes a snapshot of the current values of all DataSets and returns it. Each DataSet
+     * of the snapshot has the version of its DataSet at the time of publishing.
+     *
+     * @return
+     */
+    public synchronized LineData publish() {
+
+        FloatColumnDataSet[] snapshots = new FloatColumnDataSet[mDataSets.length];
+
+        for (int i = 0; i < mDataSets.length; i++) {
+            snapshots[i] = mDataSets[i].snapshot();
+        }
+
+        LineData snapshot = new LineData(snapshots);
+
+        // the only write that makes the snapshot visible to the readers
+        mSnapshot = snapshot;
+
+        return snapshot;
+    }
+
+    @Override
+    public LineData getSnapshot() {
+        return mSnapshot;
+    }
+}
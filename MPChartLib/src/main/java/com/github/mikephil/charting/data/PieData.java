@@ -17,6 +17,13 @@ import java.util.List;
  */
 public class PieData extends ChartData<IPieDataSet> {
 
+    /**
+     * the cached sum of all values, valid for the DataSet and version below
+     */
+    private float mYValueSum = 0f;
+    private IPieDataSet mYValueSumDataSet = null;
+    private int mYValueSumVersion = -1;
+
     public PieData() {
         super();
     }
@@ -46,6 +53,23 @@ public class PieData extends ChartData<IPieDataSet> {
         return mDataSets.get(0);
     }
 
+    /**
+     * Returns the DataSet the chart draws, which is the aggregated view of the DataSet if it
+     * aggregates small slices (see PieDataSet.setSmallSliceAggregation(...)). The indices of
+     * highlights refer to the entries of this DataSet.
+     *
+     * @return
+     */
+    public IPieDataSet getDisplayDataSet() {
+
+        IPieDataSet set = getDataSet();
+
+        if (set instanceof PieDataSet)
+            return ((PieDataSet) set).getDisplayDataSet();
+
+        return set;
+    }
+
     /**
      * The PieData object can only have one DataSet. Use getDataSet() method instead.
      *
@@ -65,21 +89,32 @@ public class PieData extends ChartData<IPieDataSet> {
 
     @Override
     public Entry getEntryForHighlight(Highlight highlight) {
-        return getDataSet().getEntryForIndex((int) highlight.getX());
+        return getDisplayDataSet().getEntryForIndex((int) highlight.getX());
     }
 
     /**
-     * Returns the sum of all values in this PieData object.
+     * Returns the sum of all values in this PieData object. The sum is cached until the
+     * DataSet changes.
      *
      * @return
      */
     public float getYValueSum() {
 
+        IPieDataSet set = getDataSet();
+
+        final int version = BaseDataSet.getDataSetVersion(set);
+
+        if (set == mYValueSumDataSet && version == mYValueSumVersion)
+            return mYValueSum;
+
         float sum = 0;
 
-        for (int i = 0; i < getDataSet().getEntryCount(); i++)
-            sum += getDataSet().getEntryForIndex(i).getY();
+        for (int i = 0; i < set.getEntryCount(); i++)
+            sum += set.getEntryForIndex(i).getY();
 
+        mYValueSum = sum;
+        mYValueSumDataSet = set;
+        mYValueSumVersion = version;
 
         return sum;
     }
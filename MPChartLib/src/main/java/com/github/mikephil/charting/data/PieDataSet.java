@@ -30,6 +30,11 @@ public class PieDataSet extends DataSet<PieEntry> implements IPieDataSet {
     private float mValueLinePart2Length = 0.4f;
     private boolean mValueLineVariableLength = true;
 
+    /**
+     * the view with the small slices aggregated, null if aggregation is disabled
+     */
+    private AggregatedPieDataSet mAggregation = null;
+
     public PieDataSet(List<PieEntry> yVals, String label) {
         super(yVals, label);
 //        mShift = Utils.convertDpToPixel(12f);
@@ -218,6 +223,52 @@ public class PieDataSet extends DataSet<PieEntry> implements IPieDataSet {
         this.mValueLineVariableLength = valueLineVariableLength;
     }
 
+    /**
+     * Merges all slices smaller than the given percentage of the total into a single slice
+     * with the given label and color, drawn after all other slices. A slice of a degrees
+     * corresponds to a / 3.6 percent of a full circle. The PieChart draws and highlights the
+     * view returned by getDisplayDataSet() instead of this DataSet, see
+     * AggregatedPieDataSet. Call with a percentage of 0 to disable the aggregation.
+     *
+     * @param minPercent
+     * @param label
+     * @param color
+     */
+    public void setSmallSliceAggregation(float minPercent, String label, int color) {
+
+        if (minPercent <= 0f) {
+            mAggregation = null;
+        } else if (mAggregation == null) {
+            mAggregation = new AggregatedPieDataSet(this, minPercent, label, color);
+        } else {
+            mAggregation.setAggregation(minPercent, label, color);
+        }
+    }
+
+    /**
+     * Returns true if small slices are aggregated, see setSmallSliceAggregation(...).
+     *
+     * @return
+     */
+    public boolean isSmallSliceAggregationEnabled() {
+        return mAggregation != null;
+    }
+
+    /**
+     * Returns the DataSet the PieChart draws: this DataSet, or the view with the small slices
+     * aggregated if enabled. The view is only rebuilt if this DataSet changed.
+     *
+     * @return
+     */
+    public IPieDataSet getDisplayDataSet() {
+
+        if (mAggregation == null)
+            return this;
+
+        mAggregation.update();
+        return mAggregation;
+    }
+
     public enum ValuePosition {
         INSIDE_SLICE,
         OUTSIDE_SLICE
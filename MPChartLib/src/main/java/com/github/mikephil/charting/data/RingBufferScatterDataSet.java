@@ -0,0 +1,210 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IFloatValueDataSet;
+import com.github.mikephil.charting.utils.SpatialIndex;
+
+import java.util.List;
+
+/**
+ * ScatterDataSet with a fixed capacity for realtime data (e.g. sensor telemetry). The values are
+ * kept in a FloatRingBuffer: adding a value to a full DataSet evicts the oldest one, both in
+ * O(1), and the min and max values are maintained incrementally. The x-values must be
+ * ascending.
+ * Entry objects are only created on demand, they do not carry any data or icon. Add values
+ * with addValue(...), or through ChartData.addEntry(...) as with any other DataSet, and use
+ * BarLineChartBase.notifyDataAppended() instead of notifyDataSetChanged() to refresh the chart.
+ */
+public class RingBufferScatterDataSet extends ScatterDataSet implements IFloatValueDataSet {
+
+    private RingBufferValues mRing;
+
+    /**
+     * Creates an empty DataSet that holds at most capacity values.
+     *
+     * @param capacity
+     * @param label
+     */
+    public RingBufferScatterDataSet(int capacity, String label) {
+        super(null, label);
+        mRing = new RingBufferValues(this, capacity);
+        mValues = mRing.getView();
+    }
+
+    /**
+     * Returns the maximum number of values this DataSet holds.
+     *
+     * @return
+     */
+    public int getCapacity() {
+        return mRing.getBuffer().getCapacity();
+    }
+
+    @Override
+    public float getX(int index) {
+        return mRing.getBuffer().getX(index);
+    }
+
+    @Override
+    public float getY(int index) {
+        return mRing.getBuffer().getY(index);
+    }
+
+    /**
+     * Appends the given value pair, evicting the oldest value if the DataSet is full. The
+     * x-value must not be lower than the last x-value of this DataSet. Does not create an
+     * Entry object. O(1)
+     *
+     * @param x
+     * @param y
+     */
+    public void addValue(float x, float y) {
+        mRing.add(x, y);
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        // called by the super-constructor before the buffer exists
+        if (mRing == null)
+            return;
+
+        mRing.calcMinMax();
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+
+        if (mMinMaxIndex != null)
+            super.calcMinMaxY(fromX, toX);
+        else
+            mRing.calcMinMaxY(fromX, toX);
+    }
+
+    /**
+     * Does nothing, this DataSet always drops the oldest value in O(1) once it is full and
+     * maintains the min and max values incrementally, without the sliding window of DataSet.
+     * isSlidingWindowEnabled() always returns false.
+     *
+     * @param enabled
+     */
+    @Override
+    public void setSlidingWindowEnabled(boolean enabled) {
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mRing.getBuffer().size();
+    }
+
+    @Override
+    protected float getIndexedYMin(int index) {
+        return mRing.getBuffer().getY(index);
+    }
+
+    @Override
+    protected float getIndexedYMax(int index) {
+        return mRing.getBuffer().getY(index);
+    }
+
+    /**
+     * Returns a read-only view of the values of this DataSet. The Entry objects of the
+     * view are created on each access.
+     *
+     * @return
+     */
+    @Override
+    public List<Entry> getValues() {
+        return mValues;
+    }
+
+    /**
+     * Replaces the values of this DataSet with the x- and y-values of the given entries. If
+     * there are more entries than the capacity, only the last ones are kept.
+     *
+     * @param values
+     */
+    @Override
+    public void setValues(List<Entry> values) {
+        mRing.set(values);
+    }
+
+    @Override
+    public Entry getEntryForIndex(int index) {
+        return mRing.getEntry(index);
+    }
+
+    @Override
+    public boolean addEntry(Entry e) {
+        return mRing.add(e);
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+        mRing.addOrdered(e);
+    }
+
+    @Override
+    public boolean removeEntry(Entry e) {
+        return mRing.remove(e);
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+        return mRing.remove(index);
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return mRing.remove(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return mRing.removeLast();
+    }
+
+    @Override
+    public void clear() {
+        mRing.set(null);
+    }
+
+    /**
+     * Returns the index of the value pair equal to the x- and y-value of the given Entry, or -1
+     * if there is none.
+     *
+     * @param e
+     * @return
+     */
+    @Override
+    public int getEntryIndex(Entry e) {
+        return mRing.indexOf(e);
+    }
+
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+        return mRing.getBuffer().getEntryIndex(xValue, closestToY, rounding);
+    }
+
+    @Override
+    protected SpatialIndex.PointSource getEntryPoints() {
+        return mRing.getBuffer();
+    }
+
+    @Override
+    public List<Entry> getEntriesForXValue(float xValue) {
+        return mRing.getEntriesForXValue(xValue);
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        RingBufferScatterDataSet copied = new RingBufferScatterDataSet(getCapacity(), getLabel());
+        mRing.copyTo(copied.mRing);
+        copy(copied);
+        return copied;
+    }
+
+    @Override
+    public String toSimpleString() {
+        return mRing.toSimpleString("RingBufferScatterDataSet");
+    }
+}
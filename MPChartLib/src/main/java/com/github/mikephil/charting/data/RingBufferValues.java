@@ -0,0 +1,327 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.data.DataSet.Rounding;
+import com.github.mikephil.charting.utils.FloatRingBuffer;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The values of a ring buffer DataSet (RingBufferLineDataSet, RingBufferScatterDataSet) and
+ * the DataSet operations on them. The DataSets extend different DataSet classes and delegate
+ * to this class, which keeps the x- and y-range, the version, the min / max index and the
+ * spatial index of the owning DataSet up to date.
+ */
+class RingBufferValues {
+
+    private final DataSet<Entry> mSet;
+
+    private final FloatRingBuffer mBuffer;
+
+    private final List<Entry> mView = new EntryView();
+
+    RingBufferValues(DataSet<Entry> set, int capacity) {
+        mSet = set;
+        mBuffer = new FloatRingBuffer(capacity);
+    }
+
+    /**
+     * Returns the buffer holding the values.
+     *
+     * @return
+     */
+    FloatRingBuffer getBuffer() {
+        return mBuffer;
+    }
+
+    /**
+     * Returns a read-only List view of the values that creates an Entry for each access, used
+     * as the value list of the owning DataSet.
+     *
+     * @return
+     */
+    List<Entry> getView() {
+        return mView;
+    }
+
+    /**
+     * Appends the given value pair, evicting the oldest value if the buffer is full. O(1)
+     *
+     * @param x
+     * @param y
+     */
+    void add(float x, float y) {
+
+        mSet.mVersion++;
+
+        final boolean evicted = mBuffer.add(x, y);
+
+        if (mSet.mMinMaxIndex != null) {
+
+            if (evicted)
+                mSet.mMinMaxIndex.removeFirst();
+
+            mSet.mMinMaxIndex.append();
+        }
+
+        if (mSet.mSpatialIndex != null) {
+
+            if (evicted)
+                mSet.mSpatialIndex.removeFirstAndAppend(mSet.mVersion);
+            else
+                mSet.mSpatialIndex.append(mSet.mVersion);
+        }
+
+        updateMinMax();
+    }
+
+    /**
+     * Appends the x- and y-value of the given Entry, evicting the oldest value if the buffer
+     * is full. Returns false if the Entry is null. O(1)
+     *
+     * @param e
+     * @return
+     */
+    boolean add(Entry e) {
+
+        if (e == null)
+            return false;
+
+        add(e.getX(), e.getY());
+        return true;
+    }
+
+    /**
+     * Inserts the given Entry at its x-position, appends it if it is not lower than the last
+     * x-value. If the buffer is full, the oldest value is evicted. An Entry with an x-value
+     * lower than all others would be the oldest value itself, it is dropped instead.
+     *
+     * @param e
+     */
+    void addOrdered(Entry e) {
+
+        if (e == null)
+            return;
+
+        final int count = mBuffer.size();
+
+        if (count > 0 && mBuffer.getX(count - 1) > e.getX()) {
+
+            mSet.mVersion++;
+
+            mBuffer.insert(mBuffer.lowerBound(e.getX()), e.getX(), e.getY());
+
+            if (mSet.mMinMaxIndex != null)
+                mSet.mMinMaxIndex.rebuild(mBuffer.size());
+
+            updateMinMax();
+        } else {
+            add(e.getX(), e.getY());
+        }
+    }
+
+    /**
+     * Removes the value pair at the given index. Returns false if the index is out of bounds.
+     *
+     * @param index
+     * @return
+     */
+    boolean remove(int index) {
+
+        if (index < 0 || index >= mBuffer.size())
+            return false;
+
+        mSet.mVersion++;
+
+        mBuffer.remove(index);
+
+        if (mSet.mMinMaxIndex != null)
+            mSet.mMinMaxIndex.remove(index);
+
+        if (mSet.mSpatialIndex != null)
+            mSet.mSpatialIndex.remove(index, mSet.mVersion);
+
+        updateMinMax();
+
+        return true;
+    }
+
+    /**
+     * Removes the value pair equal to the x- and y-value of the given Entry. Returns false if
+     * there is none.
+     *
+     * @param e
+     * @return
+     */
+    boolean remove(Entry e) {
+        return remove(indexOf(e));
+    }
+
+    /**
+     * Removes the last value pair. Returns false if the buffer is empty.
+     *
+     * @return
+     */
+    boolean removeLast() {
+        return remove(mBuffer.size() - 1);
+    }
+
+    /**
+     * Replaces the values with the x- and y-values of the given entries and notifies the
+     * DataSet. If there are more entries than the capacity, only the last ones are kept. Null
+     * removes all values.
+     *
+     * @param values
+     */
+    void set(List<Entry> values) {
+
+        mBuffer.clear();
+
+        if (values != null) {
+            for (int i = Math.max(0, values.size() - mBuffer.getCapacity()); i < values.size(); i++) {
+                Entry e = values.get(i);
+                mBuffer.add(e.getX(), e.getY());
+            }
+        }
+
+        mSet.notifyDataSetChanged();
+    }
+
+    /**
+     * Copies the values of this buffer to the given one, which must have the same capacity,
+     * and recalculates the min and max values of its DataSet. The styling is copied by the
+     * DataSets, see copy().
+     *
+     * @param target
+     */
+    void copyTo(RingBufferValues target) {
+
+        target.mBuffer.clear();
+
+        for (int i = 0; i < mBuffer.size(); i++) {
+            target.mBuffer.add(mBuffer.getX(i), mBuffer.getY(i));
+        }
+
+        target.calcMinMax();
+    }
+
+    /**
+     * Recalculates the min and max values and rebuilds the min / max index of the DataSet.
+     */
+    void calcMinMax() {
+
+        mSet.mVersion++;
+
+        if (mSet.mMinMaxIndex != null)
+            mSet.mMinMaxIndex.rebuild(mBuffer.size());
+
+        mBuffer.rebuildMinMax();
+        updateMinMax();
+    }
+
+    /**
+     * Calculates the min and max y-values of the given x-range without the min / max index.
+     *
+     * @param fromX
+     * @param toX
+     */
+    void calcMinMaxY(float fromX, float toX) {
+
+        if (mBuffer.size() == 0)
+            return;
+
+        mBuffer.calcMinMaxY(mBuffer.getEntryIndex(fromX, Float.NaN, Rounding.DOWN),
+                mBuffer.getEntryIndex(toX, Float.NaN, Rounding.UP));
+
+        mSet.mYMin = mBuffer.getRangeMin();
+        mSet.mYMax = mBuffer.getRangeMax();
+    }
+
+    private void updateMinMax() {
+
+        if (mBuffer.size() == 0) {
+            mSet.mXMin = Float.MAX_VALUE;
+            mSet.mXMax = -Float.MAX_VALUE;
+        } else {
+            mSet.mXMin = mBuffer.getX(0);
+            mSet.mXMax = mBuffer.getX(mBuffer.size() - 1);
+        }
+
+        mSet.mYMin = mBuffer.getYMin();
+        mSet.mYMax = mBuffer.getYMax();
+    }
+
+    /**
+     * Returns a new Entry for the value pair at the given index.
+     *
+     * @param index
+     * @return
+     */
+    Entry getEntry(int index) {
+
+        if (index < 0 || index >= mBuffer.size())
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mBuffer.size());
+
+        return new Entry(mBuffer.getX(index), mBuffer.getY(index));
+    }
+
+    /**
+     * Returns the index of the value pair equal to the x- and y-value of the given Entry, or
+     * -1 if there is none.
+     *
+     * @param e
+     * @return
+     */
+    int indexOf(Entry e) {
+
+        if (e == null)
+            return -1;
+
+        return mBuffer.indexOf(e.getX(), e.getY());
+    }
+
+    /**
+     * Returns new entries for all value pairs with the given x-value.
+     *
+     * @param xValue
+     * @return
+     */
+    List<Entry> getEntriesForXValue(float xValue) {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = mBuffer.lowerBound(xValue); i < mBuffer.size() && mBuffer.getX(i) == xValue; i++) {
+            entries.add(new Entry(xValue, mBuffer.getY(i)));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns the description used by toSimpleString() of the DataSets.
+     *
+     * @param name
+     * @return
+     */
+    String toSimpleString(String name) {
+        return name + ", label: " + (mSet.getLabel() == null ? "" : mSet.getLabel())
+                + ", entries: " + mBuffer.size() + ", capacity: " + mBuffer.getCapacity() + "\n";
+    }
+
+    /**
+     * Read-only List view of the buffer that creates an Entry for each access.
+     */
+    private class EntryView extends AbstractList<Entry> {
+
+        @Override
+        public Entry get(int index) {
+            return mSet.getEntryForIndex(index);
+        }
+
+        @Override
+        public int size() {
+            return mBuffer.size();
+        }
+    }
+}
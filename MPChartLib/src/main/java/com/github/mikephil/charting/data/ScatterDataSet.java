@@ -41,6 +41,11 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
      */
     private int mScatterShapeHoleColor = ColorTemplate.COLOR_NONE;
 
+    /**
+     * if true, the shapes are drawn as pre-rasterized bitmaps, default: false
+     */
+    private boolean mShapeSpriteCacheEnabled = false;
+
     public ScatterDataSet(List<Entry> yVals, String label) {
         super(yVals, label);
     }
@@ -62,6 +67,7 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
         scatterDataSet.mShapeRenderer = mShapeRenderer;
         scatterDataSet.mScatterShapeHoleRadius = mScatterShapeHoleRadius;
         scatterDataSet.mScatterShapeHoleColor = mScatterShapeHoleColor;
+        scatterDataSet.mShapeSpriteCacheEnabled = mShapeSpriteCacheEnabled;
     }
 
     /**
@@ -133,6 +139,23 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
         return mScatterShapeHoleColor;
     }
 
+    /**
+     * If set to true, the shape is rasterized once for every color of the DataSet and each
+     * entry is drawn by stamping the bitmap of its color, which is much faster for large
+     * numbers of entries. The shapes are placed at whole pixels, and a custom IShapeRenderer
+     * must draw the same shape for every position. Default: false
+     *
+     * @param enabled
+     */
+    public void setShapeSpriteCacheEnabled(boolean enabled) {
+        mShapeSpriteCacheEnabled = enabled;
+    }
+
+    @Override
+    public boolean isShapeSpriteCacheEnabled() {
+        return mShapeSpriteCacheEnabled;
+    }
+
     public static IShapeRenderer getRendererForShape(ScatterChart.ScatterShape shape) {
 
         switch (shape) {
@@ -0,0 +1,163 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IFloatValueDataSet;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches the results of reducing a DataSet with the Approximator, so that a chart only has to
+ * reduce the DataSet once per zoom level (the tolerance in value-space depends on the zoom)
+ * instead of on every frame. The most recently used results are kept until the DataSet
+ * changes, which is detected by its version.
+ */
+public class ApproximationCache {
+
+    /**
+     * the number of results (e.g. zoom levels) that are kept
+     */
+    private static final int MAX_RESULTS = 4;
+
+    private final Approximator mApproximator = new Approximator();
+
+    /**
+     * the values of the DataSet, x- and y-values interleaved
+     */
+    private float[] mPoints = new float[0];
+    private int mPointCount = 0;
+
+    private int[] mIndexBuffer = new int[0];
+
+    /**
+     * the version of the DataSet the cached results belong to
+     */
+    private int mVersion = 0;
+    private boolean mValid = false;
+
+    private final Map<Float, int[]> mToleranceResults = new LinkedHashMap<Float, int[]>(8, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Float, int[]> eldest) {
+            return size() > MAX_RESULTS;
+        }
+    };
+
+    private final Map<Integer, int[]> mCountResults = new LinkedHashMap<Integer, int[]>(8, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, int[]> eldest) {
+            return size() > MAX_RESULTS;
+        }
+    };
+
+    /**
+     * Returns the indices of the entries of the given DataSet that remain after reducing it
+     * with the Douglas-Peucker algorithm and the given tolerance.
+     *
+     * @param set
+     * @param version   the current version of the DataSet
+     * @param tolerance
+     * @return
+     */
+    public int[] getIndices(IDataSet<? extends Entry> set, int version, float tolerance) {
+
+        update(set, version);
+
+        int[] indices = mToleranceResults.get(tolerance);
+
+        if (indices == null) {
+
+            final int count = mApproximator.reduceWithDouglasPeucker(mPoints, mPointCount, tolerance,
+                    mIndexBuffer);
+
+            indices = copy(mIndexBuffer, count);
+            mToleranceResults.put(tolerance, indices);
+        }
+
+        return indices;
+    }
+
+    /**
+     * Returns the indices of the (at most maxPoints) most significant entries of the given
+     * DataSet, see Approximator.reduceToPointCount(...).
+     *
+     * @param set
+     * @param version   the current version of the DataSet
+     * @param maxPoints
+     * @return
+     */
+    public int[] getIndicesForCount(IDataSet<? extends Entry> set, int version, int maxPoints) {
+
+        update(set, version);
+
+        int[] indices = mCountResults.get(maxPoints);
+
+        if (indices == null) {
+
+            final int count = mApproximator.reduceToPointCount(mPoints, mPointCount, maxPoints,
+                    mIndexBuffer);
+
+            indices = copy(mIndexBuffer, count);
+            mCountResults.put(maxPoints, indices);
+        }
+
+        return indices;
+    }
+
+    /**
+     * Drops all cached results and the copy of the values.
+     */
+    public void clear() {
+        mValid = false;
+        mPoints = new float[0];
+        mIndexBuffer = new int[0];
+        mPointCount = 0;
+        mToleranceResults.clear();
+        mCountResults.clear();
+    }
+
+    private void update(IDataSet<? extends Entry> set, int version) {
+
+        if (mValid && version == mVersion)
+            return;
+
+        mToleranceResults.clear();
+        mCountResults.clear();
+
+        final int count = set.getEntryCount();
+
+        if (mPoints.length < count * 2)
+            mPoints = new float[count * 2];
+
+        if (mIndexBuffer.length < count)
+            mIndexBuffer = new int[count];
+
+        if (set instanceof IFloatValueDataSet) {
+
+            final IFloatValueDataSet values = (IFloatValueDataSet) set;
+
+            for (int i = 0; i < count; i++) {
+                mPoints[i * 2] = values.getX(i);
+                mPoints[i * 2 + 1] = values.getY(i);
+            }
+
+        } else {
+
+            for (int i = 0; i < count; i++) {
+                Entry e = set.getEntryForIndex(i);
+                mPoints[i * 2] = e.getX();
+                mPoints[i * 2 + 1] = e.getY();
+            }
+        }
+
+        mPointCount = count;
+        mVersion = version;
+        mValid = true;
+    }
+
+    private static int[] copy(int[] indices, int count) {
+        int[] result = new int[count];
+        System.arraycopy(indices, 0, result, 0, count);
+        return result;
+    }
+}
@@ -1,102 +1,358 @@
 
 package com.github.mikephil.charting.data.filter;
 
-import android.annotation.TargetApi;
-import android.os.Build;
-
 import java.util.Arrays;
 
 /**
  * Implemented according to Wiki-Pseudocode {@link}
  * http://en.wikipedia.org/wiki/Ramer�Douglas�Peucker_algorithm
+ * The algorithm runs iteratively on indices of the original points, with an explicit stack
+ * and a bitmap of the points to keep, so it neither copies the input nor overflows the call
+ * stack on large inputs. The working buffers are reused by subsequent calls on the same
+ * Approximator, which therefore must not be used by multiple threads at once.
  *
  * @author Philipp Baldauf & Phliipp Jahoda
  */
 public class Approximator {
 
-    @TargetApi(Build.VERSION_CODES.GINGERBREAD)
+    /**
+     * bitmap of the points to keep, one bit per point
+     */
+    private long[] mKeep = new long[0];
+
+    /**
+     * explicit stack of (start, end) index pairs of the segments that still need to be checked
+     */
+    private int[] mStack = new int[64];
+
+    /**
+     * binary max-heap of segments ordered by the distance of their farthest point, used for
+     * the point count variant
+     */
+    private int[] mHeapStart = new int[16];
+    private int[] mHeapEnd = new int[16];
+    private int[] mHeapSplit = new int[16];
+    private float[] mHeapDistance = new float[16];
+    private int mHeapSize = 0;
+
+    /**
+     * result of the last farthestPoint(...) call
+     */
+    private int mFarthestIndex;
+
+    private int[] mIndexBuffer = new int[0];
+
+    /**
+     * Reduces the given points with the Douglas-Peucker algorithm and returns the remaining
+     * points.
+     *
+     * @param points    the points to reduce, x- and y-values interleaved
+     * @param tolerance the maximum distance of a removed point to the reduced line
+     * @return the remaining points, x- and y-values interleaved
+     */
     public float[] reduceWithDouglasPeucker(float[] points, float tolerance) {
 
-        int greatestIndex = 0;
-        float greatestDistance = 0f;
+        final int pointCount = points.length / 2;
 
-        Line line = new Line(points[0], points[1], points[points.length - 2], points[points.length - 1]);
+        if (mIndexBuffer.length < pointCount)
+            mIndexBuffer = new int[pointCount];
 
-        for (int i = 2; i < points.length - 2; i += 2) {
+        final int count = reduceWithDouglasPeucker(points, pointCount, tolerance, mIndexBuffer);
 
-            float distance = line.distance(points[i], points[i + 1]);
+        return toPoints(points, mIndexBuffer, count);
+    }
 
-            if (distance > greatestDistance) {
-                greatestDistance = distance;
-                greatestIndex = i;
+    /**
+     * Reduces the first pointCount points of the given array with the Douglas-Peucker
+     * algorithm. Writes the indices of the remaining points (in ascending order) to
+     * outIndices and returns their number. The first and the last point always remain.
+     *
+     * @param points     the points to reduce, x- and y-values interleaved
+     * @param pointCount the number of points to reduce
+     * @param tolerance  the maximum distance of a removed point to the reduced line
+     * @param outIndices receives the indices of the remaining points, must be able to hold
+     *                   pointCount values
+     * @return the number of remaining points
+     */
+    public int reduceWithDouglasPeucker(float[] points, int pointCount, float tolerance, int[] outIndices) {
+
+        if (pointCount <= 2)
+            return allIndices(pointCount, outIndices);
+
+        clearKeep(pointCount);
+        keep(0);
+        keep(pointCount - 1);
+
+        int stackSize = 0;
+        mStack[stackSize++] = 0;
+        mStack[stackSize++] = pointCount - 1;
+
+        while (stackSize > 0) {
+
+            final int end = mStack[--stackSize];
+            final int start = mStack[--stackSize];
+
+            if (end - start < 2)
+                continue;
+
+            final float distance = farthestPoint(points, start, end);
+
+            if (distance > tolerance && mFarthestIndex > start) {
+
+                final int split = mFarthestIndex;
+                keep(split);
+
+                if (stackSize + 4 > mStack.length) {
+                    int[] stack = new int[mStack.length * 2];
+                    System.arraycopy(mStack, 0, stack, 0, stackSize);
+                    mStack = stack;
+                }
+
+                mStack[stackSize++] = start;
+                mStack[stackSize++] = split;
+                mStack[stackSize++] = split;
+                mStack[stackSize++] = end;
             }
         }
 
-        if (greatestDistance > tolerance) {
+        return collectKept(pointCount, outIndices);
+    }
+
+    /**
+     * Reduces the first pointCount points of the given array to at most maxPoints points.
+     * Like the Douglas-Peucker algorithm, but instead of using a tolerance the segment with
+     * the farthest point is split until the point budget is used up, so that the remaining
+     * points are the most significant ones. Writes the indices of the remaining points (in
+     * ascending order) to outIndices and returns their number. The first and the last point
+     * always remain.
+     *
+     * @param points     the points to reduce, x- and y-values interleaved
+     * @param pointCount the number of points to reduce
+     * @param maxPoints  the maximum number of remaining points, at least 2
+     * @param outIndices receives the indices of the remaining points, must be able to hold
+     *                   min(pointCount, maxPoints) values
+     * @return the number of remaining points
+     */
+    public int reduceToPointCount(float[] points, int pointCount, int maxPoints, int[] outIndices) {
+
+        if (maxPoints < 2)
+            maxPoints = 2;
 
-            float[] reduced1 = reduceWithDouglasPeucker(Arrays.copyOfRange(points, 0, greatestIndex + 2), tolerance);
-            float[] reduced2 = reduceWithDouglasPeucker(Arrays.copyOfRange(points, greatestIndex, points.length),
-                    tolerance);
+        if (pointCount <= maxPoints)
+            return allIndices(pointCount, outIndices);
 
-            float[] result1 = reduced1;
-            float[] result2 = Arrays.copyOfRange(reduced2, 2, reduced2.length);
+        clearKeep(pointCount);
+        keep(0);
+        keep(pointCount - 1);
 
-            return concat(result1, result2);
-        } else {
-            return line.getPoints();
+        int kept = 2;
+
+        mHeapSize = 0;
+        pushSegment(points, 0, pointCount - 1);
+
+        while (kept < maxPoints && mHeapSize > 0) {
+
+            final int start = mHeapStart[0];
+            final int end = mHeapEnd[0];
+            final int split = mHeapSplit[0];
+
+            popSegment();
+
+            keep(split);
+            kept++;
+
+            pushSegment(points, start, split);
+            pushSegment(points, split, end);
         }
+
+        return collectKept(pointCount, outIndices);
     }
 
     /**
-     * Combine arrays.
+     * Returns the given points at the given indices as a new array.
      *
-     * @param arrays
+     * @param points  x- and y-values interleaved
+     * @param indices
+     * @param count   the number of indices
      * @return
      */
-    float[] concat(float[]... arrays) {
-        int length = 0;
-        for (float[] array : arrays) {
-            length += array.length;
+    public static float[] toPoints(float[] points, int[] indices, int count) {
+
+        float[] result = new float[count * 2];
+
+        for (int i = 0; i < count; i++) {
+            result[i * 2] = points[indices[i] * 2];
+            result[i * 2 + 1] = points[indices[i] * 2 + 1];
         }
-        float[] result = new float[length];
-        int pos = 0;
-        for (float[] array : arrays) {
-            for (float element : array) {
-                result[pos] = element;
-                pos++;
+
+        return result;
+    }
+
+    /**
+     * Returns the greatest distance of the points between start and end (both exclusive) to
+     * the line from the start to the end point. The index of that point is stored in
+     * mFarthestIndex.
+     */
+    private float farthestPoint(float[] points, int start, int end) {
+
+        final float x1 = points[start * 2];
+        final float y1 = points[start * 2 + 1];
+        final float x2 = points[end * 2];
+        final float y2 = points[end * 2 + 1];
+
+        final float dx = x1 - x2;
+        final float dy = y1 - y2;
+        final float sxey = x1 * y2;
+        final float exsy = x2 * y1;
+        final float length = (float) Math.sqrt(dx * dx + dy * dy);
+
+        float greatestDistance = 0f;
+        mFarthestIndex = start;
+
+        for (int i = start + 1; i < end; i++) {
+
+            final float x = points[i * 2];
+            final float y = points[i * 2 + 1];
+
+            final float distance;
+
+            if (length == 0f) {
+                // start and end are the same point, use the distance to it
+                distance = (float) Math.sqrt((x - x1) * (x - x1) + (y - y1) * (y - y1));
+            } else {
+                distance = Math.abs(dy * x - dx * y + sxey - exsy) / length;
+            }
+
+            if (distance > greatestDistance) {
+                greatestDistance = distance;
+                mFarthestIndex = i;
             }
         }
-        return result;
+
+        return greatestDistance;
     }
 
-    private class Line {
+    private void pushSegment(float[] points, int start, int end) {
 
-        private float[] points;
+        if (end - start < 2)
+            return;
 
-        private float sxey;
-        private float exsy;
+        final float distance = farthestPoint(points, start, end);
 
-        private float dx;
-        private float dy;
+        // nothing to gain from splitting a straight segment
+        if (!(distance > 0f))
+            return;
+
+        if (mHeapSize == mHeapDistance.length) {
+            final int capacity = mHeapSize * 2;
+            mHeapStart = Arrays.copyOf(mHeapStart, capacity);
+            mHeapEnd = Arrays.copyOf(mHeapEnd, capacity);
+            mHeapSplit = Arrays.copyOf(mHeapSplit, capacity);
+            mHeapDistance = Arrays.copyOf(mHeapDistance, capacity);
+        }
 
-        private float length;
+        int i = mHeapSize++;
 
-        public Line(float x1, float y1, float x2, float y2) {
-            dx = x1 - x2;
-            dy = y1 - y2;
-            sxey = x1 * y2;
-            exsy = x2 * y1;
-            length = (float) Math.sqrt(dx * dx + dy * dy);
+        // sift up
+        while (i > 0) {
 
-            points = new float[]{x1, y1, x2, y2};
+            final int parent = (i - 1) / 2;
+
+            if (mHeapDistance[parent] >= distance)
+                break;
+
+            moveHeapEntry(parent, i);
+            i = parent;
         }
 
-        public float distance(float x, float y) {
-            return Math.abs(dy * x - dx * y + sxey - exsy) / length;
+        mHeapStart[i] = start;
+        mHeapEnd[i] = end;
+        mHeapSplit[i] = mFarthestIndex;
+        mHeapDistance[i] = distance;
+    }
+
+    private void popSegment() {
+
+        final int last = --mHeapSize;
+
+        if (last == 0)
+            return;
+
+        final int start = mHeapStart[last];
+        final int end = mHeapEnd[last];
+        final int split = mHeapSplit[last];
+        final float distance = mHeapDistance[last];
+
+        int i = 0;
+
+        // sift down
+        while (true) {
+
+            int child = i * 2 + 1;
+
+            if (child >= last)
+                break;
+
+            if (child + 1 < last && mHeapDistance[child + 1] > mHeapDistance[child])
+                child++;
+
+            if (mHeapDistance[child] <= distance)
+                break;
+
+            moveHeapEntry(child, i);
+            i = child;
         }
 
-        public float[] getPoints() {
-            return points;
+        mHeapStart[i] = start;
+        mHeapEnd[i] = end;
+        mHeapSplit[i] = split;
+        mHeapDistance[i] = distance;
+    }
+
+    private void moveHeapEntry(int from, int to) {
+        mHeapStart[to] = mHeapStart[from];
+        mHeapEnd[to] = mHeapEnd[from];
+        mHeapSplit[to] = mHeapSplit[from];
+        mHeapDistance[to] = mHeapDistance[from];
+    }
+
+    private int allIndices(int pointCount, int[] outIndices) {
+
+        for (int i = 0; i < pointCount; i++) {
+            outIndices[i] = i;
+        }
+
+        return Math.max(pointCount, 0);
+    }
+
+    private void clearKeep(int pointCount) {
+
+        final int words = (pointCount + 63) >> 6;
+
+        if (mKeep.length < words)
+            mKeep = new long[words];
+        else
+            Arrays.fill(mKeep, 0, words, 0L);
+    }
+
+    private void keep(int index) {
+        mKeep[index >> 6] |= 1L << index;
+    }
+
+    private int collectKept(int pointCount, int[] outIndices) {
+
+        int count = 0;
+
+        for (int word = 0, words = (pointCount + 63) >> 6; word < words; word++) {
+
+            long bits = mKeep[word];
+
+            while (bits != 0) {
+                outIndices[count++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
         }
+
+        return count;
     }
 }
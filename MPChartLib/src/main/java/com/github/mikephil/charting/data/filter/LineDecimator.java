@@ -0,0 +1,295 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.data.BaseDataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet.DecimationMode;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IFloatValueDataSet;
+
+import java.util.Arrays;
+
+/**
+ * Reduces the entries of a DataSet to the points that are needed to draw it as a line at a
+ * given horizontal resolution (pixels per x-value), see LineDataSet.DecimationMode. The whole
+ * DataSet is decimated at once, so that the result stays valid while the chart is dragged
+ * and is only recalculated when the resolution (the scale of the chart) or the DataSet
+ * changes. The entries must be ordered by x.
+ */
+public class LineDecimator implements IFloatValueDataSet {
+
+    /**
+     * the decimated points
+     */
+    private float[] mXValues = new float[16];
+    private float[] mYValues = new float[16];
+    private int mCount = 0;
+
+    /**
+     * the parameters the decimated points were calculated with, mMode is null if invalid
+     */
+    private DecimationMode mMode = null;
+    private int mVersion = 0;
+    private float mPixelsPerValue = Float.NaN;
+
+    /**
+     * the DataSet that is currently decimated, only set during update(...)
+     */
+    private IDataSet<? extends Entry> mSet;
+    private IFloatValueDataSet mValues;
+
+    private final int[] mBucketIndices = new int[4];
+
+    /**
+     * Decimates the given DataSet with the given mode and resolution, unless the current
+     * result was calculated with the same parameters and version of the DataSet. Returns
+     * true if the points were recalculated.
+     *
+     * @param set
+     * @param mode
+     * @param pixelsPerValue the horizontal resolution, pixels per x-value
+     * @return
+     */
+    public boolean update(IDataSet<? extends Entry> set, DecimationMode mode, float pixelsPerValue) {
+
+        final int version = BaseDataSet.getDataSetVersion(set);
+
+        if (mode == mMode && version == mVersion && pixelsPerValue == mPixelsPerValue)
+            return false;
+
+        mSet = set;
+        mValues = set instanceof IFloatValueDataSet ? (IFloatValueDataSet) set : null;
+        mCount = 0;
+
+        final int count = set.getEntryCount();
+
+        if (count > 0) {
+
+            switch (mode) {
+                case MIN_MAX_PER_PIXEL:
+                    decimateMinMax(count, pixelsPerValue);
+                    break;
+                case LTTB:
+                    decimateLttb(count, pixelsPerValue);
+                    break;
+                default:
+                    for (int i = 0; i < count; i++)
+                        add(i);
+                    break;
+            }
+        }
+
+        mSet = null;
+        mValues = null;
+
+        mMode = mode;
+        mVersion = version;
+        mPixelsPerValue = pixelsPerValue;
+
+        return true;
+    }
+
+    /**
+     * Forces a recalculation on the next update(...) call.
+     */
+    public void invalidate() {
+        mMode = null;
+    }
+
+    /**
+     * Returns the number of decimated points.
+     *
+     * @return
+     */
+    public int getCount() {
+        return mCount;
+    }
+
+    @Override
+    public float getX(int index) {
+        return mXValues[index];
+    }
+
+    @Override
+    public float getY(int index) {
+        return mYValues[index];
+    }
+
+    /**
+     * Returns the index of the first decimated point with an x-value that is not lower than
+     * the given x-value, getCount() if there is none.
+     *
+     * @param x
+     * @return
+     */
+    public int lowerBound(float x) {
+
+        int low = 0;
+        int high = mCount;
+
+        while (low < high) {
+            final int m = (low + high) >>> 1;
+
+            if (mXValues[m] < x)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        return low;
+    }
+
+    /**
+     * Keeps the first, last, lowest and highest entry of every horizontal pixel.
+     */
+    private void decimateMinMax(int count, float pixelsPerValue) {
+
+        final float firstX = x(0);
+
+        long bucket = Long.MIN_VALUE;
+        int first = -1, last = -1, min = -1, max = -1;
+        float minY = 0f, maxY = 0f;
+
+        for (int i = 0; i < count; i++) {
+
+            final float y = y(i);
+            final long b = (long) Math.floor((x(i) - firstX) * pixelsPerValue);
+
+            if (b != bucket) {
+
+                if (first >= 0)
+                    addBucket(first, min, max, last);
+
+                bucket = b;
+                first = last = min = max = i;
+                minY = maxY = y;
+
+            } else {
+
+                last = i;
+
+                if (y < minY) {
+                    minY = y;
+                    min = i;
+                }
+
+                if (y > maxY) {
+                    maxY = y;
+                    max = i;
+                }
+            }
+        }
+
+        addBucket(first, min, max, last);
+    }
+
+    /**
+     * Adds the given indices of one bucket in ascending order, without duplicates.
+     */
+    private void addBucket(int first, int min, int max, int last) {
+
+        final int[] indices = mBucketIndices;
+        indices[0] = first;
+        indices[1] = min;
+        indices[2] = max;
+        indices[3] = last;
+
+        Arrays.sort(indices);
+
+        for (int i = 0; i < 4; i++) {
+            if (i == 0 || indices[i] != indices[i - 1])
+                add(indices[i]);
+        }
+    }
+
+    /**
+     * Largest-Triangle-Three-Buckets downsampling to 2 points per horizontal pixel, according
+     * to Sveinn Steinarsson, "Downsampling Time Series for Visual Representation".
+     */
+    private void decimateLttb(int count, float pixelsPerValue) {
+
+        final double pixels = Math.ceil((x(count - 1) - x(0)) * (double) pixelsPerValue);
+        final int threshold = (int) Math.max(3, Math.min(count, pixels * 2));
+
+        if (threshold >= count) {
+            for (int i = 0; i < count; i++)
+                add(i);
+            return;
+        }
+
+        // the first and last point are always kept, the others are split into buckets
+        final double every = (double) (count - 2) / (threshold - 2);
+
+        int a = 0;
+        add(a);
+
+        for (int i = 0; i < threshold - 2; i++) {
+
+            // average of the next bucket
+            int avgRangeStart = (int) Math.floor((i + 1) * every) + 1;
+            int avgRangeEnd = Math.min((int) Math.floor((i + 2) * every) + 1, count);
+
+            double avgX = 0;
+            double avgY = 0;
+
+            for (int j = avgRangeStart; j < avgRangeEnd; j++) {
+                avgX += x(j);
+                avgY += y(j);
+            }
+
+            final int avgRangeLength = avgRangeEnd - avgRangeStart;
+
+            if (avgRangeLength > 0) {
+                avgX /= avgRangeLength;
+                avgY /= avgRangeLength;
+            } else {
+                avgX = x(count - 1);
+                avgY = y(count - 1);
+            }
+
+            // the point of the current bucket that forms the largest triangle
+            final int rangeStart = (int) Math.floor(i * every) + 1;
+            final int rangeEnd = (int) Math.floor((i + 1) * every) + 1;
+
+            final float ax = x(a);
+            final float ay = y(a);
+
+            double maxArea = -1;
+            int next = rangeStart;
+
+            for (int j = rangeStart; j < rangeEnd; j++) {
+
+                final double area = Math.abs((ax - avgX) * (y(j) - ay) - (ax - x(j)) * (avgY - ay));
+
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = j;
+                }
+            }
+
+            add(next);
+            a = next;
+        }
+
+        add(count - 1);
+    }
+
+    private void add(int index) {
+
+        if (mCount == mXValues.length) {
+            mXValues = Arrays.copyOf(mXValues, mCount * 2);
+            mYValues = Arrays.copyOf(mYValues, mCount * 2);
+        }
+
+        mXValues[mCount] = x(index);
+        mYValues[mCount] = y(index);
+        mCount++;
+    }
+
+    private float x(int index) {
+        return mValues != null ? mValues.getX(index) : mSet.getEntryForIndex(index).getX();
+    }
+
+    private float y(int index) {
+        return mValues != null ? mValues.getY(index) : mSet.getEntryForIndex(index).getY();
+    }
+}
@@ -0,0 +1,389 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IFloatValueDataSet;
+
+/**
+ * Multi-resolution level-of-detail index of a (huge) DataSet that is ordered by x. Each level
+ * splits the entries into buckets of a power-of-two number of consecutive entries and keeps
+ * the first, lowest, highest and last entry of every bucket, in the order of their x-values.
+ * The finest level (0) groups 2^baseShift entries, every following level groups twice as
+ * many. Drawing the buckets of a level as a line therefore shows all peaks of the DataSet with
+ * 4 points per bucket.
+ * The pyramid is built once with build(...), which may run on a background thread. The levels
+ * are published at once when the build has finished, before that isReady() returns false.
+ *
+ * @see com.github.mikephil.charting.data.DataSet#buildLodPyramid(java.util.concurrent.Executor, Runnable)
+ */
+public class LodPyramid {
+
+    /**
+     * the number of points that are kept of each bucket
+     */
+    public static final int POINTS_PER_BUCKET = 4;
+
+    /**
+     * log2 of the number of entries per bucket of the finest level
+     */
+    private final int mBaseShift;
+
+    /**
+     * the levels, null until the build has finished
+     */
+    private volatile Level[] mLevels = null;
+
+    private int mVersion = 0;
+    private int mEntryCount = 0;
+    private float mXMin = 0f;
+    private float mXMax = 0f;
+
+    /**
+     * Creates a pyramid with 16 entries per bucket on the finest level.
+     */
+    public LodPyramid() {
+        this(4);
+    }
+
+    /**
+     * Creates a pyramid with 2^baseShift entries per bucket on the finest level.
+     *
+     * @param baseShift at least 1
+     */
+    public LodPyramid(int baseShift) {
+        mBaseShift = Math.max(1, baseShift);
+    }
+
+    /**
+     * Builds all levels of the pyramid from the entries of the given DataSet. The DataSet
+     * must not be modified while the pyramid is built.
+     *
+     * @param set
+     * @param version the version of the DataSet the pyramid is built for
+     */
+    public void build(IDataSet<? extends Entry> set, int version) {
+
+        final int count = set.getEntryCount();
+        final IFloatValueDataSet values = set instanceof IFloatValueDataSet
+                ? (IFloatValueDataSet) set : null;
+
+        int levelCount = 0;
+
+        for (int buckets = bucketCount(count, mBaseShift); buckets > 0; buckets = (buckets + 1) / 2) {
+
+            levelCount++;
+
+            if (buckets == 1)
+                break;
+        }
+
+        Level[] levels = new Level[levelCount];
+
+        if (levelCount > 0) {
+
+            levels[0] = buildBaseLevel(set, values, count);
+
+            for (int i = 1; i < levelCount; i++) {
+                levels[i] = mergeLevel(levels[i - 1]);
+            }
+
+            mXMin = levels[0].getX(0);
+            mXMax = levels[0].getX(levels[0].mBucketCount * POINTS_PER_BUCKET - 1);
+        }
+
+        mEntryCount = count;
+        mVersion = version;
+
+        // publishes the levels together with the fields above
+        mLevels = levels;
+    }
+
+    /**
+     * Returns true if the pyramid has been built.
+     *
+     * @return
+     */
+    public boolean isReady() {
+        return mLevels != null;
+    }
+
+    /**
+     * Returns the version of the DataSet the pyramid was built for.
+     *
+     * @return
+     */
+    public int getVersion() {
+        return isReady() ? mVersion : -1;
+    }
+
+    /**
+     * Returns the number of entries the pyramid was built from.
+     *
+     * @return
+     */
+    public int getEntryCount() {
+        return isReady() ? mEntryCount : 0;
+    }
+
+    public float getXMin() {
+        return isReady() ? mXMin : 0f;
+    }
+
+    public float getXMax() {
+        return isReady() ? mXMax : 0f;
+    }
+
+    /**
+     * Returns the number of levels, 0 if the pyramid has not been built yet.
+     *
+     * @return
+     */
+    public int getLevelCount() {
+        Level[] levels = mLevels;
+        return levels == null ? 0 : levels.length;
+    }
+
+    /**
+     * Returns the level at the given index, 0 being the finest one.
+     *
+     * @param index
+     * @return
+     */
+    public Level getLevel(int index) {
+        return mLevels[index];
+    }
+
+    /**
+     * Returns the index of the coarsest level that still has at least one bucket per pixel
+     * for the given number of visible entries, or -1 if even the finest level has fewer
+     * buckets than pixels and the entries should be drawn directly.
+     *
+     * @param visibleEntries the number of entries in the visible range
+     * @param pixels         the width of the visible range in pixels
+     * @return
+     */
+    public int selectLevel(float visibleEntries, float pixels) {
+
+        final Level[] levels = mLevels;
+
+        if (levels == null || !(pixels > 0f))
+            return -1;
+
+        int selected = -1;
+
+        for (int i = 0; i < levels.length; i++) {
+
+            if (visibleEntries / levels[i].getBucketSize() < pixels)
+                break;
+
+            selected = i;
+        }
+
+        return selected;
+    }
+
+    private Level buildBaseLevel(IDataSet<? extends Entry> set, IFloatValueDataSet values, int count) {
+
+        final int bucketSize = 1 << mBaseShift;
+        final Level level = new Level(mBaseShift, bucketCount(count, mBaseShift));
+        final float[] points = level.mPoints;
+
+        for (int b = 0; b < level.mBucketCount; b++) {
+
+            final int from = b * bucketSize;
+            final int to = Math.min(from + bucketSize, count) - 1;
+
+            float firstX = 0f, firstY = 0f, lastX = 0f, lastY = 0f;
+            float minX = 0f, minY = Float.MAX_VALUE, maxX = 0f, maxY = -Float.MAX_VALUE;
+            int minIndex = from, maxIndex = from;
+
+            for (int i = from; i <= to; i++) {
+
+                final float x;
+                final float y;
+
+                if (values != null) {
+                    x = values.getX(i);
+                    y = values.getY(i);
+                } else {
+                    Entry e = set.getEntryForIndex(i);
+                    x = e.getX();
+                    y = e.getY();
+                }
+
+                if (i == from) {
+                    firstX = x;
+                    firstY = y;
+                }
+
+                if (i == to) {
+                    lastX = x;
+                    lastY = y;
+                }
+
+                if (y < minY) {
+                    minX = x;
+                    minY = y;
+                    minIndex = i;
+                }
+
+                if (y > maxY) {
+                    maxX = x;
+                    maxY = y;
+                    maxIndex = i;
+                }
+            }
+
+            // a bucket of NaN values
+            if (minY > maxY) {
+                minX = maxX = firstX;
+                minY = maxY = firstY;
+            }
+
+            setBucket(points, b, firstX, firstY, minX, minY, maxX, maxY, lastX, lastY,
+                    minIndex <= maxIndex);
+        }
+
+        return level;
+    }
+
+    private static Level mergeLevel(Level finer) {
+
+        final Level level = new Level(finer.mShift + 1, (finer.mBucketCount + 1) / 2);
+        final float[] src = finer.mPoints;
+        final float[] points = level.mPoints;
+
+        for (int b = 0; b < level.mBucketCount; b++) {
+
+            final int a = b * 2;
+            final int c = Math.min(a + 1, finer.mBucketCount - 1);
+
+            // the lowest and highest point of a bucket are its middle points
+            final int aMin = lowerMiddle(src, a);
+            final int aMax = higherMiddle(src, a);
+            final int cMin = lowerMiddle(src, c);
+            final int cMax = higherMiddle(src, c);
+
+            final int min = src[cMin + 1] < src[aMin + 1] ? cMin : aMin;
+            final int max = src[cMax + 1] > src[aMax + 1] ? cMax : aMax;
+
+            final int first = a * POINTS_PER_BUCKET * 2;
+            final int last = (c * POINTS_PER_BUCKET + POINTS_PER_BUCKET - 1) * 2;
+
+            setBucket(points, b, src[first], src[first + 1], src[min], src[min + 1],
+                    src[max], src[max + 1], src[last], src[last + 1], min <= max);
+        }
+
+        return level;
+    }
+
+    /**
+     * Returns the offset of the lower one of the two middle points of the given bucket.
+     */
+    private static int lowerMiddle(float[] points, int bucket) {
+        final int offset = (bucket * POINTS_PER_BUCKET + 1) * 2;
+        return points[offset + 3] < points[offset + 1] ? offset + 2 : offset;
+    }
+
+    /**
+     * Returns the offset of the higher one of the two middle points of the given bucket.
+     */
+    private static int higherMiddle(float[] points, int bucket) {
+        final int offset = (bucket * POINTS_PER_BUCKET + 1) * 2;
+        return points[offset + 3] < points[offset + 1] ? offset : offset + 2;
+    }
+
+    private static void setBucket(float[] points, int bucket,
+                                  float firstX, float firstY, float minX, float minY,
+                                  float maxX, float maxY, float lastX, float lastY,
+                                  boolean minFirst) {
+
+        int i = bucket * POINTS_PER_BUCKET * 2;
+
+        points[i++] = firstX;
+        points[i++] = firstY;
+
+        if (minFirst) {
+            points[i++] = minX;
+            points[i++] = minY;
+            points[i++] = maxX;
+            points[i++] = maxY;
+        } else {
+            points[i++] = maxX;
+            points[i++] = maxY;
+            points[i++] = minX;
+            points[i++] = minY;
+        }
+
+        points[i++] = lastX;
+        points[i] = lastY;
+    }
+
+    private static int bucketCount(int entryCount, int shift) {
+        return (int) (((long) entryCount + (1 << shift) - 1) >> shift);
+    }
+
+    /**
+     * One level of the pyramid. Provides the points of all buckets as one line, 4 points per
+     * bucket in the order of their x-values.
+     */
+    public static class Level implements IFloatValueDataSet {
+
+        private final int mShift;
+        private final int mBucketCount;
+
+        /**
+         * x- and y-values interleaved, POINTS_PER_BUCKET points per bucket
+         */
+        private final float[] mPoints;
+
+        private Level(int shift, int bucketCount) {
+            mShift = shift;
+            mBucketCount = bucketCount;
+            mPoints = new float[bucketCount * POINTS_PER_BUCKET * 2];
+        }
+
+        /**
+         * Returns the number of entries per bucket.
+         *
+         * @return
+         */
+        public int getBucketSize() {
+            return 1 << mShift;
+        }
+
+        public int getBucketCount() {
+            return mBucketCount;
+        }
+
+        /**
+         * Returns the index of the bucket that contains the entry at the given index.
+         *
+         * @param entryIndex
+         * @return
+         */
+        public int getBucketForEntry(int entryIndex) {
+            return Math.min(entryIndex >> mShift, mBucketCount - 1);
+        }
+
+        /**
+         * Returns the points of all buckets, x- and y-values interleaved. Must not be
+         * modified.
+         *
+         * @return
+         */
+        public float[] getPoints() {
+            return mPoints;
+        }
+
+        @Override
+        public float getX(int index) {
+            return mPoints[index * 2];
+        }
+
+        @Override
+        public float getY(int index) {
+            return mPoints[index * 2 + 1];
+        }
+    }
+}
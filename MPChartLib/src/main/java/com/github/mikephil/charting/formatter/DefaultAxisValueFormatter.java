@@ -1,6 +1,9 @@
 package com.github.mikephil.charting.formatter;
 
+import com.github.mikephil.charting.utils.Utils;
+
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 
 /**
  * Created by philipp on 02/06/16.
@@ -18,6 +21,18 @@ public class DefaultAxisValueFormatter extends ValueFormatter
      */
     protected int digits;
 
+    /**
+     * the separators of the format, for formatting into char buffers
+     */
+    protected char mGroupingSeparator;
+    protected char mDecimalSeparator;
+
+    /**
+     * true if the format uses ascii digits and minus sign, so that Utils.formatNumber(...)
+     * can reproduce it
+     */
+    protected boolean mPlainSymbols;
+
     /**
      * Constructor that specifies to how many digits the value should be
      * formatted.
@@ -35,6 +50,16 @@ public class DefaultAxisValueFormatter extends ValueFormatter
         }
 
         mFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+
+        final DecimalFormatSymbols symbols = mFormat.getDecimalFormatSymbols();
+        mGroupingSeparator = symbols.getGroupingSeparator();
+        mDecimalSeparator = symbols.getDecimalSeparator();
+        mPlainSymbols = symbols.getZeroDigit() == '0' && symbols.getMinusSign() == '-';
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return true;
     }
 
     @Override
@@ -43,6 +68,15 @@ public class DefaultAxisValueFormatter extends ValueFormatter
         return mFormat.format(value);
     }
 
+    @Override
+    public int getFormattedValue(float value, char[] out) {
+
+        if (!mPlainSymbols)
+            return -1;
+
+        return Utils.formatNumber(value, digits, true, mGroupingSeparator, mDecimalSeparator, out);
+    }
+
     /**
      * Returns the number of decimal digits this formatter uses or -1, if unspecified.
      *
@@ -1,6 +1,9 @@
 package com.github.mikephil.charting.formatter;
 
+import com.github.mikephil.charting.utils.Utils;
+
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 
 /**
  * Default formatter used for formatting values inside the chart. Uses a DecimalFormat with
@@ -18,6 +21,18 @@ public class DefaultValueFormatter extends ValueFormatter
 
     protected int mDecimalDigits;
 
+    /**
+     * the separators of the format, for formatting into char buffers
+     */
+    protected char mGroupingSeparator;
+    protected char mDecimalSeparator;
+
+    /**
+     * true if the format uses ascii digits and minus sign, so that Utils.formatNumber(...)
+     * can reproduce it
+     */
+    protected boolean mPlainSymbols;
+
     /**
      * Constructor that specifies to how many digits the value should be
      * formatted.
@@ -45,6 +60,18 @@ public class DefaultValueFormatter extends ValueFormatter
         }
 
         mFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+
+        final DecimalFormatSymbols symbols = mFormat.getDecimalFormatSymbols();
+        mGroupingSeparator = symbols.getGroupingSeparator();
+        mDecimalSeparator = symbols.getDecimalSeparator();
+        mPlainSymbols = symbols.getZeroDigit() == '0' && symbols.getMinusSign() == '-';
+
+        notifyFormatChanged();
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return true;
     }
 
     @Override
@@ -56,6 +83,15 @@ public class DefaultValueFormatter extends ValueFormatter
         return mFormat.format(value);
     }
 
+    @Override
+    public int getFormattedValue(float value, char[] out) {
+
+        if (!mPlainSymbols)
+            return -1;
+
+        return Utils.formatNumber(value, mDecimalDigits, true, mGroupingSeparator, mDecimalSeparator, out);
+    }
+
     /**
      * Returns the number of decimal digits this formatter uses.
      *
@@ -1,6 +1,7 @@
 package com.github.mikephil.charting.formatter;
 
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 
 /**
  * Predefined value-formatter that formats large numbers in a pretty way.
@@ -15,6 +16,8 @@ import java.text.DecimalFormat;
 public class LargeValueFormatter extends ValueFormatter
 {
 
+    private static final int[] POW_10 = {1, 10, 100};
+
     private String[] mSuffix = new String[]{
             "", "k", "m", "b", "t"
     };
@@ -22,8 +25,19 @@ public class LargeValueFormatter extends ValueFormatter
     private DecimalFormat mFormat;
     private String mText = "";
 
+    /**
+     * the decimal separator of the format and whether it uses ascii digits and minus sign, for
+     * formatting into char buffers
+     */
+    private char mDecimalSeparator;
+    private boolean mPlainSymbols;
+
     public LargeValueFormatter() {
         mFormat = new DecimalFormat("###E00");
+
+        final DecimalFormatSymbols symbols = mFormat.getDecimalFormatSymbols();
+        mDecimalSeparator = symbols.getDecimalSeparator();
+        mPlainSymbols = symbols.getZeroDigit() == '0' && symbols.getMinusSign() == '-';
     }
 
     /**
@@ -36,11 +50,159 @@ public class LargeValueFormatter extends ValueFormatter
         mText = appendix;
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public String getFormattedValue(float value) {
         return makePretty(value) + mText;
     }
 
+    /**
+     * Writes the same text as getFormattedValue(value) into the given buffer, without
+     * allocations. The value is rounded to three significant digits like the DecimalFormat,
+     * followed by the suffix of its power of thousand and shortened to the
+     * maximum length. Values between -1 and 1 (except 0) are left to the String path.
+     *
+     * @param value
+     * @param out
+     * @return
+     */
+    @Override
+    public int getFormattedValue(float value, char[] out) {
+
+        if (!mPlainSymbols || Float.isNaN(value) || Float.isInfinite(value))
+            return -1;
+
+        final boolean neg = value < 0f || (value == 0f && 1f / value < 0f);
+        final double abs = Math.abs((double) value);
+
+        if (abs != 0 && abs < 1)
+            return -1;
+
+        int exponent = 0;
+        long digits = 0;
+
+        if (abs != 0) {
+
+            exponent = (int) Math.floor(Math.log10(abs));
+            digits = significantDigits(abs, exponent);
+
+            if (digits < 100) {
+                exponent--;
+                digits = significantDigits(abs, exponent);
+            }
+
+            if (digits >= 1000) {
+                exponent++;
+                digits = significantDigits(abs, exponent);
+            }
+        }
+
+        final int group = exponent / 3;
+
+        if (group >= mSuffix.length)
+            return -1;
+
+        final String suffix = mSuffix[group];
+
+        if ((neg ? 1 : 0) + 4 + suffix.length() + mText.length() > out.length)
+            return -1;
+
+        int length = 0;
+
+        if (neg)
+            out[length++] = '-';
+
+        // the digits before the decimal separator, then the non-zero decimals
+        final int intDigits = exponent - group * 3 + 1;
+        int decimals = 3 - intDigits;
+        long decimalDigits = digits % POW_10[decimals];
+
+        while (decimals > 0 && decimalDigits % 10 == 0) {
+            decimalDigits /= 10;
+            decimals--;
+        }
+
+        long intPart = digits / POW_10[3 - intDigits];
+
+        if (abs == 0) {
+            out[length++] = '0';
+        } else {
+            for (int i = intDigits - 1; i >= 0; i--) {
+                out[length + i] = (char) ('0' + intPart % 10);
+                intPart /= 10;
+            }
+            length += intDigits;
+        }
+
+        if (decimals > 0) {
+
+            out[length++] = mDecimalSeparator;
+
+            for (int i = decimals - 1; i >= 0; i--) {
+                out[length + i] = (char) ('0' + decimalDigits % 10);
+                decimalDigits /= 10;
+            }
+            length += decimals;
+        }
+
+        suffix.getChars(0, suffix.length(), out, length);
+        length += suffix.length();
+
+        // like makePretty(...), drop the chars before the last one until the text fits
+        while (length > mMaxLength || isDigitsDotLetter(out, length)) {
+
+            if (length < 2)
+                return -1;
+
+            out[length - 2] = out[length - 1];
+            length--;
+        }
+
+        mText.getChars(0, mText.length(), out, length);
+        length += mText.length();
+
+        return length;
+    }
+
+    /**
+     * Returns the three significant digits of the given value, whose decimal exponent is the
+     * given one. Like the DecimalFormat, ties are rounded to even below a thousand and up
+     * above.
+     */
+    private static long significantDigits(double abs, int exponent) {
+
+        final int shift = exponent - 2;
+        final double scaled = shift >= 0
+                ? abs / Math.pow(10, shift)
+                : abs * Math.pow(10, -shift);
+
+        if (exponent < 3)
+            return (long) Math.rint(scaled);
+        else
+            return (long) Math.floor(scaled + 0.5);
+    }
+
+    /**
+     * Returns true if the text matches "[0-9]+\\.[a-z]".
+     */
+    private static boolean isDigitsDotLetter(char[] text, int length) {
+
+        if (length < 3 || text[length - 2] != '.'
+                || text[length - 1] < 'a' || text[length - 1] > 'z')
+            return false;
+
+        for (int i = 0; i < length - 2; i++) {
+            if (text[i] < '0' || text[i] > '9')
+                return false;
+        }
+
+        return true;
+    }
+
     /**
      * Set an appendix text to be added at the end of the formatted value.
      *
@@ -48,6 +210,7 @@ public class LargeValueFormatter extends ValueFormatter
      */
     public void setAppendix(String appendix) {
         this.mText = appendix;
+        notifyFormatChanged();
     }
 
     /**
@@ -58,10 +221,12 @@ public class LargeValueFormatter extends ValueFormatter
      */
     public void setSuffix(String[] suffix) {
         this.mSuffix = suffix;
+        notifyFormatChanged();
     }
 
     public void setMaxLength(int maxLength) {
         this.mMaxLength = maxLength;
+        notifyFormatChanged();
     }
 
     /**
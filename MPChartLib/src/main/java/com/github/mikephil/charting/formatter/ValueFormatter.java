@@ -9,11 +9,86 @@ import com.github.mikephil.charting.data.PieEntry;
 import com.github.mikephil.charting.data.RadarEntry;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.lang.reflect.Method;
+
 /**
  * Class to format all values before they are drawn as labels.
  */
 public abstract class ValueFormatter implements IAxisValueFormatter, IValueFormatter{
 
+    /**
+     * incremented whenever the output of this formatter changes, see notifyFormatChanged()
+     */
+    private int mFormatVersion = 0;
+
+    /**
+     * 1 if char formatting is supported, -1 if not, 0 if not checked yet
+     */
+    private int mCharFormatting = 0;
+
+    /**
+     * 1 if the label methods are inherited from the class that overrides isCacheable(), -1 if
+     * not, 0 if not checked yet
+     */
+    private int mLabelCaching = 0;
+
+    /**
+     * Returns true if the labels of this formatter only depend on the formatted value (and
+     * on getFormatVersion()), so that the renderers may cache them, see LabelCache. Formatters
+     * that use the entry, the axis or the state of the chart must return false, which is the
+     * default. Returning true only opts in the class that overrides this method, subclasses
+     * that override a label method are not cached, see isLabelCachingSupported().
+     *
+     * @return
+     */
+    public boolean isCacheable() {
+        return false;
+    }
+
+    /**
+     * Returns true if the labels of this formatter may be cached, that is if isCacheable()
+     * returns true and the class that overrides it is not a superclass of one that overrides
+     * getFormattedValue(value) or one of the label methods.
+     *
+     * @return
+     */
+    public boolean isLabelCachingSupported() {
+
+        if (!isCacheable())
+            return false;
+
+        if (mLabelCaching == 0)
+            mLabelCaching = checkLabelCaching() ? 1 : -1;
+
+        return mLabelCaching > 0;
+    }
+
+    private boolean checkLabelCaching() {
+
+        try {
+            return isLabelMethodsInherited(getClass().getMethod("isCacheable").getDeclaringClass());
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns a number that changes whenever the output of this formatter changes.
+     *
+     * @return
+     */
+    public int getFormatVersion() {
+        return mFormatVersion;
+    }
+
+    /**
+     * Call this when the output of a cacheable formatter changes (e.g. the number of digits),
+     * so that cached labels are no longer used.
+     */
+    protected void notifyFormatChanged() {
+        mFormatVersion++;
+    }
+
     /**
      * <b>DO NOT USE</b>, only for backwards compatibility and will be removed in future versions.
      *
@@ -51,6 +126,81 @@ public abstract class ValueFormatter implements IAxisValueFormatter, IValueForma
         return String.valueOf(value);
     }
 
+    /**
+     * Writes the label of the given value into the beginning of the given buffer, without
+     * allocations, and returns the number of chars written. Returns -1 if the formatter does not
+     * support this (the default) or if the label does not fit, callers then use the String
+     * methods. Formatters that implement this must write the same text as
+     * {@link #getFormattedValue(float)}.
+     *
+     * @param value float to be formatted
+     * @param out   the buffer to write to
+     * @return the length of the label or -1
+     */
+    public int getFormattedValue(float value, char[] out) {
+        return -1;
+    }
+
+    /**
+     * Returns true if getFormattedValue(value, out) can be used instead of the label methods,
+     * that is if the class that implements it is not a superclass of one that overrides
+     * getFormattedValue(value) or one of the label methods.
+     *
+     * @return
+     */
+    public boolean isCharFormattingSupported() {
+
+        if (mCharFormatting == 0)
+            mCharFormatting = checkCharFormatting() ? 1 : -1;
+
+        return mCharFormatting > 0;
+    }
+
+    private boolean checkCharFormatting() {
+
+        try {
+            final Class<?> charFormatting = getClass()
+                    .getMethod("getFormattedValue", float.class, char[].class)
+                    .getDeclaringClass();
+
+            return charFormatting != ValueFormatter.class && isLabelMethodsInherited(charFormatting);
+
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if getFormattedValue(value) and all label methods of this formatter are
+     * declared by the given class or one of its superclasses.
+     *
+     * @param c
+     * @return
+     */
+    private boolean isLabelMethodsInherited(Class<?> c) throws NoSuchMethodException {
+
+        final Class<?> type = getClass();
+
+        final Method[] methods = new Method[]{
+                type.getMethod("getFormattedValue", float.class),
+                type.getMethod("getAxisLabel", float.class, AxisBase.class),
+                type.getMethod("getBarLabel", BarEntry.class),
+                type.getMethod("getBarStackedLabel", float.class, BarEntry.class),
+                type.getMethod("getPointLabel", Entry.class),
+                type.getMethod("getPieLabel", float.class, PieEntry.class),
+                type.getMethod("getRadarLabel", RadarEntry.class),
+                type.getMethod("getBubbleLabel", BubbleEntry.class),
+                type.getMethod("getCandleLabel", CandleEntry.class)
+        };
+
+        for (Method m : methods) {
+            if (!m.getDeclaringClass().isAssignableFrom(c))
+                return false;
+        }
+
+        return true;
+    }
+
     /**
      * Used to draw axis labels, calls {@link #getFormattedValue(float)} by default.
      *
@@ -18,33 +18,33 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
 
     @Override
     public Highlight getHighlight(float x, float y) {
-        Highlight high = super.getHighlight(x, y);
-
-        if(high == null) {
-            return null;
-        }
 
         MPPointD pos = getValsForTouch(x, y);
 
-        BarData barData = mChart.getBarData();
+        Highlight high = getHighlightForX((float) pos.x, x, y);
 
-        IBarDataSet set = barData.getDataSetByIndex(high.getDataSetIndex());
-        if (set.isStacked()) {
+        if (high != null) {
 
-            return getStackedHighlight(high,
-                    set,
-                    (float) pos.x,
-                    (float) pos.y);
+            BarData barData = mChart.getBarData();
+
+            IBarDataSet set = barData.getDataSetByIndex(high.getDataSetIndex());
+            if (set.isStacked()) {
+
+                high = getStackedHighlight(high,
+                        set,
+                        (float) pos.x,
+                        (float) pos.y);
+            }
         }
 
         MPPointD.recycleInstance(pos);
 
-        return high;
+        return toResult(high);
     }
 
     /**
      * This method creates the Highlight object that also indicates which value of a stacked BarEntry has been
-     * selected.
+     * selected. The returned Highlight is pooled and only valid until the next query.
      *
      * @param high the Highlight to work with looking for stacked values
      * @param set
@@ -70,7 +70,7 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
 
                 MPPointD pixels = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(high.getX(), ranges[stackIndex].to);
 
-                Highlight stackedHigh = new Highlight(
+                Highlight stackedHigh = obtainHighlight(
                         entry.getX(),
                         entry.getY(),
                         (float) pixels.x,
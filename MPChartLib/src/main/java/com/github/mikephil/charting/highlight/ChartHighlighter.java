@@ -3,10 +3,11 @@ package com.github.mikephil.charting.highlight;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
 import com.github.mikephil.charting.data.DataSet;
-import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IFloatValueDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.Transformer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +28,21 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
      */
     protected List<Highlight> mHighlightBuffer = new ArrayList<Highlight>();
 
+    /**
+     * buffer returned by buildHighlights(...), reused by every call
+     */
+    protected List<Highlight> mBuildBuffer = new ArrayList<Highlight>();
+
+    /**
+     * the pooled candidates of the current query, recycled when the next query starts
+     */
+    private List<Highlight> mPooledHighlights = new ArrayList<Highlight>();
+
+    /**
+     * the Highlight returned last, see toResult(...)
+     */
+    private Highlight mLastResult = null;
+
     public ChartHighlighter(T chart) {
         this.mChart = chart;
     }
@@ -39,9 +55,64 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
         MPPointD.recycleInstance(pos);
 
         Highlight high = getHighlightForX(xVal, x, y);
+        return toResult(high);
+    }
+
+    /**
+     * Returns a pooled Highlight that is only valid until the next query of this highlighter
+     * starts (see recycleHighlights()). Used for the candidates of a query, so that touch
+     * gestures do not create a Highlight for every entry they pass.
+     *
+     * @param x
+     * @param y
+     * @param xPx
+     * @param yPx
+     * @param dataSetIndex
+     * @param stackIndex
+     * @param axis
+     * @return
+     */
+    protected Highlight obtainHighlight(float x, float y, float xPx, float yPx, int dataSetIndex,
+                                        int stackIndex, YAxis.AxisDependency axis) {
+
+        Highlight high = Highlight.getInstance(x, y, xPx, yPx, dataSetIndex, stackIndex, axis);
+        mPooledHighlights.add(high);
         return high;
     }
 
+    /**
+     * Recycles all Highlights obtained since the last call and clears the highlight buffer.
+     * Called at the start of every query.
+     */
+    protected void recycleHighlights() {
+
+        mHighlightBuffer.clear();
+        mBuildBuffer.clear();
+
+        Highlight.recycleInstances(mPooledHighlights);
+        mPooledHighlights.clear();
+    }
+
+    /**
+     * Returns the Highlight that is handed out for the given candidate of a query. The chart
+     * keeps the returned object, so it is never a pooled one: the result of the previous query
+     * is returned again if it is exactly equal to the candidate, otherwise a copy is made.
+     * Dragging over the same entry therefore does not allocate anything.
+     *
+     * @param candidate
+     * @return
+     */
+    protected Highlight toResult(Highlight candidate) {
+
+        if (candidate == null)
+            return null;
+
+        if (!candidate.equalToExactly(mLastResult))
+            mLastResult = new Highlight(candidate);
+
+        return mLastResult;
+    }
+
     /**
      * Returns a recyclable MPPointD instance.
      * Returns the corresponding xPos for a given touch-position in pixels.
@@ -127,7 +198,7 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
      */
     protected List<Highlight> getHighlightsAtXValue(float xVal, float x, float y) {
 
-        mHighlightBuffer.clear();
+        recycleHighlights();
 
         BarLineScatterCandleBubbleData data = getData();
 
@@ -142,7 +213,10 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
             if (!dataSet.isHighlightEnabled())
                 continue;
 
-            mHighlightBuffer.addAll(buildHighlights(dataSet, i, xVal, DataSet.Rounding.CLOSEST));
+            List<Highlight> highlights = buildHighlights(dataSet, i, xVal, DataSet.Rounding.CLOSEST);
+
+            for (int j = 0; j < highlights.size(); j++)
+                mHighlightBuffer.add(highlights.get(j));
         }
 
         return mHighlightBuffer;
@@ -150,6 +224,8 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
 
     /**
      * An array of `Highlight` objects corresponding to the selected xValue and dataSetIndex.
+     * The returned list and the Highlights in it are reused, they are only valid until the next
+     * call (the Highlights until the next query).
      *
      * @param set
      * @param dataSetIndex
@@ -159,34 +235,58 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
      */
     protected List<Highlight> buildHighlights(IDataSet set, int dataSetIndex, float xVal, DataSet.Rounding rounding) {
 
-        ArrayList<Highlight> highlights = new ArrayList<>();
-
-        //noinspection unchecked
-        List<Entry> entries = set.getEntriesForXValue(xVal);
-        if (entries.size() == 0) {
-            // Try to find closest x-value and take all entries for that x-value
-            final Entry closest = set.getEntryForXValue(xVal, Float.NaN, rounding);
-            if (closest != null)
-            {
-                //noinspection unchecked
-                entries = set.getEntriesForXValue(closest.getX());
-            }
-        }
+        mBuildBuffer.clear();
+
+        // the closest entry, the entries with exactly the given x-value if there are any
+        final int closest = set.getEntryIndex(xVal, Float.NaN, rounding);
+
+        if (closest < 0)
+            return mBuildBuffer;
+
+        final IFloatValueDataSet values = set instanceof IFloatValueDataSet ? (IFloatValueDataSet) set : null;
+        final float closestX = getX(set, values, closest);
+
+        int from = closest;
+        while (from > 0 && getX(set, values, from - 1) == closestX)
+            from--;
+
+        Transformer trans = mChart.getTransformer(set.getAxisDependency());
 
-        if (entries.size() == 0)
-            return highlights;
+        for (int i = from, count = set.getEntryCount(); i < count; i++) {
 
-        for (Entry e : entries) {
-            MPPointD pixels = mChart.getTransformer(
-                    set.getAxisDependency()).getPixelForValues(e.getX(), e.getY());
+            final float x = getX(set, values, i);
 
-            highlights.add(new Highlight(
-                    e.getX(), e.getY(),
-                    (float) pixels.x, (float) pixels.y,
-                    dataSetIndex, set.getAxisDependency()));
+            if (x != closestX)
+                break;
+
+            final float y = values != null ? values.getY(i) : set.getEntryForIndex(i).getY();
+
+            MPPointD pixels = getPixelForValues(trans, x, y);
+
+            mBuildBuffer.add(obtainHighlight(x, y, (float) pixels.x, (float) pixels.y,
+                    dataSetIndex, -1, set.getAxisDependency()));
+
+            MPPointD.recycleInstance(pixels);
         }
 
-        return highlights;
+        return mBuildBuffer;
+    }
+
+    /**
+     * Returns a recyclable MPPointD instance.
+     * Returns the pixel position of the entry with the given values.
+     *
+     * @param trans
+     * @param x
+     * @param y
+     * @return
+     */
+    protected MPPointD getPixelForValues(Transformer trans, float x, float y) {
+        return trans.getPixelForValues(x, y);
+    }
+
+    private static float getX(IDataSet<?> set, IFloatValueDataSet values, int index) {
+        return values != null ? values.getX(index) : set.getEntryForIndex(index).getX();
     }
 
     /**
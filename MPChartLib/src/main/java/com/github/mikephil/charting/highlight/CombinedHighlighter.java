@@ -31,7 +31,7 @@ public class CombinedHighlighter extends ChartHighlighter<CombinedDataProvider>
     @Override
     protected List<Highlight> getHighlightsAtXValue(float xVal, float x, float y) {
 
-        mHighlightBuffer.clear();
+        recycleHighlights();
 
         List<BarLineScatterCandleBubbleData> dataObjects = mChart.getCombinedData().getAllData();
 
@@ -44,8 +44,12 @@ public class CombinedHighlighter extends ChartHighlighter<CombinedDataProvider>
                 Highlight high = barHighlighter.getHighlight(x, y);
 
                 if (high != null) {
-                    high.setDataIndex(i);
-                    mHighlightBuffer.add(high);
+
+                    // the result of the BarHighlighter is kept by it, work on a copy
+                    Highlight copy = obtainHighlight(high.getX(), high.getY(), high.getXPx(), high.getYPx(),
+                            high.getDataSetIndex(), high.getStackIndex(), high.getAxis());
+                    copy.setDataIndex(i);
+                    mHighlightBuffer.add(copy);
                 }
             } else {
 
@@ -58,8 +62,9 @@ public class CombinedHighlighter extends ChartHighlighter<CombinedDataProvider>
                         continue;
 
                     List<Highlight> highs = buildHighlights(dataSet, j, xVal, DataSet.Rounding.CLOSEST);
-                    for (Highlight high : highs)
+                    for (int k = 0; k < highs.size(); k++)
                     {
+                        Highlight high = highs.get(k);
                         high.setDataIndex(i);
                         mHighlightBuffer.add(high);
                     }
@@ -2,13 +2,56 @@
 package com.github.mikephil.charting.highlight;
 
 import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.utils.ObjectPool;
+
+import java.util.List;
 
 /**
  * Contains information needed to determine the highlighted value.
  *
  * @author Philipp Jahoda
  */
-public class Highlight {
+public class Highlight extends ObjectPool.Poolable {
+
+    @SuppressWarnings("unchecked")
+    private static ObjectPool<Highlight> pool = ObjectPool.create(32, new Highlight(0f, 0f, 0));
+
+    static {
+        pool.setReplenishPercentage(0.5f);
+    }
+
+    /**
+     * Returns a recyclable Highlight instance. Used by the highlighters for the candidates of a
+     * touch query, instances that are handed out to the chart must not be recycled.
+     *
+     * @param x
+     * @param y
+     * @param xPx
+     * @param yPx
+     * @param dataSetIndex
+     * @param stackIndex
+     * @param axis
+     * @return
+     */
+    public static Highlight getInstance(float x, float y, float xPx, float yPx, int dataSetIndex,
+                                        int stackIndex, YAxis.AxisDependency axis) {
+        Highlight result = pool.get();
+        result.set(x, y, xPx, yPx, dataSetIndex, stackIndex, axis);
+        return result;
+    }
+
+    public static void recycleInstance(Highlight instance) {
+        pool.recycle(instance);
+    }
+
+    public static void recycleInstances(List<Highlight> instances) {
+        pool.recycle(instances);
+    }
+
+    @Override
+    protected ObjectPool.Poolable instantiate() {
+        return new Highlight(0f, 0f, 0);
+    }
 
     /**
      * the x-value of the highlighted value
@@ -101,6 +144,30 @@ public class Highlight {
         this.mStackIndex = stackIndex;
     }
 
+    /**
+     * Copy constructor, the drawing position is not copied.
+     *
+     * @param h
+     */
+    public Highlight(Highlight h) {
+        set(h.mX, h.mY, h.mXPx, h.mYPx, h.mDataSetIndex, h.mStackIndex, h.axis);
+        this.mDataIndex = h.mDataIndex;
+    }
+
+    private void set(float x, float y, float xPx, float yPx, int dataSetIndex, int stackIndex,
+                     YAxis.AxisDependency axis) {
+        this.mX = x;
+        this.mY = y;
+        this.mXPx = xPx;
+        this.mYPx = yPx;
+        this.mDataIndex = -1;
+        this.mDataSetIndex = dataSetIndex;
+        this.mStackIndex = stackIndex;
+        this.axis = axis;
+        this.mDrawX = 0f;
+        this.mDrawY = 0f;
+    }
+
     /**
      * returns the x-value of the highlighted value
      *
@@ -227,6 +294,19 @@ public class Highlight {
         }
     }
 
+    /**
+     * Returns true if this highlight object is equal to the other in all values, including the
+     * y-value, the pixel position and the axis (the drawing position is not compared).
+     *
+     * @param h
+     * @return
+     */
+    public boolean equalToExactly(Highlight h) {
+
+        return equalTo(h) && Float.compare(this.mY, h.mY) == 0 && this.mXPx == h.mXPx
+                && this.mYPx == h.mYPx && this.axis == h.axis;
+    }
+
     @Override
     public String toString() {
         return "Highlight, x: " + mX + ", y: " + mY + ", dataSetIndex: " + mDataSetIndex
@@ -0,0 +1,97 @@
+package com.github.mikephil.charting.highlight;
+
+import android.graphics.Matrix;
+
+import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.SpatialIndex;
+import com.github.mikephil.charting.utils.Transformer;
+
+import java.util.List;
+
+/**
+ * Highlighter that selects the entry closest to the touch position in pixels, instead of the
+ * closest entries on the x-axis first, e.g. for scatter and bubble charts, whose entries often
+ * share similar x-values. Set it with chart.setHighlighter(...), the charts use the
+ * ChartHighlighter by default. DataSets with a spatial index (see
+ * DataSet.setSpatialIndexEnabled(...)) are queried without looking at all entries, all other
+ * DataSets are searched like by the ChartHighlighter. Only entries closer than
+ * getMaxHighlightDistance() are highlighted.
+ */
+public class NearestEntryHighlighter extends ChartHighlighter<BarLineScatterCandleBubbleDataProvider> {
+
+    /**
+     * buffer for the values of the value-to-pixel matrix
+     */
+    private float[] mMatrixValues = new float[9];
+
+    public NearestEntryHighlighter(BarLineScatterCandleBubbleDataProvider chart) {
+        super(chart);
+    }
+
+    @Override
+    public Highlight getHighlight(float x, float y) {
+
+        recycleHighlights();
+
+        BarLineScatterCandleBubbleData<?> data = getData();
+
+        if (data == null)
+            return null;
+
+        Highlight closest = null;
+        float distance = mChart.getMaxHighlightDistance();
+
+        for (int i = 0, dataSetCount = data.getDataSetCount(); i < dataSetCount; i++) {
+
+            IDataSet<?> set = data.getDataSetByIndex(i);
+
+            // don't include DataSets that cannot be highlighted
+            if (!set.isHighlightEnabled())
+                continue;
+
+            Transformer trans = mChart.getTransformer(set.getAxisDependency());
+            MPPointD pos = trans.getValuesByTouchPoint(x, y);
+
+            SpatialIndex index = set instanceof DataSet ? ((DataSet<?>) set).getSpatialIndex() : null;
+
+            if (index != null) {
+
+                trans.getValueToPixelMatrix().getValues(mMatrixValues);
+
+                int entryIndex = index.findNearest((float) pos.x, (float) pos.y,
+                        mMatrixValues[Matrix.MSCALE_X], mMatrixValues[Matrix.MSCALE_Y], distance);
+
+                if (entryIndex >= 0) {
+
+                    Entry e = set.getEntryForIndex(entryIndex);
+                    MPPointD pixels = trans.getPixelForValues(e.getX(), e.getY());
+
+                    closest = obtainHighlight(e.getX(), e.getY(), (float) pixels.x, (float) pixels.y,
+                            i, -1, set.getAxisDependency());
+                    distance = index.getLastDistance();
+
+                    MPPointD.recycleInstance(pixels);
+                }
+
+            } else {
+
+                List<Highlight> highlights = buildHighlights(set, i, (float) pos.x, DataSet.Rounding.CLOSEST);
+                Highlight high = getClosestHighlightByPixel(highlights, x, y, null, distance);
+
+                if (high != null) {
+                    closest = high;
+                    distance = getDistance(x, y, high.getXPx(), high.getYPx());
+                }
+            }
+
+            MPPointD.recycleInstance(pos);
+        }
+
+        return toResult(closest);
+    }
+}
@@ -1,9 +1,14 @@
 package com.github.mikephil.charting.highlight;
 
 import com.github.mikephil.charting.charts.PieChart;
+import com.github.mikephil.charting.data.AggregatedPieDataSet;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.PieEntry;
 import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Created by philipp on 12/06/16.
  */
@@ -16,10 +21,52 @@ public class PieHighlighter extends PieRadarHighlighter<PieChart> {
     @Override
     protected Highlight getClosestHighlight(int index, float x, float y) {
 
-        IPieDataSet set = mChart.getData().getDataSet();
+        IPieDataSet set = mChart.getData().getDisplayDataSet();
 
         final Entry entry = set.getEntryForIndex(index);
 
-        return new Highlight(index, entry.getY(), x, y, 0, set.getAxisDependency());
+        return obtainHighlight(index, entry.getY(), x, y, 0, set.getAxisDependency());
+    }
+
+    /**
+     * Returns the index of the entry of the PieDataSet the given Highlight refers to, or -1 if
+     * it refers to the slice the small entries are aggregated into (see
+     * PieDataSet.setSmallSliceAggregation(...)). The x-value of a pie Highlight is the index of
+     * the drawn slice, which only equals the index of the entry without aggregation.
+     *
+     * @param high
+     * @return
+     */
+    public int getSourceIndex(Highlight high) {
+
+        IPieDataSet set = mChart.getData().getDisplayDataSet();
+        int index = (int) high.getX();
+
+        if (set instanceof AggregatedPieDataSet)
+            return ((AggregatedPieDataSet) set).getSourceIndex(index);
+
+        return index;
+    }
+
+    /**
+     * Returns the entries of the PieDataSet the slice of the given Highlight represents: all
+     * entries merged into it for the aggregated slice, otherwise only the highlighted entry.
+     *
+     * @param high
+     * @return
+     */
+    public List<PieEntry> getSourceEntries(Highlight high) {
+
+        IPieDataSet set = mChart.getData().getDisplayDataSet();
+        int index = (int) high.getX();
+
+        List<PieEntry> entries = new ArrayList<PieEntry>();
+
+        if (set instanceof AggregatedPieDataSet && ((AggregatedPieDataSet) set).isAggregatedSlice(index))
+            entries.addAll(((AggregatedPieDataSet) set).getAggregatedEntries());
+        else
+            entries.add(set.getEntryForIndex(index));
+
+        return entries;
     }
 }
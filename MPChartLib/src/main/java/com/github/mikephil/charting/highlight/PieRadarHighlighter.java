@@ -2,6 +2,7 @@ package com.github.mikephil.charting.highlight;
 
 import com.github.mikephil.charting.charts.PieChart;
 import com.github.mikephil.charting.charts.PieRadarChartBase;
+import com.github.mikephil.charting.components.YAxis;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,6 +20,16 @@ public abstract class PieRadarHighlighter<T extends PieRadarChartBase> implement
      */
     protected List<Highlight> mHighlightBuffer = new ArrayList<Highlight>();
 
+    /**
+     * the pooled candidates of the current query, recycled when the next query starts
+     */
+    private List<Highlight> mPooledHighlights = new ArrayList<Highlight>();
+
+    /**
+     * the Highlight returned last, see toResult(...)
+     */
+    private Highlight mLastResult = null;
+
     public PieRadarHighlighter(T chart) {
         this.mChart = chart;
     }
@@ -26,6 +37,74 @@ public abstract class PieRadarHighlighter<T extends PieRadarChartBase> implement
     @Override
     public Highlight getHighlight(float x, float y) {
 
+        recycleHighlights();
+
+        return toResult(getCandidate(x, y));
+    }
+
+    /**
+     * Returns a pooled Highlight that is only valid until the next query of this highlighter
+     * starts, see ChartHighlighter.obtainHighlight(...).
+     *
+     * @param x
+     * @param y
+     * @param xPx
+     * @param yPx
+     * @param dataSetIndex
+     * @param axis
+     * @return
+     */
+    protected Highlight obtainHighlight(float x, float y, float xPx, float yPx, int dataSetIndex,
+                                        YAxis.AxisDependency axis) {
+
+        Highlight high = Highlight.getInstance(x, y, xPx, yPx, dataSetIndex, -1, axis);
+        mPooledHighlights.add(high);
+        return high;
+    }
+
+    /**
+     * Recycles all Highlights obtained since the last call and clears the highlight buffer.
+     */
+    protected void recycleHighlights() {
+
+        mHighlightBuffer.clear();
+
+        Highlight.recycleInstances(mPooledHighlights);
+        mPooledHighlights.clear();
+    }
+
+    /**
+     * Returns the Highlight that is handed out for the given candidate, the result of the
+     * previous query if it refers to the same entry, otherwise a copy. Unlike in the
+     * ChartHighlighter the pixel position is not compared, for pie charts it is the touch
+     * position, which changes with every move (it stays the one of the first touch on the
+     * entry).
+     *
+     * @param candidate
+     * @return
+     */
+    protected Highlight toResult(Highlight candidate) {
+
+        if (candidate == null)
+            return null;
+
+        if (!candidate.equalTo(mLastResult)
+                || Float.compare(candidate.getY(), mLastResult.getY()) != 0
+                || candidate.getAxis() != mLastResult.getAxis())
+            mLastResult = new Highlight(candidate);
+
+        return mLastResult;
+    }
+
+    /**
+     * Returns the pooled candidate for the given touch position, or null.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    protected Highlight getCandidate(float x, float y) {
+
         float touchDistanceToCenter = mChart.distanceToCenter(x, y);
 
         // check if a slice was touched
@@ -56,6 +135,7 @@ public abstract class PieRadarHighlighter<T extends PieRadarChartBase> implement
 
     /**
      * Returns the closest Highlight object of the given objects based on the touch position inside the chart.
+     * Implementations return pooled Highlights, see obtainHighlight(...).
      *
      * @param index
      * @param x
@@ -43,8 +43,8 @@ public class RadarHighlighter extends PieRadarHighlighter<RadarChart> {
     /**
      * Returns an array of Highlight objects for the given index. The Highlight
      * objects give information about the value at the selected index and the
-     * DataSet it belongs to. INFORMATION: This method does calculations at
-     * runtime. Do not over-use in performance critical situations.
+     * DataSet it belongs to. The Highlights are pooled and only valid until
+     * the next query.
      *
      * @param index
      * @return
@@ -58,6 +58,7 @@ public class RadarHighlighter extends PieRadarHighlighter<RadarChart> {
         float sliceangle = mChart.getSliceAngle();
         float factor = mChart.getFactor();
 
+        MPPointF center = mChart.getCenterOffsets();
         MPPointF pOut = MPPointF.getInstance(0,0);
         for (int i = 0; i < mChart.getData().getDataSetCount(); i++) {
 
@@ -68,12 +69,15 @@ public class RadarHighlighter extends PieRadarHighlighter<RadarChart> {
             float y = (entry.getY() - mChart.getYChartMin());
 
             Utils.getPosition(
-                    mChart.getCenterOffsets(), y * factor * phaseY,
+                    center, y * factor * phaseY,
                     sliceangle * index * phaseX + mChart.getRotationAngle(), pOut);
 
-            mHighlightBuffer.add(new Highlight(index, entry.getY(), pOut.x, pOut.y, i, dataSet.getAxisDependency()));
+            mHighlightBuffer.add(obtainHighlight(index, entry.getY(), pOut.x, pOut.y, i, dataSet.getAxisDependency()));
         }
 
+        MPPointF.recycleInstance(center);
+        MPPointF.recycleInstance(pOut);
+
         return mHighlightBuffer;
     }
 }
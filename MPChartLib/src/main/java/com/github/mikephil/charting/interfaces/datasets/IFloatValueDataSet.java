@@ -0,0 +1,25 @@
+package com.github.mikephil.charting.interfaces.datasets;
+
+/**
+ * Implemented by DataSets (and derived value sources such as the LineDecimator) that store
+ * their x- and y-values as primitives. Renderers use it to read the values without creating an
+ * Entry object for each of them.
+ */
+public interface IFloatValueDataSet {
+
+    /**
+     * Returns the x-value at the given index.
+     *
+     * @param index
+     * @return
+     */
+    float getX(int index);
+
+    /**
+     * Returns the y-value at the given index.
+     *
+     * @param index
+     * @return
+     */
+    float getY(int index);
+}
@@ -4,6 +4,7 @@ import android.graphics.DashPathEffect;
 
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.filter.LodPyramid;
 import com.github.mikephil.charting.formatter.IFillFormatter;
 
 /**
@@ -18,6 +19,22 @@ public interface ILineDataSet extends ILineRadarDataSet<Entry> {
      */
     LineDataSet.Mode getMode();
 
+    /**
+     * Returns the decimation mode that reduces the number of drawn points for this line
+     * dataset
+     *
+     * @return
+     */
+    LineDataSet.DecimationMode getDecimationMode();
+
+    /**
+     * Returns the level-of-detail pyramid of this dataset if one has been built and is up
+     * to date, null otherwise
+     *
+     * @return
+     */
+    LodPyramid getLodPyramid();
+
     /**
      * Returns the intensity of the cubic lines (the effect intensity).
      * Max = 1f = very cubic, Min = 0.05f = low cubic effect, Default: 0.2f
@@ -35,4 +35,11 @@ public interface IScatterDataSet extends ILineScatterCandleRadarDataSet<Entry> {
      * @return
      */
     IShapeRenderer getShapeRenderer();
+
+    /**
+     * Returns true if the shapes are rasterized once per color and stamped as bitmaps.
+     *
+     * @return
+     */
+    boolean isShapeSpriteCacheEnabled();
 }
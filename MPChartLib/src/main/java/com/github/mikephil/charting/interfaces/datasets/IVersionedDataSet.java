@@ -0,0 +1,17 @@
+package com.github.mikephil.charting.interfaces.datasets;
+
+/**
+ * Implemented by DataSets that track the changes of their entries with a version, which allows
+ * caching results that are derived from the entries (e.g. pixel positions or sums). Use
+ * BaseDataSet.getDataSetVersion(...) to get a version for any IDataSet.
+ */
+public interface IVersionedDataSet {
+
+    /**
+     * Returns the version of the entries of this DataSet. The version changes whenever
+     * entries are added or removed, or notifyDataSetChanged() is called.
+     *
+     * @return
+     */
+    int getVersion();
+}
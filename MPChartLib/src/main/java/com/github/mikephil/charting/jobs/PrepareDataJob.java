@@ -0,0 +1,108 @@
+package com.github.mikephil.charting.jobs;
+
+import com.github.mikephil.charting.components.LegendEntry;
+import com.github.mikephil.charting.data.ChartData;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.renderer.LegendRenderer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runnable that prepares a new data object for a chart on a background thread and then
+ * publishes it, see Chart.setDataAsync(...), which publishes it to the chart on the UI thread.
+ * The job also serves as cancellation token: a cancelled job stops preparing and is never
+ * published. A job is cancelled automatically when it is superseded by another data object.
+ */
+public abstract class PrepareDataJob<T extends ChartData<? extends IDataSet<? extends Entry>>> implements Runnable {
+
+    protected final T mData;
+
+    /**
+     * the renderer that computes the legend entries, null if there are none to compute
+     */
+    protected final LegendRenderer mLegendRenderer;
+
+    private volatile boolean mCancelled = false;
+
+    /**
+     * the legend entries of the data, computed in the background
+     */
+    private List<LegendEntry> mLegendEntries = null;
+
+    /**
+     * @param data           the data object to prepare
+     * @param legendRenderer the renderer that computes the legend entries of the data, null
+     *                       to skip them
+     */
+    public PrepareDataJob(T data, LegendRenderer legendRenderer) {
+        this.mData = data;
+        this.mLegendRenderer = legendRenderer;
+    }
+
+    @Override
+    public void run() {
+
+        if (mCancelled)
+            return;
+
+        // the expensive part: the min and max values of all DataSets
+        for (IDataSet<?> set : mData.getDataSets()) {
+
+            set.calcMinMax();
+
+            if (mCancelled)
+                return;
+        }
+
+        mData.notifyDataChanged();
+
+        if (mCancelled)
+            return;
+
+        if (mLegendRenderer != null)
+            mLegendEntries = mLegendRenderer.computeLegendEntries(mData, new ArrayList<LegendEntry>());
+
+        if (mCancelled)
+            return;
+
+        publish();
+    }
+
+    /**
+     * Called on the preparing thread once the data is prepared and the job has not been
+     * cancelled. Hands the data over to the chart, e.g. by posting it to the UI thread, which
+     * orders the results of the preparation before the publication.
+     */
+    protected abstract void publish();
+
+    /**
+     * Cancels the job, the data is not published if it has not been yet.
+     */
+    public void cancel() {
+        mCancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return mCancelled;
+    }
+
+    /**
+     * Returns the data object this job prepares.
+     *
+     * @return
+     */
+    public T getData() {
+        return mData;
+    }
+
+    /**
+     * Returns the legend entries of the data, null before they are computed.
+     *
+     * @return
+     */
+    public List<LegendEntry> getLegendEntries() {
+        return mLegendEntries;
+    }
+}
@@ -64,8 +64,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         for (int i = 0; i < mBarBuffers.length; i++) {
             IBarDataSet set = barData.getDataSetByIndex(i);
-            mBarBuffers[i] = new BarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
-                    barData.getDataSetCount(), set.isStacked());
+            mBarBuffers[i] = new BarBuffer(0, barData.getDataSetCount(), set.isStacked());
         }
     }
 
@@ -98,6 +97,9 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
+        // only the entries of the visible range (incl. partly visible bars) are drawn
+        mXBounds.set(mChart, dataSet, mChart.getBarData().getBarWidth() / 2f);
+
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
             mShadowPaint.setColor(dataSet.getBarShadowColor());
@@ -108,9 +110,10 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             final float barWidthHalf = barWidth / 2.0f;
             float x;
 
-            for (int i = 0, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
-                i < count;
-                i++) {
+            final int count = Math.min(Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount()),
+                    mXBounds.max + 1);
+
+            for (int i = mXBounds.min; i < count; i++) {
 
                 BarEntry e = dataSet.getEntryForIndex(i);
 
@@ -140,10 +143,16 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         buffer.setDataSet(index);
         buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
         buffer.setBarWidth(mChart.getBarData().getBarWidth());
+        buffer.limitFrom(mXBounds.min);
+        buffer.limitTo(mXBounds.max);
 
+        buffer = mBarBuffers[index] = buffer.ensureCapacity(dataSet);
         buffer.feed(dataSet);
 
-        trans.pointValuesToPixel(buffer.buffer);
+        trans.getValueToPixelMatrix().mapPoints(buffer.buffer, 0, buffer.buffer, 0, buffer.size() / 2);
+
+        // index of the color of the first bar in the buffer
+        final int firstBar = buffer.getFirstBar();
 
         final boolean isSingleColor = dataSet.getColors().size() == 1;
 
@@ -162,7 +171,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             if (!isSingleColor) {
                 // Set the color for the currently drawn value. If the index
                 // is out of bounds, reuse colors.
-                mRenderPaint.setColor(dataSet.getColor(j / 4));
+                mRenderPaint.setColor(dataSet.getColor(firstBar + j / 4));
             }
 
             if (dataSet.getGradientColor() != null) {
@@ -185,8 +194,8 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                         buffer.buffer[j + 3],
                         buffer.buffer[j],
                         buffer.buffer[j + 1],
-                        dataSet.getGradientColor(j / 4).getStartColor(),
-                        dataSet.getGradientColor(j / 4).getEndColor(),
+                        dataSet.getGradientColor(firstBar + j / 4).getStartColor(),
+                        dataSet.getGradientColor(firstBar + j / 4).getEndColor(),
                         android.graphics.Shader.TileMode.MIRROR));
             }
 
@@ -240,7 +249,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
                 // calculate the correct offset depending on the draw position of
                 // the value
-                float valueTextHeight = Utils.calcTextHeight(mValuePaint, "8");
+                float valueTextHeight = mLabelCache.calcTextHeight(mValuePaint, "8");
                 posOffset = (drawValueAboveBar ? -valueOffsetPlus : valueTextHeight + valueOffsetPlus);
                 negOffset = (drawValueAboveBar ? valueTextHeight + valueOffsetPlus : -valueOffsetPlus);
 
@@ -263,7 +272,9 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    for (int j = 0; j < buffer.size(); j += 4) {
+
+                        final int entryIndex = buffer.getFirstEntry() + j / 4;
 
                         float x = (buffer.buffer[j] + buffer.buffer[j + 2]) / 2f;
 
@@ -274,14 +285,17 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                 || !mViewPortHandler.isInBoundsLeft(x))
                             continue;
 
-                        BarEntry entry = dataSet.getEntryForIndex(j / 4);
+                        BarEntry entry = dataSet.getEntryForIndex(entryIndex);
                         float val = entry.getY();
 
                         if (dataSet.isDrawValuesEnabled()) {
-                            drawValue(c, formatter.getBarLabel(entry), x, val >= 0 ?
-                                            (buffer.buffer[j + 1] + posOffset) :
-                                            (buffer.buffer[j + 3] + negOffset),
-                                    dataSet.getValueTextColor(j / 4));
+                            final float y = val >= 0 ?
+                                    (buffer.buffer[j + 1] + posOffset) :
+                                    (buffer.buffer[j + 3] + negOffset);
+                            final int color = dataSet.getValueTextColor(entryIndex);
+
+                            if (!drawFormattedValue(c, formatter, val, x, y, color))
+                                drawValue(c, mLabelCache.getBarLabel(formatter, entry), x, y, color);
                         }
 
                         if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -312,9 +326,9 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                     Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
                     int bufferIndex = 0;
-                    int index = 0;
+                    int index = buffer.getFirstEntry();
 
-                    while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()) {
+                    while (index <= buffer.getLastEntry()) {
 
                         BarEntry entry = dataSet.getEntryForIndex(index);
 
@@ -336,9 +350,11 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                 continue;
 
                             if (dataSet.isDrawValuesEnabled()) {
-                                drawValue(c, formatter.getBarLabel(entry), x, buffer.buffer[bufferIndex + 1] +
-                                                (entry.getY() >= 0 ? posOffset : negOffset),
-                                        color);
+                                final float y = buffer.buffer[bufferIndex + 1] +
+                                        (entry.getY() >= 0 ? posOffset : negOffset);
+
+                                if (!drawFormattedValue(c, formatter, entry.getY(), x, y, color))
+                                    drawValue(c, mLabelCache.getBarLabel(formatter, entry), x, y, color);
                             }
 
                             if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -407,7 +423,8 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                     continue;
 
                                 if (dataSet.isDrawValuesEnabled()) {
-                                    drawValue(c, formatter.getBarStackedLabel(val, entry), x, y, color);
+                                    if (!drawFormattedValue(c, formatter, val, x, y, color))
+                                        drawValue(c, mLabelCache.getBarStackedLabel(formatter, val, entry), x, y, color);
                                 }
 
                                 if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
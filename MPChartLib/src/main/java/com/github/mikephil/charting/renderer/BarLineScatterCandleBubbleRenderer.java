@@ -6,6 +6,9 @@ import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBubbleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.DataSetCaches;
+import com.github.mikephil.charting.utils.GeometryCache;
+import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 /**
@@ -18,6 +21,11 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
      */
     protected XBounds mXBounds = new XBounds();
 
+    /**
+     * the cached pixel positions of each DataSet, see getGeometryCache(...)
+     */
+    protected DataSetCaches<GeometryCache> mGeometryCaches = new DataSetCaches<>();
+
     public BarLineScatterCandleBubbleRenderer(ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
     }
@@ -32,6 +40,43 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
         return set.isVisible() && (set.isDrawValuesEnabled() || set.isDrawIconsEnabled());
     }
 
+    /**
+     * Returns the pixel positions of the given DataSet for the entries from index "from" to
+     * index "to" (both inclusive), with the current transformation and y-animation phase.
+     * The positions are only recalculated on zoom, on data changes or when the range leaves
+     * the cached range, a pan only moves the cached positions.
+     *
+     * @param set
+     * @param trans
+     * @param from
+     * @param to
+     * @return
+     */
+    protected GeometryCache getGeometryCache(IDataSet<?> set, Transformer trans, int from, int to) {
+
+        GeometryCache cache = mGeometryCaches.get(set);
+
+        if (cache == null) {
+            cache = createGeometryCache(set);
+            mGeometryCaches.put(set, cache);
+        }
+
+        cache.update(set, trans, from, to, mAnimator.getPhaseY());
+
+        return cache;
+    }
+
+    /**
+     * Creates the geometry cache for the given DataSet. Override this to cache other values
+     * than the y-values of the entries.
+     *
+     * @param set
+     * @return
+     */
+    protected GeometryCache createGeometryCache(IDataSet<?> set) {
+        return new GeometryCache();
+    }
+
     /**
      * Checks if the provided entry object is in bounds for drawing considering the current animation phase.
      *
@@ -80,16 +125,27 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
          * @param dataSet
          */
         public void set(BarLineScatterCandleBubbleDataProvider chart, IBarLineScatterCandleBubbleDataSet dataSet) {
-            float phaseX = Math.max(0.f, Math.min(1.f, mAnimator.getPhaseX()));
+            set(chart, dataSet, 0f);
+        }
 
-            float low = chart.getLowestVisibleX();
-            float high = chart.getHighestVisibleX();
+        /**
+         * Like set(chart, dataSet), but extends the visible x-range by the given margin on
+         * both sides, e.g. for entries that are drawn wider than a point (bars).
+         *
+         * @param chart
+         * @param dataSet
+         * @param margin
+         */
+        public void set(BarLineScatterCandleBubbleDataProvider chart, IBarLineScatterCandleBubbleDataSet<?> dataSet,
+                        float margin) {
+            float phaseX = Math.max(0.f, Math.min(1.f, mAnimator.getPhaseX()));
 
-            Entry entryFrom = dataSet.getEntryForXValue(low, Float.NaN, DataSet.Rounding.DOWN);
-            Entry entryTo = dataSet.getEntryForXValue(high, Float.NaN, DataSet.Rounding.UP);
+            float low = chart.getLowestVisibleX() - margin;
+            float high = chart.getHighestVisibleX() + margin;
 
-            min = entryFrom == null ? 0 : dataSet.getEntryIndex(entryFrom);
-            max = entryTo == null ? 0 : dataSet.getEntryIndex(entryTo);
+            // binary search for both bounds, without creating Entry objects
+            min = Math.max(dataSet.getEntryIndex(low, Float.NaN, DataSet.Rounding.DOWN), 0);
+            max = Math.max(dataSet.getEntryIndex(high, Float.NaN, DataSet.Rounding.UP), 0);
             range = (int) ((max - min) * phaseX);
         }
     }
@@ -12,6 +12,7 @@ import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
+import com.github.mikephil.charting.utils.GeometryCache;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
@@ -40,7 +41,12 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
     @Override
     public void initBuffers() {
+        mGeometryCaches.clear();
+    }
 
+    @Override
+    public void releaseUnusedBuffers() {
+        mGeometryCaches.retain(mChart.getBubbleData());
     }
 
     @Override
@@ -72,8 +78,6 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
-        float phaseY = mAnimator.getPhaseY();
-
         mXBounds.set(mChart, dataSet);
 
         sizeBuffer[0] = 0f;
@@ -88,13 +92,17 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
         final float maxBubbleHeight = Math.abs(mViewPortHandler.contentBottom() - mViewPortHandler.contentTop());
         final float referenceSize = Math.min(maxBubbleHeight, maxBubbleWidth);
 
-        for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
+        final int to = mXBounds.range + mXBounds.min;
+
+        // the pixel positions are only recalculated on zoom or data changes
+        final GeometryCache geometry = getGeometryCache(dataSet, trans, mXBounds.min, to);
+
+        for (int j = mXBounds.min; j <= to; j++) {
 
             final BubbleEntry entry = dataSet.getEntryForIndex(j);
 
-            pointBuffer[0] = entry.getX();
-            pointBuffer[1] = (entry.getY()) * phaseY;
-            trans.pointValuesToPixel(pointBuffer);
+            pointBuffer[0] = geometry.getX(j);
+            pointBuffer[1] = geometry.getY(j);
 
             float shapeHalf = getShapeSize(entry.getSize(), dataSet.getMaxSize(), referenceSize, normalizeSize) / 2f;
 
@@ -128,7 +136,7 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
             final List<IBubbleDataSet> dataSets = bubbleData.getDataSets();
 
-            float lineHeight = Utils.calcTextHeight(mValuePaint, "1");
+            float lineHeight = mLabelCache.calcTextHeight(mValuePaint, "1");
 
             for (int i = 0; i < dataSets.size(); i++) {
 
@@ -174,7 +182,8 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
                     BubbleEntry entry = dataSet.getEntryForIndex(j / 2 + mXBounds.min);
 
                     if (dataSet.isDrawValuesEnabled()) {
-                        drawValue(c, formatter.getBubbleLabel(entry), x, y + (0.5f * lineHeight), valueTextColor);
+                        if (!drawFormattedValue(c, formatter, entry.getSize(), x, y + (0.5f * lineHeight), valueTextColor))
+                            drawValue(c, mLabelCache.getBubbleLabel(formatter, entry), x, y + (0.5f * lineHeight), valueTextColor);
                     }
 
                     if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -2,16 +2,20 @@ package com.github.mikephil.charting.renderer;
 
 import android.graphics.Canvas;
 import android.graphics.Paint;
+import android.graphics.Path;
 import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.data.CandleData;
 import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.CandleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
+import com.github.mikephil.charting.utils.GeometryCache;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
@@ -30,6 +34,45 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
     private float[] mOpenBuffers = new float[4];
     private float[] mCloseBuffers = new float[4];
 
+    /**
+     * indices of the y-positions of a candle in the geometry cache
+     */
+    private static final int Y_HIGH = 0;
+    private static final int Y_LOW = 1;
+    private static final int Y_OPEN = 2;
+    private static final int Y_CLOSE = 3;
+
+    /**
+     * the kinds of candles, also the indices of their line groups in the batch buffers
+     */
+    private static final int DECREASING = 0;
+    private static final int INCREASING = 1;
+    private static final int NEUTRAL = 2;
+
+    /**
+     * offset of the body groups in the batch buffers
+     */
+    private static final int BODIES = 3;
+
+    /**
+     * coordinates collected per group while drawing a DataSet in batches, see
+     * drawDataSetBatched(...)
+     */
+    private float[][] mBatchBuffers = new float[6][0];
+    private int[] mBatchCounts = new int[6];
+
+    /**
+     * color and style per kind of candle while drawing in batches
+     */
+    private int[] mBatchColors = new int[3];
+    private boolean[] mBatchFilled = new boolean[3];
+    private Paint.Style[] mBatchStyles = new Paint.Style[3];
+
+    /**
+     * path collecting the bodies that are not simply filled
+     */
+    protected Path mBodyPathBuffer = new Path();
+
     public CandleStickChartRenderer(CandleDataProvider chart, ChartAnimator animator,
                                     ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -38,7 +81,36 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
     @Override
     public void initBuffers() {
+        mGeometryCaches.clear();
+    }
 
+    @Override
+    public void releaseUnusedBuffers() {
+        mGeometryCaches.retain(mChart.getCandleData());
+    }
+
+    @Override
+    protected GeometryCache createGeometryCache(IDataSet<?> set) {
+
+        // high, low, open and close of each candle
+        return new GeometryCache(4) {
+            @Override
+            protected float getYValue(Entry e, int index) {
+
+                final CandleEntry ce = (CandleEntry) e;
+
+                switch (index) {
+                    case Y_HIGH:
+                        return ce.getHigh();
+                    case Y_LOW:
+                        return ce.getLow();
+                    case Y_OPEN:
+                        return ce.getOpen();
+                    default:
+                        return ce.getClose();
+                }
+            }
+        };
     }
 
     @Override
@@ -58,7 +130,6 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
         Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
-        float phaseY = mAnimator.getPhaseY();
         float barSpace = dataSet.getBarSpace();
         boolean showCandleBar = dataSet.getShowCandleBar();
 
@@ -66,8 +137,21 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
         mRenderPaint.setStrokeWidth(dataSet.getShadowWidth());
 
+        final int to = mXBounds.range + mXBounds.min;
+
+        // the pixel positions are only recalculated on zoom or data changes
+        final GeometryCache geometry = getGeometryCache(dataSet, trans, mXBounds.min, to);
+
+        // half of the width of a candle in pixels
+        final float bodyHalf = (0.5f - barSpace) * geometry.getScaleX();
+
+        if (isBatchable(dataSet)) {
+            drawDataSetBatched(c, dataSet, geometry, bodyHalf, mXBounds.min, to);
+            return;
+        }
+
         // draw the body
-        for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
+        for (int j = mXBounds.min; j <= to; j++) {
 
             // get the entry
             CandleEntry e = dataSet.getEntryForIndex(j);
@@ -75,12 +159,15 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
             if (e == null)
                 continue;
 
-            final float xPos = e.getX();
+            final float xPos = geometry.getX(j);
 
             final float open = e.getOpen();
             final float close = e.getClose();
-            final float high = e.getHigh();
-            final float low = e.getLow();
+
+            final float highPx = geometry.getY(j, Y_HIGH);
+            final float lowPx = geometry.getY(j, Y_LOW);
+            final float openPx = geometry.getY(j, Y_OPEN);
+            final float closePx = geometry.getY(j, Y_CLOSE);
 
             if (showCandleBar) {
                 // calculate the shadow
@@ -91,24 +178,22 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                 mShadowBuffers[6] = xPos;
 
                 if (open > close) {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = open * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = close * phaseY;
+                    mShadowBuffers[1] = highPx;
+                    mShadowBuffers[3] = openPx;
+                    mShadowBuffers[5] = lowPx;
+                    mShadowBuffers[7] = closePx;
                 } else if (open < close) {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = close * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = open * phaseY;
+                    mShadowBuffers[1] = highPx;
+                    mShadowBuffers[3] = closePx;
+                    mShadowBuffers[5] = lowPx;
+                    mShadowBuffers[7] = openPx;
                 } else {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = open * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
+                    mShadowBuffers[1] = highPx;
+                    mShadowBuffers[3] = openPx;
+                    mShadowBuffers[5] = lowPx;
                     mShadowBuffers[7] = mShadowBuffers[3];
                 }
 
-                trans.pointValuesToPixel(mShadowBuffers);
-
                 // draw the shadows
 
                 if (dataSet.getShadowColorSameAsCandle()) {
@@ -148,12 +233,10 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
                 // calculate the body
 
-                mBodyBuffers[0] = xPos - 0.5f + barSpace;
-                mBodyBuffers[1] = close * phaseY;
-                mBodyBuffers[2] = (xPos + 0.5f - barSpace);
-                mBodyBuffers[3] = open * phaseY;
-
-                trans.pointValuesToPixel(mBodyBuffers);
+                mBodyBuffers[0] = xPos - bodyHalf;
+                mBodyBuffers[1] = closePx;
+                mBodyBuffers[2] = xPos + bodyHalf;
+                mBodyBuffers[3] = openPx;
 
                 // draw body differently for increasing and decreasing entry
                 if (open > close) { // decreasing
@@ -201,23 +284,19 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
             } else {
 
                 mRangeBuffers[0] = xPos;
-                mRangeBuffers[1] = high * phaseY;
+                mRangeBuffers[1] = highPx;
                 mRangeBuffers[2] = xPos;
-                mRangeBuffers[3] = low * phaseY;
+                mRangeBuffers[3] = lowPx;
 
-                mOpenBuffers[0] = xPos - 0.5f + barSpace;
-                mOpenBuffers[1] = open * phaseY;
+                mOpenBuffers[0] = xPos - bodyHalf;
+                mOpenBuffers[1] = openPx;
                 mOpenBuffers[2] = xPos;
-                mOpenBuffers[3] = open * phaseY;
+                mOpenBuffers[3] = openPx;
 
-                mCloseBuffers[0] = xPos + 0.5f - barSpace;
-                mCloseBuffers[1] = close * phaseY;
+                mCloseBuffers[0] = xPos + bodyHalf;
+                mCloseBuffers[1] = closePx;
                 mCloseBuffers[2] = xPos;
-                mCloseBuffers[3] = close * phaseY;
-
-                trans.pointValuesToPixel(mRangeBuffers);
-                trans.pointValuesToPixel(mOpenBuffers);
-                trans.pointValuesToPixel(mCloseBuffers);
+                mCloseBuffers[3] = closePx;
 
                 // draw the ranges
                 int barColor;
@@ -252,6 +331,244 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
         }
     }
 
+    /**
+     * Returns true if all candles of each kind (and their shadows) have the same color, so
+     * that the DataSet can be drawn with one call per kind.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected boolean isBatchable(ICandleDataSet dataSet) {
+
+        // colors that are not set fall back to the color of the entry
+        if (dataSet.getColors().size() == 1)
+            return true;
+
+        if (dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE
+                || dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE
+                || dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE)
+            return false;
+
+        return !dataSet.getShowCandleBar()
+                || dataSet.getShadowColorSameAsCandle()
+                || dataSet.getShadowColor() != ColorTemplate.COLOR_NONE;
+    }
+
+    /**
+     * Draws the candles between from and to (inclusive) by collecting the lines and bodies of
+     * all candles of the same kind first, and drawing each group with a single call. Candles
+     * are drawn exactly as by drawDataSet(...), but the shadows of all candles are drawn
+     * before their bodies.
+     *
+     * @param c
+     * @param dataSet
+     * @param geometry
+     * @param bodyHalf half of the width of a candle in pixels
+     * @param from
+     * @param to
+     */
+    protected void drawDataSetBatched(Canvas c, ICandleDataSet dataSet, GeometryCache geometry,
+                                      float bodyHalf, int from, int to) {
+
+        final boolean showCandleBar = dataSet.getShowCandleBar();
+        final boolean shadowSameAsCandle = dataSet.getShadowColorSameAsCandle();
+
+        mBatchColors[DECREASING] = getBatchColor(dataSet, dataSet.getDecreasingColor());
+        mBatchColors[INCREASING] = getBatchColor(dataSet, dataSet.getIncreasingColor());
+        mBatchColors[NEUTRAL] = getBatchColor(dataSet, dataSet.getNeutralColor());
+
+        mBatchStyles[DECREASING] = dataSet.getDecreasingPaintStyle();
+        mBatchStyles[INCREASING] = dataSet.getIncreasingPaintStyle();
+
+        // filled bodies are drawn as lines as wide as the body
+        final boolean[] fillBody = mBatchFilled;
+        fillBody[DECREASING] = mBatchStyles[DECREASING] == Paint.Style.FILL;
+        fillBody[INCREASING] = mBatchStyles[INCREASING] == Paint.Style.FILL;
+
+        // every candle adds at most 8 values to a shadow and a body group, or 12 to a bar group
+        final int capacity = (to - from + 1) * (showCandleBar ? 8 : 12);
+        final int groups = showCandleBar ? BODIES + 3 : 3;
+
+        for (int i = 0; i < groups; i++) {
+
+            if (mBatchBuffers[i].length < capacity)
+                mBatchBuffers[i] = new float[capacity];
+
+            mBatchCounts[i] = 0;
+        }
+
+        for (int j = from; j <= to; j++) {
+
+            CandleEntry e = dataSet.getEntryForIndex(j);
+
+            if (e == null)
+                continue;
+
+            final float xPos = geometry.getX(j);
+
+            final float open = e.getOpen();
+            final float close = e.getClose();
+
+            final int kind = open > close ? DECREASING : open < close ? INCREASING : NEUTRAL;
+
+            final float highPx = geometry.getY(j, Y_HIGH);
+            final float lowPx = geometry.getY(j, Y_LOW);
+            final float openPx = geometry.getY(j, Y_OPEN);
+            final float closePx = geometry.getY(j, Y_CLOSE);
+
+            if (showCandleBar) {
+
+                // the shadows end at the body
+                final int shadowGroup = shadowSameAsCandle ? kind : DECREASING;
+                final float[] shadows = mBatchBuffers[shadowGroup];
+                int n = mBatchCounts[shadowGroup];
+
+                shadows[n++] = xPos;
+                shadows[n++] = highPx;
+                shadows[n++] = xPos;
+                shadows[n++] = kind == INCREASING ? closePx : openPx;
+                shadows[n++] = xPos;
+                shadows[n++] = lowPx;
+                shadows[n++] = xPos;
+                shadows[n++] = kind == DECREASING ? closePx : openPx;
+
+                mBatchCounts[shadowGroup] = n;
+
+                final float[] bodies = mBatchBuffers[BODIES + kind];
+                n = mBatchCounts[BODIES + kind];
+
+                if (fillBody[kind]) {
+                    bodies[n++] = xPos;
+                    bodies[n++] = closePx;
+                    bodies[n++] = xPos;
+                    bodies[n++] = openPx;
+                } else {
+                    bodies[n++] = xPos - bodyHalf;
+                    bodies[n++] = closePx;
+                    bodies[n++] = xPos + bodyHalf;
+                    bodies[n++] = openPx;
+                }
+
+                mBatchCounts[BODIES + kind] = n;
+
+            } else {
+
+                final float[] bars = mBatchBuffers[kind];
+                int n = mBatchCounts[kind];
+
+                // the range, the open tick on the left and the close tick on the right
+                bars[n++] = xPos;
+                bars[n++] = highPx;
+                bars[n++] = xPos;
+                bars[n++] = lowPx;
+                bars[n++] = xPos - bodyHalf;
+                bars[n++] = openPx;
+                bars[n++] = xPos;
+                bars[n++] = openPx;
+                bars[n++] = xPos + bodyHalf;
+                bars[n++] = closePx;
+                bars[n++] = xPos;
+                bars[n++] = closePx;
+
+                mBatchCounts[kind] = n;
+            }
+        }
+
+        final int[] colors = mBatchColors;
+
+        mRenderPaint.setStyle(Paint.Style.STROKE);
+
+        if (!showCandleBar) {
+
+            for (int kind = DECREASING; kind <= NEUTRAL; kind++)
+                drawBatchLines(c, kind, colors[kind]);
+
+            return;
+        }
+
+        // the shadows
+        if (shadowSameAsCandle) {
+
+            for (int kind = DECREASING; kind <= NEUTRAL; kind++)
+                drawBatchLines(c, kind, colors[kind]);
+
+        } else {
+            drawBatchLines(c, DECREASING, getBatchColor(dataSet, dataSet.getShadowColor()));
+        }
+
+        // the bodies, the ones of neutral candles are lines
+        drawBatchLines(c, BODIES + NEUTRAL, colors[NEUTRAL]);
+
+        for (int kind = DECREASING; kind <= INCREASING; kind++) {
+
+            final int group = BODIES + kind;
+            final float[] bodies = mBatchBuffers[group];
+            final int count = mBatchCounts[group];
+
+            if (count == 0)
+                continue;
+
+            if (fillBody[kind]) {
+
+                // a width of 0 would be a hairline, an empty body is not drawn at all
+                if (bodyHalf == 0f)
+                    continue;
+
+                final float shadowWidth = mRenderPaint.getStrokeWidth();
+
+                mRenderPaint.setStrokeWidth(Math.abs(bodyHalf * 2f));
+                drawBatchLines(c, group, colors[kind]);
+                mRenderPaint.setStrokeWidth(shadowWidth);
+
+            } else {
+
+                final Path path = mBodyPathBuffer;
+                path.reset();
+
+                for (int i = 0; i < count; i += 4) {
+                    path.addRect(
+                            Math.min(bodies[i], bodies[i + 2]), Math.min(bodies[i + 1], bodies[i + 3]),
+                            Math.max(bodies[i], bodies[i + 2]), Math.max(bodies[i + 1], bodies[i + 3]),
+                            Path.Direction.CW);
+                }
+
+                mRenderPaint.setColor(colors[kind]);
+                mRenderPaint.setStyle(mBatchStyles[kind]);
+
+                c.drawPath(path, mRenderPaint);
+
+                mRenderPaint.setStyle(Paint.Style.STROKE);
+            }
+        }
+    }
+
+    /**
+     * Draws the lines collected in the given batch group with the given color.
+     *
+     * @param c
+     * @param group
+     * @param color
+     */
+    private void drawBatchLines(Canvas c, int group, int color) {
+
+        if (mBatchCounts[group] == 0)
+            return;
+
+        mRenderPaint.setColor(color);
+        c.drawLines(mBatchBuffers[group], 0, mBatchCounts[group], mRenderPaint);
+    }
+
+    /**
+     * Returns the given color, or the color of the DataSet if it is not set.
+     *
+     * @param dataSet
+     * @param color
+     * @return
+     */
+    private static int getBatchColor(ICandleDataSet dataSet, int color) {
+        return color == ColorTemplate.COLOR_NONE ? dataSet.getColor() : color;
+    }
+
     @Override
     public void drawValues(Canvas c) {
 
@@ -299,7 +616,10 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                     CandleEntry entry = dataSet.getEntryForIndex(j / 2 + mXBounds.min);
 
                     if (dataSet.isDrawValuesEnabled()) {
-                        drawValue(c, formatter.getCandleLabel(entry), x, y - yOffset, dataSet.getValueTextColor(j / 2));
+                        final int color = dataSet.getValueTextColor(j / 2);
+
+                        if (!drawFormattedValue(c, formatter, entry.getHigh(), x, y - yOffset, color))
+                            drawValue(c, mLabelCache.getCandleLabel(formatter, entry), x, y - yOffset, color);
                     }
 
                     if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
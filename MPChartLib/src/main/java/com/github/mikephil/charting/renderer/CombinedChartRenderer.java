@@ -82,6 +82,13 @@ public class CombinedChartRenderer extends DataRenderer {
             renderer.initBuffers();
     }
 
+    @Override
+    public void releaseUnusedBuffers() {
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.releaseUnusedBuffers();
+    }
+
     @Override
     public void drawData(Canvas c) {
 
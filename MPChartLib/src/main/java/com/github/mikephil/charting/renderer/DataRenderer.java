@@ -7,6 +7,7 @@ import android.graphics.Paint.Align;
 import android.graphics.Paint.Style;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ChartInterface;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
@@ -43,6 +44,11 @@ public abstract class DataRenderer extends Renderer {
      */
     protected Paint mValuePaint;
 
+    /**
+     * buffer the values are formatted into, see drawFormattedValue(...)
+     */
+    protected char[] mValueChars = new char[64];
+
     public DataRenderer(ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(viewPortHandler);
         this.mAnimator = animator;
@@ -116,6 +122,14 @@ public abstract class DataRenderer extends Renderer {
      */
     public abstract void initBuffers();
 
+    /**
+     * Removes the buffers and caches of DataSets that are no longer part of the data, called
+     * instead of initBuffers() when the chart switched to new DataSet instances with the same
+     * structure, e.g. to a new data snapshot. Does nothing by default.
+     */
+    public void releaseUnusedBuffers() {
+    }
+
     /**
      * Draws the actual data in form of lines, bars, ... depending on Renderer subclass.
      *
@@ -141,6 +155,52 @@ public abstract class DataRenderer extends Renderer {
      */
     public abstract void drawValue(Canvas c, String valueText, float x, float y, int color);
 
+    /**
+     * Draws the given chars of a value label. Override this as well when overriding
+     * drawValue(c, valueText, ...).
+     *
+     * @param c     canvas
+     * @param text  buffer that contains the label
+     * @param index index of the first char of the label
+     * @param count number of chars of the label
+     * @param x     position
+     * @param y     position
+     * @param color
+     */
+    public void drawValue(Canvas c, char[] text, int index, int count, float x, float y, int color) {
+        mValuePaint.setColor(color);
+        c.drawText(text, index, count, x, y, mValuePaint);
+    }
+
+    /**
+     * Formats the given value into a reused buffer and draws it, without allocations. Returns
+     * false without drawing if the formatter does not support formatting into buffers (see
+     * ValueFormatter.isCharFormattingSupported()), the label then has to be drawn with
+     * drawValue(c, valueText, ...).
+     *
+     * @param c
+     * @param formatter
+     * @param value
+     * @param x
+     * @param y
+     * @param color
+     * @return
+     */
+    protected boolean drawFormattedValue(Canvas c, ValueFormatter formatter, float value,
+                                         float x, float y, int color) {
+
+        if (!formatter.isCharFormattingSupported())
+            return false;
+
+        final int length = formatter.getFormattedValue(value, mValueChars);
+
+        if (length < 0)
+            return false;
+
+        drawValue(c, mValueChars, 0, length, x, y, color);
+        return true;
+    }
+
     /**
      * Draws any kind of additional information (e.g. line-circles).
      *
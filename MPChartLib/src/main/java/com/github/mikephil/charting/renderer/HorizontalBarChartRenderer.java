@@ -44,8 +44,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 
         for (int i = 0; i < mBarBuffers.length; i++) {
             IBarDataSet set = barData.getDataSetByIndex(i);
-            mBarBuffers[i] = new HorizontalBarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
-                    barData.getDataSetCount(), set.isStacked());
+            mBarBuffers[i] = new HorizontalBarBuffer(0, barData.getDataSetCount(), set.isStacked());
         }
     }
 
@@ -64,6 +63,9 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
+        // only the entries of the visible range (incl. partly visible bars) are drawn
+        mXBounds.set(mChart, dataSet, mChart.getBarData().getBarWidth() / 2f);
+
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
             mShadowPaint.setColor(dataSet.getBarShadowColor());
@@ -74,9 +76,10 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             final float barWidthHalf = barWidth / 2.0f;
             float x;
 
-            for (int i = 0, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
-                 i < count;
-                 i++) {
+            final int count = Math.min(Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount()),
+                    mXBounds.max + 1);
+
+            for (int i = mXBounds.min; i < count; i++) {
 
                 BarEntry e = dataSet.getEntryForIndex(i);
 
@@ -106,10 +109,16 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
         buffer.setDataSet(index);
         buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
         buffer.setBarWidth(mChart.getBarData().getBarWidth());
+        buffer.limitFrom(mXBounds.min);
+        buffer.limitTo(mXBounds.max);
 
+        buffer = mBarBuffers[index] = buffer.ensureCapacity(dataSet);
         buffer.feed(dataSet);
 
-        trans.pointValuesToPixel(buffer.buffer);
+        trans.getValueToPixelMatrix().mapPoints(buffer.buffer, 0, buffer.buffer, 0, buffer.size() / 2);
+
+        // index of the color of the first bar in the buffer
+        final int firstBar = buffer.getFirstBar();
 
         final boolean isSingleColor = dataSet.getColors().size() == 1;
 
@@ -128,7 +137,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             if (!isSingleColor) {
                 // Set the color for the currently drawn value. If the index
                 // is out of bounds, reuse colors.
-                mRenderPaint.setColor(dataSet.getColor(j / 4));
+                mRenderPaint.setColor(dataSet.getColor(firstBar + j / 4));
             }
 
             c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
@@ -164,7 +173,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 
                 // apply the text-styling defined by the DataSet
                 applyValueTextStyle(dataSet);
-                final float halfTextHeight = Utils.calcTextHeight(mValuePaint, "10") / 2f;
+                final float halfTextHeight = mLabelCache.calcTextHeight(mValuePaint, "10") / 2f;
 
                 ValueFormatter formatter = dataSet.getValueFormatter();
 
@@ -180,7 +189,9 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    for (int j = 0; j < buffer.size(); j += 4) {
+
+                        final int entryIndex = buffer.getFirstEntry() + j / 4;
 
                         float y = (buffer.buffer[j + 1] + buffer.buffer[j + 3]) / 2f;
 
@@ -193,12 +204,12 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                         if (!mViewPortHandler.isInBoundsBottom(buffer.buffer[j + 1]))
                             continue;
 
-                        BarEntry entry = dataSet.getEntryForIndex(j / 4);
+                        BarEntry entry = dataSet.getEntryForIndex(entryIndex);
                         float val = entry.getY();
-                        String formattedValue = formatter.getBarLabel(entry);
+                        String formattedValue = mLabelCache.getBarLabel(formatter, entry);
 
                         // calculate the correct offset depending on the draw position of the value
-                        float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
+                        float valueTextWidth = mLabelCache.calcTextWidth(mValuePaint, formattedValue);
                         posOffset = (drawValueAboveBar ? valueOffsetPlus : -(valueTextWidth + valueOffsetPlus));
                         negOffset = (drawValueAboveBar ? -(valueTextWidth + valueOffsetPlus) : valueOffsetPlus);
 
@@ -212,7 +223,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                     formattedValue,
                                     buffer.buffer[j + 2] + (val >= 0 ? posOffset : negOffset),
                                     y + halfTextHeight,
-                                    dataSet.getValueTextColor(j / 2));
+                                    dataSet.getValueTextColor(entryIndex));
                         }
 
                         if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -241,9 +252,9 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                     Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
                     int bufferIndex = 0;
-                    int index = 0;
+                    int index = buffer.getFirstEntry();
 
-                    while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()) {
+                    while (index <= buffer.getLastEntry()) {
 
                         BarEntry entry = dataSet.getEntryForIndex(index);
 
@@ -264,10 +275,10 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                             if (!mViewPortHandler.isInBoundsBottom(buffer.buffer[bufferIndex + 1]))
                                 continue;
 
-                            String formattedValue = formatter.getBarLabel(entry);
+                            String formattedValue = mLabelCache.getBarLabel(formatter, entry);
 
                             // calculate the correct offset depending on the draw position of the value
-                            float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
+                            float valueTextWidth = mLabelCache.calcTextWidth(mValuePaint, formattedValue);
                             posOffset = (drawValueAboveBar ? valueOffsetPlus : -(valueTextWidth + valueOffsetPlus));
                             negOffset = (drawValueAboveBar ? -(valueTextWidth + valueOffsetPlus) : valueOffsetPlus);
 
@@ -334,10 +345,10 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                             for (int k = 0; k < transformed.length; k += 2) {
 
                                 final float val = vals[k / 2];
-                                String formattedValue = formatter.getBarStackedLabel(val, entry);
+                                String formattedValue = mLabelCache.getBarStackedLabel(formatter, val, entry);
 
                                 // calculate the correct offset depending on the draw position of the value
-                                float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
+                                float valueTextWidth = mLabelCache.calcTextWidth(mValuePaint, formattedValue);
                                 posOffset = (drawValueAboveBar ? valueOffsetPlus : -(valueTextWidth + valueOffsetPlus));
                                 negOffset = (drawValueAboveBar ? -(valueTextWidth + valueOffsetPlus) : valueOffsetPlus);
 
@@ -11,6 +11,7 @@ import android.graphics.Typeface;
 import com.github.mikephil.charting.components.Legend;
 import com.github.mikephil.charting.components.LegendEntry;
 import com.github.mikephil.charting.data.ChartData;
+import com.github.mikephil.charting.data.PieData;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
@@ -75,6 +76,25 @@ public class LegendRenderer extends Renderer {
 
     protected List<LegendEntry> computedEntries = new ArrayList<>(16);
 
+    /**
+     * legend entries that were computed in advance (e.g. on a background thread) for the data
+     * object that is passed to computeLegend(...) next, see setPreparedEntries(...)
+     */
+    private ChartData<?> mPreparedData = null;
+    private List<LegendEntry> mPreparedEntries = null;
+
+    /**
+     * Sets legend entries that were computed in advance with computeLegendEntries(...), they
+     * are used by the next computeLegend(...) call if it is for the same data object.
+     *
+     * @param data
+     * @param entries
+     */
+    public void setPreparedEntries(ChartData<?> data, List<LegendEntry> entries) {
+        mPreparedData = data;
+        mPreparedEntries = entries;
+    }
+
     /**
      * Prepares the legend and calculates all needed forms, labels and colors.
      *
@@ -86,138 +106,164 @@ public class LegendRenderer extends Renderer {
 
             computedEntries.clear();
 
-            // loop for building up the colors and labels used in the legend
-            for (int i = 0; i < data.getDataSetCount(); i++) {
+            if (data == mPreparedData && mPreparedEntries != null)
+                computedEntries.addAll(mPreparedEntries);
+            else
+                computeLegendEntries(data, computedEntries);
 
-                IDataSet dataSet = data.getDataSetByIndex(i);
+            mLegend.setEntries(computedEntries);
+        }
 
-                List<Integer> clrs = dataSet.getColors();
-                int entryCount = dataSet.getEntryCount();
+        mPreparedData = null;
+        mPreparedEntries = null;
 
-                // if we have a barchart with stacked bars
-                if (dataSet instanceof IBarDataSet && ((IBarDataSet) dataSet).isStacked()) {
+        Typeface tf = mLegend.getTypeface();
 
-                    IBarDataSet bds = (IBarDataSet) dataSet;
-                    String[] sLabels = bds.getStackLabels();
+        if (tf != null)
+            mLegendLabelPaint.setTypeface(tf);
 
-                    for (int j = 0; j < clrs.size() && j < bds.getStackSize(); j++) {
+        mLegendLabelPaint.setTextSize(mLegend.getTextSize());
+        mLegendLabelPaint.setColor(mLegend.getTextColor());
 
-                        computedEntries.add(new LegendEntry(
-                                sLabels[j % sLabels.length],
-                                dataSet.getForm(),
-                                dataSet.getFormSize(),
-                                dataSet.getFormLineWidth(),
-                                dataSet.getFormLineDashEffect(),
-                                clrs.get(j)
-                        ));
-                    }
+        // calculate all dimensions of the mLegend
+        mLegend.calculateDimensions(mLegendLabelPaint, mViewPortHandler);
+    }
 
-                    if (bds.getLabel() != null) {
-                        // add the legend description label
-                        computedEntries.add(new LegendEntry(
-                                dataSet.getLabel(),
-                                Legend.LegendForm.NONE,
-                                Float.NaN,
-                                Float.NaN,
-                                null,
-                                ColorTemplate.COLOR_NONE
-                        ));
-                    }
+    /**
+     * Adds the legend entries (forms, labels and colors) of the given data to the given list.
+     * Only reads the data and the settings of the legend, so it can be called from a
+     * background thread.
+     *
+     * @param data
+     * @param entries
+     * @return the given list
+     */
+    public List<LegendEntry> computeLegendEntries(ChartData<?> data, List<LegendEntry> entries) {
 
-                } else if (dataSet instanceof IPieDataSet) {
+        // loop for building up the colors and labels used in the legend
+        for (int i = 0; i < data.getDataSetCount(); i++) {
 
-                    IPieDataSet pds = (IPieDataSet) dataSet;
+            IDataSet dataSet = data.getDataSetByIndex(i);
 
-                    for (int j = 0; j < clrs.size() && j < entryCount; j++) {
+            // pie charts show the slices of the DataSet, which may aggregate small entries
+            if (data instanceof PieData)
+                dataSet = ((PieData) data).getDisplayDataSet();
 
-                        computedEntries.add(new LegendEntry(
-                                pds.getEntryForIndex(j).getLabel(),
-                                dataSet.getForm(),
-                                dataSet.getFormSize(),
-                                dataSet.getFormLineWidth(),
-                                dataSet.getFormLineDashEffect(),
-                                clrs.get(j)
-                        ));
-                    }
+            List<Integer> clrs = dataSet.getColors();
+            int entryCount = dataSet.getEntryCount();
 
-                    if (pds.getLabel() != null) {
-                        // add the legend description label
-                        computedEntries.add(new LegendEntry(
-                                dataSet.getLabel(),
-                                Legend.LegendForm.NONE,
-                                Float.NaN,
-                                Float.NaN,
-                                null,
-                                ColorTemplate.COLOR_NONE
-                        ));
-                    }
+            // if we have a barchart with stacked bars
+            if (dataSet instanceof IBarDataSet && ((IBarDataSet) dataSet).isStacked()) {
 
-                } else if (dataSet instanceof ICandleDataSet && ((ICandleDataSet) dataSet).getDecreasingColor() !=
-                        ColorTemplate.COLOR_NONE) {
+                IBarDataSet bds = (IBarDataSet) dataSet;
+                String[] sLabels = bds.getStackLabels();
 
-                    int decreasingColor = ((ICandleDataSet) dataSet).getDecreasingColor();
-                    int increasingColor = ((ICandleDataSet) dataSet).getIncreasingColor();
+                for (int j = 0; j < clrs.size() && j < bds.getStackSize(); j++) {
 
-                    computedEntries.add(new LegendEntry(
-                            null,
+                    entries.add(new LegendEntry(
+                            sLabels[j % sLabels.length],
                             dataSet.getForm(),
                             dataSet.getFormSize(),
                             dataSet.getFormLineWidth(),
                             dataSet.getFormLineDashEffect(),
-                            decreasingColor
+                            clrs.get(j)
                     ));
+                }
 
-                    computedEntries.add(new LegendEntry(
+                if (bds.getLabel() != null) {
+                    // add the legend description label
+                    entries.add(new LegendEntry(
                             dataSet.getLabel(),
+                            Legend.LegendForm.NONE,
+                            Float.NaN,
+                            Float.NaN,
+                            null,
+                            ColorTemplate.COLOR_NONE
+                    ));
+                }
+
+            } else if (dataSet instanceof IPieDataSet) {
+
+                IPieDataSet pds = (IPieDataSet) dataSet;
+
+                for (int j = 0; j < clrs.size() && j < entryCount; j++) {
+
+                    entries.add(new LegendEntry(
+                            pds.getEntryForIndex(j).getLabel(),
                             dataSet.getForm(),
                             dataSet.getFormSize(),
                             dataSet.getFormLineWidth(),
                             dataSet.getFormLineDashEffect(),
-                            increasingColor
+                            clrs.get(j)
                     ));
+                }
 
-                } else { // all others
-
-                    for (int j = 0; j < clrs.size() && j < entryCount; j++) {
-
-                        String label;
-
-                        // if multiple colors are set for a DataSet, group them
-                        if (j < clrs.size() - 1 && j < entryCount - 1) {
-                            label = null;
-                        } else { // add label to the last entry
-                            label = data.getDataSetByIndex(i).getLabel();
-                        }
+                if (pds.getLabel() != null) {
+                    // add the legend description label
+                    entries.add(new LegendEntry(
+                            dataSet.getLabel(),
+                            Legend.LegendForm.NONE,
+                            Float.NaN,
+                            Float.NaN,
+                            null,
+                            ColorTemplate.COLOR_NONE
+                    ));
+                }
 
-                        computedEntries.add(new LegendEntry(
-                                label,
-                                dataSet.getForm(),
-                                dataSet.getFormSize(),
-                                dataSet.getFormLineWidth(),
-                                dataSet.getFormLineDashEffect(),
-                                clrs.get(j)
-                        ));
+            } else if (dataSet instanceof ICandleDataSet && ((ICandleDataSet) dataSet).getDecreasingColor() !=
+                    ColorTemplate.COLOR_NONE) {
+
+                int decreasingColor = ((ICandleDataSet) dataSet).getDecreasingColor();
+                int increasingColor = ((ICandleDataSet) dataSet).getIncreasingColor();
+
+                entries.add(new LegendEntry(
+                        null,
+                        dataSet.getForm(),
+                        dataSet.getFormSize(),
+                        dataSet.getFormLineWidth(),
+                        dataSet.getFormLineDashEffect(),
+                        decreasingColor
+                ));
+
+                entries.add(new LegendEntry(
+                        dataSet.getLabel(),
+                        dataSet.getForm(),
+                        dataSet.getFormSize(),
+                        dataSet.getFormLineWidth(),
+                        dataSet.getFormLineDashEffect(),
+                        increasingColor
+                ));
+
+            } else { // all others
+
+                for (int j = 0; j < clrs.size() && j < entryCount; j++) {
+
+                    String label;
+
+                    // if multiple colors are set for a DataSet, group them
+                    if (j < clrs.size() - 1 && j < entryCount - 1) {
+                        label = null;
+                    } else { // add label to the last entry
+                        label = data.getDataSetByIndex(i).getLabel();
                     }
-                }
-            }
 
-            if (mLegend.getExtraEntries() != null) {
-                Collections.addAll(computedEntries, mLegend.getExtraEntries());
+                    entries.add(new LegendEntry(
+                            label,
+                            dataSet.getForm(),
+                            dataSet.getFormSize(),
+                            dataSet.getFormLineWidth(),
+                            dataSet.getFormLineDashEffect(),
+                            clrs.get(j)
+                    ));
+                }
             }
-
-            mLegend.setEntries(computedEntries);
         }
 
-        Typeface tf = mLegend.getTypeface();
-
-        if (tf != null)
-            mLegendLabelPaint.setTypeface(tf);
-
-        mLegendLabelPaint.setTextSize(mLegend.getTextSize());
-        mLegendLabelPaint.setColor(mLegend.getTextColor());
+        if (mLegend.getExtraEntries() != null) {
+            Collections.addAll(entries, mLegend.getExtraEntries());
+        }
 
-        // calculate all dimensions of the mLegend
-        mLegend.calculateDimensions(mLegendLabelPaint, mViewPortHandler);
+        return entries;
     }
 
     protected Paint.FontMetrics legendFontMetrics = new Paint.FontMetrics();
@@ -238,7 +284,7 @@ public class LegendRenderer extends Renderer {
         float labelLineHeight = Utils.getLineHeight(mLegendLabelPaint, legendFontMetrics);
         float labelLineSpacing = Utils.getLineSpacing(mLegendLabelPaint, legendFontMetrics)
                 + Utils.convertDpToPixel(mLegend.getYEntrySpace());
-        float formYOffset = labelLineHeight - Utils.calcTextHeight(mLegendLabelPaint, "ABC") / 2.f;
+        float formYOffset = labelLineHeight - mLabelCache.calcTextHeight(mLegendLabelPaint, "ABC") / 2.f;
 
         LegendEntry[] entries = mLegend.getEntries();
 
@@ -441,7 +487,7 @@ public class LegendRenderer extends Renderer {
                             posX = originPosX;
 
                         if (direction == Legend.LegendDirection.RIGHT_TO_LEFT)
-                            posX -= Utils.calcTextWidth(mLegendLabelPaint, e.label);
+                            posX -= mLabelCache.calcTextWidth(mLegendLabelPaint, e.label);
 
                         if (!wasStacked) {
                             drawLabel(c, posX, posY + labelLineHeight, e.label);
@@ -12,12 +12,18 @@ import com.github.mikephil.charting.charts.LineChart;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.filter.LineDecimator;
+import com.github.mikephil.charting.data.filter.LodPyramid;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IFloatValueDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.utils.BitmapPool;
 import com.github.mikephil.charting.utils.ColorTemplate;
+import com.github.mikephil.charting.utils.DataSetCaches;
+import com.github.mikephil.charting.utils.GeometryCache;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
@@ -25,7 +31,6 @@ import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.lang.ref.WeakReference;
-import java.util.HashMap;
 import java.util.List;
 
 public class LineChartRenderer extends LineRadarRenderer {
@@ -44,10 +49,17 @@ public class LineChartRenderer extends LineRadarRenderer {
     protected WeakReference<Bitmap> mDrawBitmap;
 
     /**
-     * on this canvas, the paths are rendered, it is initialized with the
-     * pathBitmap
+     * the bitmap referenced by mDrawBitmap. It is taken from the shared BitmapPool on the
+     * first draw or when the size changes, and kept until releaseBitmap(), as the drawn frame
+     * may still reference it.
      */
-    protected Canvas mBitmapCanvas;
+    private Bitmap mPooledBitmap;
+
+    /**
+     * on this canvas, the paths are rendered, it draws into the
+     * mDrawBitmap
+     */
+    protected Canvas mBitmapCanvas = new Canvas();
 
     /**
      * the bitmap configuration to be used
@@ -69,6 +81,19 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     @Override
     public void initBuffers() {
+        mDecimators.clear();
+        mGeometryCaches.clear();
+        mImageCaches.clear();
+    }
+
+    @Override
+    public void releaseUnusedBuffers() {
+
+        final LineData lineData = mChart.getLineData();
+
+        mDecimators.retain(lineData);
+        mGeometryCaches.retain(lineData);
+        mImageCaches.retain(lineData);
     }
 
     @Override
@@ -77,21 +102,25 @@ public class LineChartRenderer extends LineRadarRenderer {
         int width = (int) mViewPortHandler.getChartWidth();
         int height = (int) mViewPortHandler.getChartHeight();
 
-        Bitmap drawBitmap = mDrawBitmap == null ? null : mDrawBitmap.get();
+        if (width <= 0 || height <= 0)
+            return;
+
+        Bitmap drawBitmap = mPooledBitmap;
 
         if (drawBitmap == null
-                || (drawBitmap.getWidth() != width)
-                || (drawBitmap.getHeight() != height)) {
-
-            if (width > 0 && height > 0) {
-                drawBitmap = Bitmap.createBitmap(width, height, mBitmapConfig);
-                mDrawBitmap = new WeakReference<>(drawBitmap);
-                mBitmapCanvas = new Canvas(drawBitmap);
-            } else
-                return;
-        }
+                || drawBitmap.getWidth() != width
+                || drawBitmap.getHeight() != height
+                || drawBitmap.getConfig() != mBitmapConfig) {
 
-        drawBitmap.eraseColor(Color.TRANSPARENT);
+            releaseBitmap();
+
+            drawBitmap = BitmapPool.getShared().acquire(width, height, mBitmapConfig);
+
+            mPooledBitmap = drawBitmap;
+            mDrawBitmap = new WeakReference<>(drawBitmap);
+            mBitmapCanvas.setBitmap(drawBitmap);
+        } else
+            drawBitmap.eraseColor(Color.TRANSPARENT);
 
         LineData lineData = mChart.getLineData();
 
@@ -315,41 +344,62 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         mXBounds.set(mChart, dataSet);
 
+        // a prebuilt level-of-detail pyramid makes drawing independent of the entry count
+        if (!isDrawSteppedEnabled && dataSet.getColors().size() == 1) {
+
+            final LodPyramid pyramid = dataSet.getLodPyramid();
+            final int lodLevel = getLodLevel(pyramid, trans);
+
+            if (lodLevel >= 0) {
+                drawLinearLod(c, canvas, dataSet, pyramid.getLevel(lodLevel), trans, phaseY);
+                mRenderPaint.setPathEffect(null);
+                return;
+            }
+        }
+
+        final LineDecimator decimator = getDecimator(dataSet, trans);
+
+        if (decimator != null) {
+            drawLinearDecimated(c, canvas, dataSet, decimator, trans, isDrawSteppedEnabled, phaseY);
+            mRenderPaint.setPathEffect(null);
+            return;
+        }
+
         // if drawing filled is enabled
         if (dataSet.isDrawFilledEnabled() && entryCount > 0) {
             drawLinearFill(c, dataSet, trans, mXBounds);
         }
 
+        final int to = mXBounds.range + mXBounds.min;
+
+        // the pixel positions are only recalculated on zoom or data changes, the line segments
+        // range from the entry before the first to the entry after the last visible one
+        final GeometryCache geometry = getGeometryCache(dataSet, trans,
+                Math.max(mXBounds.min - 1, 0), Math.max(Math.min(to + 1, mXBounds.max), to));
+
         // more than 1 color
         if (dataSet.getColors().size() > 1) {
 
             if (mLineBuffer.length <= pointsPerEntryPair * 2)
                 mLineBuffer = new float[pointsPerEntryPair * 4];
 
-            for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
-
-                Entry e = dataSet.getEntryForIndex(j);
-                if (e == null) continue;
+            for (int j = mXBounds.min; j <= to; j++) {
 
-                mLineBuffer[0] = e.getX();
-                mLineBuffer[1] = e.getY() * phaseY;
+                mLineBuffer[0] = geometry.getX(j);
+                mLineBuffer[1] = geometry.getY(j);
 
                 if (j < mXBounds.max) {
 
-                    e = dataSet.getEntryForIndex(j + 1);
-
-                    if (e == null) break;
-
                     if (isDrawSteppedEnabled) {
-                        mLineBuffer[2] = e.getX();
+                        mLineBuffer[2] = geometry.getX(j + 1);
                         mLineBuffer[3] = mLineBuffer[1];
                         mLineBuffer[4] = mLineBuffer[2];
                         mLineBuffer[5] = mLineBuffer[3];
-                        mLineBuffer[6] = e.getX();
-                        mLineBuffer[7] = e.getY() * phaseY;
+                        mLineBuffer[6] = mLineBuffer[2];
+                        mLineBuffer[7] = geometry.getY(j + 1);
                     } else {
-                        mLineBuffer[2] = e.getX();
-                        mLineBuffer[3] = e.getY() * phaseY;
+                        mLineBuffer[2] = geometry.getX(j + 1);
+                        mLineBuffer[3] = geometry.getY(j + 1);
                     }
 
                 } else {
@@ -357,8 +407,6 @@ public class LineChartRenderer extends LineRadarRenderer {
                     mLineBuffer[3] = mLineBuffer[1];
                 }
 
-                trans.pointValuesToPixel(mLineBuffer);
-
                 if (!mViewPortHandler.isInBoundsRight(mLineBuffer[0]))
                     break;
 
@@ -377,50 +425,346 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         } else { // only one color per dataset
 
-            if (mLineBuffer.length < Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 2)
-                mLineBuffer = new float[Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 4];
+            drawLinearGeometry(canvas, dataSet, geometry, mXBounds.min, to, isDrawSteppedEnabled);
+        }
 
-            Entry e1, e2;
+        mRenderPaint.setPathEffect(null);
+    }
 
-            e1 = dataSet.getEntryForIndex(mXBounds.min);
+    /**
+     * Draws a single colored line through the cached pixel positions of the entries from index
+     * "from" to index "to" (both inclusive).
+     *
+     * @param c
+     * @param dataSet
+     * @param geometry the positions of the entries, including the one before "from"
+     * @param from
+     * @param to
+     * @param isDrawSteppedEnabled
+     */
+    protected void drawLinearGeometry(Canvas c, ILineDataSet dataSet, GeometryCache geometry,
+                                      int from, int to, boolean isDrawSteppedEnabled) {
 
-            if (e1 != null) {
+        final int pointsPerEntryPair = isDrawSteppedEnabled ? 4 : 2;
+        final int size = Math.max((to - from + 1) * pointsPerEntryPair, pointsPerEntryPair) * 2;
 
-                int j = 0;
-                for (int x = mXBounds.min; x <= mXBounds.range + mXBounds.min; x++) {
+        if (mLineBuffer.length < size)
+            mLineBuffer = new float[size * 2];
 
-                    e1 = dataSet.getEntryForIndex(x == 0 ? 0 : (x - 1));
-                    e2 = dataSet.getEntryForIndex(x);
+        final float[] buffer = mLineBuffer;
 
-                    if (e1 == null || e2 == null) continue;
+        int j = 0;
+        for (int x = from; x <= to; x++) {
 
-                    mLineBuffer[j++] = e1.getX();
-                    mLineBuffer[j++] = e1.getY() * phaseY;
+            final int prev = x == 0 ? 0 : (x - 1);
+            final float prevY = geometry.getY(prev);
+            final float curX = geometry.getX(x);
 
-                    if (isDrawSteppedEnabled) {
-                        mLineBuffer[j++] = e2.getX();
-                        mLineBuffer[j++] = e1.getY() * phaseY;
-                        mLineBuffer[j++] = e2.getX();
-                        mLineBuffer[j++] = e1.getY() * phaseY;
-                    }
+            buffer[j++] = geometry.getX(prev);
+            buffer[j++] = prevY;
 
-                    mLineBuffer[j++] = e2.getX();
-                    mLineBuffer[j++] = e2.getY() * phaseY;
-                }
+            if (isDrawSteppedEnabled) {
+                buffer[j++] = curX;
+                buffer[j++] = prevY;
+                buffer[j++] = curX;
+                buffer[j++] = prevY;
+            }
+
+            buffer[j++] = curX;
+            buffer[j++] = geometry.getY(x);
+        }
+
+        if (j > 0) {
+            mRenderPaint.setColor(dataSet.getColor());
 
-                if (j > 0) {
-                    trans.pointValuesToPixel(mLineBuffer);
+            c.drawLines(buffer, 0, j, mRenderPaint);
+        }
+    }
+
+    /**
+     * Draws a single colored line through the given values from index "from" to index "to"
+     * (both inclusive).
+     *
+     * @param c
+     * @param dataSet the DataSet that provides the color
+     * @param values
+     * @param from
+     * @param to
+     * @param trans
+     * @param isDrawSteppedEnabled
+     * @param phaseY
+     */
+    protected void drawLinearValues(Canvas c, ILineDataSet dataSet, IFloatValueDataSet values,
+                                    int from, int to, Transformer trans,
+                                    boolean isDrawSteppedEnabled, float phaseY) {
+
+        final int pointsPerEntryPair = isDrawSteppedEnabled ? 4 : 2;
+        final int size = Math.max((to - from + 1) * pointsPerEntryPair, pointsPerEntryPair) * 2;
 
-                    final int size = Math.max((mXBounds.range + 1) * pointsPerEntryPair, pointsPerEntryPair) * 2;
+        if (mLineBuffer.length < size)
+            mLineBuffer = new float[size * 2];
 
-                    mRenderPaint.setColor(dataSet.getColor());
+        final float[] buffer = mLineBuffer;
 
-                    canvas.drawLines(mLineBuffer, 0, size, mRenderPaint);
-                }
+        int j = 0;
+        for (int x = from; x <= to; x++) {
+
+            final int prev = x == 0 ? 0 : (x - 1);
+            final float prevY = values.getY(prev) * phaseY;
+            final float curX = values.getX(x);
+
+            buffer[j++] = values.getX(prev);
+            buffer[j++] = prevY;
+
+            if (isDrawSteppedEnabled) {
+                buffer[j++] = curX;
+                buffer[j++] = prevY;
+                buffer[j++] = curX;
+                buffer[j++] = prevY;
             }
+
+            buffer[j++] = curX;
+            buffer[j++] = values.getY(x) * phaseY;
         }
 
-        mRenderPaint.setPathEffect(null);
+        if (j > 0) {
+            trans.getValueToPixelMatrix().mapPoints(buffer, 0, buffer, 0, j / 2);
+
+            mRenderPaint.setColor(dataSet.getColor());
+
+            c.drawLines(buffer, 0, j, mRenderPaint);
+        }
+    }
+
+    /**
+     * the decimated values of each DataSet with a decimation mode, see getDecimator(...)
+     */
+    private DataSetCaches<LineDecimator> mDecimators = new DataSetCaches<>();
+
+    /**
+     * buffer for calculating the horizontal resolution of the chart
+     */
+    private float[] mResolutionBuffer = new float[4];
+
+    /**
+     * Returns the decimated values of the given DataSet for the current scale of the chart, or
+     * null if the DataSet should be drawn as it is. Decimation only kicks in if there are
+     * considerably more visible entries than horizontal pixels.
+     *
+     * @param dataSet
+     * @param trans
+     * @return
+     */
+    protected LineDecimator getDecimator(ILineDataSet dataSet, Transformer trans) {
+
+        final LineDataSet.DecimationMode mode = dataSet.getDecimationMode();
+
+        if (mode == null || mode == LineDataSet.DecimationMode.NONE
+                || dataSet.getColors().size() > 1
+                || mXBounds.range + 1 <= mViewPortHandler.contentWidth() * 4f) {
+            mDecimators.remove(dataSet);
+            return null;
+        }
+
+        final float pixelsPerValue = getPixelsPerValue(trans);
+
+        if (pixelsPerValue <= 0f)
+            return null;
+
+        LineDecimator decimator = mDecimators.get(dataSet);
+
+        if (decimator == null) {
+            decimator = new LineDecimator();
+            mDecimators.put(dataSet, decimator);
+        }
+
+        decimator.update(dataSet, mode, pixelsPerValue);
+
+        return decimator.getCount() > 0 ? decimator : null;
+    }
+
+    /**
+     * Returns the number of pixels per x-value of the given Transformer, which changes only
+     * with the scale of the chart, or 0 if it is not finite.
+     *
+     * @param trans
+     * @return
+     */
+    private float getPixelsPerValue(Transformer trans) {
+
+        final float[] resolution = mResolutionBuffer;
+        resolution[0] = 0f;
+        resolution[1] = 0f;
+        resolution[2] = 1f;
+        resolution[3] = 0f;
+        trans.pointValuesToPixel(resolution);
+
+        final float pixelsPerValue = Math.abs(resolution[2] - resolution[0]);
+
+        if (Float.isInfinite(pixelsPerValue) || Float.isNaN(pixelsPerValue))
+            return 0f;
+
+        return pixelsPerValue;
+    }
+
+    /**
+     * Returns the index of the coarsest level of the given level-of-detail pyramid that still
+     * has at least one bucket per pixel at the current x-scale of the Transformer, or -1 if
+     * the entries should be drawn directly. The entries are assumed to be spread evenly over
+     * their x-range.
+     *
+     * @param pyramid
+     * @param trans
+     * @return
+     */
+    protected int getLodLevel(LodPyramid pyramid, Transformer trans) {
+
+        if (pyramid == null)
+            return -1;
+
+        final float pixels = mViewPortHandler.contentWidth();
+        final float pixelsPerValue = getPixelsPerValue(trans);
+        final float dataRange = pyramid.getXMax() - pyramid.getXMin();
+
+        float visibleEntries = pyramid.getEntryCount();
+
+        // the share of the entries that fits into the content rect
+        if (dataRange > 0f && pixelsPerValue > 0f)
+            visibleEntries *= Math.min(1f, pixels / (dataRange * pixelsPerValue));
+
+        return pyramid.selectLevel(visibleEntries, pixels);
+    }
+
+    /**
+     * Draws the line (and the fill) of the given DataSet from its decimated values, limited
+     * to the visible range.
+     *
+     * @param c
+     * @param lineCanvas the canvas to draw the line on
+     * @param dataSet
+     * @param decimator
+     * @param trans
+     * @param isDrawSteppedEnabled
+     * @param phaseY
+     */
+    protected void drawLinearDecimated(Canvas c, Canvas lineCanvas, ILineDataSet dataSet,
+                                       LineDecimator decimator, Transformer trans,
+                                       boolean isDrawSteppedEnabled, float phaseY) {
+
+        final float lowX;
+        final float highX;
+
+        if (dataSet instanceof IFloatValueDataSet) {
+            lowX = ((IFloatValueDataSet) dataSet).getX(mXBounds.min);
+            highX = ((IFloatValueDataSet) dataSet).getX(mXBounds.min + mXBounds.range);
+        } else {
+            lowX = dataSet.getEntryForIndex(mXBounds.min).getX();
+            highX = dataSet.getEntryForIndex(mXBounds.min + mXBounds.range).getX();
+        }
+
+        final int last = decimator.getCount() - 1;
+        final int from = Math.max(decimator.lowerBound(lowX) - 1, 0);
+        final int to = Math.min(decimator.lowerBound(highX), last);
+
+        if (dataSet.isDrawFilledEnabled())
+            drawLinearValuesFill(c, dataSet, decimator, from, to, trans, isDrawSteppedEnabled, phaseY);
+
+        drawLinearValues(lineCanvas, dataSet, decimator, from, to, trans, isDrawSteppedEnabled, phaseY);
+    }
+
+    /**
+     * Draws the fill of a line through the given values from index "from" to index "to"
+     * (both inclusive).
+     *
+     * @param c
+     * @param dataSet the DataSet that provides the fill
+     * @param values
+     * @param from
+     * @param to
+     * @param trans
+     * @param isDrawSteppedEnabled
+     * @param phaseY
+     */
+    protected void drawLinearValuesFill(Canvas c, ILineDataSet dataSet, IFloatValueDataSet values,
+                                        int from, int to, Transformer trans,
+                                        boolean isDrawSteppedEnabled, float phaseY) {
+
+        final Path filled = mGenerateFilledPathBuffer;
+        final float fillMin = dataSet.getFillFormatter().getFillLinePosition(dataSet, mChart);
+
+        filled.reset();
+        filled.moveTo(values.getX(from), fillMin);
+        filled.lineTo(values.getX(from), values.getY(from) * phaseY);
+
+        for (int x = from + 1; x <= to; x++) {
+
+            if (isDrawSteppedEnabled)
+                filled.lineTo(values.getX(x), values.getY(x - 1) * phaseY);
+
+            filled.lineTo(values.getX(x), values.getY(x) * phaseY);
+        }
+
+        filled.lineTo(values.getX(to), fillMin);
+        filled.close();
+
+        trans.pathValueToPixel(filled);
+
+        final Drawable drawable = dataSet.getFillDrawable();
+        if (drawable != null) {
+
+            drawFilledPath(c, filled, drawable);
+        } else {
+
+            drawFilledPath(c, filled, dataSet.getFillColor(), dataSet.getFillAlpha());
+        }
+    }
+
+    /**
+     * Draws the line (and the fill) of the given DataSet from the buckets of a level of its
+     * level-of-detail pyramid, limited to the visible range.
+     *
+     * @param c
+     * @param lineCanvas the canvas to draw the line on
+     * @param dataSet
+     * @param level
+     * @param trans
+     * @param phaseY
+     */
+    protected void drawLinearLod(Canvas c, Canvas lineCanvas, ILineDataSet dataSet,
+                                 LodPyramid.Level level, Transformer trans, float phaseY) {
+
+        final int from = level.getBucketForEntry(mXBounds.min);
+        final int to = level.getBucketForEntry(mXBounds.min + mXBounds.range);
+
+        final int pointCount = (to - from + 1) * LodPyramid.POINTS_PER_BUCKET;
+
+        if (dataSet.isDrawFilledEnabled()) {
+            drawLinearValuesFill(c, dataSet, level, from * LodPyramid.POINTS_PER_BUCKET,
+                    from * LodPyramid.POINTS_PER_BUCKET + pointCount - 1, trans, false, phaseY);
+        }
+
+        final float[] points = trans.generateTransformedValuesLine(level, phaseY, from, to);
+
+        final int size = (pointCount - 1) * 4;
+
+        if (mLineBuffer.length < size)
+            mLineBuffer = new float[size * 2];
+
+        final float[] buffer = mLineBuffer;
+
+        int j = 0;
+        for (int i = 1; i < pointCount; i++) {
+            buffer[j++] = points[i * 2 - 2];
+            buffer[j++] = points[i * 2 - 1];
+            buffer[j++] = points[i * 2];
+            buffer[j++] = points[i * 2 + 1];
+        }
+
+        if (j > 0) {
+            mRenderPaint.setColor(dataSet.getColor());
+
+            lineCanvas.drawLines(buffer, 0, j, mRenderPaint);
+        }
     }
 
     protected Path mGenerateFilledPathBuffer = new Path();
@@ -568,7 +912,10 @@ public class LineChartRenderer extends LineRadarRenderer {
                     Entry entry = dataSet.getEntryForIndex(j / 2 + mXBounds.min);
 
                     if (dataSet.isDrawValuesEnabled()) {
-                        drawValue(c, formatter.getPointLabel(entry), x, y - valOffset, dataSet.getValueTextColor(j / 2));
+                        final int color = dataSet.getValueTextColor(j / 2);
+
+                        if (!drawFormattedValue(c, formatter, entry.getY(), x, y - valOffset, color))
+                            drawValue(c, mLabelCache.getPointLabel(formatter, entry), x, y - valOffset, color);
                     }
 
                     if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -604,7 +951,7 @@ public class LineChartRenderer extends LineRadarRenderer {
     /**
      * cache for the circle bitmaps of all datasets
      */
-    private HashMap<IDataSet, DataSetImageCache> mImageCaches = new HashMap<>();
+    private DataSetCaches<DataSetImageCache> mImageCaches = new DataSetCaches<>();
 
     /**
      * buffer for drawing the circles
@@ -615,8 +962,6 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         mRenderPaint.setStyle(Paint.Style.FILL);
 
-        float phaseY = mAnimator.getPhaseY();
-
         mCirclesBuffer[0] = 0;
         mCirclesBuffer[1] = 0;
 
@@ -644,11 +989,9 @@ public class LineChartRenderer extends LineRadarRenderer {
             boolean drawTransparentCircleHole = drawCircleHole &&
                     dataSet.getCircleHoleColor() == ColorTemplate.COLOR_NONE;
 
-            DataSetImageCache imageCache;
+            DataSetImageCache imageCache = mImageCaches.get(dataSet);
 
-            if (mImageCaches.containsKey(dataSet)) {
-                imageCache = mImageCaches.get(dataSet);
-            } else {
+            if (imageCache == null) {
                 imageCache = new DataSetImageCache();
                 mImageCaches.put(dataSet, imageCache);
             }
@@ -662,16 +1005,13 @@ public class LineChartRenderer extends LineRadarRenderer {
 
             int boundsRangeCount = mXBounds.range + mXBounds.min;
 
-            for (int j = mXBounds.min; j <= boundsRangeCount; j++) {
-
-                Entry e = dataSet.getEntryForIndex(j);
+            // shares the cached pixel positions with the line of the DataSet
+            final GeometryCache geometry = getGeometryCache(dataSet, trans, mXBounds.min, boundsRangeCount);
 
-                if (e == null) break;
-
-                mCirclesBuffer[0] = e.getX();
-                mCirclesBuffer[1] = e.getY() * phaseY;
+            for (int j = mXBounds.min; j <= boundsRangeCount; j++) {
 
-                trans.pointValuesToPixel(mCirclesBuffer);
+                mCirclesBuffer[0] = geometry.getX(j);
+                mCirclesBuffer[1] = geometry.getY(j);
 
                 if (!mViewPortHandler.isInBoundsRight(mCirclesBuffer[0]))
                     break;
@@ -738,18 +1078,18 @@ public class LineChartRenderer extends LineRadarRenderer {
     }
 
     /**
-     * Releases the drawing bitmap. This should be called when {@link LineChart#onDetachedFromWindow()}.
+     * Returns the drawing bitmap to the shared BitmapPool. This should be called when
+     * {@link LineChart#onDetachedFromWindow()}.
      */
     public void releaseBitmap() {
-        if (mBitmapCanvas != null) {
-            mBitmapCanvas.setBitmap(null);
-            mBitmapCanvas = null;
+        mBitmapCanvas.setBitmap(null);
+
+        if (mPooledBitmap != null) {
+            BitmapPool.getShared().release(mPooledBitmap);
+            mPooledBitmap = null;
         }
+
         if (mDrawBitmap != null) {
-            Bitmap drawBitmap = mDrawBitmap.get();
-            if (drawBitmap != null) {
-                drawBitmap.recycle();
-            }
             mDrawBitmap.clear();
             mDrawBitmap = null;
         }
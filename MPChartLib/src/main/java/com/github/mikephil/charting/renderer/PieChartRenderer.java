@@ -17,6 +17,7 @@ import android.text.TextPaint;
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.charts.LineChart;
 import com.github.mikephil.charting.charts.PieChart;
+import com.github.mikephil.charting.data.BaseDataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.PieData;
 import com.github.mikephil.charting.data.PieDataSet;
@@ -24,12 +25,15 @@ import com.github.mikephil.charting.data.PieEntry;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
+import com.github.mikephil.charting.utils.BitmapPool;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class PieChartRenderer extends DataRenderer {
@@ -65,7 +69,14 @@ public class PieChartRenderer extends DataRenderer {
      */
     protected WeakReference<Bitmap> mDrawBitmap;
 
-    protected Canvas mBitmapCanvas;
+    /**
+     * the bitmap referenced by mDrawBitmap. It is taken from the shared BitmapPool on the
+     * first draw or when the size changes, and kept until releaseBitmap(), as the drawn frame
+     * may still reference it.
+     */
+    private Bitmap mPooledBitmap;
+
+    protected Canvas mBitmapCanvas = new Canvas();
 
     public PieChartRenderer(PieChart chart, ChartAnimator animator,
                             ViewPortHandler viewPortHandler) {
@@ -125,29 +136,26 @@ public class PieChartRenderer extends DataRenderer {
         int width = (int) mViewPortHandler.getChartWidth();
         int height = (int) mViewPortHandler.getChartHeight();
 
-        Bitmap drawBitmap = mDrawBitmap == null ? null : mDrawBitmap.get();
-
-        if (drawBitmap == null
-                || (drawBitmap.getWidth() != width)
-                || (drawBitmap.getHeight() != height)) {
+        if (width <= 0 || height <= 0)
+            return;
 
-            if (width > 0 && height > 0) {
-                drawBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_4444);
-                mDrawBitmap = new WeakReference<>(drawBitmap);
-                mBitmapCanvas = new Canvas(drawBitmap);
-            } else
-                return;
-        }
+        if (mPooledBitmap == null
+                || mPooledBitmap.getWidth() != width
+                || mPooledBitmap.getHeight() != height) {
 
-        drawBitmap.eraseColor(Color.TRANSPARENT);
+            releaseBitmap();
 
-        PieData pieData = mChart.getData();
+            mPooledBitmap = BitmapPool.getShared().acquire(width, height, Bitmap.Config.ARGB_4444);
+            mDrawBitmap = new WeakReference<>(mPooledBitmap);
+            mBitmapCanvas.setBitmap(mPooledBitmap);
+        } else
+            mPooledBitmap.eraseColor(Color.TRANSPARENT);
 
-        for (IPieDataSet set : pieData.getDataSets()) {
+        // the DataSet, or its view with small slices aggregated
+        IPieDataSet set = mChart.getData().getDisplayDataSet();
 
-            if (set.isVisible() && set.getEntryCount() > 0)
-                drawDataSet(c, set);
-        }
+        if (set.isVisible() && set.getEntryCount() > 0)
+            drawDataSet(c, set);
     }
 
     private Path mPathBuffer = new Path();
@@ -212,10 +220,130 @@ public class PieChartRenderer extends DataRenderer {
         return sliceSpace;
     }
 
+    /**
+     * the paths of the slices of the last drawn DataSet, built for a rotation angle of 0 so
+     * that they can be reused while the chart is rotated, null for slices that are not drawn
+     */
+    private Path[] mSlicePaths = new Path[0];
+
+    /**
+     * the state the slice paths were built for
+     */
+    private IPieDataSet mSliceDataSet;
+    private int mSliceDataSetVersion;
+    private float[] mSliceDrawAngles = new float[0];
+    private float[] mSliceGeometry = new float[10];
+    private float[] mSliceGeometryBuffer = new float[10];
+
     protected void drawDataSet(Canvas c, IPieDataSet dataSet) {
 
+        final float rotationAngle = mChart.getRotationAngle();
+        final MPPointF center = mChart.getCenterCircleBox();
+
+        final int entryCount = dataSet.getEntryCount();
+        final boolean drawRoundedSlices = mChart.isDrawHoleEnabled() && !mChart.isDrawSlicesUnderHoleEnabled()
+                && mChart.isDrawRoundedSlicesEnabled();
+
+        if (!isSliceCacheValid(dataSet, center))
+            buildSlicePaths(dataSet, center);
+
+        // the paths are built for a rotation angle of 0, rotating the canvas is all that
+        // changes while the chart is spun
+        int save = mBitmapCanvas.save();
+        mBitmapCanvas.rotate(rotationAngle, center.x, center.y);
+
+        for (int j = 0; j < entryCount; j++) {
+
+            Path path = mSlicePaths[j];
+
+            if (path == null)
+                continue;
+
+            // Don't draw if it's highlighted, unless the chart uses rounded slices
+            if (mChart.needsHighlight(j) && !drawRoundedSlices)
+                continue;
+
+            mRenderPaint.setColor(dataSet.getColor(j));
+
+            mBitmapCanvas.drawPath(path, mRenderPaint);
+        }
+
+        mBitmapCanvas.restoreToCount(save);
+
+        MPPointF.recycleInstance(center);
+    }
+
+    /**
+     * Returns true if the cached slice paths were built for the given DataSet and the current
+     * angles, size and settings of the chart.
+     *
+     * @param dataSet
+     * @param center
+     * @return
+     */
+    private boolean isSliceCacheValid(IPieDataSet dataSet, MPPointF center) {
+
+        final RectF circleBox = mChart.getCircleBox();
+        final float[] geometry = mSliceGeometryBuffer;
+
+        geometry[0] = center.x;
+        geometry[1] = center.y;
+        geometry[2] = mChart.getRadius();
+        geometry[3] = circleBox.width();
+        geometry[4] = mChart.getHoleRadius();
+        geometry[5] = (mChart.isDrawHoleEnabled() ? 1 : 0) + (mChart.isDrawSlicesUnderHoleEnabled() ? 2 : 0)
+                + (mChart.isDrawRoundedSlicesEnabled() ? 4 : 0);
+        geometry[6] = dataSet.getSliceSpace();
+        geometry[7] = mViewPortHandler.getSmallestContentExtension();
+        geometry[8] = mAnimator.getPhaseX();
+        geometry[9] = mAnimator.getPhaseY();
+
+        final int entryCount = dataSet.getEntryCount();
+        final float[] drawAngles = mChart.getDrawAngles();
+
+        final int version = BaseDataSet.getDataSetVersion(dataSet);
+
+        boolean valid = dataSet == mSliceDataSet
+                && version == mSliceDataSetVersion
+                && mSlicePaths.length >= entryCount
+                && Arrays.equals(geometry, mSliceGeometry)
+                && mSliceDrawAngles.length == entryCount;
+
+        for (int j = 0; valid && j < entryCount; j++) {
+            if (Float.compare(drawAngles[j], mSliceDrawAngles[j]) != 0)
+                valid = false;
+        }
+
+        if (valid)
+            return true;
+
+        // remember the state the paths are built for next
+        mSliceGeometryBuffer = mSliceGeometry;
+        mSliceGeometry = geometry;
+
+        if (mSliceDrawAngles.length != entryCount)
+            mSliceDrawAngles = new float[entryCount];
+
+        System.arraycopy(drawAngles, 0, mSliceDrawAngles, 0, entryCount);
+
+        mSliceDataSet = dataSet;
+        mSliceDataSetVersion = version;
+
+        return false;
+    }
+
+    /**
+     * Builds the paths of all slices of the given DataSet for a rotation angle of 0.
+     *
+     * @param dataSet
+     * @param center
+     */
+    protected void buildSlicePaths(IPieDataSet dataSet, MPPointF center) {
+
         float angle = 0;
-        float rotationAngle = mChart.getRotationAngle();
+
+        // the rotation is applied to the canvas when the paths are drawn
+        final float rotationAngle = 0f;
 
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
@@ -224,7 +352,6 @@ public class PieChartRenderer extends DataRenderer {
 
         final int entryCount = dataSet.getEntryCount();
         final float[] drawAngles = mChart.getDrawAngles();
-        final MPPointF center = mChart.getCenterCircleBox();
         final float radius = mChart.getRadius();
         final boolean drawInnerArc = mChart.isDrawHoleEnabled() && !mChart.isDrawSlicesUnderHoleEnabled();
         final float userInnerRadius = drawInnerArc
@@ -234,6 +361,9 @@ public class PieChartRenderer extends DataRenderer {
         final RectF roundedCircleBox = new RectF();
         final boolean drawRoundedSlices = drawInnerArc && mChart.isDrawRoundedSlicesEnabled();
 
+        if (mSlicePaths.length < entryCount)
+            mSlicePaths = Arrays.copyOf(mSlicePaths, entryCount);
+
         int visibleAngleCount = 0;
         for (int j = 0; j < entryCount; j++) {
             // draw only if the value is greater than zero
@@ -253,20 +383,20 @@ public class PieChartRenderer extends DataRenderer {
 
             // draw only if the value is greater than zero
             if (!(Math.abs(e.getY()) > Utils.FLOAT_EPSILON)) {
+                mSlicePaths[j] = null;
                 angle += sliceAngle * phaseX;
                 continue;
             }
 
-            // Don't draw if it's highlighted, unless the chart uses rounded slices
-            if (mChart.needsHighlight(j) && !drawRoundedSlices) {
-                angle += sliceAngle * phaseX;
-                continue;
+            Path path = mSlicePaths[j];
+
+            if (path == null) {
+                path = new Path();
+                mSlicePaths[j] = path;
             }
 
             final boolean accountForSliceSpacing = sliceSpace > 0.f && sliceAngle <= 180.f;
 
-            mRenderPaint.setColor(dataSet.getColor(j));
-
             final float sliceSpaceAngleOuter = visibleAngleCount == 1 ?
                     0.f :
                     sliceSpace / (Utils.FDEG2RAD * radius);
@@ -276,7 +406,7 @@ public class PieChartRenderer extends DataRenderer {
                 sweepAngleOuter = 0.f;
             }
 
-            mPathBuffer.reset();
+            path.reset();
 
             if (drawRoundedSlices) {
                 float x = center.x + (radius - roundedRadius) * (float) Math.cos(startAngleOuter * Utils.FDEG2RAD);
@@ -289,14 +419,14 @@ public class PieChartRenderer extends DataRenderer {
 
             if (sweepAngleOuter >= 360.f && sweepAngleOuter % 360f <= Utils.FLOAT_EPSILON) {
                 // Android is doing "mod 360"
-                mPathBuffer.addCircle(center.x, center.y, radius, Path.Direction.CW);
+                path.addCircle(center.x, center.y, radius, Path.Direction.CW);
             } else {
 
                 if (drawRoundedSlices) {
-                    mPathBuffer.arcTo(roundedCircleBox, startAngleOuter + 180, -180);
+                    path.arcTo(roundedCircleBox, startAngleOuter + 180, -180);
                 }
 
-                mPathBuffer.arcTo(
+                path.arcTo(
                         circleBox,
                         startAngleOuter,
                         sweepAngleOuter
@@ -339,20 +469,20 @@ public class PieChartRenderer extends DataRenderer {
 
                 if (sweepAngleOuter >= 360.f && sweepAngleOuter % 360f <= Utils.FLOAT_EPSILON) {
                     // Android is doing "mod 360"
-                    mPathBuffer.addCircle(center.x, center.y, innerRadius, Path.Direction.CCW);
+                    path.addCircle(center.x, center.y, innerRadius, Path.Direction.CCW);
                 } else {
 
                     if (drawRoundedSlices) {
                         float x = center.x + (radius - roundedRadius) * (float) Math.cos(endAngleInner * Utils.FDEG2RAD);
                         float y = center.y + (radius - roundedRadius) * (float) Math.sin(endAngleInner * Utils.FDEG2RAD);
                         roundedCircleBox.set(x - roundedRadius, y - roundedRadius, x + roundedRadius, y + roundedRadius);
-                        mPathBuffer.arcTo(roundedCircleBox, endAngleInner, 180);
+                        path.arcTo(roundedCircleBox, endAngleInner, 180);
                     } else
-                        mPathBuffer.lineTo(
+                        path.lineTo(
                                 center.x + innerRadius * (float) Math.cos(endAngleInner * Utils.FDEG2RAD),
                                 center.y + innerRadius * (float) Math.sin(endAngleInner * Utils.FDEG2RAD));
 
-                    mPathBuffer.arcTo(
+                    path.arcTo(
                             mInnerRectBuffer,
                             endAngleInner,
                             -sweepAngleInner
@@ -380,12 +510,12 @@ public class PieChartRenderer extends DataRenderer {
                         float arcEndPointY = center.y +
                                 sliceSpaceOffset * (float) Math.sin(angleMiddle * Utils.FDEG2RAD);
 
-                        mPathBuffer.lineTo(
+                        path.lineTo(
                                 arcEndPointX,
                                 arcEndPointY);
 
                     } else {
-                        mPathBuffer.lineTo(
+                        path.lineTo(
                                 center.x,
                                 center.y);
                     }
@@ -393,16 +523,17 @@ public class PieChartRenderer extends DataRenderer {
 
             }
 
-            mPathBuffer.close();
-
-            mBitmapCanvas.drawPath(mPathBuffer, mRenderPaint);
+            path.close();
 
             angle += sliceAngle * phaseX;
         }
-
-        MPPointF.recycleInstance(center);
     }
 
+    /**
+     * buffer for the DataSet the values are drawn for, see PieData.getDisplayDataSet()
+     */
+    private List<IPieDataSet> mDisplayDataSets = new ArrayList<IPieDataSet>(1);
+
     @Override
     public void drawValues(Canvas c) {
 
@@ -433,7 +564,9 @@ public class PieChartRenderer extends DataRenderer {
         final float labelRadius = radius - labelRadiusOffset;
 
         PieData data = mChart.getData();
-        List<IPieDataSet> dataSets = data.getDataSets();
+        List<IPieDataSet> dataSets = mDisplayDataSets;
+        dataSets.clear();
+        dataSets.add(data.getDisplayDataSet());
 
         float yValueSum = data.getYValueSum();
 
@@ -461,7 +594,7 @@ public class PieChartRenderer extends DataRenderer {
             // apply the text-styling defined by the DataSet
             applyValueTextStyle(dataSet);
 
-            float lineHeight = Utils.calcTextHeight(mValuePaint, "Q")
+            float lineHeight = mLabelCache.calcTextHeight(mValuePaint, "Q")
                     + Utils.convertDpToPixel(4f);
 
             ValueFormatter formatter = dataSet.getValueFormatter();
@@ -498,7 +631,7 @@ public class PieChartRenderer extends DataRenderer {
 
                 float value = mChart.isUsePercentValuesEnabled() ? entry.getY()
                         / yValueSum * 100f : entry.getY();
-                String formattedValue = formatter.getPieLabel(value, entry);
+                String formattedValue = mLabelCache.getPieLabel(formatter, value, entry);
                 String entryLabel = entry.getLabel();
 
                 final float sliceXBase = (float) Math.cos(transformedAngle * Utils.FDEG2RAD);
@@ -666,7 +799,10 @@ public class PieChartRenderer extends DataRenderer {
     @Override
     public void drawExtras(Canvas c) {
         drawHole(c);
-        c.drawBitmap(mDrawBitmap.get(), 0, 0, null);
+
+        if (mPooledBitmap != null)
+            c.drawBitmap(mPooledBitmap, 0, 0, null);
+
         drawCenterText(c);
     }
 
@@ -678,7 +814,7 @@ public class PieChartRenderer extends DataRenderer {
      */
     protected void drawHole(Canvas c) {
 
-        if (mChart.isDrawHoleEnabled() && mBitmapCanvas != null) {
+        if (mChart.isDrawHoleEnabled() && mPooledBitmap != null) {
 
             float radius = mChart.getRadius();
             float holeRadius = radius * (mChart.getHoleRadius() / 100);
@@ -824,9 +960,9 @@ public class PieChartRenderer extends DataRenderer {
             if (index >= drawAngles.length)
                 continue;
 
-            IPieDataSet set = mChart.getData()
-                    .getDataSetByIndex(indices[i]
-                            .getDataSetIndex());
+            IPieDataSet set = indices[i].getDataSetIndex() == 0
+                    ? mChart.getData().getDisplayDataSet()
+                    : null;
 
             if (set == null || !set.isHighlightEnabled())
                 continue;
@@ -998,7 +1134,7 @@ public class PieChartRenderer extends DataRenderer {
         if (!mChart.isDrawRoundedSlicesEnabled())
             return;
 
-        IPieDataSet dataSet = mChart.getData().getDataSet();
+        IPieDataSet dataSet = mChart.getData().getDisplayDataSet();
 
         if (!dataSet.isVisible())
             return;
@@ -1041,18 +1177,18 @@ public class PieChartRenderer extends DataRenderer {
     }
 
     /**
-     * Releases the drawing bitmap. This should be called when {@link LineChart#onDetachedFromWindow()}.
+     * Returns the drawing bitmap to the shared BitmapPool. This should be
+     * called when {@link LineChart#onDetachedFromWindow()}.
      */
     public void releaseBitmap() {
-        if (mBitmapCanvas != null) {
-            mBitmapCanvas.setBitmap(null);
-            mBitmapCanvas = null;
+        mBitmapCanvas.setBitmap(null);
+
+        if (mPooledBitmap != null) {
+            BitmapPool.getShared().release(mPooledBitmap);
+            mPooledBitmap = null;
         }
+
         if (mDrawBitmap != null) {
-            Bitmap drawBitmap = mDrawBitmap.get();
-            if (drawBitmap != null) {
-                drawBitmap.recycle();
-            }
             mDrawBitmap.clear();
             mDrawBitmap = null;
         }
@@ -1,5 +1,6 @@
 package com.github.mikephil.charting.renderer;
 
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
@@ -8,16 +9,22 @@ import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.charts.RadarChart;
+import com.github.mikephil.charting.components.XAxis;
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.BaseDataSet;
 import com.github.mikephil.charting.data.RadarData;
 import com.github.mikephil.charting.data.RadarEntry;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IRadarDataSet;
+import com.github.mikephil.charting.utils.BitmapPool;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.Arrays;
+
 public class RadarChartRenderer extends LineRadarRenderer {
 
     protected RadarChart mChart;
@@ -28,6 +35,60 @@ public class RadarChartRenderer extends LineRadarRenderer {
     protected Paint mWebPaint;
     protected Paint mHighlightCirclePaint;
 
+    /**
+     * bitmap holding the labels of the x-axis and the web, checked out of the shared
+     * BitmapPool and kept between frames, null if the layer is not built
+     */
+    protected Bitmap mWebBitmap;
+
+    /**
+     * canvas drawing into the mWebBitmap while the layer is rebuilt
+     */
+    protected Canvas mWebBitmapCanvas = new Canvas();
+
+    /**
+     * the bitmap configuration to be used
+     */
+    protected Bitmap.Config mBitmapConfig = Bitmap.Config.ARGB_8888;
+
+    private boolean mWebCacheEnabled = false;
+
+    /**
+     * the state of the chart the web layer was built for, see isWebLayerValid(...)
+     */
+    private float[] mWebGeometry = new float[0];
+    private float[] mWebGeometryBuffer = new float[0];
+    private int[] mWebStyle = new int[10];
+    private int[] mWebStyleBuffer = new int[10];
+    private Object mWebTypeface;
+    private Object mWebFormatter;
+
+    /**
+     * cosine and sine of the angle of each axis of the web
+     */
+    private double[] mWebCos = new double[0];
+    private double[] mWebSin = new double[0];
+
+    /**
+     * line buffer for drawing the web
+     */
+    private float[] mWebLineBuffer = new float[0];
+
+    /**
+     * the surface of each RadarDataSet, rebuilt only if the DataSet or the geometry changed
+     */
+    protected Path[] mSurfacePaths = new Path[0];
+    private IRadarDataSet[] mSurfaceDataSets = new IRadarDataSet[0];
+    private int[] mSurfaceVersions = new int[0];
+    private float[] mSurfaceGeometry = new float[9];
+    private float[] mSurfaceGeometryBuffer = new float[9];
+
+    /**
+     * cosine and sine of the angle of each entry index, for the current geometry
+     */
+    private double[] mSurfaceCos = new double[0];
+    private double[] mSurfaceSin = new double[0];
+
     public RadarChartRenderer(RadarChart chart, ChartAnimator animator,
                               ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -60,60 +121,131 @@ public class RadarChartRenderer extends LineRadarRenderer {
         RadarData radarData = mChart.getData();
 
         int mostEntries = radarData.getMaxEntryCountSet().getEntryCount();
+        int dataSetCount = radarData.getDataSetCount();
+
+        MPPointF center = mChart.getCenterOffsets();
+
+        prepareSurfaces(center, dataSetCount, mostEntries);
+
+        for (int i = 0; i < dataSetCount; i++) {
+
+            IRadarDataSet set = radarData.getDataSetByIndex(i);
 
-        for (IRadarDataSet set : radarData.getDataSets()) {
+            if (!set.isVisible())
+                continue;
+
+            Path surface = mSurfacePaths[i];
+
+            final int version = BaseDataSet.getDataSetVersion(set);
 
-            if (set.isVisible()) {
-                drawDataSet(c, set, mostEntries);
+            // only the DataSets that changed since the last frame are traced again
+            if (mSurfaceDataSets[i] != set || mSurfaceVersions[i] != version) {
+
+                buildSurface(surface, set, center, mostEntries);
+
+                mSurfaceDataSets[i] = set;
+                mSurfaceVersions[i] = version;
             }
+
+            drawSurface(c, set, surface);
         }
+
+        MPPointF.recycleInstance(center);
     }
 
-    protected Path mDrawDataSetSurfacePathBuffer = new Path();
     /**
-     * Draws the RadarDataSet
+     * Makes sure there is a surface path for each DataSet, and drops all surfaces if the
+     * geometry of the chart or the animation phases changed since the last frame.
      *
-     * @param c
-     * @param dataSet
-     * @param mostEntries the entry count of the dataset with the most entries
+     * @param center
+     * @param dataSetCount
+     * @param mostEntries
      */
-    protected void drawDataSet(Canvas c, IRadarDataSet dataSet, int mostEntries) {
+    private void prepareSurfaces(MPPointF center, int dataSetCount, int mostEntries) {
 
-        float phaseX = mAnimator.getPhaseX();
-        float phaseY = mAnimator.getPhaseY();
+        if (mSurfacePaths.length < dataSetCount) {
 
-        float sliceangle = mChart.getSliceAngle();
+            final int oldLength = mSurfacePaths.length;
 
-        // calculate the factor that is needed for transforming the value to
-        // pixels
-        float factor = mChart.getFactor();
+            mSurfacePaths = Arrays.copyOf(mSurfacePaths, dataSetCount);
+            mSurfaceDataSets = Arrays.copyOf(mSurfaceDataSets, dataSetCount);
+            mSurfaceVersions = Arrays.copyOf(mSurfaceVersions, dataSetCount);
+
+            for (int i = oldLength; i < dataSetCount; i++)
+                mSurfacePaths[i] = new Path();
+        }
+
+        final float phaseX = mAnimator.getPhaseX();
+        final float sliceangle = mChart.getSliceAngle();
+        final float rotationangle = mChart.getRotationAngle();
+
+        final float[] geometry = mSurfaceGeometryBuffer;
+
+        geometry[0] = center.x;
+        geometry[1] = center.y;
+        geometry[2] = mChart.getFactor();
+        geometry[3] = mChart.getYChartMin();
+        geometry[4] = sliceangle;
+        geometry[5] = rotationangle;
+        geometry[6] = mostEntries;
+        geometry[7] = phaseX;
+        geometry[8] = mAnimator.getPhaseY();
+
+        if (Arrays.equals(geometry, mSurfaceGeometry))
+            return;
+
+        mSurfaceGeometryBuffer = mSurfaceGeometry;
+        mSurfaceGeometry = geometry;
+
+        Arrays.fill(mSurfaceDataSets, null);
+
+        if (mSurfaceCos.length < mostEntries) {
+            mSurfaceCos = new double[mostEntries];
+            mSurfaceSin = new double[mostEntries];
+        }
+
+        for (int j = 0; j < mostEntries; j++) {
+
+            final double angle = Math.toRadians(sliceangle * j * phaseX + rotationangle);
+
+            mSurfaceCos[j] = Math.cos(angle);
+            mSurfaceSin[j] = Math.sin(angle);
+        }
+    }
+
+    /**
+     * Traces the surface of the given DataSet into the given path, using the angles computed
+     * by prepareSurfaces(...).
+     *
+     * @param surface
+     * @param dataSet
+     * @param center
+     * @param mostEntries
+     */
+    private void buildSurface(Path surface, IRadarDataSet dataSet, MPPointF center, int mostEntries) {
+
+        final float factor = mChart.getFactor() * mAnimator.getPhaseY();
+        final float yChartMin = mChart.getYChartMin();
 
-        MPPointF center = mChart.getCenterOffsets();
-        MPPointF pOut = MPPointF.getInstance(0,0);
-        Path surface = mDrawDataSetSurfacePathBuffer;
         surface.reset();
 
         boolean hasMovedToPoint = false;
 
         for (int j = 0; j < dataSet.getEntryCount(); j++) {
 
-            mRenderPaint.setColor(dataSet.getColor(j));
-
-            RadarEntry e = dataSet.getEntryForIndex(j);
+            final float dist = (dataSet.getEntryForIndex(j).getY() - yChartMin) * factor;
 
-            Utils.getPosition(
-                    center,
-                    (e.getY() - mChart.getYChartMin()) * factor * phaseY,
-                    sliceangle * j * phaseX + mChart.getRotationAngle(), pOut);
+            final float x = (float) (center.x + dist * mSurfaceCos[j]);
+            final float y = (float) (center.y + dist * mSurfaceSin[j]);
 
-            if (Float.isNaN(pOut.x))
+            if (Float.isNaN(x))
                 continue;
 
             if (!hasMovedToPoint) {
-                surface.moveTo(pOut.x, pOut.y);
+                surface.moveTo(x, y);
                 hasMovedToPoint = true;
             } else
-                surface.lineTo(pOut.x, pOut.y);
+                surface.lineTo(x, y);
         }
 
         if (dataSet.getEntryCount() > mostEntries) {
@@ -122,6 +254,38 @@ public class RadarChartRenderer extends LineRadarRenderer {
         }
 
         surface.close();
+    }
+
+    protected Path mDrawDataSetSurfacePathBuffer = new Path();
+    /**
+     * Draws the RadarDataSet
+     *
+     * @param c
+     * @param dataSet
+     * @param mostEntries the entry count of the dataset with the most entries
+     */
+    protected void drawDataSet(Canvas c, IRadarDataSet dataSet, int mostEntries) {
+
+        MPPointF center = mChart.getCenterOffsets();
+
+        prepareSurfaces(center, mChart.getData().getDataSetCount(), mostEntries);
+        buildSurface(mDrawDataSetSurfacePathBuffer, dataSet, center, mostEntries);
+        drawSurface(c, dataSet, mDrawDataSetSurfacePathBuffer);
+
+        MPPointF.recycleInstance(center);
+    }
+
+    /**
+     * Fills and strokes the surface of the given DataSet.
+     *
+     * @param c
+     * @param dataSet
+     * @param surface
+     */
+    protected void drawSurface(Canvas c, IRadarDataSet dataSet, Path surface) {
+
+        if (dataSet.getEntryCount() > 0)
+            mRenderPaint.setColor(dataSet.getColor(dataSet.getEntryCount() - 1));
 
         if (dataSet.isDrawFilledEnabled()) {
 
@@ -141,9 +305,6 @@ public class RadarChartRenderer extends LineRadarRenderer {
         // draw the line (only if filled is disabled or alpha is below 255)
         if (!dataSet.isDrawFilledEnabled() || dataSet.getFillAlpha() < 255)
             c.drawPath(surface, mRenderPaint);
-
-        MPPointF.recycleInstance(center);
-        MPPointF.recycleInstance(pOut);
     }
 
     @Override
@@ -191,7 +352,10 @@ public class RadarChartRenderer extends LineRadarRenderer {
                          pOut);
 
                 if (dataSet.isDrawValuesEnabled()) {
-                    drawValue(c, formatter.getRadarLabel(entry), pOut.x, pOut.y - yoffset, dataSet.getValueTextColor(j));
+                    final int color = dataSet.getValueTextColor(j);
+
+                    if (!drawFormattedValue(c, formatter, entry.getY(), pOut.x, pOut.y - yoffset, color))
+                        drawValue(c, mLabelCache.getRadarLabel(formatter, entry), pOut.x, pOut.y - yoffset, color);
                 }
 
                 if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -236,6 +400,202 @@ public class RadarChartRenderer extends LineRadarRenderer {
         drawWeb(c);
     }
 
+    /**
+     * Draws the labels of the x-axis with the given renderer and, if enabled, the web. Both
+     * only depend on the size, the rotation and the axes of the chart, so they are drawn into
+     * a retained bitmap that is only redrawn when one of these changed, and every other frame
+     * just draws the bitmap. RadarChart.notifyDataSetChanged() invalidates the bitmap, call
+     * invalidateWeb() if the labels change in any other way (e.g. a ValueFormatter whose output
+     * changes). Only if enabled with setWebCacheEnabled(...).
+     *
+     * @param c
+     * @param xAxisRenderer
+     * @param drawWeb
+     */
+    public void drawWebLayer(Canvas c, XAxisRenderer xAxisRenderer, boolean drawWeb) {
+
+        final XAxis xAxis = mChart.getXAxis();
+
+        // nothing to draw, no need for a bitmap
+        if (!drawWeb && !(xAxis.isEnabled() && xAxis.isDrawLabelsEnabled()))
+            return;
+
+        if (!mWebCacheEnabled) {
+
+            xAxisRenderer.renderAxisLabels(c);
+
+            if (drawWeb)
+                drawWeb(c);
+            return;
+        }
+
+        final int width = (int) mViewPortHandler.getChartWidth();
+        final int height = (int) mViewPortHandler.getChartHeight();
+
+        if (width <= 0 || height <= 0)
+            return;
+
+        if (!isWebLayerValid(width, height, drawWeb)) {
+
+            if (mWebBitmap == null
+                    || mWebBitmap.getWidth() != width
+                    || mWebBitmap.getHeight() != height
+                    || mWebBitmap.getConfig() != mBitmapConfig) {
+
+                releaseBitmap();
+                mWebBitmap = BitmapPool.getShared().acquire(width, height, mBitmapConfig);
+            } else {
+                mWebBitmap.eraseColor(Color.TRANSPARENT);
+            }
+
+            mWebBitmapCanvas.setBitmap(mWebBitmap);
+
+            xAxisRenderer.renderAxisLabels(mWebBitmapCanvas);
+
+            if (drawWeb)
+                drawWeb(mWebBitmapCanvas);
+
+            mWebBitmapCanvas.setBitmap(null);
+        }
+
+        c.drawBitmap(mWebBitmap, 0, 0, null);
+    }
+
+    /**
+     * Returns true if the web layer was built for the current size, rotation, axes and web
+     * settings of the chart. If not, the current state is remembered for the rebuild.
+     *
+     * @param width
+     * @param height
+     * @param drawWeb
+     * @return
+     */
+    private boolean isWebLayerValid(int width, int height, boolean drawWeb) {
+
+        final XAxis xAxis = mChart.getXAxis();
+        final YAxis yAxis = mChart.getYAxis();
+
+        final int yEntryCount = yAxis.mEntryCount;
+
+        MPPointF center = mChart.getCenterOffsets();
+
+        float[] geometry = mWebGeometryBuffer;
+
+        if (geometry.length != 13 + yEntryCount)
+            geometry = new float[13 + yEntryCount];
+
+        geometry[0] = center.x;
+        geometry[1] = center.y;
+        geometry[2] = mChart.getFactor();
+        geometry[3] = mChart.getYChartMin();
+        geometry[4] = mChart.getYRange();
+        geometry[5] = mChart.getSliceAngle();
+        geometry[6] = mChart.getRotationAngle();
+        geometry[7] = mChart.getWebLineWidth();
+        geometry[8] = mChart.getWebLineWidthInner();
+        geometry[9] = xAxis.getTextSize();
+        geometry[10] = xAxis.getLabelRotationAngle();
+        geometry[11] = xAxis.mLabelRotatedWidth;
+        geometry[12] = xAxis.mLabelRotatedHeight;
+
+        System.arraycopy(yAxis.mEntries, 0, geometry, 13, yEntryCount);
+
+        MPPointF.recycleInstance(center);
+
+        final int[] style = mWebStyleBuffer;
+
+        style[0] = width;
+        style[1] = height;
+        style[2] = mChart.getData().getMaxEntryCountSet().getEntryCount();
+        style[3] = mChart.getSkipWebLineCount();
+        style[4] = (drawWeb ? 1 : 0) + (xAxis.isEnabled() ? 2 : 0) + (xAxis.isDrawLabelsEnabled() ? 4 : 0);
+        style[5] = mChart.getWebColor();
+        style[6] = mChart.getWebColorInner();
+        style[7] = mChart.getWebAlpha();
+        style[8] = xAxis.getTextColor();
+        style[9] = yEntryCount;
+
+        final boolean valid = mWebBitmap != null
+                && xAxis.getTypeface() == mWebTypeface
+                && xAxis.getValueFormatter() == mWebFormatter
+                && Arrays.equals(style, mWebStyle)
+                && Arrays.equals(geometry, mWebGeometry);
+
+        if (valid) {
+            mWebGeometryBuffer = geometry;
+            return true;
+        }
+
+        mWebGeometryBuffer = mWebGeometry;
+        mWebGeometry = geometry;
+        mWebStyleBuffer = mWebStyle;
+        mWebStyle = style;
+        mWebTypeface = xAxis.getTypeface();
+        mWebFormatter = xAxis.getValueFormatter();
+
+        return false;
+    }
+
+    /**
+     * Forces the web layer to be redrawn with the next frame.
+     */
+    public void invalidateWeb() {
+        mWebGeometry = new float[0];
+    }
+
+    /**
+     * If set to true, the labels of the x-axis and the web are drawn into a retained bitmap
+     * that is only redrawn if the size, the rotation, the axes or the data of the chart
+     * change, see drawWebLayer(...). Costs a bitmap of the size of the chart.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setWebCacheEnabled(boolean enabled) {
+        mWebCacheEnabled = enabled;
+
+        if (!enabled)
+            releaseBitmap();
+    }
+
+    public boolean isWebCacheEnabled() {
+        return mWebCacheEnabled;
+    }
+
+    /**
+     * Sets the Bitmap.Config to be used for the web layer.
+     * Default: Bitmap.Config.ARGB_8888
+     * Use Bitmap.Config.ARGB_4444 to consume less memory.
+     *
+     * @param config
+     */
+    public void setBitmapConfig(Bitmap.Config config) {
+        mBitmapConfig = config;
+        releaseBitmap();
+    }
+
+    /**
+     * Returns the Bitmap.Config that is used for the web layer.
+     *
+     * @return
+     */
+    public Bitmap.Config getBitmapConfig() {
+        return mBitmapConfig;
+    }
+
+    /**
+     * Returns the bitmap of the web layer to the shared BitmapPool. This should be called when
+     * {@link RadarChart#onDetachedFromWindow()}.
+     */
+    public void releaseBitmap() {
+        mWebBitmapCanvas.setBitmap(null);
+
+        if (mWebBitmap != null) {
+            BitmapPool.getShared().release(mWebBitmap);
+            mWebBitmap = null;
+        }
+    }
+
     protected void drawWeb(Canvas c) {
 
         float sliceangle = mChart.getSliceAngle();
@@ -247,52 +607,74 @@ public class RadarChartRenderer extends LineRadarRenderer {
 
         MPPointF center = mChart.getCenterOffsets();
 
+        final int maxEntryCount = mChart.getData().getMaxEntryCountSet().getEntryCount();
+
+        // the angles of the axes are shared by the lines from the center and the inner-web
+        if (mWebCos.length < maxEntryCount) {
+            mWebCos = new double[maxEntryCount];
+            mWebSin = new double[maxEntryCount];
+        }
+
+        for (int i = 0; i < maxEntryCount; i++) {
+
+            final double angle = Math.toRadians(sliceangle * i + rotationangle);
+
+            mWebCos[i] = Math.cos(angle);
+            mWebSin[i] = Math.sin(angle);
+        }
+
+        final int labelCount = mChart.getYAxis().mEntryCount;
+
+        if (mWebLineBuffer.length < Math.max(1, labelCount) * maxEntryCount * 4)
+            mWebLineBuffer = new float[Math.max(1, labelCount) * maxEntryCount * 4];
+
+        final float[] lines = mWebLineBuffer;
+
         // draw the web lines that come from the center
         mWebPaint.setStrokeWidth(mChart.getWebLineWidth());
         mWebPaint.setColor(mChart.getWebColor());
         mWebPaint.setAlpha(mChart.getWebAlpha());
 
         final int xIncrements = 1 + mChart.getSkipWebLineCount();
-        int maxEntryCount = mChart.getData().getMaxEntryCountSet().getEntryCount();
+        final float outer = mChart.getYRange() * factor;
 
-        MPPointF p = MPPointF.getInstance(0,0);
-        for (int i = 0; i < maxEntryCount; i += xIncrements) {
+        int count = 0;
 
-            Utils.getPosition(
-                    center,
-                    mChart.getYRange() * factor,
-                    sliceangle * i + rotationangle,
-                    p);
+        for (int i = 0; i < maxEntryCount; i += xIncrements) {
 
-            c.drawLine(center.x, center.y, p.x, p.y, mWebPaint);
+            lines[count++] = center.x;
+            lines[count++] = center.y;
+            lines[count++] = (float) (center.x + outer * mWebCos[i]);
+            lines[count++] = (float) (center.y + outer * mWebSin[i]);
         }
-        MPPointF.recycleInstance(p);
+
+        c.drawLines(lines, 0, count, mWebPaint);
 
         // draw the inner-web
         mWebPaint.setStrokeWidth(mChart.getWebLineWidthInner());
         mWebPaint.setColor(mChart.getWebColorInner());
         mWebPaint.setAlpha(mChart.getWebAlpha());
 
-        int labelCount = mChart.getYAxis().mEntryCount;
+        count = 0;
 
-        MPPointF p1out = MPPointF.getInstance(0,0);
-        MPPointF p2out = MPPointF.getInstance(0,0);
         for (int j = 0; j < labelCount; j++) {
 
-            for (int i = 0; i < mChart.getData().getEntryCount(); i++) {
-
-                float r = (mChart.getYAxis().mEntries[j] - mChart.getYChartMin()) * factor;
-
-                Utils.getPosition(center, r, sliceangle * i + rotationangle, p1out);
-                Utils.getPosition(center, r, sliceangle * (i + 1) + rotationangle, p2out);
+            float r = (mChart.getYAxis().mEntries[j] - mChart.getYChartMin()) * factor;
 
-                c.drawLine(p1out.x, p1out.y, p2out.x, p2out.y, mWebPaint);
+            for (int i = 0; i < maxEntryCount; i++) {
 
+                final int next = i + 1 < maxEntryCount ? i + 1 : 0;
 
+                lines[count++] = (float) (center.x + r * mWebCos[i]);
+                lines[count++] = (float) (center.y + r * mWebSin[i]);
+                lines[count++] = (float) (center.x + r * mWebCos[next]);
+                lines[count++] = (float) (center.y + r * mWebSin[next]);
             }
         }
-        MPPointF.recycleInstance(p1out);
-        MPPointF.recycleInstance(p2out);
+
+        c.drawLines(lines, 0, count, mWebPaint);
+
+        MPPointF.recycleInstance(center);
     }
 
     @Override
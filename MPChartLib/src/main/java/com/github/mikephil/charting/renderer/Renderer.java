@@ -1,6 +1,7 @@
 
 package com.github.mikephil.charting.renderer;
 
+import com.github.mikephil.charting.utils.LabelCache;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 /**
@@ -15,6 +16,11 @@ public abstract class Renderer {
      */
     protected ViewPortHandler mViewPortHandler;
 
+    /**
+     * cache of the formatted labels and text measurements, shared by all renderers
+     */
+    protected LabelCache mLabelCache = LabelCache.getShared();
+
     public Renderer(ViewPortHandler viewPortHandler) {
         this.mViewPortHandler = viewPortHandler;
     }
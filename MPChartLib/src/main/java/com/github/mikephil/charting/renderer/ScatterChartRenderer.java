@@ -1,5 +1,6 @@
 package com.github.mikephil.charting.renderer;
 
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.drawable.Drawable;
 import android.util.Log;
@@ -10,8 +11,12 @@ import com.github.mikephil.charting.data.ScatterData;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.renderer.scatter.IBatchShapeRenderer;
 import com.github.mikephil.charting.renderer.scatter.IShapeRenderer;
+import com.github.mikephil.charting.utils.DataSetCaches;
+import com.github.mikephil.charting.utils.GeometryCache;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
@@ -29,8 +34,31 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
         mChart = chart;
     }
 
+    /**
+     * DataSets with more colors than this are not drawn with sprites
+     */
+    private static final int MAX_SPRITE_COLORS = 64;
+
+    /**
+     * buffer collecting the visible positions of the same color for an IBatchShapeRenderer
+     */
+    protected float[] mBatchBuffer = new float[0];
+
+    private DataSetCaches<ShapeSpriteCache> mSpriteCaches = new DataSetCaches<>();
+
     @Override
     public void initBuffers() {
+        mGeometryCaches.clear();
+        mSpriteCaches.clear();
+    }
+
+    @Override
+    public void releaseUnusedBuffers() {
+
+        final ScatterData scatterData = mChart.getScatterData();
+
+        mGeometryCaches.retain(scatterData);
+        mSpriteCaches.retain(scatterData);
     }
 
     @Override
@@ -56,8 +84,6 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
         Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
-        float phaseY = mAnimator.getPhaseY();
-
         IShapeRenderer renderer = dataSet.getShapeRenderer();
         if (renderer == null) {
             Log.i("MISSING", "There's no IShapeRenderer specified for ScatterDataSet");
@@ -68,14 +94,32 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                 Math.ceil((float)dataSet.getEntryCount() * mAnimator.getPhaseX()),
                 (float)dataSet.getEntryCount()));
 
-        for (int i = 0; i < max; i++) {
+        // entries outside of the visible x-range are not drawn anyway
+        mXBounds.set(mChart, dataSet);
+
+        final int from = mXBounds.min;
+        final int to = Math.min(mXBounds.max, max - 1);
 
-            Entry e = dataSet.getEntryForIndex(i);
+        if (to < from)
+            return;
+
+        // the pixel positions are only recalculated on zoom or data changes
+        final GeometryCache geometry = getGeometryCache(dataSet, trans, from, to);
+
+        if (dataSet.isShapeSpriteCacheEnabled() && dataSet.getColors().size() <= MAX_SPRITE_COLORS) {
+            drawSprites(c, dataSet, renderer, geometry, from, to);
+            return;
+        }
 
-            mPixelBuffer[0] = e.getX();
-            mPixelBuffer[1] = e.getY() * phaseY;
+        if (renderer instanceof IBatchShapeRenderer) {
+            drawBatched(c, dataSet, (IBatchShapeRenderer) renderer, geometry, from, to);
+            return;
+        }
+
+        for (int i = from; i <= to; i++) {
 
-            trans.pointValuesToPixel(mPixelBuffer);
+            mPixelBuffer[0] = geometry.getX(i);
+            mPixelBuffer[1] = geometry.getY(i);
 
             if (!viewPortHandler.isInBoundsRight(mPixelBuffer[0]))
                 break;
@@ -92,6 +136,104 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
         }
     }
 
+    /**
+     * Collects the visible positions between from and to (inclusive), and hands each run of
+     * positions with the same color to the renderer at once.
+     *
+     * @param c
+     * @param dataSet
+     * @param renderer
+     * @param geometry
+     * @param from
+     * @param to
+     */
+    protected void drawBatched(Canvas c, IScatterDataSet dataSet, IBatchShapeRenderer renderer,
+                               GeometryCache geometry, int from, int to) {
+
+        if (mBatchBuffer.length < (to - from + 1) * 2)
+            mBatchBuffer = new float[(to - from + 1) * 2];
+
+        final float[] positions = mBatchBuffer;
+
+        int count = 0;
+        int color = 0;
+
+        for (int i = from; i <= to; i++) {
+
+            final float x = geometry.getX(i);
+            final float y = geometry.getY(i);
+
+            if (!mViewPortHandler.isInBoundsRight(x))
+                break;
+
+            if (!mViewPortHandler.isInBoundsLeft(x) || !mViewPortHandler.isInBoundsY(y))
+                continue;
+
+            final int entryColor = dataSet.getColor(i / 2);
+
+            // a change of color ends the run, the shapes are still drawn in order
+            if (count > 0 && entryColor != color) {
+                mRenderPaint.setColor(color);
+                renderer.renderShapes(c, dataSet, mViewPortHandler, positions, count, mRenderPaint);
+                count = 0;
+            }
+
+            color = entryColor;
+            positions[count++] = x;
+            positions[count++] = y;
+        }
+
+        if (count > 0) {
+            mRenderPaint.setColor(color);
+            renderer.renderShapes(c, dataSet, mViewPortHandler, positions, count, mRenderPaint);
+        }
+    }
+
+    /**
+     * Draws the visible entries between from and to (inclusive) by stamping the pre-rasterized
+     * shape of their color, see ScatterDataSet.setShapeSpriteCacheEnabled(...).
+     *
+     * @param c
+     * @param dataSet
+     * @param renderer
+     * @param geometry
+     * @param from
+     * @param to
+     */
+    protected void drawSprites(Canvas c, IScatterDataSet dataSet, IShapeRenderer renderer,
+                               GeometryCache geometry, int from, int to) {
+
+        ShapeSpriteCache cache = mSpriteCaches.get(dataSet);
+
+        if (cache == null) {
+            cache = new ShapeSpriteCache();
+            mSpriteCaches.put(dataSet, cache);
+        }
+
+        cache.update(dataSet, renderer);
+
+        if (cache.mSprites.length == 0)
+            return;
+
+        for (int i = from; i <= to; i++) {
+
+            final float x = geometry.getX(i);
+            final float y = geometry.getY(i);
+
+            if (!mViewPortHandler.isInBoundsRight(x))
+                break;
+
+            if (!mViewPortHandler.isInBoundsLeft(x) || !mViewPortHandler.isInBoundsY(y))
+                continue;
+
+            final int index = (i / 2) % cache.mSprites.length;
+            final Bitmap sprite = cache.mSprites[index];
+
+            if (sprite != null)
+                c.drawBitmap(sprite, Math.round(x) + cache.mLeft[index], Math.round(y) + cache.mTop[index], null);
+        }
+    }
+
     @Override
     public void drawValues(Canvas c) {
 
@@ -137,7 +279,10 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                     Entry entry = dataSet.getEntryForIndex(j / 2 + mXBounds.min);
 
                     if (dataSet.isDrawValuesEnabled()) {
-                        drawValue(c, formatter.getPointLabel(entry), positions[j], positions[j + 1] - shapeSize, dataSet.getValueTextColor(j / 2 + mXBounds.min));
+                        final int color = dataSet.getValueTextColor(j / 2 + mXBounds.min);
+
+                        if (!drawFormattedValue(c, formatter, entry.getY(), positions[j], positions[j + 1] - shapeSize, color))
+                            drawValue(c, mLabelCache.getPointLabel(formatter, entry), positions[j], positions[j + 1] - shapeSize, color);
                     }
 
                     if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -195,4 +340,109 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
             drawHighlightLines(c, (float) pix.x, (float) pix.y, set);
         }
     }
+
+    /**
+     * The shape of a DataSet rasterized once for each of its colors, and the settings the
+     * sprites were drawn with.
+     */
+    private class ShapeSpriteCache {
+
+        private Bitmap[] mSprites = new Bitmap[0];
+
+        /**
+         * offsets of the top left corner of each sprite from the position of the shape
+         */
+        private int[] mLeft = new int[0];
+        private int[] mTop = new int[0];
+
+        private IShapeRenderer mShapeRenderer;
+        private float mShapeSize;
+        private float mHoleRadius;
+        private int mHoleColor;
+        private int[] mColors = new int[0];
+
+        /**
+         * Draws the sprites again if the shape, size, hole or colors of the DataSet changed.
+         *
+         * @param set
+         * @param renderer
+         */
+        protected void update(IScatterDataSet set, IShapeRenderer renderer) {
+
+            final List<Integer> colors = set.getColors();
+
+            boolean valid = renderer == mShapeRenderer
+                    && set.getScatterShapeSize() == mShapeSize
+                    && set.getScatterShapeHoleRadius() == mHoleRadius
+                    && set.getScatterShapeHoleColor() == mHoleColor
+                    && colors.size() == mColors.length;
+
+            for (int i = 0; valid && i < mColors.length; i++) {
+                if (colors.get(i) != mColors[i])
+                    valid = false;
+            }
+
+            if (valid)
+                return;
+
+            mShapeRenderer = renderer;
+            mShapeSize = set.getScatterShapeSize();
+            mHoleRadius = set.getScatterShapeHoleRadius();
+            mHoleColor = set.getScatterShapeHoleColor();
+
+            final int colorCount = colors.size();
+
+            mColors = new int[colorCount];
+            mSprites = new Bitmap[colorCount];
+            mLeft = new int[colorCount];
+            mTop = new int[colorCount];
+
+            // the shapes reach up to their size away from the position (e.g. chevrons), plus
+            // the width of their lines
+            final int half = (int) Math.ceil(Math.max(0f, mShapeSize) + Utils.convertDpToPixel(1f)) + 1;
+            final int side = half * 2;
+
+            final int[] pixels = new int[side * side];
+
+            for (int i = 0; i < colorCount; i++) {
+
+                mColors[i] = colors.get(i);
+
+                Bitmap full = Bitmap.createBitmap(side, side, Bitmap.Config.ARGB_8888);
+
+                mRenderPaint.setColor(mColors[i]);
+                renderer.renderShape(new Canvas(full), set, mViewPortHandler, half, half, mRenderPaint);
+
+                // crop the sprite to the pixels the shape covers
+                full.getPixels(pixels, 0, side, 0, 0, side, side);
+
+                int left = side, top = side, right = -1, bottom = -1;
+
+                for (int y = 0; y < side; y++) {
+                    for (int x = 0; x < side; x++) {
+
+                        if (pixels[y * side + x] >>> 24 == 0)
+                            continue;
+
+                        left = Math.min(left, x);
+                        right = Math.max(right, x);
+                        top = Math.min(top, y);
+                        bottom = Math.max(bottom, y);
+                    }
+                }
+
+                if (right < 0) {
+                    full.recycle();
+                    continue;
+                }
+
+                mSprites[i] = Bitmap.createBitmap(full, left, top, right - left + 1, bottom - top + 1);
+                mLeft[i] = left - half;
+                mTop[i] = top - half;
+
+                if (mSprites[i] != full)
+                    full.recycle();
+            }
+        }
+    }
 }
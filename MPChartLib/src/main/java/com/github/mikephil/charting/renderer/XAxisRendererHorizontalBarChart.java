@@ -65,7 +65,7 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
 
         String longest = mXAxis.getLongestLabel();
 
-        final FSize labelSize = Utils.calcTextSize(mAxisLabelPaint, longest);
+        final FSize labelSize = mLabelCache.calcTextSize(mAxisLabelPaint, longest);
 
         final float labelWidth = (int)(labelSize.width + mXAxis.getXOffset() * 3.5f);
         final float labelHeight = labelSize.height;
@@ -155,7 +155,7 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
 
             if (mViewPortHandler.isInBoundsY(y)) {
 
-                String label = mXAxis.getValueFormatter().getAxisLabel(mXAxis.mEntries[i / 2], mXAxis);
+                String label = mLabelCache.getAxisLabel(mXAxis.getValueFormatter(), mXAxis.mEntries[i / 2], mXAxis);
                 drawLabel(c, label, pos, y, anchor, labelRotationAngleDegrees);
             }
         }
@@ -267,7 +267,7 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
 				mLimitLinePaint.setStrokeWidth(0.5f);
 				mLimitLinePaint.setTextSize(l.getTextSize());
 
-                final float labelLineHeight = Utils.calcTextHeight(mLimitLinePaint, label);
+                final float labelLineHeight = mLabelCache.calcTextHeight(mLimitLinePaint, label);
                 float xOffset = Utils.convertDpToPixel(4f) + l.getXOffset();
                 float yOffset = l.getLineWidth() + labelLineHeight + l.getYOffset();
 
@@ -77,7 +77,7 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
         mAxisLabelPaint.setTextAlign(Align.CENTER);
 
         float baseYOffset = Utils.convertDpToPixel(2.5f);
-        float textHeight = Utils.calcTextHeight(mAxisLabelPaint, "Q");
+        float textHeight = mLabelCache.calcTextHeight(mAxisLabelPaint, "Q");
 
         AxisDependency dependency = mYAxis.getAxisDependency();
         YAxisLabelPosition labelPosition = mYAxis.getLabelPosition();
@@ -285,7 +285,7 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
 
                 if (position == LimitLine.LimitLabelPosition.RIGHT_TOP) {
 
-                    final float labelLineHeight = Utils.calcTextHeight(mLimitLinePaint, label);
+                    final float labelLineHeight = mLabelCache.calcTextHeight(mLimitLinePaint, label);
                     mLimitLinePaint.setTextAlign(Align.LEFT);
                     c.drawText(label, pts[0] + xOffset, mViewPortHandler.contentTop() + yOffset + labelLineHeight, mLimitLinePaint);
                 } else if (position == LimitLine.LimitLabelPosition.RIGHT_BOTTOM) {
@@ -295,7 +295,7 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
                 } else if (position == LimitLine.LimitLabelPosition.LEFT_TOP) {
 
                     mLimitLinePaint.setTextAlign(Align.RIGHT);
-                    final float labelLineHeight = Utils.calcTextHeight(mLimitLinePaint, label);
+                    final float labelLineHeight = mLabelCache.calcTextHeight(mLimitLinePaint, label);
                     c.drawText(label, pts[0] - xOffset, mViewPortHandler.contentTop() + yOffset + labelLineHeight, mLimitLinePaint);
                 } else {
 
@@ -161,11 +161,17 @@ public class YAxisRendererRadarChart extends YAxisRenderer {
                 ? mYAxis.mEntryCount
                 : (mYAxis.mEntryCount - 1);
 
+        // all labels lie on the axis at the rotation angle
+        final double angle = Math.toRadians(mChart.getRotationAngle());
+        final double cos = Math.cos(angle);
+        final double sin = Math.sin(angle);
+
         for (int j = from; j < to; j++) {
 
             float r = (mYAxis.mEntries[j] - mYAxis.mAxisMinimum) * factor;
 
-            Utils.getPosition(center, r, mChart.getRotationAngle(), pOut);
+            pOut.x = (float) (center.x + r * cos);
+            pOut.y = (float) (center.y + r * sin);
 
             String label = mYAxis.getFormattedLabel(j);
 
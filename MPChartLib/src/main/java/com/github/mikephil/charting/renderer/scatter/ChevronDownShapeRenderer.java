@@ -11,7 +11,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class ChevronDownShapeRenderer implements IShapeRenderer
+public class ChevronDownShapeRenderer extends LineShapeRenderer
 {
 
 
@@ -38,4 +38,18 @@ public class ChevronDownShapeRenderer implements IShapeRenderer
                 posY,
                 renderPaint);
     }
+
+    @Override
+    protected int putLines(float[] out, int n, float x, float y, float half) {
+
+        out[n++] = x;
+        out[n++] = y + (2 * half);
+        out[n++] = x + (2 * half);
+        out[n++] = y;
+        out[n++] = x;
+        out[n++] = y + (2 * half);
+        out[n++] = x - (2 * half);
+        out[n++] = y;
+        return n;
+    }
 }
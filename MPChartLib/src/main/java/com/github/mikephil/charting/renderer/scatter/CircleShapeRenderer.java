@@ -12,7 +12,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class CircleShapeRenderer implements IShapeRenderer
+public class CircleShapeRenderer extends PointShapeRenderer
 {
 
     @Override
@@ -60,4 +60,8 @@ public class CircleShapeRenderer implements IShapeRenderer
 
     }
 
+    @Override
+    protected Paint.Cap getPointCap() {
+        return Paint.Cap.ROUND;
+    }
 }
@@ -11,7 +11,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class CrossShapeRenderer implements IShapeRenderer
+public class CrossShapeRenderer extends LineShapeRenderer
 {
 
 
@@ -38,4 +38,18 @@ public class CrossShapeRenderer implements IShapeRenderer
                 renderPaint);
 
     }
+
+    @Override
+    protected int putLines(float[] out, int n, float x, float y, float half) {
+
+        out[n++] = x - half;
+        out[n++] = y;
+        out[n++] = x + half;
+        out[n++] = y;
+        out[n++] = x;
+        out[n++] = y - half;
+        out[n++] = x;
+        out[n++] = y + half;
+        return n;
+    }
 }
@@ -0,0 +1,29 @@
+package com.github.mikephil.charting.renderer.scatter;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * IShapeRenderer that can also draw the shapes at many positions at once, e.g. with a single
+ * Canvas.drawLines(...) or Canvas.drawPoints(...) call instead of one call per shape. The
+ * ScatterChartRenderer hands all visible positions of the same color to renderShapes(...).
+ */
+public interface IBatchShapeRenderer extends IShapeRenderer {
+
+    /**
+     * Renders the shape at all given positions with the current color of the paint. The result
+     * must look the same as calling renderShape(...) for each position in order.
+     *
+     * @param c               Canvas object for drawing the shapes
+     * @param dataSet         The DataSet to be drawn
+     * @param viewPortHandler Contains information about the current state of the view
+     * @param positions       Pixel positions to draw the shapes at, x and y alternating
+     * @param count           Number of values in positions to use (twice the number of shapes)
+     * @param renderPaint     Paint object used for styling and drawing
+     */
+    void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                      float[] positions, int count, Paint renderPaint);
+}
@@ -0,0 +1,54 @@
+package com.github.mikephil.charting.renderer.scatter;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * Base class of the shapes that consist of two lines (e.g. cross, x, chevrons). The lines of
+ * all shapes are collected in one buffer and drawn with a single Canvas.drawLines(...) call,
+ * subclasses only provide the lines of one shape, see putLines(...).
+ */
+public abstract class LineShapeRenderer implements IBatchShapeRenderer {
+
+    protected float[] mLineBuffer = new float[0];
+
+    /**
+     * Writes the two lines (eight values) of the shape at the given position into the given
+     * buffer, starting at index n. Returns the index after the last written value.
+     *
+     * @param out  the buffer to write to
+     * @param n    the index to start at
+     * @param x    the x-position of the shape in pixels
+     * @param y    the y-position of the shape in pixels
+     * @param half half the size of the shape
+     * @return
+     */
+    protected abstract int putLines(float[] out, int n, float x, float y, float half);
+
+    @Override
+    public void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                             float[] positions, int count, Paint renderPaint) {
+
+        final float shapeHalf = dataSet.getScatterShapeSize() / 2f;
+
+        // two lines of four values per shape
+        if (mLineBuffer.length < count * 4)
+            mLineBuffer = new float[count * 4];
+
+        final float[] lines = mLineBuffer;
+        int n = 0;
+
+        for (int i = 0; i < count; i += 2) {
+            n = putLines(lines, n, positions[i], positions[i + 1], shapeHalf);
+        }
+
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeWidth(Utils.convertDpToPixel(1f));
+
+        c.drawLines(lines, 0, n, renderPaint);
+    }
+}
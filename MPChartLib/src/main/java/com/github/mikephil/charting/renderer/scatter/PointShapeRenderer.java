@@ -0,0 +1,51 @@
+package com.github.mikephil.charting.renderer.scatter;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * Base class of the filled shapes that can be drawn as points with a stroke cap as wide as the
+ * shape (circle, square), all with a single Canvas.drawPoints(...) call.
+ */
+public abstract class PointShapeRenderer implements IBatchShapeRenderer {
+
+    /**
+     * Returns the stroke cap that gives the points the form of the shape.
+     *
+     * @return
+     */
+    protected abstract Paint.Cap getPointCap();
+
+    @Override
+    public void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                             float[] positions, int count, Paint renderPaint) {
+
+        final float shapeSize = dataSet.getScatterShapeSize();
+
+        // the hole of a shape may be covered by the next one, only shapes without a hole are
+        // drawn at once
+        if (dataSet.getScatterShapeHoleRadius() > 0f || shapeSize <= 0f) {
+
+            final int color = renderPaint.getColor();
+
+            for (int i = 0; i < count; i += 2) {
+                renderPaint.setColor(color);
+                renderShape(c, dataSet, viewPortHandler, positions[i], positions[i + 1], renderPaint);
+            }
+            return;
+        }
+
+        final Paint.Cap cap = renderPaint.getStrokeCap();
+
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeWidth(shapeSize);
+        renderPaint.setStrokeCap(getPointCap());
+
+        c.drawPoints(positions, 0, count, renderPaint);
+
+        renderPaint.setStrokeCap(cap);
+    }
+}
@@ -12,7 +12,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class SquareShapeRenderer implements IShapeRenderer
+public class SquareShapeRenderer extends PointShapeRenderer
 {
 
 
@@ -60,4 +60,9 @@ public class SquareShapeRenderer implements IShapeRenderer
                     renderPaint);
         }
     }
+
+    @Override
+    protected Paint.Cap getPointCap() {
+        return Paint.Cap.SQUARE;
+    }
 }
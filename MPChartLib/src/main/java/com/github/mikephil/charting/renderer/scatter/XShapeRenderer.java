@@ -11,7 +11,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class XShapeRenderer implements IShapeRenderer
+public class XShapeRenderer extends LineShapeRenderer
 {
 
 
@@ -39,4 +39,17 @@ public class XShapeRenderer implements IShapeRenderer
 
     }
 
-}
\ No newline at end of file
+    @Override
+    protected int putLines(float[] out, int n, float x, float y, float half) {
+
+        out[n++] = x - half;
+        out[n++] = y - half;
+        out[n++] = x + half;
+        out[n++] = y + half;
+        out[n++] = x + half;
+        out[n++] = y - half;
+        out[n++] = x - half;
+        out[n++] = y + half;
+        return n;
+    }
+}
@@ -0,0 +1,148 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * List backed by a power-of-two sized ring buffer. Provides O(1) random access like an
+ * ArrayList, but adding and removing elements at both ends runs in amortized O(1), where an
+ * ArrayList shifts all elements when removing from the front. Adding and removing elements
+ * in the middle is O(n).
+ */
+public class ArrayDequeList<E> extends AbstractList<E> implements RandomAccess {
+
+    private Object[] mElements;
+
+    /**
+     * the position of the first element in the ring buffer
+     */
+    private int mHead = 0;
+
+    private int mSize = 0;
+
+    public ArrayDequeList() {
+        mElements = new Object[16];
+    }
+
+    /**
+     * Creates a new list containing the elements of the given collection.
+     *
+     * @param elements
+     */
+    public ArrayDequeList(Collection<? extends E> elements) {
+
+        int capacity = 16;
+        while (capacity < elements.size())
+            capacity <<= 1;
+
+        mElements = new Object[capacity];
+
+        for (E e : elements) {
+            mElements[mSize++] = e;
+        }
+    }
+
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        return (E) mElements[position(index)];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index);
+
+        final int position = position(index);
+        E old = (E) mElements[position];
+        mElements[position] = element;
+        return old;
+    }
+
+    @Override
+    public void add(int index, E element) {
+
+        if (index < 0 || index > mSize)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+
+        if (mSize == mElements.length)
+            grow();
+
+        if (index == 0) {
+            mHead = (mHead - 1) & (mElements.length - 1);
+        } else {
+            // shift the elements after the index one position back
+            for (int i = mSize; i > index; i--) {
+                mElements[position(i)] = mElements[position(i - 1)];
+            }
+        }
+
+        mElements[position(index)] = element;
+        mSize++;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+
+        final E removed = (E) mElements[position(index)];
+
+        if (index == 0) {
+            mElements[mHead] = null;
+            mHead = (mHead + 1) & (mElements.length - 1);
+        } else {
+            // shift the elements after the index one position to the front
+            for (int i = index; i < mSize - 1; i++) {
+                mElements[position(i)] = mElements[position(i + 1)];
+            }
+
+            mElements[position(mSize - 1)] = null;
+        }
+
+        mSize--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+
+        for (int i = 0; i < mSize; i++) {
+            mElements[position(i)] = null;
+        }
+
+        mHead = 0;
+        mSize = 0;
+        modCount++;
+    }
+
+    private int position(int index) {
+        return (mHead + index) & (mElements.length - 1);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= mSize)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+    }
+
+    private void grow() {
+
+        Object[] elements = new Object[mElements.length * 2];
+
+        for (int i = 0; i < mSize; i++) {
+            elements[i] = mElements[position(i)];
+        }
+
+        mElements = elements;
+        mHead = 0;
+    }
+}
@@ -0,0 +1,284 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Pool of bitmaps that renderers check out for drawing (e.g. the drawing bitmap of the
+ * LineChartRenderer) and return when their chart is detached or resized, so that charts that
+ * come and go (e.g. in a scrolling list) reuse the bitmaps of earlier charts instead of
+ * allocating new ones. A bitmap must stay checked out as long as a drawn frame may reference
+ * it, i.e. not only for the duration of onDraw(). The idle bitmaps are kept in buckets by size
+ * and config. When they exceed the byte budget, the buckets that were used least recently are
+ * emptied first. All methods are thread-safe, usually the shared pool is used, see
+ * getShared().
+ */
+public class BitmapPool {
+
+    /**
+     * the default byte budget of the shared pool
+     */
+    public static final long DEFAULT_MAX_BYTES = 16 * 1024 * 1024;
+
+    private static BitmapPool mShared = null;
+
+    /**
+     * Returns the pool that is shared by all charts.
+     *
+     * @return
+     */
+    public static synchronized BitmapPool getShared() {
+
+        if (mShared == null)
+            mShared = new BitmapPool(DEFAULT_MAX_BYTES);
+
+        return mShared;
+    }
+
+    /**
+     * the idle bitmaps by size and config, least recently used bucket first
+     */
+    private final LinkedHashMap<Key, ArrayDeque<Bitmap>> mBuckets =
+            new LinkedHashMap<Key, ArrayDeque<Bitmap>>(8, 0.75f, true);
+
+    /**
+     * key for lookups, to avoid allocations
+     */
+    private final Key mLookupKey = new Key(0, 0, null);
+
+    private long mMaxBytes;
+
+    private long mBytesHeld = 0;
+    private long mBytesInUse = 0;
+
+    private long mHits = 0;
+    private long mMisses = 0;
+    private long mEvictions = 0;
+
+    /**
+     * @param maxBytes the maximum number of bytes of the idle bitmaps
+     */
+    public BitmapPool(long maxBytes) {
+        mMaxBytes = maxBytes;
+    }
+
+    /**
+     * Returns a transparent bitmap of the given size and config, from the pool if there is
+     * one. Return it with release(...) when done drawing.
+     *
+     * @param width
+     * @param height
+     * @param config
+     * @return
+     */
+    public synchronized Bitmap acquire(int width, int height, Bitmap.Config config) {
+
+        mLookupKey.set(width, height, config);
+
+        final ArrayDeque<Bitmap> bucket = mBuckets.get(mLookupKey);
+
+        Bitmap bitmap = null;
+
+        while (bucket != null && !bucket.isEmpty() && bitmap == null) {
+
+            bitmap = bucket.pollLast();
+            mBytesHeld -= bitmap.getByteCount();
+
+            if (bitmap.isRecycled())
+                bitmap = null;
+        }
+
+        if (bitmap != null) {
+            mHits++;
+            bitmap.eraseColor(Color.TRANSPARENT);
+        } else {
+            mMisses++;
+            bitmap = Bitmap.createBitmap(width, height, config);
+        }
+
+        mBytesInUse += bitmap.getByteCount();
+
+        return bitmap;
+    }
+
+    /**
+     * Returns a bitmap to the pool that was checked out with acquire(...). The bitmap must not
+     * be used afterwards.
+     *
+     * @param bitmap
+     */
+    public synchronized void release(Bitmap bitmap) {
+
+        if (bitmap == null)
+            return;
+
+        final int bytes = bitmap.getByteCount();
+        mBytesInUse = Math.max(0, mBytesInUse - bytes);
+
+        if (bitmap.isRecycled() || !bitmap.isMutable())
+            return;
+
+        if (bytes > mMaxBytes) {
+            bitmap.recycle();
+            mEvictions++;
+            return;
+        }
+
+        mLookupKey.set(bitmap.getWidth(), bitmap.getHeight(), bitmap.getConfig());
+
+        ArrayDeque<Bitmap> bucket = mBuckets.get(mLookupKey);
+
+        if (bucket == null) {
+            bucket = new ArrayDeque<>();
+            mBuckets.put(new Key(bitmap.getWidth(), bitmap.getHeight(), bitmap.getConfig()), bucket);
+        }
+
+        bucket.addLast(bitmap);
+        mBytesHeld += bytes;
+
+        trim(mMaxBytes);
+    }
+
+    /**
+     * Sets the maximum number of bytes of the idle bitmaps, bitmaps that exceed it are
+     * recycled.
+     *
+     * @param maxBytes
+     */
+    public synchronized void setMaxBytes(long maxBytes) {
+        mMaxBytes = maxBytes;
+        trim(maxBytes);
+    }
+
+    public synchronized long getMaxBytes() {
+        return mMaxBytes;
+    }
+
+    /**
+     * Returns the number of bytes of the idle bitmaps in the pool.
+     *
+     * @return
+     */
+    public synchronized long getBytesHeld() {
+        return mBytesHeld;
+    }
+
+    /**
+     * Returns the number of bytes of the bitmaps that are checked out.
+     *
+     * @return
+     */
+    public synchronized long getBytesInUse() {
+        return mBytesInUse;
+    }
+
+    /**
+     * Returns the number of acquire(...) calls that were served from the pool.
+     *
+     * @return
+     */
+    public synchronized long getHits() {
+        return mHits;
+    }
+
+    /**
+     * Returns the number of acquire(...) calls that had to create a new bitmap.
+     *
+     * @return
+     */
+    public synchronized long getMisses() {
+        return mMisses;
+    }
+
+    /**
+     * Returns the number of bitmaps that were recycled because they exceeded the budget.
+     *
+     * @return
+     */
+    public synchronized long getEvictions() {
+        return mEvictions;
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters.
+     */
+    public synchronized void resetStats() {
+        mHits = 0;
+        mMisses = 0;
+        mEvictions = 0;
+    }
+
+    /**
+     * Recycles all idle bitmaps, e.g. when the app is low on memory.
+     */
+    public synchronized void clear() {
+        trim(0);
+    }
+
+    private void trim(long maxBytes) {
+
+        final Iterator<Map.Entry<Key, ArrayDeque<Bitmap>>> it = mBuckets.entrySet().iterator();
+
+        while (it.hasNext()) {
+
+            final ArrayDeque<Bitmap> bucket = it.next().getValue();
+
+            while (mBytesHeld > maxBytes && !bucket.isEmpty()) {
+
+                final Bitmap bitmap = bucket.pollFirst();
+                mBytesHeld -= bitmap.getByteCount();
+                bitmap.recycle();
+                mEvictions++;
+            }
+
+            if (bucket.isEmpty())
+                it.remove();
+
+            if (mBytesHeld <= maxBytes)
+                break;
+        }
+    }
+
+    private static class Key {
+
+        int width;
+        int height;
+        Bitmap.Config config;
+
+        Key(int width, int height, Bitmap.Config config) {
+            set(width, height, config);
+        }
+
+        void set(int width, int height, Bitmap.Config config) {
+            this.width = width;
+            this.height = height;
+            this.config = config;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o)
+                return true;
+
+            if (!(o instanceof Key))
+                return false;
+
+            final Key other = (Key) o;
+            return width == other.width && height == other.height && config == other.config;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = width;
+            result = 31 * result + height;
+            result = 31 * result + (config != null ? config.hashCode() : 0);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.data.ChartData;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The caches a renderer keeps for each DataSet across frames, keyed by the identity of the
+ * DataSet. When the chart switches to new DataSet instances without initializing the renderer
+ * again (e.g. to a new data snapshot), the caches of the previous DataSets have to be removed
+ * with retain(...).
+ *
+ * @param <V> the type of the cache
+ */
+public class DataSetCaches<V> {
+
+    private final IdentityHashMap<IDataSet<?>, V> mCaches = new IdentityHashMap<>();
+
+    /**
+     * Returns the cache of the given DataSet, or null if there is none.
+     *
+     * @param set
+     * @return
+     */
+    public V get(IDataSet<?> set) {
+        return mCaches.get(set);
+    }
+
+    /**
+     * Sets the cache of the given DataSet.
+     *
+     * @param set
+     * @param cache
+     */
+    public void put(IDataSet<?> set, V cache) {
+        mCaches.put(set, cache);
+    }
+
+    /**
+     * Removes the cache of the given DataSet.
+     *
+     * @param set
+     */
+    public void remove(IDataSet<?> set) {
+        mCaches.remove(set);
+    }
+
+    /**
+     * Removes all caches.
+     */
+    public void clear() {
+        mCaches.clear();
+    }
+
+    /**
+     * Returns the number of DataSets with a cache.
+     *
+     * @return
+     */
+    public int size() {
+        return mCaches.size();
+    }
+
+    /**
+     * Removes the caches of all DataSets that are not part of the given data. Null removes
+     * all caches.
+     *
+     * @param data
+     */
+    public void retain(ChartData<?> data) {
+
+        if (data == null) {
+            mCaches.clear();
+            return;
+        }
+
+        final List<? extends IDataSet<?>> dataSets = data.getDataSets();
+
+        Iterator<IDataSet<?>> it = mCaches.keySet().iterator();
+
+        while (it.hasNext()) {
+            if (!containsSet(dataSets, it.next()))
+                it.remove();
+        }
+    }
+
+    private static boolean containsSet(List<? extends IDataSet<?>> dataSets, IDataSet<?> set) {
+
+        for (int i = 0; i < dataSets.size(); i++) {
+            if (dataSets.get(i) == set)
+                return true;
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.data.DataSet.Rounding;
+
+/**
+ * Binary search for the entry closest to an x-value, shared by all DataSets that keep their
+ * entries sorted by x-value. The x- and y-values are read from a SpatialIndex.PointSource,
+ * which allows searching entries as well as primitive value arrays.
+ */
+public final class EntrySearch {
+
+    private EntrySearch() {
+    }
+
+    /**
+     * Returns the index of the point closest to the given x-value, or -1 if there are no
+     * points. The x-values of the points have to be ascending. O(log n)
+     *
+     * @param points
+     * @param count      the number of points
+     * @param xValue
+     * @param closestToY if not NaN, the point with the y-value closest to it is chosen among
+     *                   all points sharing the closest x-value
+     * @param rounding   determine whether to round up/down/closest if there is no point
+     *                   with exactly the given x-value
+     * @return
+     */
+    public static int getClosestIndex(SpatialIndex.PointSource points, int count,
+                                      float xValue, float closestToY, Rounding rounding) {
+
+        if (count == 0)
+            return -1;
+
+        int low = 0;
+        int high = count - 1;
+        int closest = high;
+
+        while (low < high) {
+            int m = (low + high) / 2;
+
+            final float d1 = points.getX(m) - xValue,
+                    d2 = points.getX(m + 1) - xValue,
+                    ad1 = Math.abs(d1), ad2 = Math.abs(d2);
+
+            if (ad2 < ad1) {
+                // [m + 1] is closer to xValue
+                // Search in an higher place
+                low = m + 1;
+            } else if (ad1 < ad2) {
+                // [m] is closer to xValue
+                // Search in a lower place
+                high = m;
+            } else {
+                // We have multiple sequential x-value with same distance
+
+                if (d1 >= 0.0) {
+                    // Search in a lower place
+                    high = m;
+                } else {
+                    // Search in an higher place
+                    low = m + 1;
+                }
+            }
+
+            closest = high;
+        }
+
+        final float closestXValue = points.getX(closest);
+
+        if (rounding == Rounding.UP) {
+            // If rounding up, and found x-value is lower than specified x, and we can go upper...
+            if (closestXValue < xValue && closest < count - 1) {
+                ++closest;
+            }
+        } else if (rounding == Rounding.DOWN) {
+            // If rounding down, and found x-value is upper than specified x, and we can go lower...
+            if (closestXValue > xValue && closest > 0) {
+                --closest;
+            }
+        }
+
+        // Search by closest to y-value
+        if (!Float.isNaN(closestToY)) {
+            while (closest > 0 && points.getX(closest - 1) == closestXValue)
+                closest -= 1;
+
+            float closestYValue = points.getY(closest);
+            int closestYIndex = closest;
+
+            while (true) {
+                closest += 1;
+                if (closest >= count || points.getX(closest) != closestXValue)
+                    break;
+
+                final float y = points.getY(closest);
+
+                if (Math.abs(y - closestToY) < Math.abs(closestYValue - closestToY)) {
+                    closestYValue = y;
+                    closestYIndex = closest;
+                }
+            }
+
+            closest = closestYIndex;
+        }
+
+        return closest;
+    }
+}
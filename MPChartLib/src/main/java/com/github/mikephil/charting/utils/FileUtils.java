@@ -1,20 +1,33 @@
 
 package com.github.mikephil.charting.utils;
 
+import android.content.res.AssetFileDescriptor;
 import android.content.res.AssetManager;
 import android.os.Environment;
 import android.util.Log;
 
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.FloatColumnDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,6 +41,581 @@ public class FileUtils {
 
     private static final String LOG = "MPChart-FileUtils";
 
+    /**
+     * the number of value pairs passed to a ValueSink at once
+     */
+    public static final int CHUNK_SIZE = 4096;
+
+    /**
+     * the size of the windows large text files are mapped in
+     */
+    private static final int MAP_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * the size of the buffer used to read streams that cannot be mapped
+     */
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    private static final double[] POW_10 = new double[]{
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Receives the values of the streaming loaders in chunks of at most CHUNK_SIZE value
+     * pairs. The arrays are reused for the next chunk.
+     */
+    public interface ValueSink {
+
+        void addValues(float[] xValues, float[] yValues, int count);
+    }
+
+    /**
+     * Returns a ValueSink that appends the values to the columns of the given DataSet, without
+     * creating Entry objects.
+     *
+     * @param set
+     * @return
+     */
+    public static ValueSink toColumns(final FloatColumnDataSet set) {
+        return new ValueSink() {
+            @Override
+            public void addValues(float[] xValues, float[] yValues, int count) {
+                set.addValues(xValues, yValues, count);
+            }
+        };
+    }
+
+    /**
+     * Returns a ValueSink that adds an Entry for each value pair to the given DataSet.
+     *
+     * @param set
+     * @return
+     */
+    public static ValueSink toDataSet(final IDataSet<Entry> set) {
+        return new ValueSink() {
+            @Override
+            public void addValues(float[] xValues, float[] yValues, int count) {
+                for (int i = 0; i < count; i++)
+                    set.addEntry(new Entry(xValues[i], yValues[i]));
+            }
+        };
+    }
+
+    /**
+     * Loads a text file with one "y#x" value pair per line (the format of saveToSdCard(...))
+     * into the given sink. The file is memory-mapped and parsed without creating a String per
+     * line. Returns the number of value pairs loaded.
+     *
+     * @param file
+     * @param sink
+     * @return
+     */
+    public static int loadTextValues(File file, ValueSink sink) {
+        return loadValues(file, false, sink);
+    }
+
+    /**
+     * Loads a binary file of little-endian float pairs (x, y) as written by
+     * saveBinaryValues(...) into the given sink. The file is memory-mapped, the values are
+     * read directly from the mapping. Returns the number of value pairs loaded.
+     *
+     * @param file
+     * @param sink
+     * @return
+     */
+    public static int loadBinaryValues(File file, ValueSink sink) {
+        return loadValues(file, true, sink);
+    }
+
+    /**
+     * Loads a text file with one "y#x" value pair per line from the assets folder into the
+     * given sink, see loadTextValues(...). Uncompressed assets are memory-mapped, all others
+     * are streamed through a small buffer.
+     *
+     * @param am
+     * @param path
+     * @param sink
+     * @return
+     */
+    public static int loadTextValuesFromAssets(AssetManager am, String path, ValueSink sink) {
+        return loadValuesFromAssets(am, path, false, sink);
+    }
+
+    /**
+     * Loads a binary file of little-endian float pairs from the assets folder into the given
+     * sink, see loadBinaryValues(...).
+     *
+     * @param am
+     * @param path
+     * @param sink
+     * @return
+     */
+    public static int loadBinaryValuesFromAssets(AssetManager am, String path, ValueSink sink) {
+        return loadValuesFromAssets(am, path, true, sink);
+    }
+
+    /**
+     * Saves the first count value pairs of the given arrays as little-endian float pairs
+     * (x, y), the format read by loadBinaryValues(...).
+     *
+     * @param xValues
+     * @param yValues
+     * @param count
+     * @param file
+     */
+    public static void saveBinaryValues(float[] xValues, float[] yValues, int count, File file) {
+
+        FileOutputStream out = null;
+
+        try {
+            out = new FileOutputStream(file);
+            FileChannel channel = out.getChannel();
+
+            ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE * 8).order(ByteOrder.LITTLE_ENDIAN);
+
+            for (int i = 0; i < count; i++) {
+
+                buffer.putFloat(xValues[i]);
+                buffer.putFloat(yValues[i]);
+
+                if (!buffer.hasRemaining() || i == count - 1) {
+                    buffer.flip();
+
+                    while (buffer.hasRemaining())
+                        channel.write(buffer);
+
+                    buffer.clear();
+                }
+            }
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+
+        } finally {
+
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    Log.e(LOG, e.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Parses the value pairs in the given buffer from its position to its limit into the given
+     * sink, either "y#x" lines or little-endian float pairs (x, y). If endOfInput is false,
+     * an incomplete line or pair at the end is not consumed, the position of the buffer is
+     * left at its start so that the caller can compact the buffer and append more input.
+     * Empty lines and lines that do not consist of exactly two values are skipped.
+     * Returns the number of value pairs parsed.
+     *
+     * @param buffer
+     * @param binary
+     * @param endOfInput
+     * @param sink
+     * @return
+     */
+    public static int parseValues(ByteBuffer buffer, boolean binary, boolean endOfInput, ValueSink sink) {
+        return new ValueParser(sink).parse(buffer, binary, endOfInput);
+    }
+
+    private static int loadValues(File file, boolean binary, ValueSink sink) {
+
+        ValueParser parser = new ValueParser(sink);
+        FileInputStream in = null;
+
+        try {
+            in = new FileInputStream(file);
+            FileChannel channel = in.getChannel();
+
+            final long size = channel.size();
+            long position = 0;
+
+            // map the file in windows, a single mapping is limited to 2 GB
+            while (position < size) {
+
+                final long length = Math.min(size - position, MAP_WINDOW_SIZE);
+                final boolean endOfInput = position + length == size;
+
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                parser.parse(buffer, binary, endOfInput);
+
+                if (buffer.position() == 0 && !endOfInput)
+                    throw new IOException("Line longer than " + MAP_WINDOW_SIZE + " bytes in " + file);
+
+                position += buffer.position();
+
+                if (endOfInput)
+                    break;
+            }
+
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+
+        } finally {
+
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    Log.e(LOG, e.toString());
+                }
+            }
+        }
+
+        return parser.getCount();
+    }
+
+    private static int loadValuesFromAssets(AssetManager am, String path, boolean binary, ValueSink sink) {
+
+        ValueParser parser = new ValueParser(sink);
+        InputStream in = null;
+
+        try {
+            try {
+                AssetFileDescriptor fd = am.openFd(path);
+                FileInputStream fin = fd.createInputStream();
+                in = fin;
+
+                // the asset is stored uncompressed inside of the apk and can be mapped
+                ByteBuffer buffer = fin.getChannel().map(FileChannel.MapMode.READ_ONLY,
+                        fd.getStartOffset(), fd.getLength());
+                parser.parse(buffer, binary, true);
+
+                return parser.getCount();
+
+            } catch (FileNotFoundException e) {
+                // compressed asset, stream it
+            }
+
+            in = am.open(path);
+            ReadableByteChannel channel = Channels.newChannel(in);
+
+            ByteBuffer buffer = ByteBuffer.allocate(STREAM_BUFFER_SIZE);
+
+            while (true) {
+
+                final int read = channel.read(buffer);
+                buffer.flip();
+
+                parser.parse(buffer, binary, read < 0);
+
+                if (read < 0)
+                    break;
+
+                // nothing consumed from a full buffer
+                if (buffer.position() == 0 && buffer.limit() == buffer.capacity())
+                    throw new IOException("Line longer than " + STREAM_BUFFER_SIZE + " bytes in " + path);
+
+                buffer.compact();
+            }
+
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+
+        } finally {
+
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    Log.e(LOG, e.toString());
+                }
+            }
+        }
+
+        return parser.getCount();
+    }
+
+    /**
+     * Parses value pairs from ByteBuffers into chunks that are passed to a ValueSink. Keeps the
+     * chunk arrays between the windows of a file.
+     */
+    private static class ValueParser {
+
+        private final ValueSink mSink;
+
+        private final float[] mXChunk = new float[CHUNK_SIZE];
+        private final float[] mYChunk = new float[CHUNK_SIZE];
+        private int mChunkCount = 0;
+
+        /**
+         * buffer for the rare values that are handed to Float.parseFloat(...)
+         */
+        private final char[] mChars = new char[64];
+
+        private int mCount = 0;
+
+        ValueParser(ValueSink sink) {
+            mSink = sink;
+        }
+
+        int getCount() {
+            return mCount;
+        }
+
+        int parse(ByteBuffer buffer, boolean binary, boolean endOfInput) {
+
+            final int countBefore = mCount;
+
+            if (binary)
+                parseBinary(buffer);
+            else
+                parseText(buffer, endOfInput);
+
+            flush();
+
+            return mCount - countBefore;
+        }
+
+        private void add(float x, float y) {
+
+            mXChunk[mChunkCount] = x;
+            mYChunk[mChunkCount] = y;
+            mChunkCount++;
+            mCount++;
+
+            if (mChunkCount == CHUNK_SIZE)
+                flush();
+        }
+
+        private void flush() {
+
+            if (mChunkCount > 0)
+                mSink.addValues(mXChunk, mYChunk, mChunkCount);
+
+            mChunkCount = 0;
+        }
+
+        private void parseBinary(ByteBuffer buffer) {
+
+            ByteOrder order = buffer.order();
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            int position = buffer.position();
+            final int end = buffer.limit() - 7;
+
+            for (; position < end; position += 8)
+                add(buffer.getFloat(position), buffer.getFloat(position + 4));
+
+            buffer.position(position);
+            buffer.order(order);
+        }
+
+        private void parseText(ByteBuffer buffer, boolean endOfInput) {
+
+            final int limit = buffer.limit();
+            int lineStart = buffer.position();
+
+            for (int i = lineStart; i < limit; i++) {
+
+                if (buffer.get(i) == '\n') {
+                    parseLine(buffer, lineStart, i);
+                    lineStart = i + 1;
+                }
+            }
+
+            if (endOfInput && lineStart < limit) {
+                parseLine(buffer, lineStart, limit);
+                lineStart = limit;
+            }
+
+            buffer.position(lineStart);
+        }
+
+        /**
+         * Parses a "y#x" line between the given positions (the end exclusive).
+         */
+        private void parseLine(ByteBuffer buffer, int start, int end) {
+
+            if (end > start && buffer.get(end - 1) == '\r')
+                end--;
+
+            int separator = -1;
+
+            for (int i = start; i < end; i++) {
+
+                if (buffer.get(i) == '#') {
+
+                    // more than two values, e.g. stacked bar values
+                    if (separator >= 0)
+                        return;
+
+                    separator = i;
+                }
+            }
+
+            if (separator < 0)
+                return;
+
+            final float y = parseFloat(buffer, start, separator);
+            final float x = parseFloat(buffer, separator + 1, end);
+
+            add(x, y);
+        }
+
+        /**
+         * Parses the decimal number between the given positions, with the same result as
+         * Float.parseFloat(...). The digits are accumulated into a long and scaled by a power
+         * of ten in double precision, which is within a few ulps of the exact value. Only if
+         * that is too close to the middle of two floats to be rounded safely, or the number
+         * is not a plain decimal, the text is handed to Float.parseFloat(...).
+         */
+        private float parseFloat(ByteBuffer buffer, int start, int end) {
+
+            int i = start;
+
+            while (i < end && buffer.get(i) == ' ')
+                i++;
+
+            while (end > i && buffer.get(end - 1) == ' ')
+                end--;
+
+            boolean negative = false;
+
+            if (i < end) {
+                final byte c = buffer.get(i);
+
+                if (c == '-') {
+                    negative = true;
+                    i++;
+                } else if (c == '+') {
+                    i++;
+                }
+            }
+
+            long mantissa = 0;
+            int digits = 0;
+            int exponent = 0;
+            boolean anyDigit = false;
+            boolean dot = false;
+
+            for (; i < end; i++) {
+
+                final byte c = buffer.get(i);
+
+                if (c >= '0' && c <= '9') {
+
+                    anyDigit = true;
+
+                    if (mantissa == 0 && c == '0') {
+                        // leading zero
+                        if (dot)
+                            exponent--;
+                    } else if (digits < 18) {
+                        mantissa = mantissa * 10 + (c - '0');
+                        digits++;
+
+                        if (dot)
+                            exponent--;
+                    } else if (!dot) {
+                        // digits beyond the precision of the long only scale the value
+                        exponent++;
+                    }
+
+                } else if (c == '.' && !dot) {
+                    dot = true;
+                } else {
+                    break;
+                }
+            }
+
+            if (i < end && anyDigit && (buffer.get(i) == 'e' || buffer.get(i) == 'E')) {
+
+                i++;
+
+                boolean negativeExponent = false;
+
+                if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+                    negativeExponent = buffer.get(i) == '-';
+                    i++;
+                }
+
+                int e = 0;
+                boolean anyExponentDigit = false;
+
+                for (; i < end; i++) {
+
+                    final byte c = buffer.get(i);
+
+                    if (c < '0' || c > '9')
+                        break;
+
+                    anyExponentDigit = true;
+
+                    if (e < 10000)
+                        e = e * 10 + (c - '0');
+                }
+
+                if (!anyExponentDigit)
+                    return parseFloatSlow(buffer, start, end);
+
+                exponent += negativeExponent ? -e : e;
+            }
+
+            // anything else, e.g. "NaN", hex or a trailing "f"
+            if (i != end || !anyDigit)
+                return parseFloatSlow(buffer, start, end);
+
+            if (mantissa == 0)
+                return negative ? -0f : 0f;
+
+            double value = mantissa;
+
+            if (exponent < 0) {
+
+                if (exponent < -44)
+                    return parseFloatSlow(buffer, start, end);
+
+                if (exponent < -22) {
+                    value /= POW_10[22];
+                    exponent += 22;
+                }
+
+                value /= POW_10[-exponent];
+
+            } else if (exponent > 0) {
+
+                if (exponent > 44)
+                    return parseFloatSlow(buffer, start, end);
+
+                if (exponent > 22) {
+                    value *= POW_10[22];
+                    exponent -= 22;
+                }
+
+                value *= POW_10[exponent];
+            }
+
+            // subnormal or out of range floats
+            if (value < Float.MIN_NORMAL || value > Float.MAX_VALUE)
+                return parseFloatSlow(buffer, start, end);
+
+            // the 29 bits of the double mantissa that are rounded off, half is the midpoint
+            final long dropped = Double.doubleToRawLongBits(value) & ((1L << 29) - 1);
+
+            if (Math.abs(dropped - (1L << 28)) <= 8)
+                return parseFloatSlow(buffer, start, end);
+
+            final float result = (float) value;
+
+            return negative ? -result : result;
+        }
+
+        private float parseFloatSlow(ByteBuffer buffer, int start, int end) {
+
+            final int length = end - start;
+            final char[] chars = length <= mChars.length ? mChars : new char[length];
+
+            for (int i = 0; i < length; i++)
+                chars[i] = (char) buffer.get(start + i);
+
+            return Float.parseFloat(new String(chars, 0, length));
+        }
+    }
+
     /**
      * Loads a an Array of Entries from a textfile from the sd-card.
      * 
@@ -0,0 +1,320 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.data.DataSet.Rounding;
+
+/**
+ * Fixed-capacity circular buffer of (x, y) value pairs stored in two primitive float arrays.
+ * Once the buffer is full, every added value pair evicts the oldest one, both in O(1). The
+ * minimum and maximum y-value are maintained incrementally, the x-values are expected to be
+ * ascending (monotonic), which allows binary searches over the wrapped buffer.
+ * Indices used by all methods are logical indices, 0 is the oldest value pair in the buffer.
+ */
+public class FloatRingBuffer implements SpatialIndex.PointSource {
+
+    private final float[] mXValues;
+    private final float[] mYValues;
+
+    /**
+     * the position of the oldest value pair in the arrays
+     */
+    private int mHead = 0;
+
+    /**
+     * the number of value pairs in the buffer
+     */
+    private int mCount = 0;
+
+    private final SlidingWindowMinMax mMinMaxY = new SlidingWindowMinMax();
+
+    /**
+     * the result of the last calcMinMaxY(...) call
+     */
+    private float mRangeMin = Float.MAX_VALUE;
+    private float mRangeMax = -Float.MAX_VALUE;
+
+    public FloatRingBuffer(int capacity) {
+
+        if (capacity < 1)
+            throw new IllegalArgumentException("The capacity must be at least 1.");
+
+        mXValues = new float[capacity];
+        mYValues = new float[capacity];
+    }
+
+    /**
+     * Returns the maximum number of value pairs the buffer can hold.
+     *
+     * @return
+     */
+    public int getCapacity() {
+        return mXValues.length;
+    }
+
+    /**
+     * Returns the number of value pairs in the buffer.
+     *
+     * @return
+     */
+    public int size() {
+        return mCount;
+    }
+
+    @Override
+    public float getX(int index) {
+        return mXValues[position(index)];
+    }
+
+    @Override
+    public float getY(int index) {
+        return mYValues[position(index)];
+    }
+
+    /**
+     * Appends a value pair to the buffer. If the buffer is full, the oldest value pair is
+     * evicted. Returns true if a value pair was evicted. O(1)
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public boolean add(float x, float y) {
+
+        final boolean evict = mCount == mXValues.length;
+
+        if (evict)
+            removeFirst();
+
+        final int position = position(mCount);
+        mXValues[position] = x;
+        mYValues[position] = y;
+        mCount++;
+
+        mMinMaxY.add(y, y);
+
+        return evict;
+    }
+
+    /**
+     * Inserts a value pair at the given index, moving all value pairs from that index on
+     * one position back. If the buffer is full, the oldest value pair is evicted first (and
+     * the index decremented accordingly). If the given value pair would be the oldest one
+     * itself (index 0), it is not inserted and the buffer is left unchanged. Returns true if a
+     * value pair was evicted or dropped. O(n)
+     *
+     * @param index
+     * @param x
+     * @param y
+     * @return
+     */
+    public boolean insert(int index, float x, float y) {
+
+        if (index >= mCount)
+            return add(x, y);
+
+        final boolean evict = mCount == mXValues.length;
+
+        if (evict) {
+
+            // the value pair would be the oldest one, which is evicted right away
+            if (index <= 0)
+                return true;
+
+            removeFirst();
+            index--;
+        }
+
+        for (int i = mCount; i > index; i--) {
+            mXValues[position(i)] = mXValues[position(i - 1)];
+            mYValues[position(i)] = mYValues[position(i - 1)];
+        }
+
+        mXValues[position(index)] = x;
+        mYValues[position(index)] = y;
+        mCount++;
+
+        rebuildMinMax();
+
+        return evict;
+    }
+
+    /**
+     * Removes the oldest value pair. O(1)
+     */
+    public void removeFirst() {
+
+        if (mCount == 0)
+            return;
+
+        mHead = position(1);
+        mCount--;
+
+        mMinMaxY.removeFirst();
+    }
+
+    /**
+     * Removes the value pair at the given index. O(1) for the oldest value pair, O(n) for
+     * all others.
+     *
+     * @param index
+     */
+    public void remove(int index) {
+
+        if (index < 0 || index >= mCount)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mCount);
+
+        if (index == 0) {
+            removeFirst();
+            return;
+        }
+
+        for (int i = index; i < mCount - 1; i++) {
+            mXValues[position(i)] = mXValues[position(i + 1)];
+            mYValues[position(i)] = mYValues[position(i + 1)];
+        }
+
+        mCount--;
+
+        rebuildMinMax();
+    }
+
+    /**
+     * Removes all value pairs.
+     */
+    public void clear() {
+        mHead = 0;
+        mCount = 0;
+        mMinMaxY.clear();
+    }
+
+    /**
+     * Recalculates the minimum and maximum y-value from all value pairs. O(n)
+     */
+    public void rebuildMinMax() {
+
+        mMinMaxY.clear();
+
+        for (int i = 0; i < mCount; i++) {
+            final float y = getY(i);
+            mMinMaxY.add(y, y);
+        }
+    }
+
+    /**
+     * Returns the minimum y-value, Float.MAX_VALUE if the buffer is empty.
+     *
+     * @return
+     */
+    public float getYMin() {
+        return mMinMaxY.getMin();
+    }
+
+    /**
+     * Returns the maximum y-value, -Float.MAX_VALUE if the buffer is empty.
+     *
+     * @return
+     */
+    public float getYMax() {
+        return mMinMaxY.getMax();
+    }
+
+    /**
+     * Calculates the minimum and maximum y-value of the value pairs between the given
+     * indices (both inclusive). The result can be retrieved with getRangeMin() and
+     * getRangeMax().
+     *
+     * @param from
+     * @param to
+     */
+    public void calcMinMaxY(int from, int to) {
+
+        mRangeMin = Float.MAX_VALUE;
+        mRangeMax = -Float.MAX_VALUE;
+
+        for (int i = Math.max(from, 0), last = Math.min(to, mCount - 1); i <= last; i++) {
+
+            final float y = getY(i);
+
+            if (y < mRangeMin)
+                mRangeMin = y;
+
+            if (y > mRangeMax)
+                mRangeMax = y;
+        }
+    }
+
+    public float getRangeMin() {
+        return mRangeMin;
+    }
+
+    public float getRangeMax() {
+        return mRangeMax;
+    }
+
+    /**
+     * Returns the index of the first value pair equal to the given x- and y-value, or -1 if
+     * there is none. O(log n)
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public int indexOf(float x, float y) {
+
+        int index = lowerBound(x);
+
+        for (; index < mCount && getX(index) == x; index++) {
+            if (getY(index) == y)
+                return index;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first value pair with an x-value that is not lower than the
+     * given x-value, size() if there is none. O(log n)
+     *
+     * @param x
+     * @return
+     */
+    public int lowerBound(float x) {
+
+        int low = 0;
+        int high = mCount;
+
+        while (low < high) {
+            final int m = (low + high) >>> 1;
+
+            if (getX(m) < x)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the index of the value pair closest to the given x-value, following the same
+     * rules as DataSet.getEntryIndex(xValue, closestToY, rounding). O(log n)
+     *
+     * @param xValue
+     * @param closestToY if not NaN, the value pair with the y-value closest to it is chosen
+     *                   among all value pairs sharing the closest x-value
+     * @param rounding
+     * @return
+     */
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+        return EntrySearch.getClosestIndex(this, mCount, xValue, closestToY, rounding);
+    }
+
+    private int position(int index) {
+
+        int position = mHead + index;
+
+        if (position >= mXValues.length)
+            position -= mXValues.length;
+
+        return position;
+    }
+}
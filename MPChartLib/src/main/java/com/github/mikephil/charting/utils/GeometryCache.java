@@ -0,0 +1,385 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Matrix;
+
+import com.github.mikephil.charting.data.BaseDataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.FloatColumnDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IFloatValueDataSet;
+
+import java.util.Arrays;
+
+/**
+ * Cache of the pixel positions of a range of entries of one DataSet. The value-to-pixel
+ * transformation of a chart only scales and translates, so the positions that were computed
+ * once stay valid as long as the DataSet and the scale of the chart do not change: a pan only
+ * adds an offset to all of them. The cache is therefore only rebuilt on zoom, on a data change
+ * (see BaseDataSet.getDataSetVersion(...)), when the y-animation phase changes or when the
+ * requested range leaves the cached range. To survive panning, the cached range extends the
+ * requested one by half of its size on both sides.
+ * Entries that are modified without notifyDataSetChanged() are only detected if the number
+ * of entries or the first or last cached entry changed, call notifyDataSetChanged() on the
+ * DataSet (or invalidate() on the cache) after modifying entries in place.
+ * Each entry has one x-position and getYCount() y-positions, by default the one of Entry.getY().
+ * Subclasses can cache more y-values per entry by overriding getYValue(...). The values of a
+ * FloatColumnDataSet are read from its primitive columns directly.
+ */
+public class GeometryCache {
+
+    /**
+     * pixel x-positions of the cached entries, at the translation the cache was built with
+     */
+    protected float[] mX = new float[0];
+
+    /**
+     * pixel y-positions of the cached entries, mYCount values per entry
+     */
+    protected float[] mY = new float[0];
+
+    protected final int mYCount;
+
+    /**
+     * the cached range of entry indices, both inclusive
+     */
+    protected int mFrom = 0;
+    protected int mTo = -1;
+
+    protected IDataSet<?> mDataSet = null;
+    protected int mVersion = -1;
+    protected float mPhaseY = Float.NaN;
+
+    /**
+     * the entry count and the x- and y-values of the first and last cached entry the cache was
+     * built with, to detect changes made without notifyDataSetChanged()
+     */
+    private int mEntryCount = 0;
+    private float[] mEdges = new float[4];
+    private float[] mEdgesBuffer = new float[4];
+
+    /**
+     * scale and translation of the transformation the cache was built with
+     */
+    protected float mScaleX = Float.NaN;
+    protected float mScaleY = Float.NaN;
+    protected float mTransX = 0f;
+    protected float mTransY = 0f;
+
+    /**
+     * translation of the current transformation relative to the cached positions
+     */
+    protected float mOffsetX = 0f;
+    protected float mOffsetY = 0f;
+
+    private float[] mMatrixValues = new float[9];
+
+    /**
+     * Creates a cache with one y-position per entry.
+     */
+    public GeometryCache() {
+        this(1);
+    }
+
+    /**
+     * Creates a cache with the given number of y-positions per entry.
+     *
+     * @param yCount
+     */
+    public GeometryCache(int yCount) {
+        mYCount = Math.max(1, yCount);
+    }
+
+    /**
+     * Makes sure the positions of the entries from index "from" to index "to" (both inclusive)
+     * are cached for the current value-to-pixel transformation of the given Transformer.
+     * Returns true if the cache had to be rebuilt, false if only the offset was updated.
+     *
+     * @param set
+     * @param trans
+     * @param from
+     * @param to
+     * @param phaseY
+     * @return
+     */
+    public boolean update(IDataSet<?> set, Transformer trans, int from, int to, float phaseY) {
+
+        final float[] v = mMatrixValues;
+        trans.getValueToPixelMatrix().getValues(v);
+
+        return update(set, from, to, phaseY,
+                v[Matrix.MSCALE_X], v[Matrix.MSCALE_Y], v[Matrix.MTRANS_X], v[Matrix.MTRANS_Y]);
+    }
+
+    /**
+     * Like update(set, trans, from, to, phaseY), with the scale and translation of the
+     * value-to-pixel transformation given directly.
+     *
+     * @param set
+     * @param from
+     * @param to
+     * @param phaseY
+     * @param scaleX
+     * @param scaleY
+     * @param transX
+     * @param transY
+     * @return
+     */
+    public boolean update(IDataSet<?> set, int from, int to, float phaseY,
+                          float scaleX, float scaleY, float transX, float transY) {
+
+        final int version = BaseDataSet.getDataSetVersion(set);
+
+        if (set == mDataSet && version == mVersion && phaseY == mPhaseY
+                && scaleX == mScaleX && scaleY == mScaleY
+                && from >= mFrom && to <= mTo
+                && set.getEntryCount() == mEntryCount
+                && Arrays.equals(getEdges(set, mEdgesBuffer), mEdges)) {
+
+            mOffsetX = transX - mTransX;
+            mOffsetY = transY - mTransY;
+            return false;
+        }
+
+        final int count = set.getEntryCount();
+        final int margin = (to - from + 1) / 2;
+
+        mFrom = Math.max(0, from - margin);
+        mTo = Math.min(count - 1, to + margin);
+
+        final int size = Math.max(0, mTo - mFrom + 1);
+
+        if (mX.length < size) {
+            mX = new float[size];
+            mY = new float[size * mYCount];
+        }
+
+        if (mYCount == 1 && set instanceof FloatColumnDataSet) {
+
+            // read the primitive columns directly, without a call per entry
+            final FloatColumnDataSet columns = (FloatColumnDataSet) set;
+            final float[] xs = columns.getXValues();
+            final float[] ys = columns.getYValues();
+
+            for (int i = 0, index = mFrom; i < size; i++, index++) {
+                mX[i] = xs[index] * scaleX + transX;
+                mY[i] = ys[index] * phaseY * scaleY + transY;
+            }
+
+            return storeState(set, version, count, phaseY, scaleX, scaleY, transX, transY);
+        }
+
+        final IFloatValueDataSet values = mYCount == 1 && set instanceof IFloatValueDataSet
+                ? (IFloatValueDataSet) set : null;
+
+        for (int i = 0; i < size; i++) {
+
+            final int index = mFrom + i;
+
+            if (values != null) {
+                mX[i] = values.getX(index) * scaleX + transX;
+                mY[i] = values.getY(index) * phaseY * scaleY + transY;
+                continue;
+            }
+
+            final Entry e = set.getEntryForIndex(index);
+
+            if (e == null) {
+                mX[i] = transX;
+
+                for (int k = 0; k < mYCount; k++)
+                    mY[i * mYCount + k] = transY;
+
+                continue;
+            }
+
+            mX[i] = e.getX() * scaleX + transX;
+
+            for (int k = 0; k < mYCount; k++)
+                mY[i * mYCount + k] = getYValue(e, k) * phaseY * scaleY + transY;
+        }
+
+        return storeState(set, version, count, phaseY, scaleX, scaleY, transX, transY);
+    }
+
+    /**
+     * Stores what the cache was built with and resets the offset, returns true.
+     */
+    private boolean storeState(IDataSet<?> set, int version, int count, float phaseY,
+                               float scaleX, float scaleY, float transX, float transY) {
+
+        mDataSet = set;
+        mVersion = version;
+        mEntryCount = count;
+        getEdges(set, mEdges);
+        mPhaseY = phaseY;
+        mScaleX = scaleX;
+        mScaleY = scaleY;
+        mTransX = transX;
+        mTransY = transY;
+        mOffsetX = 0f;
+        mOffsetY = 0f;
+
+        return true;
+    }
+
+    /**
+     * Returns the y-value with the given index (0 to getYCount() - 1) of the given entry.
+     *
+     * @param e
+     * @param index
+     * @return
+     */
+    protected float getYValue(Entry e, int index) {
+        return e.getY();
+    }
+
+    /**
+     * Writes the x- and y-values of the first and last cached entry into the given array.
+     */
+    private float[] getEdges(IDataSet<?> set, float[] out) {
+
+        if (mTo < mFrom) {
+            Arrays.fill(out, 0f);
+            return out;
+        }
+
+        if (set instanceof IFloatValueDataSet) {
+
+            final IFloatValueDataSet values = (IFloatValueDataSet) set;
+
+            out[0] = values.getX(mFrom);
+            out[1] = values.getY(mFrom);
+            out[2] = values.getX(mTo);
+            out[3] = values.getY(mTo);
+            return out;
+        }
+
+        final Entry first = set.getEntryForIndex(mFrom);
+        final Entry last = set.getEntryForIndex(mTo);
+
+        out[0] = first == null ? 0f : first.getX();
+        out[1] = first == null ? 0f : first.getY();
+        out[2] = last == null ? 0f : last.getX();
+        out[3] = last == null ? 0f : last.getY();
+        return out;
+    }
+
+    /**
+     * Forces a rebuild on the next update. Call this after modifying entries of the DataSet
+     * (e.g. changing the y-value of an Entry) without calling notifyDataSetChanged() on the
+     * DataSet, such changes are only detected if they affect the number of entries or the
+     * first or last cached entry.
+     */
+    public void invalidate() {
+        mDataSet = null;
+        mFrom = 0;
+        mTo = -1;
+    }
+
+    /**
+     * Returns the horizontal scale of the transformation, in pixels per x-value.
+     *
+     * @return
+     */
+    public float getScaleX() {
+        return mScaleX;
+    }
+
+    /**
+     * Returns the vertical scale of the transformation, in pixels per y-value (negative if
+     * the axis is not inverted).
+     *
+     * @return
+     */
+    public float getScaleY() {
+        return mScaleY;
+    }
+
+    public int getYCount() {
+        return mYCount;
+    }
+
+    /**
+     * Returns the index of the first cached entry.
+     *
+     * @return
+     */
+    public int getFrom() {
+        return mFrom;
+    }
+
+    /**
+     * Returns the index of the last cached entry.
+     *
+     * @return
+     */
+    public int getTo() {
+        return mTo;
+    }
+
+    /**
+     * Returns the translation in pixels that has to be added to the cached positions, see
+     * getRawX(...) and getRawY(...). Can also be applied as a canvas translation.
+     *
+     * @return
+     */
+    public float getOffsetX() {
+        return mOffsetX;
+    }
+
+    public float getOffsetY() {
+        return mOffsetY;
+    }
+
+    /**
+     * Returns the pixel x-position of the entry at the given index.
+     *
+     * @param index index of the entry in the DataSet
+     * @return
+     */
+    public float getX(int index) {
+        return mX[index - mFrom] + mOffsetX;
+    }
+
+    /**
+     * Returns the (first) pixel y-position of the entry at the given index.
+     *
+     * @param index index of the entry in the DataSet
+     * @return
+     */
+    public float getY(int index) {
+        return mY[(index - mFrom) * mYCount] + mOffsetY;
+    }
+
+    /**
+     * Returns the pixel y-position with the given index of the entry at the given index.
+     *
+     * @param index  index of the entry in the DataSet
+     * @param yIndex 0 to getYCount() - 1
+     * @return
+     */
+    public float getY(int index, int yIndex) {
+        return mY[(index - mFrom) * mYCount + yIndex] + mOffsetY;
+    }
+
+    /**
+     * Returns the cached x-position of the entry at the given index, without the offset.
+     *
+     * @param index index of the entry in the DataSet
+     * @return
+     */
+    public float getRawX(int index) {
+        return mX[index - mFrom];
+    }
+
+    /**
+     * Returns the cached (first) y-position of the entry at the given index, without the
+     * offset.
+     *
+     * @param index index of the entry in the DataSet
+     * @return
+     */
+    public float getRawY(int index) {
+        return mY[(index - mFrom) * mYCount];
+    }
+}
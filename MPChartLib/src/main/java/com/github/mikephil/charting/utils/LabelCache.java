@@ -0,0 +1,552 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+
+import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.PieEntry;
+import com.github.mikephil.charting.data.RadarEntry;
+import com.github.mikephil.charting.formatter.ValueFormatter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of formatted labels and of text measurements, shared by the axis,
+ * legend and value renderers. While panning, the same labels are formatted and measured in
+ * every frame, with the cache this happens only once per label. Labels are only cached for
+ * formatters that return true from ValueFormatter.isLabelCachingSupported(), they are
+ * identified by the formatter, its format version, the kind of label and the value.
+ * Measurements are identified by the text and the size, scale and typeface of the paint.
+ * Lookups do not allocate. All methods are thread-safe, usually the shared cache is used, see
+ * getShared().
+ */
+public class LabelCache {
+
+    /**
+     * the default number of cached labels and of cached measurements
+     */
+    public static final int DEFAULT_CAPACITY = 512;
+
+    private static final int KIND_AXIS = 0;
+    private static final int KIND_BAR = 1;
+    private static final int KIND_BAR_STACKED = 2;
+    private static final int KIND_POINT = 3;
+    private static final int KIND_PIE = 4;
+    private static final int KIND_RADAR = 5;
+    private static final int KIND_BUBBLE = 6;
+    private static final int KIND_CANDLE = 7;
+    private static final int KIND_VALUE = 8;
+
+    private static LabelCache mShared = null;
+
+    /**
+     * Returns the cache that is shared by all charts.
+     *
+     * @return
+     */
+    public static synchronized LabelCache getShared() {
+
+        if (mShared == null)
+            mShared = new LabelCache(DEFAULT_CAPACITY, DEFAULT_CAPACITY);
+
+        return mShared;
+    }
+
+    private int mLabelCapacity;
+    private int mMeasureCapacity;
+
+    private final LinkedHashMap<LabelKey, String> mLabels =
+            new LinkedHashMap<LabelKey, String>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<LabelKey, String> eldest) {
+                    return size() > mLabelCapacity;
+                }
+            };
+
+    private final LinkedHashMap<MeasureKey, float[]> mMeasurements =
+            new LinkedHashMap<MeasureKey, float[]>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<MeasureKey, float[]> eldest) {
+                    return size() > mMeasureCapacity;
+                }
+            };
+
+    /**
+     * keys for lookups, to avoid allocations
+     */
+    private final LabelKey mLabelLookupKey = new LabelKey();
+    private final MeasureKey mMeasureLookupKey = new MeasureKey();
+
+    private final Rect mBoundsBuffer = new Rect();
+
+    private long mLabelHits = 0;
+    private long mLabelMisses = 0;
+    private long mMeasureHits = 0;
+    private long mMeasureMisses = 0;
+
+    /**
+     * @param labelCapacity   the maximum number of cached labels
+     * @param measureCapacity the maximum number of cached measurements
+     */
+    public LabelCache(int labelCapacity, int measureCapacity) {
+        mLabelCapacity = labelCapacity;
+        mMeasureCapacity = measureCapacity;
+    }
+
+    /**
+     * Returns ValueFormatter.getFormattedValue(value) of the given formatter.
+     *
+     * @param formatter
+     * @param value
+     * @return
+     */
+    public String getFormattedValue(ValueFormatter formatter, float value) {
+        return getLabel(formatter, KIND_VALUE, value, null, null);
+    }
+
+    /**
+     * Returns ValueFormatter.getAxisLabel(value, axis) of the given formatter.
+     *
+     * @param formatter
+     * @param value
+     * @param axis
+     * @return
+     */
+    public String getAxisLabel(ValueFormatter formatter, float value, AxisBase axis) {
+        return getLabel(formatter, KIND_AXIS, value, null, axis);
+    }
+
+    /**
+     * Returns ValueFormatter.getBarLabel(entry) of the given formatter.
+     *
+     * @param formatter
+     * @param entry
+     * @return
+     */
+    public String getBarLabel(ValueFormatter formatter, BarEntry entry) {
+        return getLabel(formatter, KIND_BAR, entry.getY(), entry, null);
+    }
+
+    /**
+     * Returns ValueFormatter.getBarStackedLabel(value, entry) of the given formatter.
+     *
+     * @param formatter
+     * @param value
+     * @param entry
+     * @return
+     */
+    public String getBarStackedLabel(ValueFormatter formatter, float value, BarEntry entry) {
+        return getLabel(formatter, KIND_BAR_STACKED, value, entry, null);
+    }
+
+    /**
+     * Returns ValueFormatter.getPointLabel(entry) of the given formatter.
+     *
+     * @param formatter
+     * @param entry
+     * @return
+     */
+    public String getPointLabel(ValueFormatter formatter, Entry entry) {
+        return getLabel(formatter, KIND_POINT, entry.getY(), entry, null);
+    }
+
+    /**
+     * Returns ValueFormatter.getPieLabel(value, entry) of the given formatter.
+     *
+     * @param formatter
+     * @param value
+     * @param entry
+     * @return
+     */
+    public String getPieLabel(ValueFormatter formatter, float value, PieEntry entry) {
+        return getLabel(formatter, KIND_PIE, value, entry, null);
+    }
+
+    /**
+     * Returns ValueFormatter.getRadarLabel(entry) of the given formatter.
+     *
+     * @param formatter
+     * @param entry
+     * @return
+     */
+    public String getRadarLabel(ValueFormatter formatter, RadarEntry entry) {
+        return getLabel(formatter, KIND_RADAR, entry.getY(), entry, null);
+    }
+
+    /**
+     * Returns ValueFormatter.getBubbleLabel(entry) of the given formatter.
+     *
+     * @param formatter
+     * @param entry
+     * @return
+     */
+    public String getBubbleLabel(ValueFormatter formatter, BubbleEntry entry) {
+        return getLabel(formatter, KIND_BUBBLE, entry.getSize(), entry, null);
+    }
+
+    /**
+     * Returns ValueFormatter.getCandleLabel(entry) of the given formatter.
+     *
+     * @param formatter
+     * @param entry
+     * @return
+     */
+    public String getCandleLabel(ValueFormatter formatter, CandleEntry entry) {
+        return getLabel(formatter, KIND_CANDLE, entry.getHigh(), entry, null);
+    }
+
+    /**
+     * Returns the width of the given text, like Utils.calcTextWidth(...).
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public synchronized int calcTextWidth(Paint paint, String text) {
+        return (int) measure(paint, text)[0];
+    }
+
+    /**
+     * Returns the height of the bounds of the given text, like Utils.calcTextHeight(...).
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public synchronized int calcTextHeight(Paint paint, String text) {
+        return (int) measure(paint, text)[2];
+    }
+
+    /**
+     * Calculates the size of the bounds of the given text, like Utils.calcTextSize(...).
+     *
+     * @param paint
+     * @param text
+     * @param outputFSize An output variable, modified by the function.
+     */
+    public synchronized void calcTextSize(Paint paint, String text, FSize outputFSize) {
+
+        final float[] size = measure(paint, text);
+        outputFSize.width = size[1];
+        outputFSize.height = size[2];
+    }
+
+    /**
+     * Returns a recyclable FSize instance with the size of the bounds of the given text, like
+     * Utils.calcTextSize(...).
+     *
+     * @param paint
+     * @param text
+     * @return A Recyclable FSize instance
+     */
+    public FSize calcTextSize(Paint paint, String text) {
+
+        FSize result = FSize.getInstance(0, 0);
+        calcTextSize(paint, text, result);
+        return result;
+    }
+
+    /**
+     * Sets the maximum number of cached labels, the least recently used ones are dropped.
+     *
+     * @param capacity
+     */
+    public synchronized void setLabelCapacity(int capacity) {
+        mLabelCapacity = capacity;
+        trim(mLabels, capacity);
+    }
+
+    public synchronized int getLabelCapacity() {
+        return mLabelCapacity;
+    }
+
+    /**
+     * Sets the maximum number of cached measurements, the least recently used ones are
+     * dropped.
+     *
+     * @param capacity
+     */
+    public synchronized void setMeasureCapacity(int capacity) {
+        mMeasureCapacity = capacity;
+        trim(mMeasurements, capacity);
+    }
+
+    public synchronized int getMeasureCapacity() {
+        return mMeasureCapacity;
+    }
+
+    /**
+     * Returns the number of cached labels.
+     *
+     * @return
+     */
+    public synchronized int getLabelCount() {
+        return mLabels.size();
+    }
+
+    /**
+     * Returns the number of cached measurements.
+     *
+     * @return
+     */
+    public synchronized int getMeasureCount() {
+        return mMeasurements.size();
+    }
+
+    public synchronized long getLabelHits() {
+        return mLabelHits;
+    }
+
+    public synchronized long getLabelMisses() {
+        return mLabelMisses;
+    }
+
+    public synchronized long getMeasureHits() {
+        return mMeasureHits;
+    }
+
+    public synchronized long getMeasureMisses() {
+        return mMeasureMisses;
+    }
+
+    /**
+     * Returns the share of label lookups that were served from the cache (0 to 1).
+     *
+     * @return
+     */
+    public synchronized float getLabelHitRate() {
+        final long total = mLabelHits + mLabelMisses;
+        return total == 0 ? 0f : mLabelHits / (float) total;
+    }
+
+    /**
+     * Returns the share of measurements that were served from the cache (0 to 1).
+     *
+     * @return
+     */
+    public synchronized float getMeasureHitRate() {
+        final long total = mMeasureHits + mMeasureMisses;
+        return total == 0 ? 0f : mMeasureHits / (float) total;
+    }
+
+    /**
+     * Resets the hit and miss counters.
+     */
+    public synchronized void resetStats() {
+        mLabelHits = 0;
+        mLabelMisses = 0;
+        mMeasureHits = 0;
+        mMeasureMisses = 0;
+    }
+
+    /**
+     * Drops all cached labels and measurements, e.g. to release the cached formatters.
+     */
+    public synchronized void clear() {
+        mLabels.clear();
+        mMeasurements.clear();
+    }
+
+    /**
+     * Returns the label of the given kind from the cache, formats and stores it if it is not
+     * cached yet.
+     *
+     * @param formatter
+     * @param kind
+     * @param value     the value the label is cached for
+     * @param entry     the entry the label belongs to, null for values and axis labels
+     * @param axis      the axis the label belongs to, null for all other labels
+     * @return
+     */
+    private String getLabel(ValueFormatter formatter, int kind, float value, Entry entry,
+                            AxisBase axis) {
+
+        if (!formatter.isLabelCachingSupported())
+            return format(formatter, kind, value, entry, axis);
+
+        synchronized (this) {
+
+            String label = lookup(formatter, kind, value);
+
+            if (label == null) {
+                label = format(formatter, kind, value, entry, axis);
+                store(formatter, kind, value, label);
+            }
+
+            return label;
+        }
+    }
+
+    private static String format(ValueFormatter formatter, int kind, float value, Entry entry,
+                                 AxisBase axis) {
+
+        switch (kind) {
+            case KIND_AXIS:
+                return formatter.getAxisLabel(value, axis);
+            case KIND_BAR:
+                return formatter.getBarLabel((BarEntry) entry);
+            case KIND_BAR_STACKED:
+                return formatter.getBarStackedLabel(value, (BarEntry) entry);
+            case KIND_POINT:
+                return formatter.getPointLabel(entry);
+            case KIND_PIE:
+                return formatter.getPieLabel(value, (PieEntry) entry);
+            case KIND_RADAR:
+                return formatter.getRadarLabel((RadarEntry) entry);
+            case KIND_BUBBLE:
+                return formatter.getBubbleLabel((BubbleEntry) entry);
+            case KIND_CANDLE:
+                return formatter.getCandleLabel((CandleEntry) entry);
+            default:
+                return formatter.getFormattedValue(value);
+        }
+    }
+
+    private String lookup(ValueFormatter formatter, int kind, float value) {
+
+        mLabelLookupKey.set(formatter, formatter.getFormatVersion(), kind, value);
+
+        final String label = mLabels.get(mLabelLookupKey);
+
+        if (label != null)
+            mLabelHits++;
+        else
+            mLabelMisses++;
+
+        // do not keep the formatter alive through the lookup key
+        mLabelLookupKey.formatter = null;
+
+        return label;
+    }
+
+    private void store(ValueFormatter formatter, int kind, float value, String label) {
+
+        if (label == null)
+            return;
+
+        final LabelKey key = new LabelKey();
+        key.set(formatter, formatter.getFormatVersion(), kind, value);
+        mLabels.put(key, label);
+    }
+
+    /**
+     * Returns the measure width, the bounds width and the bounds height of the given text.
+     */
+    private float[] measure(Paint paint, String text) {
+
+        final MeasureKey lookup = mMeasureLookupKey;
+        lookup.set(text, paint.getTextSize(), paint.getTextScaleX(), paint.getTypeface());
+
+        float[] size = mMeasurements.get(lookup);
+
+        lookup.text = null;
+        lookup.typeface = null;
+
+        if (size != null) {
+            mMeasureHits++;
+            return size;
+        }
+
+        mMeasureMisses++;
+
+        final Rect r = mBoundsBuffer;
+        r.set(0, 0, 0, 0);
+        paint.getTextBounds(text, 0, text.length(), r);
+
+        size = new float[]{paint.measureText(text), r.width(), r.height()};
+
+        final MeasureKey key = new MeasureKey();
+        key.set(text, paint.getTextSize(), paint.getTextScaleX(), paint.getTypeface());
+        mMeasurements.put(key, size);
+
+        return size;
+    }
+
+    private static <K, V> void trim(LinkedHashMap<K, V> map, int capacity) {
+
+        while (map.size() > Math.max(0, capacity))
+            map.remove(map.keySet().iterator().next());
+    }
+
+    private static class LabelKey {
+
+        ValueFormatter formatter;
+        int version;
+        int kind;
+        int valueBits;
+
+        void set(ValueFormatter formatter, int version, int kind, float value) {
+            this.formatter = formatter;
+            this.version = version;
+            this.kind = kind;
+            this.valueBits = Float.floatToIntBits(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o)
+                return true;
+
+            if (!(o instanceof LabelKey))
+                return false;
+
+            final LabelKey other = (LabelKey) o;
+            return formatter == other.formatter && version == other.version
+                    && kind == other.kind && valueBits == other.valueBits;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(formatter);
+            result = 31 * result + version;
+            result = 31 * result + kind;
+            result = 31 * result + valueBits;
+            return result;
+        }
+    }
+
+    private static class MeasureKey {
+
+        String text;
+        float textSize;
+        float textScaleX;
+        Typeface typeface;
+
+        void set(String text, float textSize, float textScaleX, Typeface typeface) {
+            this.text = text;
+            this.textSize = textSize;
+            this.textScaleX = textScaleX;
+            this.typeface = typeface;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o)
+                return true;
+
+            if (!(o instanceof MeasureKey))
+                return false;
+
+            final MeasureKey other = (MeasureKey) o;
+            return textSize == other.textSize && textScaleX == other.textScaleX
+                    && typeface == other.typeface && text.equals(other.text);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = text.hashCode();
+            result = 31 * result + Float.floatToIntBits(textSize);
+            result = 31 * result + Float.floatToIntBits(textScaleX);
+            result = 31 * result + System.identityHashCode(typeface);
+            return result;
+        }
+    }
+}
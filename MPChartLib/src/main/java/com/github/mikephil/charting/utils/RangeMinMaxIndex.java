@@ -0,0 +1,359 @@
+package com.github.mikephil.charting.utils;
+
+/**
+ * Index for answering "what is the minimum and maximum value between index a and b" queries in
+ * O(log n) instead of scanning all values in the range. Used by DataSets for the
+ * autoScaleMinMax feature.
+ * The values themselves are not stored, they are read from a ValueSource. The index is a
+ * segment tree over blocks of 32 consecutive values, which keeps its memory footprint at a
+ * fraction of the indexed data. A query scans at most two partial blocks and walks the tree
+ * for the blocks in between.
+ * Appending values and removing values from either end are incremental, all other
+ * modifications require a rebuild().
+ */
+public class RangeMinMaxIndex {
+
+    /**
+     * Provides the values that are indexed. Values that are NaN are ignored.
+     */
+    public interface ValueSource {
+
+        /**
+         * Returns the lowest value at the given index.
+         *
+         * @param index
+         * @return
+         */
+        float getLowValue(int index);
+
+        /**
+         * Returns the highest value at the given index.
+         *
+         * @param index
+         * @return
+         */
+        float getHighValue(int index);
+    }
+
+    private static final int BLOCK_SHIFT = 5;
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    private final ValueSource mSource;
+
+    /**
+     * the number of indexed values
+     */
+    private int mSize = 0;
+
+    /**
+     * the position of the value at index 0 in the blocks, increases when values are removed from
+     * the front
+     */
+    private int mOffset = 0;
+
+    /**
+     * the number of leaves (blocks) of the tree, always a power of two
+     */
+    private int mLeafCount = 0;
+
+    /**
+     * minimum and maximum per tree node, the root is at index 1, leaves start at mLeafCount
+     */
+    private float[] mTreeMin = new float[0];
+    private float[] mTreeMax = new float[0];
+
+    /**
+     * the result of the last query
+     */
+    private float mRangeMin = Float.MAX_VALUE;
+    private float mRangeMax = -Float.MAX_VALUE;
+
+    public RangeMinMaxIndex(ValueSource source) {
+        mSource = source;
+    }
+
+    /**
+     * Returns the number of indexed values.
+     *
+     * @return
+     */
+    public int getSize() {
+        return mSize;
+    }
+
+    /**
+     * Rebuilds the index for the given number of values from scratch. O(n)
+     *
+     * @param size
+     */
+    public void rebuild(int size) {
+
+        mSize = size;
+        mOffset = 0;
+
+        // leave room for as many values again so that appending stays amortized O(log n)
+        int blocks = (size * 2 >> BLOCK_SHIFT) + 1;
+
+        int leafCount = 1;
+        while (leafCount < blocks)
+            leafCount <<= 1;
+
+        if (mLeafCount != leafCount) {
+            mLeafCount = leafCount;
+            mTreeMin = new float[leafCount * 2];
+            mTreeMax = new float[leafCount * 2];
+        }
+
+        for (int block = 0; block < leafCount; block++) {
+            calcLeaf(block);
+        }
+
+        for (int node = leafCount - 1; node > 0; node--) {
+            calcNode(node);
+        }
+    }
+
+    /**
+     * Makes this index a copy of the given one, which has to index the same values (e.g. of a
+     * copy of a DataSet). Only copies the tree, which is a fraction of the size of the
+     * values, instead of reading all values like rebuild(...). O(n / 32)
+     *
+     * @param other
+     */
+    public void copyFrom(RangeMinMaxIndex other) {
+
+        mSize = other.mSize;
+        mOffset = other.mOffset;
+        mLeafCount = other.mLeafCount;
+        mTreeMin = other.mTreeMin.clone();
+        mTreeMax = other.mTreeMax.clone();
+    }
+
+    /**
+     * Adds the value the source provides at index getSize() to the index. Amortized O(log n)
+     */
+    public void append() {
+
+        int block = (mOffset + mSize) >> BLOCK_SHIFT;
+
+        if (block >= mLeafCount) {
+            rebuild(mSize + 1);
+            return;
+        }
+
+        final int index = mSize;
+        mSize++;
+
+        int node = mLeafCount + block;
+
+        final float low = mSource.getLowValue(index);
+        final float high = mSource.getHighValue(index);
+
+        if (low < mTreeMin[node])
+            mTreeMin[node] = low;
+
+        if (high > mTreeMax[node])
+            mTreeMax[node] = high;
+
+        propagate(node);
+    }
+
+    /**
+     * Removes the first value from the index. The source must already have removed it, so that
+     * the former index 1 is now index 0. O(log n)
+     */
+    public void removeFirst() {
+
+        if (mSize == 0)
+            return;
+
+        final int block = mOffset >> BLOCK_SHIFT;
+
+        mOffset++;
+        mSize--;
+
+        updateLeaf(block);
+    }
+
+    /**
+     * Removes the last value from the index. The source must already have removed it. O(log n)
+     */
+    public void removeLast() {
+
+        if (mSize == 0)
+            return;
+
+        mSize--;
+
+        updateLeaf((mOffset + mSize) >> BLOCK_SHIFT);
+    }
+
+    /**
+     * Removes the value at the given index. The source must already have removed it.
+     * O(log n) at either end, O(n) otherwise.
+     *
+     * @param index
+     */
+    public void remove(int index) {
+
+        if (index == 0)
+            removeFirst();
+        else if (index == mSize - 1)
+            removeLast();
+        else
+            rebuild(mSize - 1);
+    }
+
+    /**
+     * Calculates the minimum and maximum of the values between the given indices (both
+     * inclusive). The result can be retrieved with getRangeMin() and getRangeMax().
+     * O(log n)
+     *
+     * @param from
+     * @param to
+     */
+    public void query(int from, int to) {
+
+        mRangeMin = Float.MAX_VALUE;
+        mRangeMax = -Float.MAX_VALUE;
+
+        if (from < 0)
+            from = 0;
+
+        if (to >= mSize)
+            to = mSize - 1;
+
+        if (from > to)
+            return;
+
+        int firstBlock = (from + mOffset) >> BLOCK_SHIFT;
+        int lastBlock = (to + mOffset) >> BLOCK_SHIFT;
+
+        if (firstBlock == lastBlock) {
+            scan(from, to);
+            return;
+        }
+
+        // partial blocks at both ends
+        int firstFull = firstBlock;
+        int lastFull = lastBlock;
+
+        if (((from + mOffset) & (BLOCK_SIZE - 1)) != 0) {
+            scan(from, ((firstBlock + 1) << BLOCK_SHIFT) - mOffset - 1);
+            firstFull++;
+        }
+
+        if (((to + mOffset + 1) & (BLOCK_SIZE - 1)) != 0) {
+            scan((lastBlock << BLOCK_SHIFT) - mOffset, to);
+            lastFull--;
+        }
+
+        // full blocks in between, bottom-up walk of the tree
+        int l = firstFull + mLeafCount;
+        int r = lastFull + mLeafCount + 1;
+
+        while (l < r) {
+
+            if ((l & 1) == 1) {
+                include(l);
+                l++;
+            }
+
+            if ((r & 1) == 1) {
+                r--;
+                include(r);
+            }
+
+            l >>= 1;
+            r >>= 1;
+        }
+    }
+
+    /**
+     * Returns the minimum of the last query, Float.MAX_VALUE if there were no values.
+     *
+     * @return
+     */
+    public float getRangeMin() {
+        return mRangeMin;
+    }
+
+    /**
+     * Returns the maximum of the last query, -Float.MAX_VALUE if there were no values.
+     *
+     * @return
+     */
+    public float getRangeMax() {
+        return mRangeMax;
+    }
+
+    private void include(int node) {
+
+        if (mTreeMin[node] < mRangeMin)
+            mRangeMin = mTreeMin[node];
+
+        if (mTreeMax[node] > mRangeMax)
+            mRangeMax = mTreeMax[node];
+    }
+
+    private void scan(int from, int to) {
+
+        for (int i = from; i <= to; i++) {
+
+            final float low = mSource.getLowValue(i);
+            final float high = mSource.getHighValue(i);
+
+            if (low < mRangeMin)
+                mRangeMin = low;
+
+            if (high > mRangeMax)
+                mRangeMax = high;
+        }
+    }
+
+    private void updateLeaf(int block) {
+        calcLeaf(block);
+        propagate(mLeafCount + block);
+    }
+
+    /**
+     * Recalculates the leaf of the given block from the values it covers.
+     */
+    private void calcLeaf(int block) {
+
+        final int node = mLeafCount + block;
+
+        final int from = Math.max(block << BLOCK_SHIFT, mOffset) - mOffset;
+        final int to = Math.min((block + 1) << BLOCK_SHIFT, mOffset + mSize) - mOffset;
+
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+
+        for (int i = from; i < to; i++) {
+
+            final float low = mSource.getLowValue(i);
+            final float high = mSource.getHighValue(i);
+
+            if (low < min)
+                min = low;
+
+            if (high > max)
+                max = high;
+        }
+
+        mTreeMin[node] = min;
+        mTreeMax[node] = max;
+    }
+
+    private void calcNode(int node) {
+        mTreeMin[node] = Math.min(mTreeMin[node * 2], mTreeMin[node * 2 + 1]);
+        mTreeMax[node] = Math.max(mTreeMax[node * 2], mTreeMax[node * 2 + 1]);
+    }
+
+    private void propagate(int node) {
+
+        for (node >>= 1; node > 0; node >>= 1) {
+            calcNode(node);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.github.mikephil.charting.utils;
+
+/**
+ * Keeps track of the minimum and maximum of a window of values that are added at the end and
+ * removed from the front, like the entries of a realtime chart that only shows the latest
+ * values. Both operations run in amortized O(1), the minimum and maximum are available in O(1).
+ * The window is maintained with two monotonic deques, one for the minimum and one for the
+ * maximum. Removing values anywhere else than at the front requires a clear() and re-adding
+ * the remaining values.
+ */
+public class SlidingWindowMinMax {
+
+    /**
+     * the sequence number of the first value in the window
+     */
+    private int mHead = 0;
+
+    /**
+     * the sequence number the next added value will get
+     */
+    private int mTail = 0;
+
+    private final MonotonicDeque mMinDeque = new MonotonicDeque(true);
+    private final MonotonicDeque mMaxDeque = new MonotonicDeque(false);
+
+    /**
+     * Adds a value to the end of the window. NaN values are ignored for the minimum and
+     * maximum, but still occupy a position in the window.
+     *
+     * @param low  the lowest value at this position
+     * @param high the highest value at this position
+     */
+    public void add(float low, float high) {
+
+        if (!Float.isNaN(low))
+            mMinDeque.add(mTail, low);
+
+        if (!Float.isNaN(high))
+            mMaxDeque.add(mTail, high);
+
+        mTail++;
+    }
+
+    /**
+     * Removes the first value from the window.
+     */
+    public void removeFirst() {
+
+        if (mHead == mTail)
+            return;
+
+        mMinDeque.removeHead(mHead);
+        mMaxDeque.removeHead(mHead);
+
+        mHead++;
+    }
+
+    /**
+     * Removes all values from the window.
+     */
+    public void clear() {
+        mHead = 0;
+        mTail = 0;
+        mMinDeque.clear();
+        mMaxDeque.clear();
+    }
+
+    /**
+     * Returns the number of values in the window.
+     *
+     * @return
+     */
+    public int getSize() {
+        return mTail - mHead;
+    }
+
+    /**
+     * Returns the minimum of all values in the window, Float.MAX_VALUE if the window is empty.
+     *
+     * @return
+     */
+    public float getMin() {
+        return mMinDeque.isEmpty() ? Float.MAX_VALUE : mMinDeque.getFirstValue();
+    }
+
+    /**
+     * Returns the maximum of all values in the window, -Float.MAX_VALUE if the window is empty.
+     *
+     * @return
+     */
+    public float getMax() {
+        return mMaxDeque.isEmpty() ? -Float.MAX_VALUE : mMaxDeque.getFirstValue();
+    }
+
+    /**
+     * Deque of (sequence number, value) pairs whose values are strictly increasing (for the
+     * minimum) or decreasing (for the maximum) from front to back, so that the front always
+     * holds the extreme of the window. Backed by power-of-two sized ring buffers.
+     */
+    private static class MonotonicDeque {
+
+        private final boolean mMin;
+
+        private int[] mSequences = new int[16];
+        private float[] mValues = new float[16];
+
+        private int mStart = 0;
+        private int mCount = 0;
+
+        MonotonicDeque(boolean min) {
+            mMin = min;
+        }
+
+        boolean isEmpty() {
+            return mCount == 0;
+        }
+
+        float getFirstValue() {
+            return mValues[mStart];
+        }
+
+        void add(int sequence, float value) {
+
+            final int mask = mValues.length - 1;
+
+            // values that can never become the extreme again are dropped from the back
+            while (mCount > 0) {
+
+                final float last = mValues[(mStart + mCount - 1) & mask];
+
+                if (mMin ? last >= value : last <= value)
+                    mCount--;
+                else
+                    break;
+            }
+
+            if (mCount == mValues.length)
+                grow();
+
+            final int position = (mStart + mCount) & (mValues.length - 1);
+            mSequences[position] = sequence;
+            mValues[position] = value;
+            mCount++;
+        }
+
+        void removeHead(int sequence) {
+
+            if (mCount > 0 && mSequences[mStart] == sequence) {
+                mStart = (mStart + 1) & (mValues.length - 1);
+                mCount--;
+            }
+        }
+
+        void clear() {
+            mStart = 0;
+            mCount = 0;
+        }
+
+        private void grow() {
+
+            final int capacity = mValues.length;
+
+            int[] sequences = new int[capacity * 2];
+            float[] values = new float[capacity * 2];
+
+            for (int i = 0; i < mCount; i++) {
+                sequences[i] = mSequences[(mStart + i) & (capacity - 1)];
+                values[i] = mValues[(mStart + i) & (capacity - 1)];
+            }
+
+            mSequences = sequences;
+            mValues = values;
+            mStart = 0;
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.github.mikephil.charting.utils;
+
+/**
+ * Two-dimensional index of points for nearest-neighbour queries, used by DataSets to find the
+ * entry closest to a touch position without comparing all entries. The points are sorted
+ * into a uniform grid over their bounds with a few points per cell. A query visits the cells
+ * in rings around the cell of the query position and stops as soon as no closer point can be
+ * found in the remaining rings. Distances are measured after scaling x and y separately, so
+ * that queries can be answered in pixel space for any zoom level.
+ * Like the RangeMinMaxIndex, the coordinates are not stored but read from a PointSource.
+ * Appending points and removing points from the front are incremental; points outside of the
+ * grid are kept in an overflow list until there are too many. All other modifications mark
+ * the index dirty, it has to be rebuilt before the next query.
+ */
+public class SpatialIndex {
+
+    /**
+     * Provides the points that are indexed. Points with a NaN coordinate are ignored.
+     */
+    public interface PointSource {
+
+        float getX(int index);
+
+        float getY(int index);
+    }
+
+    /**
+     * the average number of points per cell the grid is built for
+     */
+    private static final int POINTS_PER_CELL = 4;
+
+    private static final int MAX_CELLS_PER_SIDE = 1024;
+
+    private final PointSource mSource;
+
+    /**
+     * the number of indexed points
+     */
+    private int mSize = 0;
+
+    /**
+     * the id of the point at index 0, ids below it belong to removed points
+     */
+    private int mOffset = 0;
+
+    private boolean mDirty = true;
+
+    private int mCols = 0;
+    private int mRows = 0;
+
+    private float mMinX = 0f;
+    private float mMinY = 0f;
+    private float mCellWidth = 1f;
+    private float mCellHeight = 1f;
+
+    /**
+     * the ids of the points per cell, row by row
+     */
+    private int[][] mCells = new int[0][];
+    private int[] mCellCounts = new int[0];
+
+    /**
+     * the ids of the points outside of the grid
+     */
+    private int[] mOverflow = new int[16];
+    private int mOverflowCount = 0;
+
+    /**
+     * the distance of the result of the last query
+     */
+    private float mLastDistance = Float.NaN;
+
+    public SpatialIndex(PointSource source) {
+        mSource = source;
+    }
+
+    /**
+     * Returns the number of indexed points.
+     *
+     * @return
+     */
+    public int getSize() {
+        return mSize;
+    }
+
+    /**
+     * Returns true if the index has to be rebuilt before it can be queried.
+     *
+     * @return
+     */
+    public boolean isDirty() {
+        return mDirty;
+    }
+
+    /**
+     * Marks the index as dirty, e.g. after points were modified.
+     */
+    public void invalidate() {
+        mDirty = true;
+    }
+
+    /**
+     * Rebuilds the index for the given number of points from scratch. O(n)
+     *
+     * @param size
+     */
+    public void rebuild(int size) {
+
+        mSize = size;
+        mOffset = 0;
+        mOverflowCount = 0;
+        mDirty = false;
+
+        float minX = Float.MAX_VALUE, maxX = -Float.MAX_VALUE;
+        float minY = Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+
+        for (int i = 0; i < size; i++) {
+
+            final float x = mSource.getX(i);
+            final float y = mSource.getY(i);
+
+            if (Float.isNaN(x) || Float.isNaN(y))
+                continue;
+
+            if (x < minX) minX = x;
+            if (x > maxX) maxX = x;
+            if (y < minY) minY = y;
+            if (y > maxY) maxY = y;
+        }
+
+        if (minX > maxX) {
+            minX = maxX = 0f;
+            minY = maxY = 0f;
+        }
+
+        final int side = (int) Math.ceil(Math.sqrt(size / (double) POINTS_PER_CELL));
+        mCols = Math.max(1, Math.min(MAX_CELLS_PER_SIDE, side));
+        mRows = mCols;
+
+        mMinX = minX;
+        mMinY = minY;
+
+        // the cells are slightly larger than necessary so that the maximum ends up inside
+        mCellWidth = maxX > minX ? (maxX - minX) / mCols * 1.0001f : 1f;
+        mCellHeight = maxY > minY ? (maxY - minY) / mRows * 1.0001f : 1f;
+
+        final int cellCount = mCols * mRows;
+
+        if (mCells.length != cellCount) {
+            mCells = new int[cellCount][];
+            mCellCounts = new int[cellCount];
+        } else {
+            for (int c = 0; c < cellCount; c++)
+                mCellCounts[c] = 0;
+        }
+
+        for (int i = 0; i < size; i++)
+            insert(i, mSource.getX(i), mSource.getY(i));
+    }
+
+    /**
+     * Adds the point the source provides at index getSize() to the index. Amortized O(1)
+     */
+    public void append() {
+
+        final int index = mSize;
+        mSize++;
+
+        if (mDirty)
+            return;
+
+        insert(mOffset + index, mSource.getX(index), mSource.getY(index));
+
+        // too many points outside of the grid make queries slow
+        if (mOverflowCount > Math.max(64, mSize / 8))
+            mDirty = true;
+    }
+
+    /**
+     * Removes the first point from the index. The source must already have removed it, so that
+     * the former index 1 is now index 0. O(1)
+     */
+    public void removeFirst() {
+
+        if (mSize == 0)
+            return;
+
+        mOffset++;
+        mSize--;
+
+        // the ids of removed points are skipped by queries until there are too many
+        if (mOffset > mSize)
+            mDirty = true;
+    }
+
+    /**
+     * Removes the point at the given index. The source must already have removed it. O(1) at
+     * the front, otherwise the index becomes dirty.
+     *
+     * @param index
+     */
+    public void remove(int index) {
+
+        if (index == 0) {
+            removeFirst();
+        } else {
+            mSize--;
+            mDirty = true;
+        }
+    }
+
+    /**
+     * Returns the index of the point closest to the given position, or -1 if there is no point
+     * closer than maxDistance. The distance between two points is
+     * hypot((x1 - x2) * scaleX, (y1 - y2) * scaleY), e.g. in pixels if the scales are the ones
+     * of the value-to-pixel transformation. The distance of the result can be retrieved with
+     * getLastDistance(). The index must not be dirty.
+     *
+     * @param x
+     * @param y
+     * @param scaleX
+     * @param scaleY
+     * @param maxDistance
+     * @return
+     */
+    public int findNearest(float x, float y, float scaleX, float scaleY, float maxDistance) {
+
+        if (mDirty)
+            throw new IllegalStateException("The SpatialIndex has to be rebuilt before it can be queried.");
+
+        scaleX = Math.abs(scaleX);
+        scaleY = Math.abs(scaleY);
+
+        int best = -1;
+        float bestDist = maxDistance * maxDistance;
+
+        for (int i = 0; i < mOverflowCount; i++) {
+
+            final int id = mOverflow[i];
+            final float dist = distance(id, x, y, scaleX, scaleY);
+
+            if (dist < bestDist) {
+                bestDist = dist;
+                best = id;
+            }
+        }
+
+        // the cell of the query position, may be outside of the grid
+        final int col = (int) Math.max(-MAX_CELLS_PER_SIDE - 1,
+                Math.min(MAX_CELLS_PER_SIDE * 2, Math.floor((x - mMinX) / mCellWidth)));
+        final int row = (int) Math.max(-MAX_CELLS_PER_SIDE - 1,
+                Math.min(MAX_CELLS_PER_SIDE * 2, Math.floor((y - mMinY) / mCellHeight)));
+
+        // all points in ring r are at least (r - 1) cells away
+        final float ringDistance = Math.min(mCellWidth * scaleX, mCellHeight * scaleY);
+
+        final int firstRing = Math.max(0, Math.max(Math.max(-col, col - mCols + 1),
+                Math.max(-row, row - mRows + 1)));
+        final int lastRing = Math.max(Math.max(col, mCols - 1 - col), Math.max(row, mRows - 1 - row));
+
+        for (int r = firstRing; r <= lastRing; r++) {
+
+            final float minDist = (r - 1) * ringDistance;
+
+            if (r > 0 && minDist * minDist >= bestDist)
+                break;
+
+            final int fromCol = Math.max(0, col - r);
+            final int toCol = Math.min(mCols - 1, col + r);
+            final int fromRow = Math.max(0, row - r);
+            final int toRow = Math.min(mRows - 1, row + r);
+
+            for (int j = fromRow; j <= toRow; j++) {
+
+                // the inner rows of the ring only have a cell on either side
+                final boolean edgeRow = j == row - r || j == row + r;
+                final int step = edgeRow || r == 0 ? 1 : 2 * r;
+
+                for (int i = edgeRow ? fromCol : col - r; i <= toCol; i += step) {
+
+                    if (i < fromCol)
+                        continue;
+
+                    final int cell = j * mCols + i;
+                    final int[] ids = mCells[cell];
+
+                    for (int k = 0, count = mCellCounts[cell]; k < count; k++) {
+
+                        final int id = ids[k];
+                        final float dist = distance(id, x, y, scaleX, scaleY);
+
+                        if (dist < bestDist) {
+                            bestDist = dist;
+                            best = id;
+                        }
+                    }
+                }
+            }
+        }
+
+        if (best < 0) {
+            mLastDistance = Float.NaN;
+            return -1;
+        }
+
+        mLastDistance = (float) Math.sqrt(bestDist);
+        return best - mOffset;
+    }
+
+    /**
+     * Returns the distance of the point found by the last query, NaN if none was found.
+     *
+     * @return
+     */
+    public float getLastDistance() {
+        return mLastDistance;
+    }
+
+    /**
+     * Returns the squared scaled distance of the point with the given id, infinity if the
+     * point was removed or has no position.
+     */
+    private float distance(int id, float x, float y, float scaleX, float scaleY) {
+
+        final int index = id - mOffset;
+
+        if (index < 0 || index >= mSize)
+            return Float.POSITIVE_INFINITY;
+
+        final float dx = (mSource.getX(index) - x) * scaleX;
+        final float dy = (mSource.getY(index) - y) * scaleY;
+        final float dist = dx * dx + dy * dy;
+
+        return Float.isNaN(dist) ? Float.POSITIVE_INFINITY : dist;
+    }
+
+    private void insert(int id, float x, float y) {
+
+        if (Float.isNaN(x) || Float.isNaN(y))
+            return;
+
+        final float col = (x - mMinX) / mCellWidth;
+        final float row = (y - mMinY) / mCellHeight;
+
+        if (col < 0 || col >= mCols || row < 0 || row >= mRows) {
+
+            if (mOverflowCount == mOverflow.length) {
+                int[] overflow = new int[mOverflow.length * 2];
+                System.arraycopy(mOverflow, 0, overflow, 0, mOverflowCount);
+                mOverflow = overflow;
+            }
+
+            mOverflow[mOverflowCount++] = id;
+            return;
+        }
+
+        final int cell = (int) row * mCols + (int) col;
+
+        int[] ids = mCells[cell];
+        final int count = mCellCounts[cell];
+
+        if (ids == null) {
+            ids = new int[POINTS_PER_CELL * 2];
+            mCells[cell] = ids;
+        } else if (count == ids.length) {
+            ids = new int[count * 2];
+            System.arraycopy(mCells[cell], 0, ids, 0, count);
+            mCells[cell] = ids;
+        }
+
+        ids[count] = id;
+        mCellCounts[cell] = count + 1;
+    }
+}
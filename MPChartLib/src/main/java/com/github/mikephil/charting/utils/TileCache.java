@@ -0,0 +1,286 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of rendered bitmap tiles of the data of a chart, see
+ * BarLineChartBase.setTileCacheEnabled(...). The tiles of a state (everything that
+ * determines the content of a tile except for the translation, e.g. the zoom level and the
+ * size of the chart) are identified by their index. Tiles of other states stay cached until
+ * they are evicted, so zooming back reuses them. A change of the data version drops all
+ * tiles. The cache evicts the least recently used tiles as soon as the bitmaps exceed the
+ * memory budget.
+ */
+public class TileCache {
+
+    /**
+     * the number of most recently used tiles that are never evicted, the visible tiles and
+     * the one rendered ahead
+     */
+    private static final int MIN_TILES = 3;
+
+    private final LinkedHashMap<TileKey, Bitmap> mTiles =
+            new LinkedHashMap<TileKey, Bitmap>(16, 0.75f, true);
+
+    /**
+     * key for lookups, to avoid allocations
+     */
+    private final TileKey mLookupKey = new TileKey(null, 0);
+
+    private float[] mState = null;
+    private int mDataVersion = 0;
+
+    private long mMemoryBudget;
+    private long mMemoryUsage = 0;
+
+    /**
+     * an evicted bitmap that can be reused for the next tile
+     */
+    private Bitmap mSpare = null;
+
+    /**
+     * @param memoryBudget the maximum number of bytes of all cached tiles
+     */
+    public TileCache(long memoryBudget) {
+        mMemoryBudget = memoryBudget;
+    }
+
+    /**
+     * Returns the index of the first tile that is visible at the given translation.
+     *
+     * @param transX    the horizontal translation of the touch matrix
+     * @param tileWidth
+     * @return
+     */
+    public static int getFirstTile(float transX, int tileWidth) {
+        return (int) Math.floor(-transX / tileWidth);
+    }
+
+    /**
+     * Returns the index of the last tile that is visible at the given translation.
+     *
+     * @param transX       the horizontal translation of the touch matrix
+     * @param contentWidth
+     * @param tileWidth
+     * @return
+     */
+    public static int getLastTile(float transX, float contentWidth, int tileWidth) {
+        return (int) Math.ceil((-transX + contentWidth) / tileWidth) - 1;
+    }
+
+    /**
+     * Returns the index of the tile after the visible ones in the direction of the scrolling,
+     * -1 if the chart is not scrolling or there is no such tile.
+     *
+     * @param first      the first visible tile
+     * @param last       the last visible tile
+     * @param transX     the horizontal translation of the current frame
+     * @param lastTransX the horizontal translation of the previous frame, NaN if none
+     * @param tileWidth
+     * @param totalWidth the width of the whole x-range at the current zoom level
+     * @return
+     */
+    public static int getAheadTile(int first, int last, float transX, float lastTransX,
+                                   int tileWidth, float totalWidth) {
+
+        if (Float.isNaN(lastTransX) || transX == lastTransX)
+            return -1;
+
+        final int ahead = transX < lastTransX ? last + 1 : first - 1;
+
+        return ahead >= 0 && ahead * tileWidth < totalWidth ? ahead : -1;
+    }
+
+    /**
+     * Sets the maximum number of bytes of all cached tiles. The tiles of the current frame are
+     * kept even if they exceed the budget.
+     *
+     * @param bytes
+     */
+    public void setMemoryBudget(long bytes) {
+        mMemoryBudget = bytes;
+        trim();
+    }
+
+    public long getMemoryBudget() {
+        return mMemoryBudget;
+    }
+
+    /**
+     * Returns the number of bytes of all cached tiles.
+     *
+     * @return
+     */
+    public long getMemoryUsage() {
+        return mMemoryUsage;
+    }
+
+    /**
+     * Returns the number of cached tiles.
+     *
+     * @return
+     */
+    public int getTileCount() {
+        return mTiles.size();
+    }
+
+    /**
+     * Sets the state the following get(...) and put(...) calls refer to. Drops all tiles if the
+     * data version changed.
+     *
+     * @param state       everything that determines the content of a tile, except for the translation
+     * @param dataVersion
+     */
+    public void setState(float[] state, int dataVersion) {
+
+        if (dataVersion != mDataVersion) {
+            clear();
+            mDataVersion = dataVersion;
+        }
+
+        // the tiles keep a copy of the state they were rendered for
+        if (mState == null || !Arrays.equals(mState, state))
+            mState = state.clone();
+    }
+
+    /**
+     * Returns the tile with the given index of the current state, or null if it is not cached.
+     *
+     * @param index
+     * @return
+     */
+    public Bitmap get(int index) {
+        mLookupKey.state = mState;
+        mLookupKey.index = index;
+        return mTiles.get(mLookupKey);
+    }
+
+    /**
+     * Returns true if the tile with the given index of the current state is cached, without
+     * counting it as used.
+     *
+     * @param index
+     * @return
+     */
+    public boolean contains(int index) {
+        mLookupKey.state = mState;
+        mLookupKey.index = index;
+        return mTiles.containsKey(mLookupKey);
+    }
+
+    /**
+     * Returns a transparent bitmap of the given size to render a new tile into. Reuses an
+     * evicted tile if possible.
+     *
+     * @param width
+     * @param height
+     * @return
+     */
+    public Bitmap obtainBitmap(int width, int height) {
+
+        final Bitmap spare = mSpare;
+        mSpare = null;
+
+        if (spare != null && !spare.isRecycled()
+                && spare.getWidth() == width && spare.getHeight() == height) {
+            spare.eraseColor(Color.TRANSPARENT);
+            return spare;
+        }
+
+        if (spare != null)
+            spare.recycle();
+
+        return Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+    }
+
+    /**
+     * Caches the given tile under the given index of the current state and evicts the least
+     * recently used tiles that exceed the memory budget.
+     *
+     * @param index
+     * @param tile
+     */
+    public void put(int index, Bitmap tile) {
+
+        final Bitmap previous = mTiles.put(new TileKey(mState, index), tile);
+
+        if (previous != null && previous != tile) {
+            mMemoryUsage -= previous.getByteCount();
+            previous.recycle();
+        }
+
+        mMemoryUsage += tile.getByteCount();
+
+        trim();
+    }
+
+    /**
+     * Drops all tiles, e.g. because the appearance of the data has changed.
+     */
+    public void clear() {
+
+        for (Bitmap tile : mTiles.values())
+            tile.recycle();
+
+        mTiles.clear();
+        mMemoryUsage = 0;
+
+        if (mSpare != null) {
+            mSpare.recycle();
+            mSpare = null;
+        }
+    }
+
+    private void trim() {
+
+        final Iterator<Map.Entry<TileKey, Bitmap>> it = mTiles.entrySet().iterator();
+
+        while (mMemoryUsage > mMemoryBudget && mTiles.size() > MIN_TILES && it.hasNext()) {
+
+            final Bitmap tile = it.next().getValue();
+            it.remove();
+
+            mMemoryUsage -= tile.getByteCount();
+
+            if (mSpare == null)
+                mSpare = tile;
+            else
+                tile.recycle();
+        }
+    }
+
+    private static class TileKey {
+
+        float[] state;
+        int index;
+
+        TileKey(float[] state, int index) {
+            this.state = state;
+            this.index = index;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o)
+                return true;
+
+            if (!(o instanceof TileKey))
+                return false;
+
+            final TileKey other = (TileKey) o;
+            return index == other.index && Arrays.equals(state, other.state);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(state) + index;
+        }
+    }
+}
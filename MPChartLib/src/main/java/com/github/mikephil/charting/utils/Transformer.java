@@ -7,8 +7,10 @@ import android.graphics.RectF;
 
 import com.github.mikephil.charting.data.CandleEntry;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.filter.LodPyramid;
 import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IFloatValueDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
 
@@ -179,16 +181,36 @@ public class Transformer {
         }
         float[] valuePoints = valuePointsForGenerateTransformedValuesLine;
 
-        for (int j = 0; j < count; j += 2) {
+        if (data instanceof IFloatValueDataSet) {
 
-            Entry e = data.getEntryForIndex(j / 2 + min);
+            // read the primitive values directly, no Entry objects needed
+            final IFloatValueDataSet values = (IFloatValueDataSet) data;
+            final int size = data.getEntryCount();
 
-            if (e != null) {
-                valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getY() * phaseY;
-            } else {
-                valuePoints[j] = 0;
-                valuePoints[j + 1] = 0;
+            for (int j = 0, i = min; j < count; j += 2, i++) {
+
+                if (i < size) {
+                    valuePoints[j] = values.getX(i);
+                    valuePoints[j + 1] = values.getY(i) * phaseY;
+                } else {
+                    valuePoints[j] = 0;
+                    valuePoints[j + 1] = 0;
+                }
+            }
+
+        } else {
+
+            for (int j = 0; j < count; j += 2) {
+
+                Entry e = data.getEntryForIndex(j / 2 + min);
+
+                if (e != null) {
+                    valuePoints[j] = e.getX();
+                    valuePoints[j + 1] = e.getY() * phaseY;
+                } else {
+                    valuePoints[j] = 0;
+                    valuePoints[j + 1] = 0;
+                }
             }
         }
 
@@ -197,6 +219,45 @@ public class Transformer {
         return valuePoints;
     }
 
+    protected float[] valuePointsForGenerateTransformedValuesLod = new float[1];
+
+    /**
+     * Transforms the buckets from index "from" to index "to" (both inclusive) of a level of a
+     * LodPyramid into a float array containing the x and y values of their points
+     * (LodPyramid.POINTS_PER_BUCKET per bucket) transformed with all matrices for the
+     * LINECHART. Only the first (to - from + 1) * POINTS_PER_BUCKET * 2 values of the
+     * returned array are valid.
+     *
+     * @param level
+     * @param phaseY
+     * @param from
+     * @param to
+     * @return
+     */
+    public float[] generateTransformedValuesLine(LodPyramid.Level level,
+                                                 float phaseY, int from, int to) {
+
+        final int count = (to - from + 1) * LodPyramid.POINTS_PER_BUCKET * 2;
+
+        if (valuePointsForGenerateTransformedValuesLod.length < count) {
+            valuePointsForGenerateTransformedValuesLod = new float[count];
+        }
+        float[] valuePoints = valuePointsForGenerateTransformedValuesLod;
+
+        System.arraycopy(level.getPoints(), from * LodPyramid.POINTS_PER_BUCKET * 2,
+                valuePoints, 0, count);
+
+        if (phaseY != 1f) {
+            for (int j = 1; j < count; j += 2) {
+                valuePoints[j] *= phaseY;
+            }
+        }
+
+        getValueToPixelMatrix().mapPoints(valuePoints, 0, valuePoints, 0, count / 2);
+
+        return valuePoints;
+    }
+
     protected float[] valuePointsForGenerateTransformedValuesCandle = new float[1];
 
     /**
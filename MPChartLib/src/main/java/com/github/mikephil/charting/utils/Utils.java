@@ -342,6 +342,79 @@ public abstract class Utils {
         return String.valueOf(out, start, out.length - start);
     }
 
+    /**
+     * Formats the given number with the given number of decimals into the beginning of the
+     * given buffer, without allocations, and returns the number of chars written. The result
+     * equals the one of a DecimalFormat like "###,###,##0.00" (rounding half-even). Returns -1
+     * if the number is not finite, is too large or does not fit into the buffer.
+     *
+     * @param number
+     * @param digitCount        the number of decimals, 0 to 9
+     * @param separateThousands set this to true to separate thousands values
+     * @param separateChar      the character to be placed between the thousands
+     * @param decimalChar       the decimal separator
+     * @param out               the buffer to write to
+     * @return
+     */
+    public static int formatNumber(float number, int digitCount, boolean separateThousands,
+                                   char separateChar, char decimalChar, char[] out) {
+
+        if (Float.isNaN(number) || Float.isInfinite(number)
+                || digitCount < 0 || digitCount >= POW_10.length)
+            return -1;
+
+        // like DecimalFormat, negative zero and values that round to zero keep their sign
+        final boolean neg = number < 0f || (number == 0f && 1f / number < 0f);
+
+        final double scaled = Math.abs((double) number) * POW_10[digitCount];
+
+        if (scaled >= 1e15)
+            return -1;
+
+        final long lval = (long) Math.rint(scaled);
+
+        long intPart = lval / POW_10[digitCount];
+        long fracPart = lval % POW_10[digitCount];
+
+        int intDigits = 1;
+        for (long rest = intPart / 10; rest != 0; rest /= 10)
+            intDigits++;
+
+        final int separators = separateThousands ? (intDigits - 1) / 3 : 0;
+
+        final int length = (neg ? 1 : 0) + intDigits + separators
+                + (digitCount > 0 ? digitCount + 1 : 0);
+
+        if (length > out.length)
+            return -1;
+
+        int ind = length - 1;
+
+        if (digitCount > 0) {
+
+            for (int i = 0; i < digitCount; i++) {
+                out[ind--] = (char) ('0' + fracPart % 10);
+                fracPart /= 10;
+            }
+
+            out[ind--] = decimalChar;
+        }
+
+        for (int i = 0; i < intDigits; i++) {
+
+            if (separateThousands && i > 0 && i % 3 == 0)
+                out[ind--] = separateChar;
+
+            out[ind--] = (char) ('0' + intPart % 10);
+            intPart /= 10;
+        }
+
+        if (neg)
+            out[ind] = '-';
+
+        return length;
+    }
+
     /**
      * rounds the given number to the next significant number
      *
@@ -503,6 +576,21 @@ public abstract class Utils {
             view.postInvalidateDelayed(10);
     }
 
+    /**
+     * Original method view.postOnAnimation() only supported in API >= 16, This is a replica
+     * of the code from ViewCompat.
+     *
+     * @param view
+     * @param action
+     */
+    @SuppressLint("NewApi")
+    public static void postOnAnimation(View view, Runnable action) {
+        if (Build.VERSION.SDK_INT >= 16)
+            view.postOnAnimation(action);
+        else
+            view.postDelayed(action, 10);
+    }
+
     public static int getMinimumFlingVelocity() {
         return mMinimumFlingVelocity;
     }
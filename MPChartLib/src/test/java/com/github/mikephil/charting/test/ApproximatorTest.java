@@ -1,14 +1,19 @@
 package com.github.mikephil.charting.test;
 
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
 import com.github.mikephil.charting.data.filter.Approximator;
 
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
 
 /**
  * Created by philipp on 07/06/16.
@@ -40,4 +45,162 @@ public class ApproximatorTest {
 
         assertEquals(18, reduced.length);
     }
+
+    @Test
+    public void testMatchesRecursiveImplementation() {
+
+        Random random = new Random(1);
+
+        for (int run = 0; run < 20; run++) {
+
+            float[] points = randomWalk(random, 50 + random.nextInt(500));
+            float tolerance = random.nextFloat() * 5f;
+
+            float[] expected = reduceRecursive(points, tolerance);
+            float[] reduced = new Approximator().reduceWithDouglasPeucker(points, tolerance);
+
+            assertTrue(Arrays.equals(expected, reduced));
+        }
+    }
+
+    @Test
+    public void testReduceToPointCount() {
+
+        float[] points = randomWalk(new Random(2), 10000);
+
+        Approximator a = new Approximator();
+        int[] indices = new int[10000];
+
+        int count = a.reduceToPointCount(points, 10000, 500, indices);
+
+        assertEquals(500, count);
+        assertEquals(0, indices[0]);
+        assertEquals(9999, indices[count - 1]);
+
+        for (int i = 1; i < count; i++) {
+            assertTrue(indices[i] > indices[i - 1]);
+        }
+
+        // a straight line has nothing to split
+        float[] line = new float[]{0, 0, 1, 1, 2, 2, 3, 3, 4, 4};
+        assertEquals(2, a.reduceToPointCount(line, 5, 3, indices));
+
+        // fewer points than the budget
+        assertEquals(5, a.reduceToPointCount(line, 5, 10, indices));
+    }
+
+    @Test
+    public void testDataSetApproximationCache() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        Random random = new Random(3);
+
+        for (int i = 0; i < 1000; i++) {
+            entries.add(new Entry(i, random.nextFloat() * 100f));
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+
+        int[] indices = set.getApproximatedIndices(10f);
+        assertSame(indices, set.getApproximatedIndices(10f));
+        assertTrue(indices.length < 1000);
+
+        int[] budget = set.getApproximatedIndicesForCount(100);
+        assertEquals(100, budget.length);
+        assertSame(budget, set.getApproximatedIndicesForCount(100));
+
+        // changing the DataSet invalidates the cache
+        set.addEntry(new Entry(1000, 50f));
+        int[] changed = set.getApproximatedIndices(10f);
+        assertTrue(changed != indices);
+        assertEquals(1000, changed[changed.length - 1]);
+    }
+
+    @Test
+    public void testToleranceZero() {
+
+        // every point of a zigzag line is a corner, none can be dropped
+        float[] zigzag = new float[20000];
+        for (int i = 0; i < 10000; i++) {
+            zigzag[i * 2] = i;
+            zigzag[i * 2 + 1] = i % 2;
+        }
+
+        int[] indices = new int[10000];
+        int count = new Approximator().reduceWithDouglasPeucker(zigzag, 10000, 0f, indices);
+
+        assertEquals(10000, count);
+
+        for (int i = 0; i < count; i++)
+            assertEquals(i, indices[i]);
+
+        // the points on a straight line are all dropped
+        float[] line = new float[20000];
+        for (int i = 0; i < 10000; i++) {
+            line[i * 2] = i;
+            line[i * 2 + 1] = 2f * i;
+        }
+
+        count = new Approximator().reduceWithDouglasPeucker(line, 10000, 0f, indices);
+
+        assertEquals(2, count);
+        assertEquals(0, indices[0]);
+        assertEquals(9999, indices[1]);
+    }
+
+    private static float[] randomWalk(Random random, int count) {
+
+        float[] points = new float[count * 2];
+        float y = 0f;
+
+        for (int i = 0; i < count; i++) {
+            y += random.nextFloat() * 2f - 1f;
+            points[i * 2] = i;
+            points[i * 2 + 1] = y;
+        }
+
+        return points;
+    }
+
+    /**
+     * The former recursive implementation, used as reference.
+     */
+    private static float[] reduceRecursive(float[] points, float tolerance) {
+
+        int greatestIndex = 0;
+        float greatestDistance = 0f;
+
+        float x1 = points[0], y1 = points[1];
+        float x2 = points[points.length - 2], y2 = points[points.length - 1];
+
+        float dx = x1 - x2;
+        float dy = y1 - y2;
+        float sxey = x1 * y2;
+        float exsy = x2 * y1;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+
+        for (int i = 2; i < points.length - 2; i += 2) {
+
+            float distance = Math.abs(dy * points[i] - dx * points[i + 1] + sxey - exsy) / length;
+
+            if (distance > greatestDistance) {
+                greatestDistance = distance;
+                greatestIndex = i;
+            }
+        }
+
+        if (greatestDistance > tolerance) {
+
+            float[] reduced1 = reduceRecursive(Arrays.copyOfRange(points, 0, greatestIndex + 2), tolerance);
+            float[] reduced2 = reduceRecursive(Arrays.copyOfRange(points, greatestIndex, points.length), tolerance);
+
+            float[] result = new float[reduced1.length + reduced2.length - 2];
+            System.arraycopy(reduced1, 0, result, 0, reduced1.length);
+            System.arraycopy(reduced2, 2, result, reduced1.length, reduced2.length - 2);
+
+            return result;
+        } else {
+            return new float[]{x1, y1, x2, y2};
+        }
+    }
 }
@@ -0,0 +1,119 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.buffer.BarBuffer;
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+
+public class BarBufferTest {
+
+    @Test
+    public void testVisibleRange() {
+
+        List<BarEntry> entries = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            entries.add(new BarEntry(i, i + 1));
+        }
+
+        BarDataSet set = new BarDataSet(entries, "");
+
+        BarBuffer buffer = new BarBuffer(0, 1, false);
+        buffer.setBarWidth(0.5f);
+
+        // unlimited by default
+        buffer = buffer.ensureCapacity(set);
+        buffer.feed(set);
+        assertEquals(4000, buffer.size());
+        assertEquals(0, buffer.getFirstEntry());
+        assertEquals(999, buffer.getLastEntry());
+
+        buffer.limitFrom(100);
+        buffer.limitTo(109);
+
+        // large enough already
+        assertSame(buffer, buffer.ensureCapacity(set));
+        buffer.feed(set);
+
+        assertEquals(40, buffer.size());
+        assertEquals(100, buffer.getFirstEntry());
+        assertEquals(109, buffer.getLastEntry());
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(99.75f + i, buffer.buffer[i * 4], 0f);
+            assertEquals(101f + i, buffer.buffer[i * 4 + 1], 0f);
+            assertEquals(100.25f + i, buffer.buffer[i * 4 + 2], 0f);
+            assertEquals(0f, buffer.buffer[i * 4 + 3], 0f);
+        }
+
+        // the animation limits the entries further
+        buffer.setPhases(0.105f, 1f);
+        buffer.feed(set);
+
+        assertEquals(100, buffer.getFirstEntry());
+        assertEquals(104, buffer.getLastEntry());
+        assertEquals(20, buffer.size());
+    }
+
+    @Test
+    public void testFirstBarOfMixedStacks() {
+
+        List<BarEntry> entries = new ArrayList<>();
+
+        // stacked entries with three values alternate with plain entries (one bar)
+        for (int i = 0; i < 100; i++) {
+            if (i % 2 == 0)
+                entries.add(new BarEntry(i, new float[]{1f, 2f, 3f}));
+            else
+                entries.add(new BarEntry(i, i));
+        }
+
+        BarDataSet set = new BarDataSet(entries, "");
+        assertEquals(3, set.getStackSize());
+
+        BarBuffer all = new BarBuffer(0, 1, true);
+        all = all.ensureCapacity(set);
+        all.feed(set);
+
+        assertEquals(0, all.getFirstBar());
+        assertEquals(200 * 4, all.size());
+
+        BarBuffer buffer = new BarBuffer(0, 1, true);
+
+        int[] froms = {10, 51, 4, 99, 0};
+
+        for (int from : froms) {
+
+            buffer.limitFrom(from);
+            buffer = buffer.ensureCapacity(set);
+            buffer.feed(set);
+
+            // one bar per plain entry and three per stacked entry before the first one
+            int bars = (from + 1) / 2 * 3 + from / 2;
+            assertEquals(bars, buffer.getFirstBar());
+
+            // the same bars as the bars from that index on in the unlimited buffer
+            for (int j = 0; j < buffer.size(); j++) {
+                assertEquals(all.buffer[bars * 4 + j], buffer.buffer[j], 0f);
+            }
+        }
+
+        // a changed DataSet is counted again
+        buffer.limitFrom(10);
+        buffer.feed(set);
+        assertEquals(20, buffer.getFirstBar());
+
+        entries.get(0).setVals(null);
+        set.notifyDataSetChanged();
+
+        buffer.feed(set);
+        assertEquals(18, buffer.getFirstBar());
+    }
+}
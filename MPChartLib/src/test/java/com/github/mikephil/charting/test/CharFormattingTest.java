@@ -0,0 +1,104 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.formatter.DefaultValueFormatter;
+import com.github.mikephil.charting.formatter.LargeValueFormatter;
+import com.github.mikephil.charting.formatter.ValueFormatter;
+import com.github.mikephil.charting.utils.Utils;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class CharFormattingTest {
+
+    private static final float[] VALUES = new float[]{
+            0f, -0f, 1f, -1f, 0.5f, -0.004f, 5.5f, 12.25f, 122.5f, 902.5f, 999.9f, 1000f, 1225f,
+            1234.5678f, -1234.5f, 10500f, 84850f, 99999f, 444500f, 999999.9f, 1500000f, 22200000f,
+            9900000000f, 999000000000f, 1000000000000f
+    };
+
+    @Test
+    public void testFormatNumber() {
+
+        char[] out = new char[32];
+
+        int length = Utils.formatNumber(1234567.891f, 2, true, ',', '.', out);
+        assertEquals("1,234,567.88", new String(out, 0, length));
+
+        length = Utils.formatNumber(-1234.5f, 0, false, ',', '.', out);
+        assertEquals("-1234", new String(out, 0, length));
+
+        length = Utils.formatNumber(0.05f, 1, true, '.', ',', out);
+        assertEquals("0,1", new String(out, 0, length));
+
+        // too large or does not fit
+        assertEquals(-1, Utils.formatNumber(1e20f, 0, true, ',', '.', out));
+        assertEquals(-1, Utils.formatNumber(123456f, 2, true, ',', '.', new char[4]));
+        assertEquals(-1, Utils.formatNumber(Float.NaN, 2, true, ',', '.', out));
+    }
+
+    @Test
+    public void testDefaultValueFormatter() {
+
+        char[] out = new char[32];
+
+        for (int digits = 0; digits < 4; digits++) {
+
+            DefaultValueFormatter formatter = new DefaultValueFormatter(digits);
+            assertTrue(formatter.isCharFormattingSupported());
+
+            for (float value : VALUES) {
+                int length = formatter.getFormattedValue(value, out);
+                assertEquals(formatter.getFormattedValue(value), new String(out, 0, length));
+            }
+        }
+    }
+
+    @Test
+    public void testLargeValueFormatter() {
+
+        char[] out = new char[32];
+
+        LargeValueFormatter formatter = new LargeValueFormatter();
+        LargeValueFormatter appendix = new LargeValueFormatter(" $");
+        appendix.setMaxLength(4);
+
+        for (float value : VALUES) {
+
+            for (LargeValueFormatter f : new LargeValueFormatter[]{formatter, appendix}) {
+
+                int length = f.getFormattedValue(value, out);
+
+                // values between -1 and 1 are left to the String path
+                if (length < 0)
+                    continue;
+
+                assertEquals(f.getFormattedValue(value), new String(out, 0, length));
+            }
+        }
+    }
+
+    @Test
+    public void testOverriddenLabels() {
+
+        assertFalse(new ValueFormatter() {
+        }.isCharFormattingSupported());
+
+        assertFalse(new DefaultValueFormatter(1) {
+            @Override
+            public String getFormattedValue(float value) {
+                return value + " %";
+            }
+        }.isCharFormattingSupported());
+
+        assertFalse(new DefaultValueFormatter(1) {
+            @Override
+            public String getPointLabel(Entry entry) {
+                return entry.getX() + "";
+            }
+        }.isCharFormattingSupported());
+    }
+}
@@ -0,0 +1,168 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.FloatColumnDataSet;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSnapshotBuilder;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.utils.DataSetCaches;
+import com.github.mikephil.charting.utils.GeometryCache;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class DataSnapshotTest {
+
+    @Test
+    public void testCopyOnWrite() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet("");
+
+        for (int i = 0; i < 10; i++) {
+            set.addValue(i, i * 10);
+        }
+
+        FloatColumnDataSet snapshot = set.snapshot();
+
+        // appended values are not visible to the snapshot
+        set.addValue(10, 1000);
+        assertEquals(10, snapshot.getEntryCount());
+        assertEquals(90f, snapshot.getYMax(), 0f);
+        assertEquals(1000f, set.getYMax(), 0f);
+
+        // other modifications copy the columns first
+        set.removeEntry(0);
+        set.addEntryOrdered(new Entry(4.5f, -5));
+        set.clear();
+        set.addValue(0, 7);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals((float) i, snapshot.getX(i), 0f);
+            assertEquals(i * 10f, snapshot.getY(i), 0f);
+        }
+
+        assertEquals(1, set.getEntryCount());
+        assertEquals(7f, set.getY(0), 0f);
+    }
+
+    @Test
+    public void testSnapshotMinMaxIndex() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet("");
+        set.setMinMaxIndexEnabled(true);
+
+        for (int i = 0; i < 100; i++) {
+            set.addValue(i, i % 10);
+        }
+
+        FloatColumnDataSet snapshot = set.snapshot();
+        assertTrue(snapshot.isMinMaxIndexEnabled());
+
+        // the index of the snapshot is a copy, appending to the DataSet does not change it
+        for (int i = 100; i < 200; i++) {
+            set.addValue(i, 1000);
+        }
+
+        snapshot.calcMinMaxY(42, 45);
+        assertEquals(2f, snapshot.getYMin(), 0f);
+        assertEquals(5f, snapshot.getYMax(), 0f);
+
+        snapshot.calcMinMaxY(0, 500);
+        assertEquals(0f, snapshot.getYMin(), 0f);
+        assertEquals(9f, snapshot.getYMax(), 0f);
+
+        set.calcMinMaxY(0, 500);
+        assertEquals(1000f, set.getYMax(), 0f);
+    }
+
+    @Test
+    public void testConcurrentProducer() throws InterruptedException {
+
+        final FloatColumnDataSet set = new FloatColumnDataSet("");
+        set.setColor(0xFF00FF00);
+
+        final LineDataSnapshotBuilder builder = new LineDataSnapshotBuilder(set);
+        final int count = 200000;
+
+        Thread producer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < count; i++) {
+
+                    builder.append(0, i, i % 1000);
+
+                    if (i % 100 == 0)
+                        builder.publish();
+                }
+
+                builder.publish();
+            }
+        });
+
+        producer.start();
+
+        // the reader checks that every snapshot is consistent in itself
+        int lastCount = 0;
+
+        while (lastCount < count) {
+
+            LineData data = builder.getSnapshot();
+            FloatColumnDataSet snapshot = (FloatColumnDataSet) data.getDataSetByIndex(0);
+
+            int snapshotCount = snapshot.getEntryCount();
+            assertTrue(snapshotCount >= lastCount);
+
+            for (int i = Math.max(0, snapshotCount - 2000); i < snapshotCount; i++) {
+                assertEquals((float) i, snapshot.getX(i), 0f);
+                assertEquals((float) (i % 1000), snapshot.getY(i), 0f);
+            }
+
+            if (snapshotCount > 0)
+                assertEquals(snapshotCount - 1f, data.getXMax(), 0f);
+
+            assertEquals(0xFF00FF00, snapshot.getColor());
+
+            lastCount = snapshotCount;
+        }
+
+        producer.join();
+    }
+
+    @Test
+    public void testCachesOfAdoptedSnapshots() {
+
+        LineDataSnapshotBuilder builder = new LineDataSnapshotBuilder(
+                new FloatColumnDataSet("a"), new FloatColumnDataSet("b"));
+
+        DataSetCaches<GeometryCache> caches = new DataSetCaches<>();
+        LineData previous = null;
+
+        // every snapshot has new DataSet instances, like a renderer drawing each snapshot
+        for (int i = 0; i < 1000; i++) {
+
+            builder.append(0, i, i);
+            builder.append(1, i, -i);
+
+            LineData data = builder.publish();
+
+            for (ILineDataSet set : data.getDataSets()) {
+                if (caches.get(set) == null)
+                    caches.put(set, new GeometryCache());
+            }
+
+            caches.retain(data);
+            assertEquals(2, caches.size());
+
+            if (previous != null)
+                assertNull(caches.get(previous.getDataSetByIndex(0)));
+
+            previous = data;
+        }
+
+        caches.retain(null);
+        assertEquals(0, caches.size());
+    }
+}
@@ -0,0 +1,155 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.ScatterDataSet;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Micro-benchmark for the visible-range lookup that is performed for every DataSet on every
+ * frame. Instead of wall-clock time (which is unreliable on build machines) it counts the
+ * number of entries touched, which must not grow with the size of the DataSet.
+ */
+public class EntryIndexRangeTest {
+
+    @Test
+    public void testGetEntryIndexRange() {
+
+        ArrayList<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(0, 10));
+        entries.add(new Entry(1, 20));
+        entries.add(new Entry(2, 30));
+        entries.add(new Entry(3, 40));
+        entries.add(new Entry(5, 50));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        int[] range = new int[2];
+
+        set.getEntryIndexRange(0.5f, 3.5f, range);
+        assertEquals(0, range[0]);
+        assertEquals(4, range[1]);
+
+        set.getEntryIndexRange(1f, 3f, range);
+        assertEquals(1, range[0]);
+        assertEquals(3, range[1]);
+
+        set.getEntryIndexRange(-10f, 10f, range);
+        assertEquals(0, range[0]);
+        assertEquals(4, range[1]);
+
+        set.clear();
+
+        set.getEntryIndexRange(-10f, 10f, range);
+        assertEquals(-1, range[0]);
+        assertEquals(-1, range[1]);
+    }
+
+    @Test
+    public void testGetEntryIndexByEntry() {
+
+        ArrayList<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(0, 10));
+        entries.add(new Entry(1, 20));
+        entries.add(new Entry(1, 20));
+        entries.add(new Entry(1, 20));
+        entries.add(new Entry(2, 30));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(i, set.getEntryIndex(entries.get(i)));
+        }
+
+        assertEquals(-1, set.getEntryIndex(new Entry(1, 20)));
+        assertEquals(-1, set.getEntryIndex((Entry) null));
+    }
+
+    @Test
+    public void testFramePreparationIndependentOfSize() {
+
+        int small = countAccessesPerFrame(1000);
+        int large = countAccessesPerFrame(1000000);
+
+        // binary search, at most log2(size) + 1 steps per bound with two accesses each
+        assertTrue(small <= 2 * 2 * 11);
+        assertTrue(large <= 2 * 2 * 21);
+    }
+
+    @Test
+    public void testEntryLookupIndependentOfSize() {
+
+        CountingList entries = new CountingList(1000000);
+
+        for (int i = 0; i < 1000000; i++) {
+            entries.add(new Entry(i, i % 100));
+        }
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        Entry e = entries.get(500000);
+        entries.accesses = 0;
+
+        assertEquals(500000, set.getEntryIndex(e));
+        assertTrue(entries.accesses <= 2 * 21 + 3);
+
+        // an entry that is not part of the DataSet is not searched for linearly
+        entries.accesses = 0;
+
+        assertEquals(-1, set.getEntryIndex(new Entry(500000, 0)));
+        assertTrue(entries.accesses <= 2 * 21 + 3);
+    }
+
+    /**
+     * Simulates the XBounds calculation of one frame (a visible range of 100 x-values in the
+     * middle of the data) and returns the number of entries that were accessed.
+     */
+    private int countAccessesPerFrame(int size) {
+
+        CountingList entries = new CountingList(size);
+
+        for (int i = 0; i < size; i++) {
+            entries.add(new Entry(i, i % 100));
+        }
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        int[] range = new int[2];
+        float from = size / 2f;
+
+        entries.accesses = 0;
+
+        set.getEntryIndexRange(from, from + 100f, range);
+
+        assertEquals(size / 2, range[0]);
+        assertEquals(size / 2 + 100, range[1]);
+
+        return entries.accesses;
+    }
+
+    private static class CountingList extends ArrayList<Entry> {
+
+        int accesses = 0;
+
+        CountingList(int capacity) {
+            super(capacity);
+        }
+
+        @Override
+        public Entry get(int index) {
+            accesses++;
+            return super.get(index);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            accesses += size();
+            return super.indexOf(o);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.FloatColumnDataSet;
+import com.github.mikephil.charting.utils.FileUtils;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+
+public class FileUtilsTest {
+
+    private static class Values implements FileUtils.ValueSink {
+
+        List<Float> x = new ArrayList<>();
+        List<Float> y = new ArrayList<>();
+        int chunks = 0;
+
+        @Override
+        public void addValues(float[] xValues, float[] yValues, int count) {
+
+            chunks++;
+
+            for (int i = 0; i < count; i++) {
+                x.add(xValues[i]);
+                y.add(yValues[i]);
+            }
+        }
+    }
+
+    private static String randomNumber(Random random) {
+
+        switch (random.nextInt(6)) {
+            case 0:
+                return Float.toString((random.nextFloat() - 0.5f) * (float) Math.pow(10, random.nextInt(20) - 10));
+            case 1:
+                return Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(80) - 40));
+            case 2:
+                return Integer.toString(random.nextInt(2000000) - 1000000);
+            case 3:
+                return String.format(Locale.US, "%." + random.nextInt(20) + "f", random.nextDouble() * 1000);
+            case 4:
+                // close to the middle of two floats
+                float f = random.nextFloat() * 100f;
+                return new java.math.BigDecimal(f).add(new java.math.BigDecimal(Math.ulp(f) / 2)).toPlainString();
+            default:
+                return random.nextInt(100) + "." + Long.toString(Math.abs(random.nextLong()));
+        }
+    }
+
+    @Test
+    public void testParseText() {
+
+        Random random = new Random(11);
+
+        StringBuilder text = new StringBuilder();
+        List<String> numbers = new ArrayList<>();
+
+        for (int i = 0; i < 20000; i++) {
+            String y = randomNumber(random);
+            String x = randomNumber(random);
+            numbers.add(y);
+            numbers.add(x);
+            text.append(y).append('#').append(x).append(i % 3 == 0 ? "\r\n" : "\n");
+
+            // skipped lines
+            if (i % 1000 == 0)
+                text.append("\n1#2#3\n");
+        }
+
+        // no line break at the end
+        text.append("0.5#-7");
+
+        Values values = new Values();
+        ByteBuffer buffer = ByteBuffer.wrap(text.toString().getBytes(Charset.forName("US-ASCII")));
+
+        assertEquals(20001, FileUtils.parseValues(buffer, false, true, values));
+
+        for (int i = 0; i < 20000; i++) {
+            assertEquals(numbers.get(i * 2), Float.parseFloat(numbers.get(i * 2)), values.y.get(i), 0f);
+            assertEquals(numbers.get(i * 2 + 1), Float.parseFloat(numbers.get(i * 2 + 1)), values.x.get(i), 0f);
+        }
+
+        assertEquals(-7f, values.x.get(20000));
+        assertEquals(0.5f, values.y.get(20000));
+        assertEquals(20001 / FileUtils.CHUNK_SIZE + 1, values.chunks);
+    }
+
+    @Test
+    public void testIncompleteLine() {
+
+        Values values = new Values();
+        ByteBuffer buffer = ByteBuffer.wrap("1#2\n3#4\n5#".getBytes(Charset.forName("US-ASCII")));
+
+        assertEquals(2, FileUtils.parseValues(buffer, false, false, values));
+        assertEquals(8, buffer.position());
+    }
+
+    @Test
+    public void testFiles() throws IOException {
+
+        File text = File.createTempFile("values", ".txt");
+        File binary = File.createTempFile("values", ".bin");
+
+        try {
+            FloatColumnDataSet set = new FloatColumnDataSet("");
+
+            FileWriter writer = new FileWriter(text);
+
+            for (int i = 0; i < 10000; i++) {
+                float y = (float) Math.sin(i * 0.005);
+                writer.write(y + "#" + i + "\n");
+                set.addValue(i, y);
+            }
+
+            writer.close();
+
+            FloatColumnDataSet fromText = new FloatColumnDataSet("");
+            assertEquals(10000, FileUtils.loadTextValues(text, FileUtils.toColumns(fromText)));
+
+            FileUtils.saveBinaryValues(set.getXValues(), set.getYValues(), set.getEntryCount(), binary);
+            assertEquals(10000 * 8, binary.length());
+
+            FloatColumnDataSet fromBinary = new FloatColumnDataSet("");
+            assertEquals(10000, FileUtils.loadBinaryValues(binary, FileUtils.toColumns(fromBinary)));
+
+            for (FloatColumnDataSet loaded : new FloatColumnDataSet[]{fromText, fromBinary}) {
+
+                assertEquals(10000, loaded.getEntryCount());
+                assertEquals(set.getYMin(), loaded.getYMin());
+                assertEquals(set.getYMax(), loaded.getYMax());
+                assertEquals(9999f, loaded.getXMax());
+
+                for (int i = 0; i < 10000; i++) {
+                    assertEquals(set.getX(i), loaded.getX(i));
+                    assertEquals(set.getY(i), loaded.getY(i));
+                }
+            }
+
+        } finally {
+            text.delete();
+            binary.delete();
+        }
+    }
+}
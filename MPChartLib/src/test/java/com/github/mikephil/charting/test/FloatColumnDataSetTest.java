@@ -0,0 +1,133 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.FloatColumnDataSet;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class FloatColumnDataSetTest {
+
+    @Test
+    public void testCalcMinMax() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet(
+                new float[]{10, 15, 21}, new float[]{10, 2, 5}, 3, "");
+
+        assertEquals(10f, set.getXMin(), 0.01f);
+        assertEquals(21f, set.getXMax(), 0.01f);
+
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+
+        assertEquals(3, set.getEntryCount());
+
+        set.addValue(25, 1);
+
+        assertEquals(25f, set.getXMax(), 0.01f);
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(4, set.getEntryCount());
+
+        set.removeEntry(3);
+
+        assertEquals(21, set.getXMax(), 0.01f);
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+    }
+
+    @Test
+    public void testAddRemoveEntry() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(10, 10));
+        entries.add(new Entry(15, 2));
+        entries.add(new Entry(21, 5));
+
+        FloatColumnDataSet set = new FloatColumnDataSet(entries, "");
+
+        assertEquals(3, set.getEntryCount());
+
+        set.addEntryOrdered(new Entry(5, 1));
+        set.addEntryOrdered(new Entry(20, 50));
+
+        assertEquals(5, set.getEntryCount());
+
+        assertEquals(5, set.getEntryForIndex(0).getX(), 0.01f);
+        assertEquals(20, set.getEntryForIndex(3).getX(), 0.01f);
+        assertEquals(50, set.getEntryForIndex(3).getY(), 0.01f);
+
+        // lazily created entries are found by value
+        assertEquals(3, set.getEntryIndex(set.getEntryForIndex(3)));
+        assertEquals(-1, set.getEntryIndex(new Entry(20, 51)));
+
+        assertTrue(set.removeEntry(new Entry(20, 50)));
+        assertEquals(4, set.getEntryCount());
+        assertEquals(10f, set.getYMax(), 0.01f);
+
+        assertTrue(set.removeFirst());
+        assertEquals(10, set.getEntryForIndex(0).getX(), 0.01f);
+
+        assertTrue(set.removeLast());
+        assertTrue(set.removeLast());
+        assertTrue(set.removeLast());
+
+        assertEquals(0, set.getEntryCount());
+
+        assertFalse(set.removeLast());
+        assertFalse(set.removeFirst());
+    }
+
+    @Test
+    public void testGrowColumns() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet("");
+
+        for (int i = 0; i < 1000; i++) {
+            set.addValue(i, i % 7);
+        }
+
+        assertEquals(1000, set.getEntryCount());
+        assertEquals(1000, set.getValues().size());
+        assertEquals(999f, set.getXMax(), 0.01f);
+        assertEquals(6f, set.getYMax(), 0.01f);
+
+        assertEquals(500, set.getEntryIndex(500.2f, Float.NaN, DataSet.Rounding.CLOSEST));
+        assertEquals(501, set.getEntryIndex(500.2f, Float.NaN, DataSet.Rounding.UP));
+        assertEquals(500, set.getEntryIndex(500.8f, Float.NaN, DataSet.Rounding.DOWN));
+
+        set.calcMinMaxY(10, 12);
+
+        assertEquals(3f, set.getYMin(), 0.01f);
+        assertEquals(5f, set.getYMax(), 0.01f);
+    }
+
+    @Test
+    public void testGetEntryForXValueWithDuplicates() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet(
+                new float[]{0, 1, 2, 3, 3, 4, 4, 5},
+                new float[]{10, 20, 30, 40, 50, 60, 70, 80}, 8, "");
+
+        Entry closest = set.getEntryForXValue(4.6f, Float.NaN, DataSet.Rounding.CLOSEST);
+        assertEquals(5, closest.getX(), 0.01f);
+        assertEquals(80, closest.getY(), 0.01f);
+
+        closest = set.getEntryForXValue(4f, 68f, DataSet.Rounding.CLOSEST);
+        assertEquals(4, closest.getX(), 0.01f);
+        assertEquals(70, closest.getY(), 0.01f);
+
+        List<Entry> entries = set.getEntriesForXValue(3f);
+        assertEquals(2, entries.size());
+        assertEquals(40, entries.get(0).getY(), 0.01f);
+        assertEquals(50, entries.get(1).getY(), 0.01f);
+
+        assertEquals(0, set.getEntriesForXValue(3.5f).size());
+    }
+}
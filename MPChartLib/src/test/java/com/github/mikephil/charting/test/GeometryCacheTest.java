@@ -0,0 +1,119 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.FloatColumnDataSet;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.utils.GeometryCache;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class GeometryCacheTest {
+
+    @Test
+    public void testTranslation() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet("");
+
+        for (int i = 0; i < 1000; i++) {
+            set.addValue(i, i % 10);
+        }
+
+        GeometryCache cache = new GeometryCache();
+
+        assertTrue(cache.update(set, 100, 199, 1f, 2f, -3f, 10f, 500f));
+
+        // half of the requested range is cached on both sides
+        assertEquals(50, cache.getFrom());
+        assertEquals(249, cache.getTo());
+
+        assertEquals(100 * 2f + 10f, cache.getX(100), 0f);
+        assertEquals(-3f * 5 + 500f, cache.getY(105), 0f);
+
+        // a pan within the cached range only moves the positions
+        assertFalse(cache.update(set, 120, 219, 1f, 2f, -3f, -30f, 480f));
+        assertEquals(-40f, cache.getOffsetX(), 0f);
+        assertEquals(-20f, cache.getOffsetY(), 0f);
+        assertEquals(150 * 2f - 30f, cache.getX(150), 0f);
+        assertEquals(-3f * 5 + 480f, cache.getY(155), 0f);
+
+        // leaving the cached range, zooming, animating and changing the data rebuild it
+        assertTrue(cache.update(set, 200, 299, 1f, 2f, -3f, -30f, 480f));
+        assertTrue(cache.update(set, 200, 299, 1f, 4f, -3f, -30f, 480f));
+        assertTrue(cache.update(set, 200, 299, 0.5f, 4f, -3f, -30f, 480f));
+
+        set.addValue(1000, 1);
+        assertTrue(cache.update(set, 200, 299, 0.5f, 4f, -3f, -30f, 480f));
+        assertFalse(cache.update(set, 200, 299, 0.5f, 4f, -3f, -30f, 480f));
+
+        assertEquals(0f, cache.getOffsetX(), 0f);
+        assertEquals(-3f * 0.5f * 5 + 480f, cache.getY(205), 0f);
+    }
+
+    @Test
+    public void testEntriesChangedWithoutNotify() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 100; i++) {
+            entries.add(new Entry(i, i % 10));
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+        GeometryCache cache = new GeometryCache();
+
+        assertTrue(cache.update(set, 0, 9, 1f, 1f, 1f, 0f, 0f));
+        assertFalse(cache.update(set, 0, 9, 1f, 1f, 1f, 0f, 0f));
+
+        // added without notifyDataSetChanged()
+        entries.add(new Entry(100, 0));
+        assertTrue(cache.update(set, 0, 9, 1f, 1f, 1f, 0f, 0f));
+
+        // the last cached entry changed
+        entries.get(cache.getTo()).setY(50f);
+        assertTrue(cache.update(set, 0, 9, 1f, 1f, 1f, 0f, 0f));
+        assertEquals(50f, cache.getY(cache.getTo()), 0f);
+
+        // other changes need invalidate()
+        entries.get(5).setY(50f);
+        assertFalse(cache.update(set, 0, 9, 1f, 1f, 1f, 0f, 0f));
+
+        cache.invalidate();
+        assertTrue(cache.update(set, 0, 9, 1f, 1f, 1f, 0f, 0f));
+        assertEquals(50f, cache.getY(5), 0f);
+    }
+
+    @Test
+    public void testMultipleYValues() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet("");
+
+        for (int i = 0; i < 10; i++) {
+            set.addValue(i, i);
+        }
+
+        // the y-value and its double
+        GeometryCache cache = new GeometryCache(2) {
+            @Override
+            protected float getYValue(Entry e, int index) {
+                return index == 0 ? e.getY() : e.getY() * 2f;
+            }
+        };
+
+        cache.update(set, 0, 9, 1f, 1f, 1f, 0f, 0f);
+
+        assertEquals(0, cache.getFrom());
+        assertEquals(9, cache.getTo());
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals((float) i, cache.getY(i, 0), 0f);
+            assertEquals(i * 2f, cache.getY(i, 1), 0f);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.highlight.Highlight;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertTrue;
+
+public class HighlightTest {
+
+    @Test
+    public void testPool() {
+
+        Highlight high = Highlight.getInstance(1f, 2f, 10f, 20f, 3, 1, YAxis.AxisDependency.RIGHT);
+        high.setDataIndex(4);
+        high.setDraw(5f, 6f);
+
+        Highlight.recycleInstance(high);
+
+        // recycled instances are reset completely
+        Highlight reused = Highlight.getInstance(7f, 8f, 70f, 80f, 0, -1, YAxis.AxisDependency.LEFT);
+
+        assertEquals(7f, reused.getX());
+        assertEquals(8f, reused.getY());
+        assertEquals(70f, reused.getXPx());
+        assertEquals(80f, reused.getYPx());
+        assertEquals(0, reused.getDataSetIndex());
+        assertEquals(-1, reused.getDataIndex());
+        assertFalse(reused.isStacked());
+        assertEquals(0f, reused.getDrawX());
+        assertEquals(YAxis.AxisDependency.LEFT, reused.getAxis());
+
+        Highlight.recycleInstance(reused);
+    }
+
+    @Test
+    public void testCopy() {
+
+        Highlight high = Highlight.getInstance(1f, 2f, 10f, 20f, 3, 1, YAxis.AxisDependency.RIGHT);
+        high.setDataIndex(4);
+
+        Highlight copy = new Highlight(high);
+
+        assertNotSame(high, copy);
+        assertTrue(copy.equalTo(high));
+        assertTrue(copy.equalToExactly(high));
+        assertEquals(4, copy.getDataIndex());
+        assertEquals(1, copy.getStackIndex());
+
+        // same entry, different pixel position
+        Highlight moved = new Highlight(1f, 2f, 11f, 20f, 3, 1, YAxis.AxisDependency.RIGHT);
+        moved.setDataIndex(4);
+
+        assertTrue(moved.equalTo(high));
+        assertFalse(moved.equalToExactly(high));
+        assertFalse(copy.equalToExactly(null));
+
+        Highlight.recycleInstance(high);
+    }
+}
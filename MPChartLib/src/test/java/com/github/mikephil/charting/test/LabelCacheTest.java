@@ -0,0 +1,97 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.formatter.DefaultValueFormatter;
+import com.github.mikephil.charting.formatter.ValueFormatter;
+import com.github.mikephil.charting.utils.LabelCache;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertSame;
+
+public class LabelCacheTest {
+
+    @Test
+    public void testCachedLabels() {
+
+        LabelCache cache = new LabelCache(16, 16);
+        DefaultValueFormatter formatter = new DefaultValueFormatter(1);
+
+        String label = cache.getPointLabel(formatter, new Entry(0, 1234.5f));
+        assertEquals("1,234.5", label);
+        assertEquals(0, cache.getLabelHits());
+        assertEquals(1, cache.getLabelMisses());
+
+        // same value, other entry
+        assertSame(label, cache.getPointLabel(formatter, new Entry(5, 1234.5f)));
+        assertEquals(1, cache.getLabelHits());
+        assertEquals(0.5f, cache.getLabelHitRate(), 0.001f);
+
+        // axis labels are cached separately
+        assertEquals("1,234.5", cache.getAxisLabel(formatter, 1234.5f, null));
+        assertEquals(2, cache.getLabelMisses());
+
+        // changing the format drops the cached labels
+        formatter.setup(0);
+        assertEquals("1,234", cache.getPointLabel(formatter, new Entry(0, 1234.5f)));
+        assertEquals(3, cache.getLabelMisses());
+
+        // formatters that are not cacheable are always called
+        ValueFormatter counting = new ValueFormatter() {
+
+            int calls = 0;
+
+            @Override
+            public String getFormattedValue(float value) {
+                return String.valueOf(++calls);
+            }
+        };
+
+        assertEquals("1", cache.getPointLabel(counting, new Entry(0, 1f)));
+        assertEquals("2", cache.getPointLabel(counting, new Entry(0, 1f)));
+        assertEquals(3, cache.getLabelCount());
+
+        // subclasses of cacheable formatters that override a label method are not cached
+        DefaultValueFormatter entryFormatter = new DefaultValueFormatter(0) {
+
+            @Override
+            public String getPointLabel(Entry entry) {
+                return entry.getX() + ": " + entry.getY();
+            }
+        };
+
+        assertFalse(entryFormatter.isLabelCachingSupported());
+        assertEquals("0.0: 1.0", cache.getPointLabel(entryFormatter, new Entry(0, 1f)));
+        assertEquals("5.0: 1.0", cache.getPointLabel(entryFormatter, new Entry(5, 1f)));
+        assertEquals(3, cache.getLabelCount());
+    }
+
+    @Test
+    public void testCapacity() {
+
+        LabelCache cache = new LabelCache(4, 4);
+        DefaultValueFormatter formatter = new DefaultValueFormatter(0);
+
+        for (int i = 0; i < 10; i++) {
+            cache.getFormattedValue(formatter, i);
+        }
+
+        assertEquals(4, cache.getLabelCount());
+
+        // the most recent labels are kept
+        cache.resetStats();
+        cache.getFormattedValue(formatter, 9);
+        assertEquals(1, cache.getLabelHits());
+
+        cache.getFormattedValue(formatter, 0);
+        assertEquals(1, cache.getLabelMisses());
+
+        cache.setLabelCapacity(2);
+        assertEquals(2, cache.getLabelCount());
+
+        cache.clear();
+        assertEquals(0, cache.getLabelCount());
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.FloatColumnDataSet;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.LineDataSet.DecimationMode;
+import com.github.mikephil.charting.data.filter.LineDecimator;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class LineDecimatorTest {
+
+    @Test
+    public void testMinMaxPerPixel() {
+
+        final int count = 100000;
+
+        float[] xs = new float[count];
+        float[] ys = new float[count];
+
+        Random random = new Random(3);
+
+        for (int i = 0; i < count; i++) {
+            xs[i] = i;
+            ys[i] = random.nextFloat() * 100f;
+        }
+
+        // single peaks that must survive
+        ys[12345] = 1000f;
+        ys[54321] = -1000f;
+
+        FloatColumnDataSet set = new FloatColumnDataSet(xs, ys, count, "");
+
+        // 100 values per pixel, 1000 pixels
+        LineDecimator decimator = new LineDecimator();
+        assertTrue(decimator.update(set, DecimationMode.MIN_MAX_PER_PIXEL, 0.01f));
+
+        assertTrue(decimator.getCount() <= 1000 * 4);
+        assertTrue(decimator.getCount() >= 1000 * 2);
+
+        assertEquals(0f, decimator.getX(0), 0f);
+        assertEquals(count - 1f, decimator.getX(decimator.getCount() - 1), 0f);
+
+        boolean max = false, min = false;
+
+        for (int i = 0; i < decimator.getCount(); i++) {
+
+            if (i > 0)
+                assertTrue(decimator.getX(i) > decimator.getX(i - 1));
+
+            // every point is an original one
+            assertEquals(ys[(int) decimator.getX(i)], decimator.getY(i), 0f);
+
+            max |= decimator.getY(i) == 1000f;
+            min |= decimator.getY(i) == -1000f;
+        }
+
+        assertTrue(max);
+        assertTrue(min);
+
+        // the same parameters reuse the result, a new scale or version does not
+        assertFalse(decimator.update(set, DecimationMode.MIN_MAX_PER_PIXEL, 0.01f));
+        assertTrue(decimator.update(set, DecimationMode.MIN_MAX_PER_PIXEL, 0.02f));
+
+        set.addValue(count, 5f);
+        assertTrue(decimator.update(set, DecimationMode.MIN_MAX_PER_PIXEL, 0.02f));
+        assertEquals((float) count, decimator.getX(decimator.getCount() - 1), 0f);
+
+        assertEquals(0, decimator.lowerBound(-5f));
+        assertEquals(decimator.getCount(), decimator.lowerBound(count + 1));
+    }
+
+    @Test
+    public void testLttb() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 10000; i++) {
+            entries.add(new Entry(i, (float) Math.sin(i / 100.0)));
+        }
+
+        entries.get(5000).setY(50f);
+
+        LineDataSet set = new LineDataSet(entries, "");
+
+        // 100 pixels, 2 points per pixel
+        LineDecimator decimator = new LineDecimator();
+        decimator.update(set, DecimationMode.LTTB, 0.01f);
+
+        assertEquals(200, decimator.getCount());
+        assertEquals(0f, decimator.getX(0), 0f);
+        assertEquals(9999f, decimator.getX(199), 0f);
+
+        boolean peak = false;
+
+        for (int i = 1; i < decimator.getCount(); i++) {
+            assertTrue(decimator.getX(i) > decimator.getX(i - 1));
+            peak |= decimator.getY(i) == 50f;
+        }
+
+        assertTrue(peak);
+
+        // fewer entries than the threshold are kept as they are
+        decimator.update(set, DecimationMode.LTTB, 10f);
+        assertEquals(10000, decimator.getCount());
+    }
+}
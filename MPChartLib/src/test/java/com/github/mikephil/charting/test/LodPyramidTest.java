@@ -0,0 +1,131 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.FloatColumnDataSet;
+import com.github.mikephil.charting.data.filter.LodPyramid;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.Executor;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class LodPyramidTest {
+
+    @Test
+    public void testLevels() {
+
+        final int count = 1000;
+
+        float[] xs = new float[count];
+        float[] ys = new float[count];
+
+        Random random = new Random(7);
+
+        for (int i = 0; i < count; i++) {
+            xs[i] = i;
+            ys[i] = random.nextFloat();
+        }
+
+        ys[333] = 10f;
+        ys[777] = -10f;
+
+        FloatColumnDataSet set = new FloatColumnDataSet(xs, ys, count, "");
+
+        LodPyramid pyramid = new LodPyramid(2);
+        assertEquals(0, pyramid.getLevelCount());
+        assertEquals(-1, pyramid.selectLevel(count, 100));
+
+        pyramid.build(set, set.getVersion());
+
+        // 250, 125, 63, 32, 16, 8, 4, 2, 1 buckets
+        assertEquals(9, pyramid.getLevelCount());
+        assertEquals(0f, pyramid.getXMin(), 0f);
+        assertEquals(999f, pyramid.getXMax(), 0f);
+
+        for (int l = 0; l < pyramid.getLevelCount(); l++) {
+
+            LodPyramid.Level level = pyramid.getLevel(l);
+            assertEquals(4 << l, level.getBucketSize());
+
+            int points = level.getBucketCount() * LodPyramid.POINTS_PER_BUCKET;
+
+            for (int b = 0; b < level.getBucketCount(); b++) {
+
+                int from = b * level.getBucketSize();
+                int to = Math.min(from + level.getBucketSize(), count) - 1;
+
+                float min = Float.MAX_VALUE;
+                float max = -Float.MAX_VALUE;
+
+                for (int i = from; i <= to; i++) {
+                    min = Math.min(min, ys[i]);
+                    max = Math.max(max, ys[i]);
+                }
+
+                int p = b * LodPyramid.POINTS_PER_BUCKET;
+
+                assertEquals((float) from, level.getX(p), 0f);
+                assertEquals((float) to, level.getX(p + 3), 0f);
+                assertEquals(min, Math.min(level.getY(p + 1), level.getY(p + 2)), 0f);
+                assertEquals(max, Math.max(level.getY(p + 1), level.getY(p + 2)), 0f);
+            }
+
+            // the points of a level form a line that is ordered by x
+            for (int i = 1; i < points; i++) {
+                assertTrue(level.getX(i) >= level.getX(i - 1));
+            }
+        }
+
+        LodPyramid.Level top = pyramid.getLevel(pyramid.getLevelCount() - 1);
+        assertEquals(10f, top.getY(1), 0f);
+        assertEquals(-10f, top.getY(2), 0f);
+
+        // at least one bucket per pixel
+        assertEquals(-1, pyramid.selectLevel(count, 500));
+        assertEquals(0, pyramid.selectLevel(count, 250));
+        assertEquals(1, pyramid.selectLevel(count, 125));
+        assertEquals(2, pyramid.selectLevel(count, 40));
+        assertEquals(8, pyramid.selectLevel(count, 0.5f));
+    }
+
+    @Test
+    public void testDataSetPyramid() {
+
+        FloatColumnDataSet set = new FloatColumnDataSet("");
+
+        for (int i = 0; i < 5000; i++) {
+            set.addValue(i, i % 100);
+        }
+
+        assertNull(set.getLodPyramid());
+
+        final boolean[] built = new boolean[1];
+
+        set.buildLodPyramid(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                built[0] = true;
+            }
+        });
+
+        assertTrue(built[0]);
+
+        LodPyramid pyramid = set.getLodPyramid();
+        assertNotNull(pyramid);
+        assertEquals(5000, pyramid.getEntryCount());
+
+        // outdated as soon as the DataSet changes
+        set.addEntry(new Entry(5000, 1));
+        assertNull(set.getLodPyramid());
+    }
+}
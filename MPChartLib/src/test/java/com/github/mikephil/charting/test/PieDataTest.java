@@ -0,0 +1,127 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.AggregatedPieDataSet;
+import com.github.mikephil.charting.data.PieData;
+import com.github.mikephil.charting.data.PieDataSet;
+import com.github.mikephil.charting.data.PieEntry;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class PieDataTest {
+
+    @Test
+    public void testYValueSum() {
+
+        List<PieEntry> entries = new ArrayList<>();
+
+        for (int i = 1; i <= 10; i++)
+            entries.add(new PieEntry(i));
+
+        PieDataSet set = new PieDataSet(entries, "");
+        PieData data = new PieData(set);
+
+        assertEquals(55f, data.getYValueSum());
+
+        // the cached sum follows changes of the DataSet
+        set.addEntry(new PieEntry(45f));
+        assertEquals(100f, data.getYValueSum());
+
+        set.removeEntry(0);
+        assertEquals(99f, data.getYValueSum());
+
+        entries = new ArrayList<>();
+        entries.add(new PieEntry(3f));
+
+        data.setDataSet(new PieDataSet(entries, ""));
+        assertEquals(3f, data.getYValueSum());
+    }
+
+    @Test
+    public void testSmallSliceAggregation() {
+
+        List<PieEntry> entries = new ArrayList<>();
+
+        // two large slices and 100 slices of 0.5 % each
+        entries.add(new PieEntry(40f));
+        for (int i = 0; i < 100; i++)
+            entries.add(new PieEntry(0.5f));
+        entries.add(new PieEntry(10f));
+
+        PieDataSet set = new PieDataSet(entries, "");
+        PieData data = new PieData(set);
+
+        assertSame(set, data.getDisplayDataSet());
+
+        set.setSmallSliceAggregation(1f, "Other", 0xff888888);
+
+        AggregatedPieDataSet view = (AggregatedPieDataSet) data.getDisplayDataSet();
+
+        assertEquals(3, view.getEntryCount());
+        assertEquals(40f, view.getEntryForIndex(0).getY());
+        assertEquals(10f, view.getEntryForIndex(1).getY());
+        assertEquals(50f, view.getEntryForIndex(2).getY());
+        assertEquals("Other", view.getEntryForIndex(2).getLabel());
+
+        assertEquals(0, view.getSourceIndex(0));
+        assertEquals(101, view.getSourceIndex(1));
+        assertTrue(view.isAggregatedSlice(2));
+        assertEquals(100, view.getAggregatedEntries().size());
+
+        assertEquals(set.getColor(101), view.getColor(1));
+        assertEquals(0xff888888, view.getColor(2));
+
+        // the view is styled and modified through its PieDataSet
+        view.setValueTextSize(20f);
+        assertEquals(20f, set.getValueTextSize());
+
+        assertEquals(set.getValueTextColor(), view.getValueTextColor(2));
+
+        assertTrue(view.removeEntry(1));
+        assertEquals(101, set.getEntryCount());
+        assertEquals(2, view.getEntryCount());
+        assertFalse(view.removeEntry(1));
+
+        assertTrue(view.addEntry(new PieEntry(10f)));
+        assertEquals(102, set.getEntryCount());
+        assertEquals(10f, view.getEntryForIndex(1).getY());
+        assertEquals(101, view.getSourceIndex(1));
+
+        // unchanged DataSets are not aggregated again
+        int version = view.getVersion();
+        data.getDisplayDataSet();
+        assertEquals(version, view.getVersion());
+
+        // the total grows, so more slices fall below the threshold
+        set.addEntry(new PieEntry(1000f));
+        view = (AggregatedPieDataSet) data.getDisplayDataSet();
+
+        assertEquals(3, view.getEntryCount());
+        assertEquals(40f, view.getEntryForIndex(0).getY());
+        assertEquals(1000f, view.getEntryForIndex(1).getY());
+        assertEquals(60f, view.getEntryForIndex(2).getY());
+        assertEquals(102, view.getSourceIndex(1));
+        assertEquals(101, view.getAggregatedEntries().size());
+
+        // a single small slice is not aggregated
+        set.setSmallSliceAggregation(5f, "Other", 0xff888888);
+        entries = new ArrayList<>();
+        entries.add(new PieEntry(99f));
+        entries.add(new PieEntry(1f));
+        set.setValues(entries);
+
+        view = (AggregatedPieDataSet) data.getDisplayDataSet();
+        assertEquals(2, view.getEntryCount());
+        assertFalse(view.isAggregatedSlice(1));
+
+        set.setSmallSliceAggregation(0f, null, 0);
+        assertSame(set, data.getDisplayDataSet());
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.jobs.PrepareDataJob;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+
+public class PrepareDataJobTest {
+
+    @Test
+    public void testPrepareOnWorker() throws InterruptedException {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 1000; i++) {
+            entries.add(new Entry(i, i % 10));
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+        LineData data = new LineData(set);
+
+        // changed without notifying, only the job updates the min and max values
+        entries.get(500).setY(-50f);
+        entries.get(600).setY(200f);
+
+        assertEquals(0f, data.getYMin(), 0f);
+
+        TestJob job = new TestJob(data);
+
+        Thread worker = new Thread(job);
+        worker.start();
+        worker.join();
+
+        assertEquals(1, job.mPublished);
+        assertSame(worker, job.mPublishingThread);
+        assertSame(data, job.getData());
+        assertNull(job.getLegendEntries());
+
+        assertEquals(-50f, set.getYMin(), 0f);
+        assertEquals(200f, set.getYMax(), 0f);
+        assertEquals(-50f, data.getYMin(), 0f);
+        assertEquals(200f, data.getYMax(), 0f);
+        assertEquals(0f, data.getXMin(), 0f);
+        assertEquals(999f, data.getXMax(), 0f);
+    }
+
+    @Test
+    public void testCancelled() throws InterruptedException {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(0, 1));
+
+        LineDataSet set = new LineDataSet(entries, "");
+        LineData data = new LineData(set);
+
+        entries.get(0).setY(5f);
+
+        TestJob job = new TestJob(data);
+        job.cancel();
+
+        Thread worker = new Thread(job);
+        worker.start();
+        worker.join();
+
+        // neither prepared nor published
+        assertEquals(0, job.mPublished);
+        assertEquals(1f, data.getYMax(), 0f);
+    }
+
+    private static class TestJob extends PrepareDataJob<LineData> {
+
+        private int mPublished = 0;
+        private Thread mPublishingThread;
+
+        TestJob(LineData data) {
+            super(data, null);
+        }
+
+        @Override
+        protected void publish() {
+            mPublished++;
+            mPublishingThread = Thread.currentThread();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.CandleDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.utils.RangeMinMaxIndex;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class RangeMinMaxIndexTest {
+
+    @Test
+    public void testQueryAgainstScan() {
+
+        final List<Float> values = new ArrayList<Float>();
+
+        RangeMinMaxIndex index = new RangeMinMaxIndex(new RangeMinMaxIndex.ValueSource() {
+            @Override
+            public float getLowValue(int i) {
+                return values.get(i);
+            }
+
+            @Override
+            public float getHighValue(int i) {
+                return values.get(i);
+            }
+        });
+
+        Random random = new Random(42);
+
+        for (int i = 0; i < 500; i++) {
+            values.add(random.nextFloat() * 1000f - 500f);
+        }
+
+        index.rebuild(values.size());
+
+        for (int step = 0; step < 2000; step++) {
+
+            switch (random.nextInt(4)) {
+                case 0:
+                case 1:
+                    values.add(random.nextFloat() * 1000f - 500f);
+                    index.append();
+                    break;
+                case 2:
+                    if (!values.isEmpty()) {
+                        values.remove(0);
+                        index.removeFirst();
+                    }
+                    break;
+                case 3:
+                    if (!values.isEmpty()) {
+                        values.remove(values.size() - 1);
+                        index.removeLast();
+                    }
+                    break;
+            }
+
+            assertEquals(values.size(), index.getSize());
+
+            if (values.isEmpty())
+                continue;
+
+            int from = random.nextInt(values.size());
+            int to = from + random.nextInt(values.size() - from);
+
+            index.query(from, to);
+
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+
+            for (int i = from; i <= to; i++) {
+                min = Math.min(min, values.get(i));
+                max = Math.max(max, values.get(i));
+            }
+
+            assertEquals(min, index.getRangeMin(), 0f);
+            assertEquals(max, index.getRangeMax(), 0f);
+        }
+    }
+
+    @Test
+    public void testDataSetCalcMinMaxY() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 1000; i++) {
+            entries.add(new Entry(i, (float) Math.sin(i / 10.0) * i));
+        }
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+        set.setMinMaxIndexEnabled(true);
+
+        set.calcMinMaxY(100, 200);
+        float indexedMin = set.getYMin();
+        float indexedMax = set.getYMax();
+
+        set.setMinMaxIndexEnabled(false);
+
+        set.calcMinMaxY(100, 200);
+        assertEquals(set.getYMin(), indexedMin, 0f);
+        assertEquals(set.getYMax(), indexedMax, 0f);
+
+        set.setMinMaxIndexEnabled(true);
+
+        set.addEntry(new Entry(1000, 5000f));
+        set.calcMinMaxY(900, 1000);
+        assertEquals(5000f, set.getYMax(), 0f);
+
+        set.removeEntry(set.getEntryForIndex(set.getEntryCount() - 1));
+        set.calcMinMaxY(0, 1000);
+        assertTrue(set.getYMax() < 5000f);
+
+        set.removeFirst();
+        assertEquals(1f, set.getXMin(), 0f);
+        assertEquals(999f, set.getXMax(), 0f);
+    }
+
+    @Test
+    public void testCandleAndStackedBar() {
+
+        List<CandleEntry> candles = new ArrayList<CandleEntry>();
+        candles.add(new CandleEntry(0, 10, 5, 6, 9));
+        candles.add(new CandleEntry(1, 12, 4, 5, 11));
+        candles.add(new CandleEntry(2, 8, 2, 3, 7));
+        candles.add(new CandleEntry(3, 20, 9, 10, 19));
+
+        CandleDataSet candleSet = new CandleDataSet(candles, "");
+        candleSet.setMinMaxIndexEnabled(true);
+
+        candleSet.calcMinMaxY(0, 1);
+        assertEquals(4f, candleSet.getYMin(), 0f);
+        assertEquals(12f, candleSet.getYMax(), 0f);
+
+        candleSet.calcMinMaxY(1, 3);
+        assertEquals(2f, candleSet.getYMin(), 0f);
+        assertEquals(20f, candleSet.getYMax(), 0f);
+
+        List<BarEntry> bars = new ArrayList<BarEntry>();
+        bars.add(new BarEntry(0, new float[]{10, 20, -5}));
+        bars.add(new BarEntry(1, new float[]{1, 2, -15}));
+        bars.add(new BarEntry(2, 3));
+
+        BarDataSet barSet = new BarDataSet(bars, "");
+        barSet.setMinMaxIndexEnabled(true);
+
+        barSet.calcMinMaxY(0, 2);
+        assertEquals(-15f, barSet.getYMin(), 0f);
+        assertEquals(30f, barSet.getYMax(), 0f);
+
+        barSet.calcMinMaxY(2, 2);
+        assertEquals(3f, barSet.getYMin(), 0f);
+        assertEquals(3f, barSet.getYMax(), 0f);
+    }
+}
@@ -0,0 +1,192 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.RingBufferLineDataSet;
+import com.github.mikephil.charting.data.RingBufferScatterDataSet;
+import com.github.mikephil.charting.utils.FloatRingBuffer;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class RingBufferDataSetTest {
+
+    @Test
+    public void testEviction() {
+
+        FloatRingBuffer buffer = new FloatRingBuffer(4);
+
+        assertFalse(buffer.add(0, 10));
+        assertFalse(buffer.add(1, 20));
+        assertFalse(buffer.add(2, 5));
+        assertFalse(buffer.add(3, 7));
+        assertTrue(buffer.add(4, 8));
+        assertTrue(buffer.add(5, 9));
+
+        assertEquals(4, buffer.size());
+        assertEquals(2f, buffer.getX(0), 0f);
+        assertEquals(5f, buffer.getX(3), 0f);
+        assertEquals(5f, buffer.getYMin(), 0f);
+        assertEquals(9f, buffer.getYMax(), 0f);
+
+        // binary search over the wrapped buffer
+        assertEquals(2, buffer.getEntryIndex(4.2f, Float.NaN, DataSet.Rounding.CLOSEST));
+        assertEquals(3, buffer.getEntryIndex(4.2f, Float.NaN, DataSet.Rounding.UP));
+        assertEquals(0, buffer.getEntryIndex(-100f, Float.NaN, DataSet.Rounding.CLOSEST));
+        assertEquals(3, buffer.indexOf(5, 9));
+        assertEquals(-1, buffer.indexOf(5, 8));
+
+        // full, the oldest value pair is evicted
+        assertTrue(buffer.insert(2, 3.5f, 100f));
+        assertEquals(4, buffer.size());
+        assertEquals(3f, buffer.getX(0), 0f);
+        assertEquals(3.5f, buffer.getX(1), 0f);
+        assertEquals(100f, buffer.getYMax(), 0f);
+
+        buffer.remove(1);
+        assertEquals(9f, buffer.getYMax(), 0f);
+        assertEquals(3, buffer.size());
+    }
+
+    @Test
+    public void testLineDataSet() {
+
+        RingBufferLineDataSet set = new RingBufferLineDataSet(100, "");
+        set.setMinMaxIndexEnabled(true);
+
+        Random random = new Random(5);
+        float[] ys = new float[1000];
+
+        for (int i = 0; i < 1000; i++) {
+
+            ys[i] = random.nextFloat() * 100f;
+            set.addValue(i, ys[i]);
+
+            int count = Math.min(i + 1, 100);
+            assertEquals(count, set.getEntryCount());
+            assertEquals(i + 1 - count, set.getXMin(), 0f);
+            assertEquals(i, set.getXMax(), 0f);
+
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+
+            for (int j = i + 1 - count; j <= i; j++) {
+                min = Math.min(min, ys[j]);
+                max = Math.max(max, ys[j]);
+            }
+
+            assertEquals(min, set.getYMin(), 0f);
+            assertEquals(max, set.getYMax(), 0f);
+        }
+
+        set.calcMinMaxY(950, 960);
+
+        float min = Float.MAX_VALUE;
+        for (int j = 950; j <= 960; j++) {
+            min = Math.min(min, ys[j]);
+        }
+
+        assertEquals(min, set.getYMin(), 0f);
+
+        Entry e = set.getEntryForXValue(955.3f, Float.NaN);
+        assertEquals(955f, e.getX(), 0f);
+        assertEquals(55, set.getEntryIndex(e));
+
+        List<Entry> values = set.getValues();
+        assertEquals(100, values.size());
+        assertEquals(900f, values.get(0).getX(), 0f);
+
+        RingBufferLineDataSet copy = (RingBufferLineDataSet) set.copy();
+        assertEquals(100, copy.getEntryCount());
+        assertEquals(900f, copy.getXMin(), 0f);
+
+        set.clear();
+        assertEquals(0, set.getEntryCount());
+        assertFalse(set.removeFirst());
+    }
+
+    @Test
+    public void testAddEntryOrderedWhenFull() {
+
+        RingBufferLineDataSet set = new RingBufferLineDataSet(4, "");
+        set.setMinMaxIndexEnabled(true);
+
+        for (int i = 0; i < 4; i++) {
+            set.addValue(i * 2, i);
+        }
+
+        // evicts x = 0 and takes its place in the middle
+        set.addEntryOrdered(new Entry(3, 50));
+
+        assertEquals(4, set.getEntryCount());
+        assertEquals(2f, set.getXMin(), 0f);
+        assertEquals(6f, set.getXMax(), 0f);
+        assertEquals(3f, set.getX(1), 0f);
+        assertEquals(1f, set.getYMin(), 0f);
+        assertEquals(50f, set.getYMax(), 0f);
+
+        set.calcMinMaxY(2.5f, 3.5f);
+        assertEquals(50f, set.getYMax(), 0f);
+
+        set.calcMinMax();
+
+        // lower than all others, dropped right away without evicting anything
+        set.addEntryOrdered(new Entry(-1, 100));
+
+        assertEquals(4, set.getEntryCount());
+        assertEquals(2f, set.getXMin(), 0f);
+        assertEquals(-1, set.getEntryIndex(new Entry(-1, 100)));
+        assertEquals(1f, set.getYMin(), 0f);
+        assertEquals(50f, set.getYMax(), 0f);
+    }
+
+    @Test
+    public void testChartDataAddEntry() {
+
+        RingBufferLineDataSet set = new RingBufferLineDataSet(3, "");
+        LineData data = new LineData(set);
+
+        data.addEntry(new Entry(0, 100), 0);
+        data.addEntry(new Entry(1, 1), 0);
+        data.addEntry(new Entry(2, 2), 0);
+
+        assertEquals(0f, data.getXMin(), 0f);
+        assertEquals(100f, data.getYMax(), 0f);
+
+        // evicts the first entry, the data object has to follow
+        data.addEntry(new Entry(3, 3), 0);
+
+        assertEquals(1f, data.getXMin(), 0f);
+        assertEquals(3f, data.getXMax(), 0f);
+        assertEquals(1f, data.getYMin(), 0f);
+        assertEquals(3f, data.getYMax(), 0f);
+    }
+
+    @Test
+    public void testScatterDataSet() {
+
+        RingBufferScatterDataSet set = new RingBufferScatterDataSet(10, "");
+
+        for (int i = 0; i < 25; i++) {
+            set.addEntry(new Entry(i, i % 7));
+        }
+
+        assertEquals(10, set.getEntryCount());
+        assertEquals(15f, set.getXMin(), 0f);
+        assertEquals(0f, set.getYMin(), 0f);
+        assertEquals(6f, set.getYMax(), 0f);
+
+        assertEquals(1, set.getEntriesForXValue(20f).size());
+        assertEquals(6f, set.getY(set.getEntryIndex(20f, Float.NaN, DataSet.Rounding.CLOSEST)), 0f);
+
+        assertTrue(set.removeLast());
+        assertEquals(23f, set.getXMax(), 0f);
+    }
+}
@@ -0,0 +1,222 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.BubbleDataSet;
+import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.ScatterData;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.utils.ArrayDequeList;
+import com.github.mikephil.charting.utils.SlidingWindowMinMax;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class SlidingWindowTest {
+
+    @Test
+    public void testSlidingWindowMinMax() {
+
+        List<Float> values = new ArrayList<Float>();
+        SlidingWindowMinMax window = new SlidingWindowMinMax();
+
+        Random random = new Random(7);
+
+        for (int step = 0; step < 5000; step++) {
+
+            if (values.isEmpty() || random.nextInt(3) > 0) {
+                float value = random.nextFloat() * 200f - 100f;
+                values.add(value);
+                window.add(value, value);
+            } else {
+                values.remove(0);
+                window.removeFirst();
+            }
+
+            assertEquals(values.size(), window.getSize());
+
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+
+            for (float value : values) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+
+            assertEquals(min, window.getMin(), 0f);
+            assertEquals(max, window.getMax(), 0f);
+        }
+    }
+
+    @Test
+    public void testArrayDequeList() {
+
+        ArrayDequeList<Integer> list = new ArrayDequeList<Integer>();
+        List<Integer> expected = new ArrayList<Integer>();
+
+        Random random = new Random(3);
+
+        for (int step = 0; step < 2000; step++) {
+
+            int operation = random.nextInt(4);
+
+            if (expected.isEmpty() || operation == 0) {
+                list.add(step);
+                expected.add(step);
+            } else if (operation == 1) {
+                list.remove(0);
+                expected.remove(0);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, step);
+                expected.add(index, step);
+            } else {
+                int index = random.nextInt(expected.size());
+                list.remove(index);
+                expected.remove(index);
+            }
+
+            assertEquals(expected, list);
+        }
+
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testDataSetSlidingWindow() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 100; i++) {
+            entries.add(new Entry(i, i % 10));
+        }
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+        set.setSlidingWindowEnabled(true);
+
+        assertTrue(set.isSlidingWindowEnabled());
+        assertTrue(set.getValues() instanceof ArrayDequeList);
+
+        Random random = new Random(11);
+
+        // realtime pattern: add one entry, drop the oldest
+        for (int i = 100; i < 1000; i++) {
+
+            set.addEntry(new Entry(i, random.nextFloat() * 100f));
+            assertTrue(set.removeFirst());
+
+            assertEquals(100, set.getEntryCount());
+            assertEquals(i - 99, set.getXMin(), 0f);
+            assertEquals(i, set.getXMax(), 0f);
+
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+
+            for (Entry e : set.getValues()) {
+                min = Math.min(min, e.getY());
+                max = Math.max(max, e.getY());
+            }
+
+            assertEquals(min, set.getYMin(), 0f);
+            assertEquals(max, set.getYMax(), 0f);
+        }
+
+        // removing from the middle falls back to a rebuild
+        set.removeEntry(set.getEntryForIndex(50));
+        assertEquals(99, set.getEntryCount());
+
+        set.clear();
+        assertFalse(set.removeFirst());
+        assertEquals(Float.MAX_VALUE, set.getYMin(), 0f);
+        assertEquals(-Float.MAX_VALUE, set.getYMax(), 0f);
+    }
+
+    @Test
+    public void testRemoveWithoutSlidingWindow() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(0, 5));
+        entries.add(new Entry(1, 1));
+        entries.add(new Entry(2, 3));
+        entries.add(new Entry(3, 9));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        // not an extreme, no rescan necessary
+        set.removeEntry(2);
+        assertEquals(1f, set.getYMin(), 0f);
+        assertEquals(9f, set.getYMax(), 0f);
+
+        set.removeEntry(1);
+        assertEquals(5f, set.getYMin(), 0f);
+
+        set.removeLast();
+        assertEquals(5f, set.getYMax(), 0f);
+        assertEquals(0f, set.getXMax(), 0f);
+    }
+
+    @Test
+    public void testChartDataRemoveEntry() {
+
+        List<Entry> entries1 = new ArrayList<Entry>();
+        List<Entry> entries2 = new ArrayList<Entry>();
+
+        for (int i = 0; i < 10; i++) {
+            entries1.add(new Entry(i, i));
+            entries2.add(new Entry(i, 100 - i));
+        }
+
+        ScatterDataSet set1 = new ScatterDataSet(entries1, "");
+        ScatterDataSet set2 = new ScatterDataSet(entries2, "");
+        set1.setSlidingWindowEnabled(true);
+
+        ScatterData data = new ScatterData(set1, set2);
+
+        assertEquals(0f, data.getYMin(), 0f);
+        assertEquals(100f, data.getYMax(), 0f);
+
+        data.removeEntry(set1.getEntryForIndex(0), 0);
+        assertEquals(1f, data.getYMin(), 0f);
+        assertEquals(100f, data.getYMax(), 0f);
+        assertEquals(0f, data.getXMin(), 0f);
+
+        data.removeEntry(set2.getEntryForIndex(0), 1);
+        assertEquals(99f, data.getYMax(), 0f);
+        assertEquals(1f, data.getXMin(), 0f);
+
+        data.removeEntry(set2.getEntryForIndex(4), 1);
+        assertEquals(1f, data.getYMin(), 0f);
+        assertEquals(99f, data.getYMax(), 0f);
+    }
+
+    @Test
+    public void testBubbleMaxSizeAfterRemove() {
+
+        List<BubbleEntry> entries = new ArrayList<BubbleEntry>();
+
+        for (int i = 0; i < 5; i++) {
+            entries.add(new BubbleEntry(i, i, 10 - i));
+        }
+
+        BubbleDataSet set = new BubbleDataSet(entries, "");
+        set.setSlidingWindowEnabled(true);
+
+        assertEquals(10f, set.getMaxSize(), 0f);
+
+        set.removeFirst();
+        assertEquals(9f, set.getMaxSize(), 0f);
+
+        set.removeLast();
+        assertEquals(9f, set.getMaxSize(), 0f);
+
+        set.removeEntry(0);
+        assertEquals(8f, set.getMaxSize(), 0f);
+    }
+}
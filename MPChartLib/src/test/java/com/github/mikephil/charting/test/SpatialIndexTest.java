@@ -0,0 +1,187 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.RingBufferScatterDataSet;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.utils.SpatialIndex;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class SpatialIndexTest {
+
+    private static class Points implements SpatialIndex.PointSource {
+
+        List<float[]> points = new ArrayList<>();
+
+        @Override
+        public float getX(int index) {
+            return points.get(index)[0];
+        }
+
+        @Override
+        public float getY(int index) {
+            return points.get(index)[1];
+        }
+
+        int findNearest(float x, float y, float scaleX, float scaleY, float maxDistance) {
+
+            int best = -1;
+            double bestDist = maxDistance;
+
+            for (int i = 0; i < points.size(); i++) {
+
+                double dist = Math.hypot((getX(i) - x) * scaleX, (getY(i) - y) * scaleY);
+
+                if (dist < bestDist) {
+                    bestDist = dist;
+                    best = i;
+                }
+            }
+
+            return best;
+        }
+    }
+
+    private static void assertSameNearest(Points points, SpatialIndex index, Random random,
+                                          float scaleX, float scaleY, float maxDistance) {
+
+        for (int q = 0; q < 200; q++) {
+
+            float x = random.nextFloat() * 140f - 20f;
+            float y = random.nextFloat() * 140f - 20f;
+
+            int expected = points.findNearest(x, y, scaleX, scaleY, maxDistance);
+            int result = index.findNearest(x, y, scaleX, scaleY, maxDistance);
+
+            if (expected != result) {
+                // equally distant points are fine
+                assertTrue(result >= 0);
+                assertEquals(Math.hypot((points.getX(expected) - x) * scaleX, (points.getY(expected) - y) * scaleY),
+                        index.getLastDistance(), 0.01);
+            }
+        }
+    }
+
+    @Test
+    public void testNearest() {
+
+        Random random = new Random(7);
+        Points points = new Points();
+
+        // a cloud where many points share nearby x-values
+        for (int i = 0; i < 5000; i++) {
+            points.points.add(new float[]{
+                    50f + (float) random.nextGaussian() * 2f, random.nextFloat() * 100f});
+        }
+
+        SpatialIndex index = new SpatialIndex(points);
+        index.rebuild(points.points.size());
+        assertFalse(index.isDirty());
+
+        assertSameNearest(points, index, random, 1f, 1f, Float.MAX_VALUE);
+        assertSameNearest(points, index, random, 20f, -3f, 50f);
+        assertSameNearest(points, index, random, 0.5f, 8f, 10f);
+
+        // nothing within the maximum distance
+        assertEquals(-1, index.findNearest(-1000f, -1000f, 1f, 1f, 10f));
+    }
+
+    @Test
+    public void testIncremental() {
+
+        Random random = new Random(3);
+        Points points = new Points();
+
+        for (int i = 0; i < 1000; i++) {
+            points.points.add(new float[]{random.nextFloat() * 100f, random.nextFloat() * 100f});
+        }
+
+        SpatialIndex index = new SpatialIndex(points);
+        index.rebuild(points.points.size());
+
+        // append inside and outside of the grid, remove from the front
+        for (int i = 0; i < 500; i++) {
+
+            points.points.add(new float[]{random.nextFloat() * 102f, random.nextFloat() * 102f});
+            index.append();
+
+            points.points.remove(0);
+            index.removeFirst();
+        }
+
+        assertEquals(1000, index.getSize());
+        assertFalse(index.isDirty());
+        assertSameNearest(points, index, random, 1f, 2f, Float.MAX_VALUE);
+
+        // removing from the middle requires a rebuild
+        points.points.remove(500);
+        index.remove(500);
+        assertTrue(index.isDirty());
+
+        index.rebuild(points.points.size());
+        assertSameNearest(points, index, random, 1f, 1f, 30f);
+    }
+
+    @Test
+    public void testDataSet() {
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            entries.add(new Entry(i % 10, i / 10));
+        }
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+        assertFalse(set.isSpatialIndexEnabled());
+        assertEquals(null, set.getSpatialIndex());
+
+        set.setSpatialIndexEnabled(true);
+        assertTrue(set.isSpatialIndexEnabled());
+
+        SpatialIndex index = set.getSpatialIndex();
+        assertEquals(100, index.getSize());
+        assertEquals(34, index.findNearest(4.1f, 2.9f, 1f, 1f, 1f));
+
+        // appending is tracked without a rebuild
+        set.addEntry(new Entry(20f, 20f));
+        assertFalse(index.isDirty());
+        assertEquals(100, index.findNearest(19f, 19f, 1f, 1f, 5f));
+
+        set.removeEntry(50);
+        assertEquals(99, set.getSpatialIndex().findNearest(19f, 19f, 1f, 1f, 5f));
+
+        set.setSpatialIndexEnabled(false);
+        assertEquals(null, set.getSpatialIndex());
+    }
+
+    @Test
+    public void testRingBufferDataSet() {
+
+        RingBufferScatterDataSet set = new RingBufferScatterDataSet(50, "");
+        set.setSpatialIndexEnabled(true);
+
+        for (int i = 0; i < 50; i++) {
+            set.addValue(i, i % 5);
+        }
+
+        SpatialIndex index = set.getSpatialIndex();
+        assertEquals(50, index.getSize());
+
+        // evicting the oldest value is tracked without a rebuild
+        set.addValue(50f, 20f);
+        assertFalse(index.isDirty());
+        assertEquals(50, index.getSize());
+        assertEquals(49, set.getSpatialIndex().findNearest(50.2f, 19f, 1f, 1f, 5f));
+
+        // index 0 is x = 1 now
+        assertEquals(0, set.getSpatialIndex().findNearest(0.9f, 1f, 1f, 1f, 1f));
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.utils.TileCache;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+
+public class TileCacheTest {
+
+    @Test
+    public void testVisibleTiles() {
+
+        // not scrolled, exactly one tile
+        assertEquals(0, TileCache.getFirstTile(0f, 100));
+        assertEquals(0, TileCache.getLastTile(0f, 100f, 100));
+
+        // scrolled into the middle of the second tile
+        assertEquals(1, TileCache.getFirstTile(-150f, 100));
+        assertEquals(2, TileCache.getLastTile(-150f, 100f, 100));
+
+        // a content width that is not a whole number of pixels
+        assertEquals(0, TileCache.getFirstTile(-99.5f, 100));
+        assertEquals(1, TileCache.getLastTile(-99.5f, 99.5f, 100));
+    }
+
+    @Test
+    public void testAheadTile() {
+
+        // the first frame and frames without scrolling render nothing ahead
+        assertEquals(-1, TileCache.getAheadTile(1, 2, -150f, Float.NaN, 100, 1000f));
+        assertEquals(-1, TileCache.getAheadTile(1, 2, -150f, -150f, 100, 1000f));
+
+        // scrolling to the right, i.e. the translation decreases
+        assertEquals(3, TileCache.getAheadTile(1, 2, -150f, -140f, 100, 1000f));
+
+        // scrolling to the left
+        assertEquals(0, TileCache.getAheadTile(1, 2, -150f, -160f, 100, 1000f));
+
+        // no tiles before the start and after the end of the x-range
+        assertEquals(-1, TileCache.getAheadTile(0, 1, -50f, -60f, 100, 1000f));
+        assertEquals(-1, TileCache.getAheadTile(8, 9, -850f, -840f, 100, 1000f));
+    }
+
+    @Test
+    public void testState() {
+
+        TileCache cache = new TileCache(1024);
+
+        cache.setState(new float[]{1f, 2f}, 1);
+        assertFalse(cache.contains(0));
+        assertEquals(0, cache.getTileCount());
+
+        // a new data version drops the (empty) cache without failing
+        cache.setState(new float[]{1f, 2f}, 2);
+        assertEquals(0L, cache.getMemoryUsage());
+    }
+}